@@ -1,5 +1,6 @@
 package com.gls.athena.common.bean.result;
 
+import com.gls.athena.common.bean.trace.TraceContext;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
@@ -47,10 +48,11 @@ public class Result<T> {
     private String traceId;
 
     /**
-     * 无参构造方法，初始化时间戳为当前系统时间
+     * 无参构造方法，初始化时间戳为当前系统时间，并填充当前线程的跟踪ID
      */
     public Result() {
         this.timestamp = System.currentTimeMillis();
+        this.traceId = TraceContext.getTraceId();
     }
 
     /**
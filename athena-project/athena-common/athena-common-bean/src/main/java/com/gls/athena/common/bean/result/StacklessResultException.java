@@ -0,0 +1,63 @@
+package com.gls.athena.common.bean.result;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 无堆栈结果异常
+ * <p>
+ * 用于参数校验失败、业务规则不满足等可预期的错误。异常仅用于向调用方返回错误码和错误信息，
+ * 不生成堆栈跟踪，也不记录被抑制异常，避免高频失败请求下填充堆栈带来的开销。
+ * <p>
+ * 错误信息固定的场景可通过 {@link #of(IResultStatus)} 复用按状态缓存的实例。
+ *
+ * @author george
+ */
+public class StacklessResultException extends ResultException {
+
+    /**
+     * 按结果状态缓存的异常实例
+     */
+    private static final Map<IResultStatus, StacklessResultException> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 使用错误码和错误信息构造异常
+     *
+     * @param code    错误码
+     * @param message 错误信息
+     */
+    public StacklessResultException(Integer code, String message) {
+        super(code, message, null, false, false);
+    }
+
+    /**
+     * 使用结果状态枚举构造异常
+     *
+     * @param enums 结果状态枚举，实现了 IResultStatus 接口
+     */
+    public StacklessResultException(IResultStatus enums) {
+        super(enums, null, false, false);
+    }
+
+    /**
+     * 获取结果状态对应的共享异常实例
+     * <p>
+     * 实例无堆栈、无原因且不可追加被抑制异常，可安全地在多线程间重复抛出。
+     *
+     * @param enums 结果状态枚举，实现了 IResultStatus 接口
+     * @return 共享异常实例
+     */
+    public static StacklessResultException of(IResultStatus enums) {
+        return CACHE.computeIfAbsent(enums, StacklessResultException::new);
+    }
+
+    /**
+     * 不填充堆栈跟踪
+     *
+     * @return 当前异常
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,181 @@
+package com.gls.athena.common.bean.trace;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 轻量级跟踪上下文
+ * <p>
+ * 在没有分布式跟踪组件时，为每个入站请求（Servlet请求、Kafka消息、异步任务）生成一次跟踪ID，
+ * 并通过ThreadLocal在当前线程内传递。跟踪ID由{@link ThreadLocalRandom}生成，不依赖SecureRandom，
+ * 生成成本远低于{@link java.util.UUID#randomUUID()}。
+ * </p>
+ *
+ * @author george
+ */
+@UtilityClass
+public class TraceContext {
+
+    /**
+     * 十六进制字符表
+     */
+    private final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * 上游跟踪ID的最大长度
+     */
+    public final int MAX_TRACE_ID_LENGTH = 64;
+
+    /**
+     * 当前线程的跟踪ID
+     */
+    private final ThreadLocal<String> TRACE_ID_HOLDER = new ThreadLocal<>();
+
+    /**
+     * 获取当前线程的跟踪ID
+     *
+     * @return 跟踪ID，如果未绑定则返回null
+     */
+    public String getTraceId() {
+        return TRACE_ID_HOLDER.get();
+    }
+
+    /**
+     * 获取当前线程的跟踪ID，未绑定时生成一个新的跟踪ID（不绑定到当前线程）
+     *
+     * @return 跟踪ID
+     */
+    public String getOrNewTraceId() {
+        String traceId = TRACE_ID_HOLDER.get();
+        return traceId != null ? traceId : newTraceId();
+    }
+
+    /**
+     * 绑定跟踪ID到当前线程
+     *
+     * @param traceId 跟踪ID，为空时清除当前线程的跟踪ID
+     */
+    public void setTraceId(String traceId) {
+        if (traceId == null || traceId.isEmpty()) {
+            TRACE_ID_HOLDER.remove();
+        } else {
+            TRACE_ID_HOLDER.set(traceId);
+        }
+    }
+
+    /**
+     * 开启跟踪：优先使用上游传入的跟踪ID，否则生成新的跟踪ID，并绑定到当前线程
+     * <p>
+     * 上游跟踪ID来自请求头或消息头，不可信，只接受不超过64位的十六进制字符和连字符，
+     * 其他值（超长、含空白或控制字符等）一律丢弃并生成新的跟踪ID，避免写入日志、消息头和数据库时被注入或超长。
+     *
+     * @param upstreamTraceId 上游传入的跟踪ID，可为空
+     * @return 实际绑定的跟踪ID
+     */
+    public String begin(String upstreamTraceId) {
+        String traceId = isValidTraceId(upstreamTraceId) ? upstreamTraceId : newTraceId();
+        TRACE_ID_HOLDER.set(traceId);
+        return traceId;
+    }
+
+    /**
+     * 判断上游跟踪ID是否可用
+     *
+     * @param traceId 跟踪ID
+     * @return 由1到64位十六进制字符或连字符组成时返回true
+     */
+    public boolean isValidTraceId(String traceId) {
+        if (traceId == null || traceId.isEmpty() || traceId.length() > MAX_TRACE_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            boolean hex = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            if (!hex && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 清除当前线程的跟踪ID
+     */
+    public void clear() {
+        TRACE_ID_HOLDER.remove();
+    }
+
+    /**
+     * 生成新的128位跟踪ID
+     *
+     * @return 32位十六进制字符串
+     */
+    public String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] chars = new char[32];
+        writeHex(random.nextLong(), chars, 0);
+        writeHex(random.nextLong(), chars, 16);
+        return new String(chars);
+    }
+
+    /**
+     * 包装任务，使其在执行线程中沿用提交线程的跟踪ID
+     *
+     * @param runnable 原始任务
+     * @return 包装后的任务
+     */
+    public Runnable wrap(Runnable runnable) {
+        String traceId = TRACE_ID_HOLDER.get();
+        if (traceId == null) {
+            return runnable;
+        }
+        return () -> {
+            String previous = TRACE_ID_HOLDER.get();
+            TRACE_ID_HOLDER.set(traceId);
+            try {
+                runnable.run();
+            } finally {
+                setTraceId(previous);
+            }
+        };
+    }
+
+    /**
+     * 包装任务，使其在执行线程中沿用提交线程的跟踪ID
+     *
+     * @param callable 原始任务
+     * @param <V>      返回值类型
+     * @return 包装后的任务
+     */
+    public <V> Callable<V> wrap(Callable<V> callable) {
+        String traceId = TRACE_ID_HOLDER.get();
+        if (traceId == null) {
+            return callable;
+        }
+        return () -> {
+            String previous = TRACE_ID_HOLDER.get();
+            TRACE_ID_HOLDER.set(traceId);
+            try {
+                return callable.call();
+            } finally {
+                setTraceId(previous);
+            }
+        };
+    }
+
+    /**
+     * 将长整型按十六进制写入字符数组
+     *
+     * @param value  数值
+     * @param chars  目标数组
+     * @param offset 起始位置
+     */
+    private void writeHex(long value, char[] chars, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
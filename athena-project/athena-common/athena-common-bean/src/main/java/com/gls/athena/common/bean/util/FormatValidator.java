@@ -0,0 +1,164 @@
+package com.gls.athena.common.bean.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 格式校验引擎
+ * <p>
+ * 手机号、邮箱使用手写扫描器（单次遍历、无对象分配），语义分别与
+ * {@code ^1[3-9]\d{9}$}、{@code ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$} 一致；
+ * 其他格式使用预编译正则，自定义正则按表达式缓存编译结果，避免重复编译。
+ * 所有方法只返回布尔值，不抛出异常，供 {@link ValidateUtil} 与各业务校验器共用。
+ * </p>
+ *
+ * @author george
+ */
+@UtilityClass
+public class FormatValidator {
+
+    /**
+     * 身份证号格式正则表达式：支持18位身份证号（最后一位可为X）
+     */
+    private final Pattern ID_CARD_PATTERN = Pattern.compile("^[1-9]\\d{5}(18|19|20)\\d{2}((0[1-9])|(1[0-2]))(([0-2][1-9])|10|20|30|31)\\d{3}[0-9Xx]$");
+
+    /**
+     * 自定义正则缓存上限，超过后不再缓存，防止动态拼接的表达式撑满内存
+     */
+    private final int PATTERN_CACHE_LIMIT = 256;
+
+    /**
+     * 自定义正则缓存
+     */
+    private final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 手机号长度
+     */
+    private final int MOBILE_LENGTH = 11;
+
+    /**
+     * 是否为中国大陆手机号（1开头，第二位为3-9，共11位数字）
+     *
+     * @param str 待校验字符串
+     * @return 格式正确返回true
+     */
+    public boolean isMobile(CharSequence str) {
+        if (str == null || str.length() != MOBILE_LENGTH || str.charAt(0) != '1') {
+            return false;
+        }
+        char second = str.charAt(1);
+        if (second < '3' || second > '9') {
+            return false;
+        }
+        for (int i = 2; i < MOBILE_LENGTH; i++) {
+            if (!isDigit(str.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 是否为邮箱地址
+     * <p>
+     * 本地部分由字母、数字及 {@code ._%+-} 组成；域名部分由字母、数字及 {@code .-} 组成，
+     * 最后一个点之前至少一个字符，之后至少两个字母。
+     *
+     * @param str 待校验字符串
+     * @return 格式正确返回true
+     */
+    public boolean isEmail(CharSequence str) {
+        if (str == null) {
+            return false;
+        }
+        int length = str.length();
+        int at = -1;
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            if (c == '@') {
+                at = i;
+                break;
+            }
+            if (!isLetterOrDigit(c) && c != '.' && c != '_' && c != '%' && c != '+' && c != '-') {
+                return false;
+            }
+        }
+        if (at < 1) {
+            return false;
+        }
+        int lastDot = -1;
+        for (int i = at + 1; i < length; i++) {
+            char c = str.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+            } else if (!isLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        // 点之前至少一个域名字符，点之后至少两个字母
+        if (lastDot < at + 2 || length - lastDot - 1 < 2) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isLetter(str.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 是否为18位身份证号
+     *
+     * @param str 待校验字符串
+     * @return 格式正确返回true
+     */
+    public boolean isIdCard(CharSequence str) {
+        return str != null && ID_CARD_PATTERN.matcher(str).matches();
+    }
+
+    /**
+     * 是否匹配正则表达式，表达式编译结果会被缓存
+     *
+     * @param str   待校验字符串
+     * @param regex 正则表达式
+     * @return 匹配返回true
+     */
+    public boolean matches(CharSequence str, String regex) {
+        return str != null && pattern(regex).matcher(str).matches();
+    }
+
+    /**
+     * 获取编译后的正则表达式，优先从缓存获取
+     *
+     * @param regex 正则表达式
+     * @return 编译后的正则表达式
+     */
+    public Pattern pattern(String regex) {
+        Pattern pattern = PATTERN_CACHE.get(regex);
+        if (pattern != null) {
+            return pattern;
+        }
+        pattern = Pattern.compile(regex);
+        if (PATTERN_CACHE.size() < PATTERN_CACHE_LIMIT) {
+            PATTERN_CACHE.putIfAbsent(regex, pattern);
+        }
+        return pattern;
+    }
+
+    private boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private boolean isLetterOrDigit(char c) {
+        return isLetter(c) || isDigit(c);
+    }
+}
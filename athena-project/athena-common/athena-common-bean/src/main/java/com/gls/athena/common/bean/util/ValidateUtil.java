@@ -2,6 +2,7 @@ package com.gls.athena.common.bean.util;
 
 import com.gls.athena.common.bean.result.ResultException;
 import com.gls.athena.common.bean.result.ResultStatus;
+import com.gls.athena.common.bean.result.StacklessResultException;
 import lombok.experimental.UtilityClass;
 
 import java.util.Collection;
@@ -13,7 +14,8 @@ import java.util.regex.Pattern;
  * 数据验证工具类
  * <p>
  * 提供常用的数据验证方法，支持链式调用和自定义错误消息。
- * 验证失败时抛出 ResultException 异常。
+ * 验证失败时抛出无堆栈的 ResultException（{@link StacklessResultException}）。格式校验委托 {@link FormatValidator}，
+ * 需要批量校验且不希望产生异常时可直接使用 {@link FormatValidator}。
  * </p>
  *
  * @author george
@@ -22,21 +24,6 @@ import java.util.regex.Pattern;
 @UtilityClass
 public class ValidateUtil {
 
-    /**
-     * 邮箱格式正则表达式：支持常见的邮箱格式
-     */
-    private final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
-
-    /**
-     * 手机号格式正则表达式：支持中国大陆手机号（1开头，第二位为3-9）
-     */
-    private final Pattern MOBILE_PATTERN = Pattern.compile("^1[3-9]\\d{9}$");
-
-    /**
-     * 身份证号格式正则表达式：支持18位身份证号（最后一位可为X）
-     */
-    private final Pattern ID_CARD_PATTERN = Pattern.compile("^[1-9]\\d{5}(18|19|20)\\d{2}((0[1-9])|(1[0-2]))(([0-2][1-9])|10|20|30|31)\\d{3}[0-9Xx]$");
-
     /**
      * 验证对象不为空
      *
@@ -60,7 +47,7 @@ public class ValidateUtil {
      */
     public <T> T notNull(T object, String message) {
         if (object == null) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
         return object;
     }
@@ -76,7 +63,7 @@ public class ValidateUtil {
      */
     public <T> T notNull(T object, Supplier<String> messageSupplier) {
         if (object == null) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), messageSupplier.get());
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), messageSupplier.get());
         }
         return object;
     }
@@ -102,7 +89,7 @@ public class ValidateUtil {
      */
     public String notBlank(String str, String message) {
         if (str == null || str.trim().isEmpty()) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
         return str;
     }
@@ -130,7 +117,7 @@ public class ValidateUtil {
      */
     public <T extends Collection<?>> T notEmpty(T collection, String message) {
         if (collection == null || collection.isEmpty()) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
         return collection;
     }
@@ -158,7 +145,7 @@ public class ValidateUtil {
      */
     public <T> T[] notEmpty(T[] array, String message) {
         if (array == null || array.length == 0) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
         return array;
     }
@@ -172,7 +159,7 @@ public class ValidateUtil {
      */
     public void isTrue(boolean condition, String message) {
         if (!condition) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
     }
 
@@ -185,7 +172,7 @@ public class ValidateUtil {
      */
     public void isFalse(boolean condition, String message) {
         if (condition) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
     }
 
@@ -199,7 +186,7 @@ public class ValidateUtil {
      */
     public void equals(Object obj1, Object obj2, String message) {
         if (!Objects.equals(obj1, obj2)) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
     }
 
@@ -215,7 +202,7 @@ public class ValidateUtil {
     public void inRange(Number value, Number min, Number max, String message) {
         notNull(value, "数值不能为空");
         if (value.doubleValue() < min.doubleValue() || value.doubleValue() > max.doubleValue()) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
     }
 
@@ -247,7 +234,7 @@ public class ValidateUtil {
         notNull(str, "字符串不能为空");
         int length = str.length();
         if (length < min || length > max) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
         return str;
     }
@@ -273,8 +260,8 @@ public class ValidateUtil {
      */
     public String isEmail(String email, String message) {
         notBlank(email, "邮箱不能为空");
-        if (!EMAIL_PATTERN.matcher(email).matches()) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+        if (!FormatValidator.isEmail(email)) {
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
         return email;
     }
@@ -300,8 +287,8 @@ public class ValidateUtil {
      */
     public String isMobile(String mobile, String message) {
         notBlank(mobile, "手机号不能为空");
-        if (!MOBILE_PATTERN.matcher(mobile).matches()) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+        if (!FormatValidator.isMobile(mobile)) {
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
         return mobile;
     }
@@ -327,8 +314,8 @@ public class ValidateUtil {
      */
     public String isIdCard(String idCard, String message) {
         notBlank(idCard, "身份证号不能为空");
-        if (!ID_CARD_PATTERN.matcher(idCard).matches()) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+        if (!FormatValidator.isIdCard(idCard)) {
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
         return idCard;
     }
@@ -346,13 +333,13 @@ public class ValidateUtil {
         notBlank(str, "字符串不能为空");
         notNull(pattern, "正则表达式不能为空");
         if (!pattern.matcher(str).matches()) {
-            throw new ResultException(ResultStatus.PARAM_ERROR.getCode(), message);
+            throw new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), message);
         }
         return str;
     }
 
     /**
-     * 验证正则表达式匹配
+     * 验证正则表达式匹配，表达式编译结果会被缓存
      *
      * @param str     待验证的字符串
      * @param regex   正则表达式字符串
@@ -361,6 +348,6 @@ public class ValidateUtil {
      * @throws ResultException 如果字符串不匹配正则表达式，则抛出异常
      */
     public String matches(String str, String regex, String message) {
-        return matches(str, Pattern.compile(regex), message);
+        return matches(str, FormatValidator.pattern(regex), message);
     }
 }
@@ -0,0 +1,34 @@
+package com.gls.athena.common.bean.result;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StacklessResultException的单元测试类
+ */
+public class StacklessResultExceptionTest {
+
+    /**
+     * 测试：构造的异常不包含堆栈跟踪
+     */
+    @Test
+    public void constructor_HasNoStackTrace() {
+        StacklessResultException exception = new StacklessResultException(ResultStatus.PARAM_ERROR.getCode(), "参数不能为空");
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(ResultStatus.PARAM_ERROR.getCode(), exception.getCode());
+        assertEquals("参数不能为空", exception.getMessage());
+    }
+
+    /**
+     * 测试：同一状态返回共享实例，且不记录被抑制异常
+     */
+    @Test
+    public void of_SameStatus_ReturnsSharedInstance() {
+        StacklessResultException exception = StacklessResultException.of(ResultStatus.PARAM_ERROR);
+        assertSame(exception, StacklessResultException.of(ResultStatus.PARAM_ERROR));
+        exception.addSuppressed(new IllegalStateException());
+        assertEquals(0, exception.getSuppressed().length);
+        assertInstanceOf(ResultException.class, exception);
+    }
+}
@@ -0,0 +1,61 @@
+package com.gls.athena.common.bean.trace;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TraceContext的单元测试类
+ */
+public class TraceContextTest {
+
+    @AfterEach
+    public void tearDown() {
+        TraceContext.clear();
+    }
+
+    /**
+     * 测试：格式正确的上游跟踪ID直接沿用
+     */
+    @Test
+    public void begin_ValidUpstream_Reused() {
+        String upstream = "4bf92f35-77b3-4da6-A3CE-929d0e0e4736";
+        assertEquals(upstream, TraceContext.begin(upstream));
+        assertEquals(upstream, TraceContext.getTraceId());
+    }
+
+    /**
+     * 测试：超长或含非法字符的上游跟踪ID被丢弃并生成新的跟踪ID
+     */
+    @Test
+    public void begin_InvalidUpstream_Regenerated() {
+        for (String upstream : new String[]{"a".repeat(65), "abc\r\nforged: 1", "trace id", "<script>", ""}) {
+            String traceId = TraceContext.begin(upstream);
+            assertNotEquals(upstream, traceId);
+            assertEquals(32, traceId.length());
+            assertTrue(TraceContext.isValidTraceId(traceId));
+        }
+        assertTrue(TraceContext.isValidTraceId("a".repeat(64)));
+        assertFalse(TraceContext.isValidTraceId(null));
+    }
+
+    /**
+     * 测试：包装后的任务在其他线程中沿用提交线程的跟踪ID，执行后恢复原值
+     */
+    @Test
+    public void wrap_RunsWithSubmitterTraceId() throws Exception {
+        String traceId = TraceContext.begin(null);
+        AtomicReference<String> seen = new AtomicReference<>();
+        Runnable task = TraceContext.wrap(() -> seen.set(TraceContext.getTraceId()));
+        Thread thread = new Thread(() -> {
+            task.run();
+            assertNull(TraceContext.getTraceId());
+        });
+        thread.start();
+        thread.join();
+        assertEquals(traceId, seen.get());
+    }
+}
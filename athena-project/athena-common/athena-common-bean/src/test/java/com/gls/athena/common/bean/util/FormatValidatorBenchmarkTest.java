@@ -0,0 +1,93 @@
+package com.gls.athena.common.bean.util;
+
+import com.gls.athena.common.test.benchmark.Benchmark;
+import com.gls.athena.common.test.benchmark.BenchmarkMeter;
+import com.gls.athena.common.test.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 格式校验基准测试
+ * <p>
+ * 对比每次调用 {@link String#matches(String)}（每次重新编译正则）、预编译正则与 {@link FormatValidator} 手写扫描器
+ * 校验手机号和邮箱的吞吐量与分配量，样本中合法与非法格式各占一半。默认跳过，通过系统属性开启：
+ * <pre>
+ * mvn -pl athena-common/athena-common-bean test -Dtest=FormatValidatorBenchmarkTest -Dvalidator.benchmark=true
+ * </pre>
+ * 可选系统属性：
+ * <ul>
+ *   <li>validator.benchmark.samples：每轮校验次数，默认1000000</li>
+ *   <li>validator.benchmark.warmup：预热轮数，默认3</li>
+ *   <li>validator.benchmark.iterations：测量轮数，默认5</li>
+ * </ul>
+ *
+ * @author george
+ */
+@Benchmark(value = "validator", warmup = 3, iterations = 5)
+class FormatValidatorBenchmarkTest {
+
+    private static final BenchmarkRunner RUNNER = BenchmarkRunner.of(FormatValidatorBenchmarkTest.class);
+
+    private static final int SAMPLES = RUNNER.intProperty("samples", 1000000);
+
+    private static final String MOBILE_REGEX = "^1[3-9]\\d{9}$";
+
+    private static final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+
+    @Test
+    void mobile() throws Exception {
+        String[] samples = samples(i -> i % 2 == 0 ? String.valueOf(13800000000L + i) : "1280013" + i);
+        Pattern pattern = Pattern.compile(MOBILE_REGEX);
+        measure("mobile/string-matches", samples, sample -> sample.matches(MOBILE_REGEX));
+        measure("mobile/precompiled", samples, sample -> pattern.matcher(sample).matches());
+        measure("mobile/scanner", samples, FormatValidator::isMobile);
+    }
+
+    @Test
+    void email() throws Exception {
+        String[] samples = samples(i -> i % 2 == 0 ? "user" + i + "@example.com" : "user" + i + "@example");
+        Pattern pattern = Pattern.compile(EMAIL_REGEX);
+        measure("email/string-matches", samples, sample -> sample.matches(EMAIL_REGEX));
+        measure("email/precompiled", samples, sample -> pattern.matcher(sample).matches());
+        measure("email/scanner", samples, FormatValidator::isEmail);
+    }
+
+    /**
+     * 执行预热和测量并输出结果
+     *
+     * @param scenario 场景名称
+     * @param samples  样本
+     * @param check    校验操作
+     * @throws Exception 校验失败时抛出
+     */
+    private void measure(String scenario, String[] samples, Predicate<String> check) throws Exception {
+        int[] matched = new int[1];
+        BenchmarkMeter meter = RUNNER.measure(() -> matched[0] = run(samples, check));
+        RUNNER.report(scenario, "samples={} time={}ns/op throughput={} ops/s allocation={} B/op matched={}",
+                samples.length, meter.nanosPerOp(samples.length), meter.throughput(samples.length),
+                meter.allocatedPerOp(samples.length), matched[0]);
+    }
+
+    private int run(String[] samples, Predicate<String> check) {
+        int matched = 0;
+        for (String sample : samples) {
+            if (check.test(sample)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    private String[] samples(IntFunction<String> factory) {
+        String[] samples = new String[SAMPLES];
+        Random random = new Random(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = factory.apply(random.nextInt(1000000));
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,72 @@
+package com.gls.athena.common.bean.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FormatValidator的单元测试类
+ */
+public class FormatValidatorTest {
+
+    private static final Pattern MOBILE_REGEX = Pattern.compile("^1[3-9]\\d{9}$");
+
+    private static final Pattern EMAIL_REGEX = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+
+    /**
+     * 测试：手机号扫描器与正则表达式结果一致
+     */
+    @Test
+    public void isMobile_MatchesRegexSemantics() {
+        String[] samples = {"13800138000", "19912345678", "12800138000", "1380013800", "138001380000",
+                "23800138000", "1380013800a", "", " 13800138000"};
+        for (String sample : samples) {
+            assertEquals(MOBILE_REGEX.matcher(sample).matches(), FormatValidator.isMobile(sample), sample);
+        }
+        assertFalse(FormatValidator.isMobile(null));
+    }
+
+    /**
+     * 测试：邮箱扫描器与正则表达式结果一致
+     */
+    @Test
+    public void isEmail_MatchesRegexSemantics() {
+        String[] samples = {"a@b.cn", "john.doe+tag@mail.example.com", "a@.cn", "@b.cn", "a@b.c", "a@b", "a@b.c1",
+                "a@b..cn", "a@@b.cn", "a b@c.cn", "a@b-c.io", "a@b.cn.", "%_+-.@-.ab", "a@b.cn@c.cn", "a@1.23"};
+        for (String sample : samples) {
+            assertEquals(EMAIL_REGEX.matcher(sample).matches(), FormatValidator.isEmail(sample), sample);
+        }
+        assertFalse(FormatValidator.isEmail(null));
+    }
+
+    /**
+     * 测试：随机字符串下扫描器与正则表达式结果一致
+     */
+    @Test
+    public void scanners_RandomInput_MatchRegexSemantics() {
+        String alphabet = "1389a.@-_Zz% ";
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(14);
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String sample = sb.toString();
+            assertEquals(EMAIL_REGEX.matcher(sample).matches(), FormatValidator.isEmail(sample), sample);
+            assertEquals(MOBILE_REGEX.matcher(sample).matches(), FormatValidator.isMobile(sample), sample);
+        }
+    }
+
+    /**
+     * 测试：相同表达式返回缓存的编译结果
+     */
+    @Test
+    public void pattern_SameRegex_ReturnsCachedPattern() {
+        assertSame(FormatValidator.pattern("^\\d+$"), FormatValidator.pattern("^\\d+$"));
+        assertTrue(FormatValidator.matches("123", "^\\d+$"));
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 服务接口，定义了通用的业务操作方法
@@ -61,6 +62,20 @@ public interface IService<Vo extends BaseVo> {
      */
     List<Vo> list(Vo vo);
 
+    /**
+     * 流式查询数据列表
+     * <p>
+     * 逐条获取查询结果，适用于大数据量导出或流式响应。返回的流持有数据库资源，调用方必须在使用完毕后关闭，
+     * 建议使用 try-with-resources。默认实现基于 {@link #list(BaseVo)}，数据访问层应覆盖为游标实现。
+     *
+     * @param vo 查询条件VO对象
+     * @return 符合条件的VO对象流
+     */
+    default Stream<Vo> stream(Vo vo) {
+        List<Vo> list = list(vo);
+        return list == null ? Stream.empty() : list.stream();
+    }
+
     /**
      * 分页查询数据
      *
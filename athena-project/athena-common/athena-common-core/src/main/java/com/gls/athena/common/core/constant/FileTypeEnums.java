@@ -25,6 +25,10 @@ public enum FileTypeEnums implements IEnum<String> {
      * XLS文件
      */
     XLS("xls", "XLS文件", ".xls", "application/vnd.ms-excel"),
+    /**
+     * CSV文件
+     */
+    CSV("csv", "CSV文件", ".csv", "text/csv"),
     /**
      * DOCX文件
      */
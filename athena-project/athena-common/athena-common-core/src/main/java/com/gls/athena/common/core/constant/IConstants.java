@@ -31,6 +31,11 @@ public interface IConstants {
      */
     String CLIENT_TYPE = "client-type";
 
+    /**
+     * 跟踪ID，用于在服务间传递请求的跟踪标识。
+     */
+    String TRACE_ID = "trace-id";
+
     /**
      * 默认网关服务ID，用于标识网关服务的唯一标识。
      */
@@ -0,0 +1,207 @@
+package com.gls.athena.common.core.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * 方法索引工具类
+ * <p>
+ * 读取 athena-common-processor 在编译期生成的方法索引（{@value #INDEX_LOCATION}），
+ * 判断 Bean 类是否可能带有指定注解的方法，调用方只需对可能的 Bean 类执行原有的反射扫描，
+ * 扫描结果与不使用索引时完全一致。
+ * <p>
+ * 索引按类路径根目录（目录或 jar）生效：Bean 类继承层次中的某个类型来自没有索引的根目录时，
+ * 无法排除该类型，需要扫描；来自有索引的根目录时，只有索引中列出的类型才需要扫描。
+ * 类型所在的根目录按代码来源（CodeSource）判断，每个代码来源只定位一次类文件，而不是每个类型各定位一次。
+ * CGLIB 代理、JDK 动态代理等运行期生成的类型不声明带注解的方法，直接排除，其父类和接口仍按上述规则判断。
+ * 设置系统属性 {@value #IGNORE_PROPERTY}=true 时不读取索引，所有 Bean 类均需扫描。
+ *
+ * @author george
+ */
+@UtilityClass
+public class MethodIndexUtil {
+
+    /**
+     * 索引文件位置，与注解处理器保持一致
+     */
+    public final String INDEX_LOCATION = "META-INF/athena/method.index";
+
+    /**
+     * 忽略索引的系统属性
+     */
+    public final String IGNORE_PROPERTY = "athena.index.ignore";
+
+    /**
+     * 字段分隔符正则
+     */
+    private final String FIELD_SEPARATOR_REGEX = "\\|";
+
+    /**
+     * 类文件扩展名
+     */
+    private final String CLASS_SUFFIX = ".class";
+
+    /**
+     * CGLIB 生成类名分隔符
+     */
+    private final String CGLIB_CLASS_SEPARATOR = "$$";
+
+    /**
+     * 获取需要扫描的 Bean 类过滤器
+     *
+     * @param classLoader    类加载器
+     * @param annotationType 注解类型
+     * @return 过滤器，Bean 类或其父类、接口可能声明了带注解的方法时返回true
+     * @throws IllegalStateException 读取索引失败时抛出
+     */
+    public Predicate<Class<?>> getCandidateFilter(ClassLoader classLoader, Class<? extends Annotation> annotationType) {
+        if (Boolean.getBoolean(IGNORE_PROPERTY)) {
+            return type -> true;
+        }
+        Set<String> indexedRoots = new HashSet<>();
+        Set<String> indexedTypes = new HashSet<>();
+        readIndex(resolveClassLoader(classLoader), annotationType.getName(), indexedRoots, indexedTypes);
+        if (indexedRoots.isEmpty()) {
+            return type -> true;
+        }
+        Map<Class<?>, Boolean> candidates = new HashMap<>();
+        Map<String, Boolean> indexedLocations = new HashMap<>();
+        return beanClass -> hierarchy(beanClass).stream()
+                .anyMatch(type -> candidates.computeIfAbsent(type,
+                        key -> isCandidate(key, indexedRoots, indexedTypes, indexedLocations)));
+    }
+
+    /**
+     * 读取类路径中的所有索引
+     *
+     * @param classLoader    类加载器
+     * @param annotationName 注解全限定名
+     * @param indexedRoots   存在索引的类路径根目录
+     * @param indexedTypes   索引中声明了带注解方法的类型
+     */
+    private void readIndex(ClassLoader classLoader, String annotationName, Set<String> indexedRoots, Set<String> indexedTypes) {
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                indexedRoots.add(root(url, INDEX_LOCATION));
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String[] fields = line.split(FIELD_SEPARATOR_REGEX, -1);
+                        if (fields.length == 4 && annotationName.equals(fields[0])) {
+                            indexedTypes.add(fields[1]);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("读取方法索引失败: " + INDEX_LOCATION, e);
+        }
+    }
+
+    /**
+     * 判断类型是否可能声明了带注解的方法
+     *
+     * @param type             类型
+     * @param indexedRoots     存在索引的类路径根目录
+     * @param indexedTypes     索引中声明了带注解方法的类型
+     * @param indexedLocations 已判断过的代码来源是否位于有索引的根目录
+     * @return 在索引中，或来自没有索引的类路径根目录时返回true
+     */
+    private boolean isCandidate(Class<?> type, Set<String> indexedRoots, Set<String> indexedTypes,
+                                Map<String, Boolean> indexedLocations) {
+        ClassLoader loader = type.getClassLoader();
+        // JDK 类型不会带有业务注解，运行期生成的代理类型不声明带注解的方法
+        if (loader == null || loader == ClassLoader.getPlatformClassLoader() || isGenerated(type)) {
+            return false;
+        }
+        if (indexedTypes.contains(type.getName())) {
+            return true;
+        }
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return !isIndexedRoot(type, loader, indexedRoots);
+        }
+        return !indexedLocations.computeIfAbsent(codeSource.getLocation().toString(),
+                location -> isIndexedRoot(type, loader, indexedRoots));
+    }
+
+    /**
+     * 判断类型所在的类路径根目录是否存在索引
+     *
+     * @param type         类型
+     * @param loader       类型的类加载器
+     * @param indexedRoots 存在索引的类路径根目录
+     * @return 存在索引时返回true，无法定位类文件时返回false
+     */
+    private boolean isIndexedRoot(Class<?> type, ClassLoader loader, Set<String> indexedRoots) {
+        String resource = type.getName().replace('.', '/') + CLASS_SUFFIX;
+        URL url = loader.getResource(resource);
+        return url != null && indexedRoots.contains(root(url, resource));
+    }
+
+    /**
+     * 判断是否为运行期生成的代理类型
+     *
+     * @param type 类型
+     * @return CGLIB 代理、JDK 动态代理或隐藏类时返回true
+     */
+    private boolean isGenerated(Class<?> type) {
+        return type.getName().contains(CGLIB_CLASS_SEPARATOR) || Proxy.isProxyClass(type) || type.isHidden();
+    }
+
+    /**
+     * 获取类型的继承层次，包含父类及所有接口
+     *
+     * @param type 类型
+     * @return 继承层次中的类型
+     */
+    private Set<Class<?>> hierarchy(Class<?> type) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            Class<?> current = queue.poll();
+            if (types.add(current)) {
+                if (current.getSuperclass() != null) {
+                    queue.add(current.getSuperclass());
+                }
+                queue.addAll(Arrays.asList(current.getInterfaces()));
+            }
+        }
+        return types;
+    }
+
+    /**
+     * 根据资源地址获取所在的类路径根目录
+     *
+     * @param url      资源地址
+     * @param resource 资源相对路径
+     * @return 类路径根目录地址
+     */
+    private String root(URL url, String resource) {
+        String location = url.toString();
+        return location.endsWith(resource) ? location.substring(0, location.length() - resource.length()) : location;
+    }
+
+    /**
+     * 获取有效的类加载器
+     *
+     * @param classLoader 类加载器，可为空
+     * @return 类加载器
+     */
+    private ClassLoader resolveClassLoader(ClassLoader classLoader) {
+        return classLoader != null ? classLoader : MethodIndexUtil.class.getClassLoader();
+    }
+}
@@ -0,0 +1,205 @@
+package com.gls.athena.common.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 方法索引注解处理器
+ * <p>
+ * 在编译期收集带有 {@code @MethodLog}、{@code @CacheExpire} 注解的方法，写入 {@value #INDEX_LOCATION}，
+ * 运行期根据索引只反射扫描继承层次中声明了这些方法的 Bean，无需扫描所有 Bean 的所有方法。
+ * <p>
+ * Spring 缓存注解（{@code @Cacheable}、{@code @CachePut}、{@code @CacheEvict}、{@code @Caching}）不写入索引：
+ * 框架内没有按这些注解扫描 Bean 的启动逻辑，Spring 在创建代理时由 {@code AnnotationCacheOperationSource}
+ * 逐个方法解析并缓存，无法使用本索引；{@code @CacheExpire} 方法上的缓存名称在扫描到该方法后直接读取。
+ * <p>
+ * 索引每行一条记录，格式为：{@code 注解全限定名|类二进制名|方法名|参数类型1,参数类型2}。
+ * 增量编译时会合并上一次生成的索引，并剔除本轮重新编译的类及已删除类的旧记录。
+ *
+ * @author george
+ */
+@SupportedAnnotationTypes({
+        MethodIndexProcessor.METHOD_LOG,
+        MethodIndexProcessor.CACHE_EXPIRE
+})
+public class MethodIndexProcessor extends AbstractProcessor {
+
+    /**
+     * 索引文件位置
+     */
+    public static final String INDEX_LOCATION = "META-INF/athena/method.index";
+
+    /**
+     * 字段分隔符
+     */
+    public static final String FIELD_SEPARATOR = "|";
+
+    /**
+     * 参数类型分隔符
+     */
+    public static final String PARAMETER_SEPARATOR = ",";
+
+    /**
+     * 方法日志注解
+     */
+    static final String METHOD_LOG = "com.gls.athena.sdk.log.method.MethodLog";
+
+    /**
+     * 缓存过期注解
+     */
+    static final String CACHE_EXPIRE = "com.gls.athena.starter.data.redis.cache.CacheExpire";
+
+    /**
+     * 本次编译收集到的索引记录，使用有序集合保证输出稳定
+     */
+    private final Set<String> entries = new TreeSet<>();
+
+    /**
+     * 本次编译涉及的类，用于在增量编译时剔除旧记录
+     */
+    private final Set<String> processedTypes = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * 处理注解
+     *
+     * @param annotations 本轮需要处理的注解
+     * @param roundEnv    本轮环境
+     * @return false，不独占注解，其他处理器仍可处理
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            collectTypes(element);
+        }
+        for (TypeElement annotation : annotations) {
+            String annotationName = annotation.getQualifiedName().toString();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.METHOD) {
+                    addEntry(annotationName, (ExecutableElement) element);
+                }
+            }
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    /**
+     * 记录本次编译涉及的类（含内部类），这些类的旧索引记录将被本轮结果替换
+     *
+     * @param element 元素
+     */
+    private void collectTypes(Element element) {
+        if (element instanceof TypeElement type) {
+            processedTypes.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            for (Element enclosed : type.getEnclosedElements()) {
+                collectTypes(enclosed);
+            }
+        }
+    }
+
+    /**
+     * 添加一条索引记录
+     *
+     * @param annotationName 注解全限定名
+     * @param method         方法元素
+     */
+    private void addEntry(String annotationName, ExecutableElement method) {
+        TypeElement type = (TypeElement) method.getEnclosingElement();
+        String typeName = processingEnv.getElementUtils().getBinaryName(type).toString();
+
+        StringJoiner parameters = new StringJoiner(PARAMETER_SEPARATOR);
+        for (VariableElement parameter : method.getParameters()) {
+            parameters.add(typeName(parameter.asType()));
+        }
+        entries.add(annotationName + FIELD_SEPARATOR + typeName + FIELD_SEPARATOR
+                + method.getSimpleName() + FIELD_SEPARATOR + parameters);
+    }
+
+    /**
+     * 获取擦除后的类型名，与运行期 {@link Class#getTypeName()} 保持一致
+     *
+     * @param type 类型
+     * @return 类型名
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased instanceof ArrayType arrayType) {
+            return typeName(arrayType.getComponentType()) + "[]";
+        }
+        if (erased instanceof DeclaredType declaredType) {
+            return processingEnv.getElementUtils().getBinaryName((TypeElement) declaredType.asElement()).toString();
+        }
+        return erased.toString();
+    }
+
+    /**
+     * 合并上一次的索引并写出
+     */
+    private void writeIndex() {
+        Set<String> previous = readPreviousEntries();
+        // 既无历史索引也无新记录时不生成索引文件，运行期将退回反射扫描
+        if (previous == null && entries.isEmpty()) {
+            return;
+        }
+        Set<String> merged = new TreeSet<>(entries);
+        if (previous != null) {
+            merged.addAll(previous);
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String entry : merged) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "写入方法索引失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 读取上一次编译生成的索引，保留未被重新编译且仍然存在的类的记录
+     *
+     * @return 上一次的有效索引记录，索引不存在时返回null
+     */
+    private Set<String> readPreviousEntries() {
+        Set<String> previous = new TreeSet<>();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split("\\" + FIELD_SEPARATOR, -1);
+                    if (fields.length == 4 && !processedTypes.contains(fields[1])
+                            && processingEnv.getElementUtils().getTypeElement(fields[1].replace('$', '.')) != null) {
+                        previous.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 首次编译时索引不存在
+            return null;
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,194 @@
+package com.gls.athena.common.processor;
+
+import com.gls.athena.common.core.util.MethodIndexUtil;
+import com.gls.athena.common.test.benchmark.Benchmark;
+import com.gls.athena.common.test.benchmark.BenchmarkMeter;
+import com.gls.athena.common.test.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.NoOp;
+import org.springframework.util.ReflectionUtils;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 启动期注解方法扫描基准测试
+ * <p>
+ * 编译生成指定数量的Bean类（少量带有 {@code @MethodLog} 方法，部分替换为CGLIB代理类），
+ * 模拟 MethodManager、CacheExpireProcessor 启动时的扫描，对比两种方式的耗时：
+ * <ul>
+ *   <li>full-scan：对所有Bean类执行反射扫描</li>
+ *   <li>indexed：读取编译期索引得到过滤器，只对可能带有注解方法的Bean类执行反射扫描</li>
+ * </ul>
+ * 每轮使用新的类加载器重新加载所有类，反射元数据均未缓存，与应用启动时一致；类加载和代理生成不计入耗时。
+ * 默认跳过，通过系统属性开启：
+ * <pre>
+ * mvn -pl athena-common/athena-common-processor test -Dtest=MethodIndexBenchmarkTest -Dindex.benchmark=true
+ * </pre>
+ * 可选系统属性：
+ * <ul>
+ *   <li>index.benchmark.beans：Bean类数量，默认5000</li>
+ *   <li>index.benchmark.annotated：带注解方法的Bean类数量，默认50</li>
+ *   <li>index.benchmark.proxy-every：每隔多少个Bean类使用CGLIB代理类，默认10</li>
+ *   <li>index.benchmark.warmup：预热轮数，默认2</li>
+ *   <li>index.benchmark.iterations：测量轮数，默认5</li>
+ * </ul>
+ *
+ * @author george
+ */
+@Benchmark(value = "index", warmup = 2, iterations = 5)
+class MethodIndexBenchmarkTest {
+
+    private static final BenchmarkRunner RUNNER = BenchmarkRunner.of(MethodIndexBenchmarkTest.class);
+
+    private static final int BEANS = RUNNER.intProperty("beans", 5000);
+
+    private static final int ANNOTATED = RUNNER.intProperty("annotated", 50);
+
+    private static final int PROXY_EVERY = RUNNER.intProperty("proxy-every", 10);
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void startup() throws Exception {
+        Path classes = compileBeans();
+
+        int expected = measure("full-scan", classes, loader -> type -> true);
+        int found = measure("indexed", classes, loader -> MethodIndexUtil.getCandidateFilter(loader, annotationType(loader)));
+
+        assertEquals(ANNOTATED, expected);
+        assertEquals(expected, found);
+    }
+
+    /**
+     * 测量一种扫描方式
+     *
+     * @return 扫描到的注解方法数量
+     */
+    private int measure(String scenario, Path classes, FilterFactory filterFactory) throws Exception {
+        BenchmarkMeter meter = RUNNER.meter();
+        int[] found = new int[1];
+        int[] scanned = new int[1];
+        for (int round = 0; round < RUNNER.getWarmup() + RUNNER.getIterations(); round++) {
+            try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+                List<Class<?>> beanClasses = loadBeans(loader);
+                Class<? extends Annotation> annotationType = annotationType(loader);
+                BenchmarkMeter.Operation operation = () -> {
+                    found[0] = 0;
+                    scanned[0] = 0;
+                    Predicate<Class<?>> candidateFilter = filterFactory.create(loader);
+                    for (Class<?> beanClass : beanClasses) {
+                        if (candidateFilter.test(beanClass)) {
+                            scanned[0]++;
+                            ReflectionUtils.doWithMethods(beanClass, method -> found[0]++,
+                                    method -> method.isAnnotationPresent(annotationType));
+                        }
+                    }
+                };
+                if (round < RUNNER.getWarmup()) {
+                    operation.run();
+                } else {
+                    meter.record(operation);
+                }
+            }
+        }
+        RUNNER.report(scenario, "beans={} scanned={} methods={} ms/op={} allocMB/op={}", BEANS, scanned[0], found[0],
+                meter.nanosPerOp(1) / 1_000_000.0, meter.allocatedPerOp(1) / 1024 / 1024);
+        return found[0];
+    }
+
+    /**
+     * 加载所有Bean类，按间隔替换为CGLIB代理类
+     */
+    private List<Class<?>> loadBeans(ClassLoader loader) throws ClassNotFoundException {
+        List<Class<?>> beanClasses = new ArrayList<>(BEANS);
+        for (int i = 0; i < BEANS; i++) {
+            Class<?> beanClass = loader.loadClass("bench.Bean" + i);
+            if (PROXY_EVERY > 0 && i % PROXY_EVERY == 0) {
+                Enhancer enhancer = new Enhancer();
+                enhancer.setSuperclass(beanClass);
+                enhancer.setCallbackType(NoOp.class);
+                enhancer.setUseFactory(false);
+                enhancer.setClassLoader(loader);
+                beanClass = enhancer.createClass();
+            }
+            beanClasses.add(beanClass);
+        }
+        return beanClasses;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends Annotation> annotationType(ClassLoader loader) throws ClassNotFoundException {
+        return (Class<? extends Annotation>) loader.loadClass(MethodIndexProcessor.METHOD_LOG);
+    }
+
+    /**
+     * 生成并编译Bean类，每个类有10个方法并继承同一个父类，带注解方法的类均匀分布
+     */
+    private Path compileBeans() throws Exception {
+        Path sources = Files.createDirectories(workDir.resolve("src"));
+        Path classes = Files.createDirectories(workDir.resolve("classes"));
+        List<String> args = new ArrayList<>(List.of("-encoding", "UTF-8", "-d", classes.toString(),
+                "-processor", MethodIndexProcessor.class.getName(),
+                "-processorpath", System.getProperty("java.class.path")));
+        args.add(write(sources, "com/gls/athena/sdk/log/method/MethodLog.java", """
+                package com.gls.athena.sdk.log.method;
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                public @interface MethodLog {
+                }
+                """));
+        args.add(write(sources, "bench/BaseBean.java", """
+                package bench;
+                public abstract class BaseBean implements java.io.Serializable {
+                    public String name() {
+                        return getClass().getSimpleName();
+                    }
+                }
+                """));
+        int annotatedEvery = Math.max(BEANS / Math.max(ANNOTATED, 1), 1);
+        for (int i = 0; i < BEANS; i++) {
+            StringBuilder source = new StringBuilder("package bench;\npublic class Bean" + i + " extends BaseBean {\n");
+            for (int m = 0; m < 10; m++) {
+                if (m == 0 && i % annotatedEvery == 0 && i / annotatedEvery < ANNOTATED) {
+                    source.append("    @com.gls.athena.sdk.log.method.MethodLog\n");
+                }
+                source.append("    public int method").append(m).append("(int value) {\n        return value + ")
+                        .append(m).append(";\n    }\n");
+            }
+            args.add(write(sources, "bench/Bean" + i + ".java", source.append("}\n").toString()));
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, args.toArray(new String[0])));
+        assertTrue(Files.exists(classes.resolve(MethodIndexProcessor.INDEX_LOCATION)));
+        return classes;
+    }
+
+    private String write(Path sources, String path, String content) throws Exception {
+        Path file = sources.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file.toString();
+    }
+
+    /**
+     * 按类加载器创建Bean类过滤器
+     */
+    @FunctionalInterface
+    private interface FilterFactory {
+        Predicate<Class<?>> create(ClassLoader loader) throws Exception;
+    }
+}
@@ -0,0 +1,286 @@
+package com.gls.athena.common.processor;
+
+import com.gls.athena.common.core.util.MethodIndexUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.NoOp;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MethodIndexProcessor的单元测试类
+ */
+public class MethodIndexProcessorTest {
+
+    @TempDir
+    Path workDir;
+
+    /**
+     * 测试：编译带注解的类时生成索引，参数类型为擦除后的二进制名
+     */
+    @Test
+    public void process_AnnotatedMethods_WritesIndex() throws IOException {
+        writeSource("com/gls/athena/sdk/log/method/MethodLog.java", """
+                package com.gls.athena.sdk.log.method;
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                public @interface MethodLog {
+                }
+                """);
+        writeSource("demo/DemoService.java", """
+                package demo;
+                import com.gls.athena.sdk.log.method.MethodLog;
+                public class DemoService {
+                    @MethodLog
+                    public void save(java.util.List<String> names, int[] ids, Inner inner) {
+                    }
+                    public void plain() {
+                    }
+                    public static class Inner {
+                        @MethodLog
+                        public void run() {
+                        }
+                    }
+                }
+                """);
+
+        assertTrue(compile());
+        assertEquals(List.of(
+                MethodIndexProcessor.METHOD_LOG + "|demo.DemoService$Inner|run|",
+                MethodIndexProcessor.METHOD_LOG + "|demo.DemoService|save|java.util.List,int[],demo.DemoService$Inner"
+        ), readIndex());
+    }
+
+    /**
+     * 测试：没有任何注解方法时不生成索引文件
+     */
+    @Test
+    public void process_NoAnnotatedMethods_SkipsIndex() throws IOException {
+        writeSource("demo/PlainService.java", """
+                package demo;
+                public class PlainService {
+                    public void plain() {
+                    }
+                }
+                """);
+
+        assertTrue(compile());
+        assertFalse(Files.exists(workDir.resolve("classes").resolve(MethodIndexProcessor.INDEX_LOCATION)));
+    }
+
+    /**
+     * 测试：Spring缓存注解不写入索引
+     */
+    @Test
+    public void process_SpringCacheAnnotations_NotIndexed() throws IOException {
+        writeSource("org/springframework/cache/annotation/Cacheable.java", """
+                package org.springframework.cache.annotation;
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                public @interface Cacheable {
+                }
+                """);
+        writeSource("demo/CachedService.java", """
+                package demo;
+                public class CachedService {
+                    @org.springframework.cache.annotation.Cacheable
+                    public String find() {
+                        return null;
+                    }
+                }
+                """);
+
+        assertTrue(compile());
+        assertFalse(Files.exists(workDir.resolve("classes").resolve(MethodIndexProcessor.INDEX_LOCATION)));
+    }
+
+    /**
+     * 测试：按索引过滤后扫描的方法与全量反射扫描完全一致，
+     * 包括继承自父类的方法以及来自没有索引的类路径根目录的类
+     */
+    @Test
+    public void getCandidateFilter_IndexedAndUnindexedRoots_SameMethodsAsScan() throws Exception {
+        writeSource("com/gls/athena/sdk/log/method/MethodLog.java", """
+                package com.gls.athena.sdk.log.method;
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                public @interface MethodLog {
+                }
+                """);
+        writeSource("demo/BaseService.java", """
+                package demo;
+                public class BaseService {
+                    @com.gls.athena.sdk.log.method.MethodLog
+                    public void save() {
+                    }
+                }
+                """);
+        writeSource("demo/ChildService.java", """
+                package demo;
+                public class ChildService extends BaseService {
+                    public void plain() {
+                    }
+                }
+                """);
+        writeSource("demo/PlainService.java", """
+                package demo;
+                public class PlainService {
+                    public void plain() {
+                    }
+                }
+                """);
+        assertTrue(compile());
+
+        // 第三方jar未使用注解处理器，没有索引
+        writeSource("lib", "lib/LibService.java", """
+                package lib;
+                public class LibService {
+                    @com.gls.athena.sdk.log.method.MethodLog
+                    public void run() {
+                    }
+                }
+                """);
+        writeSource("lib", "lib/LibChild.java", """
+                package lib;
+                public class LibChild extends demo.PlainService {
+                }
+                """);
+        assertTrue(compile("lib", "lib-classes", "-proc:none", "-cp", workDir.resolve("classes").toString()));
+
+        List<String> classNames = List.of("demo.BaseService", "demo.ChildService", "demo.PlainService",
+                "lib.LibService", "lib.LibChild");
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{
+                workDir.resolve("classes").toUri().toURL(), workDir.resolve("lib-classes").toUri().toURL()},
+                getClass().getClassLoader())) {
+            @SuppressWarnings("unchecked")
+            Class<? extends Annotation> annotationType = (Class<? extends Annotation>) loader.loadClass(MethodIndexProcessor.METHOD_LOG);
+            Predicate<Class<?>> candidateFilter = MethodIndexUtil.getCandidateFilter(loader, annotationType);
+
+            Set<String> scanned = new TreeSet<>();
+            Set<String> indexed = new TreeSet<>();
+            for (String className : classNames) {
+                Class<?> beanClass = loader.loadClass(className);
+                Set<String> methods = scan(beanClass, annotationType);
+                scanned.addAll(methods);
+                if (candidateFilter.test(beanClass)) {
+                    indexed.addAll(methods);
+                }
+            }
+
+            assertEquals(Set.of("demo.BaseService.save", "demo.ChildService.save", "lib.LibService.run"), scanned);
+            assertEquals(scanned, indexed);
+            assertFalse(candidateFilter.test(loader.loadClass("demo.PlainService")));
+        }
+    }
+
+    /**
+     * 测试：CGLIB代理类本身不作为候选，按其父类判断，过滤后扫描结果与全量扫描一致
+     */
+    @Test
+    public void getCandidateFilter_CglibProxy_JudgedBySuperclass() throws Exception {
+        writeSource("com/gls/athena/sdk/log/method/MethodLog.java", """
+                package com.gls.athena.sdk.log.method;
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                public @interface MethodLog {
+                }
+                """);
+        writeSource("demo/LoggedService.java", """
+                package demo;
+                public class LoggedService {
+                    @com.gls.athena.sdk.log.method.MethodLog
+                    public void save() {
+                    }
+                }
+                """);
+        writeSource("demo/PlainService.java", """
+                package demo;
+                public class PlainService {
+                    public void plain() {
+                    }
+                }
+                """);
+        assertTrue(compile());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{workDir.resolve("classes").toUri().toURL()},
+                getClass().getClassLoader())) {
+            @SuppressWarnings("unchecked")
+            Class<? extends Annotation> annotationType = (Class<? extends Annotation>) loader.loadClass(MethodIndexProcessor.METHOD_LOG);
+            Predicate<Class<?>> candidateFilter = MethodIndexUtil.getCandidateFilter(loader, annotationType);
+            Class<?> loggedProxy = proxy(loader, loader.loadClass("demo.LoggedService"));
+            Class<?> plainProxy = proxy(loader, loader.loadClass("demo.PlainService"));
+
+            assertTrue(candidateFilter.test(loggedProxy));
+            assertFalse(candidateFilter.test(plainProxy));
+            assertEquals(Set.of(loggedProxy.getName() + ".save"), scan(loggedProxy, annotationType));
+            assertTrue(scan(plainProxy, annotationType).isEmpty());
+        }
+    }
+
+    private Class<?> proxy(ClassLoader loader, Class<?> superclass) {
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(superclass);
+        enhancer.setCallbackType(NoOp.class);
+        enhancer.setUseFactory(false);
+        enhancer.setClassLoader(loader);
+        return enhancer.createClass();
+    }
+
+    private void writeSource(String path, String content) throws IOException {
+        writeSource("src", path, content);
+    }
+
+    private void writeSource(String sourceDir, String path, String content) throws IOException {
+        Path file = workDir.resolve(sourceDir).resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    private boolean compile() throws IOException {
+        return compile("src", "classes",
+                "-processor", MethodIndexProcessor.class.getName(),
+                "-processorpath", System.getProperty("java.class.path"));
+    }
+
+    private boolean compile(String sourceDir, String classesDir, String... options) throws IOException {
+        Path classes = Files.createDirectories(workDir.resolve(classesDir));
+        List<String> args = new ArrayList<>(List.of(
+                "-encoding", "UTF-8",
+                "-d", classes.toString()));
+        args.addAll(List.of(options));
+        try (var sources = Files.walk(workDir.resolve(sourceDir))) {
+            sources.filter(file -> file.toString().endsWith(".java")).forEach(file -> args.add(file.toString()));
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        return compiler.run(null, null, null, args.toArray(new String[0])) == 0;
+    }
+
+    /**
+     * 与 MethodManager、CacheExpireProcessor 相同的反射扫描，结果以 Bean类名.方法名 表示
+     */
+    private Set<String> scan(Class<?> beanClass, Class<? extends Annotation> annotationType) {
+        Set<String> methods = new TreeSet<>();
+        for (Class<?> type = beanClass; type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(annotationType)) {
+                    methods.add(beanClass.getName() + "." + method.getName());
+                }
+            }
+        }
+        return methods;
+    }
+
+    private List<String> readIndex() throws IOException {
+        return Files.readAllLines(workDir.resolve("classes").resolve(MethodIndexProcessor.INDEX_LOCATION), StandardCharsets.UTF_8);
+    }
+}
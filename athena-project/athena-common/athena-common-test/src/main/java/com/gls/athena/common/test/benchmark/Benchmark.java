@@ -0,0 +1,49 @@
+package com.gls.athena.common.test.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.*;
+
+/**
+ * 基准测试
+ * <p>
+ * 标注在测试类上，默认跳过，设置系统属性 {@code <name>.benchmark=true} 时执行。
+ * 预热和测量次数可分别通过 {@code <name>.benchmark.warmup}、{@code <name>.benchmark.iterations} 覆盖，
+ * 测量和输出结果使用 {@link BenchmarkRunner}：
+ * <pre>
+ * &#64;Benchmark(value = "csv", warmup = 1, iterations = 3)
+ * class CsvBenchmarkTest {
+ *     private static final BenchmarkRunner RUNNER = BenchmarkRunner.of(CsvBenchmarkTest.class);
+ * }
+ * </pre>
+ *
+ * @author george
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Tag("benchmark")
+@ExtendWith(BenchmarkCondition.class)
+public @interface Benchmark {
+
+    /**
+     * 基准测试名称，用作系统属性前缀和结果日志前缀
+     */
+    String value();
+
+    /**
+     * 默认预热次数
+     */
+    int warmup() default 1;
+
+    /**
+     * 默认测量次数
+     */
+    int iterations() default 3;
+
+    /**
+     * 是否记录峰值堆内存，开启时每次测量前执行一次垃圾回收
+     */
+    boolean heap() default false;
+}
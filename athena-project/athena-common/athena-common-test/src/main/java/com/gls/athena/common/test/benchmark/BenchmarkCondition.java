@@ -0,0 +1,27 @@
+package com.gls.athena.common.test.benchmark;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * 基准测试开启条件，系统属性 {@code <name>.benchmark} 为true时执行
+ *
+ * @author george
+ */
+public class BenchmarkCondition implements ExecutionCondition {
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        return context.getTestClass()
+                .flatMap(testClass -> AnnotationSupport.findAnnotation(testClass, Benchmark.class))
+                .map(benchmark -> {
+                    String property = benchmark.value() + ".benchmark";
+                    return Boolean.getBoolean(property)
+                            ? ConditionEvaluationResult.enabled("系统属性" + property + "为true")
+                            : ConditionEvaluationResult.disabled("基准测试默认跳过，设置系统属性" + property + "=true开启");
+                })
+                .orElseGet(() -> ConditionEvaluationResult.enabled("非基准测试"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.gls.athena.common.test.benchmark;
+
+import lombok.Getter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+
+/**
+ * 基准测试计量器
+ * <p>
+ * 累计每次执行的耗时和当前线程的分配字节数，可选记录峰值堆内存。
+ * 峰值堆内存为各堆内存池峰值之和，是实际峰值的上限。
+ *
+ * @author george
+ */
+@Getter
+public class BenchmarkMeter {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+
+    /**
+     * 是否记录峰值堆内存
+     */
+    private final boolean heap;
+
+    /**
+     * 执行次数
+     */
+    private long count;
+
+    /**
+     * 累计耗时，单位纳秒
+     */
+    private long nanos;
+
+    /**
+     * 累计分配字节数
+     */
+    private long allocatedBytes;
+
+    /**
+     * 单次执行的最大峰值堆内存，未记录时为0
+     */
+    private long peakHeapBytes;
+
+    /**
+     * 创建计量器
+     *
+     * @param heap 是否记录峰值堆内存，开启时每次执行前执行一次垃圾回收
+     */
+    public BenchmarkMeter(boolean heap) {
+        this.heap = heap;
+    }
+
+    /**
+     * 执行一次操作并累计耗时和分配量
+     *
+     * @param operation 操作
+     * @throws Exception 操作执行失败
+     */
+    public void record(Operation operation) throws Exception {
+        if (heap) {
+            System.gc();
+            HEAP_POOLS.forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+        long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        operation.run();
+        nanos += System.nanoTime() - start;
+        allocatedBytes += THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        count++;
+        if (heap) {
+            peakHeapBytes = Math.max(peakHeapBytes, HEAP_POOLS.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum());
+        }
+    }
+
+    /**
+     * 平均每次操作耗时，单位纳秒
+     *
+     * @param opsPerRecord 每次执行包含的操作数
+     * @return 平均耗时
+     */
+    public long nanosPerOp(long opsPerRecord) {
+        return nanos / Math.max(count * opsPerRecord, 1);
+    }
+
+    /**
+     * 平均每次操作分配字节数
+     *
+     * @param opsPerRecord 每次执行包含的操作数
+     * @return 平均分配字节数
+     */
+    public long allocatedPerOp(long opsPerRecord) {
+        return allocatedBytes / Math.max(count * opsPerRecord, 1);
+    }
+
+    /**
+     * 每秒操作数
+     *
+     * @param opsPerRecord 每次执行包含的操作数
+     * @return 吞吐量
+     */
+    public long throughput(long opsPerRecord) {
+        return nanos == 0 ? 0 : Math.round(count * opsPerRecord / (nanos / 1e9));
+    }
+
+    /**
+     * 基准测试操作
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        /**
+         * 执行操作
+         *
+         * @throws Exception 操作执行失败
+         */
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,123 @@
+package com.gls.athena.common.test.benchmark;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 基准测试执行器
+ * <p>
+ * 按 {@link Benchmark} 的配置预热和测量操作，读取 {@code <name>.benchmark.*} 系统属性，
+ * 并以 {@code [<name>-benchmark] scenario=...} 格式输出结果。
+ *
+ * @author george
+ */
+@Slf4j
+@Getter
+public class BenchmarkRunner {
+
+    /**
+     * 基准测试名称
+     */
+    private final String name;
+
+    /**
+     * 预热次数
+     */
+    private final int warmup;
+
+    /**
+     * 测量次数
+     */
+    private final int iterations;
+
+    /**
+     * 是否记录峰值堆内存
+     */
+    private final boolean heap;
+
+    private BenchmarkRunner(String name, int warmup, int iterations, boolean heap) {
+        this.name = name;
+        this.warmup = warmup;
+        this.iterations = iterations;
+        this.heap = heap;
+    }
+
+    /**
+     * 按测试类上的 {@link Benchmark} 创建执行器
+     *
+     * @param testClass 测试类
+     * @return 执行器
+     * @throws IllegalArgumentException 测试类未标注 {@link Benchmark} 时抛出
+     */
+    public static BenchmarkRunner of(Class<?> testClass) {
+        Benchmark benchmark = testClass.getAnnotation(Benchmark.class);
+        if (benchmark == null) {
+            throw new IllegalArgumentException("测试类未标注@Benchmark: " + testClass.getName());
+        }
+        String prefix = benchmark.value() + ".benchmark.";
+        return new BenchmarkRunner(benchmark.value(),
+                Integer.getInteger(prefix + "warmup", benchmark.warmup()),
+                Integer.getInteger(prefix + "iterations", benchmark.iterations()),
+                benchmark.heap());
+    }
+
+    /**
+     * 读取整数配置 {@code <name>.benchmark.<key>}
+     *
+     * @param key          配置名
+     * @param defaultValue 默认值
+     * @return 配置值
+     */
+    public int intProperty(String key, int defaultValue) {
+        return Integer.getInteger(name + ".benchmark." + key, defaultValue);
+    }
+
+    /**
+     * 读取字符串配置 {@code <name>.benchmark.<key>}
+     *
+     * @param key          配置名
+     * @param defaultValue 默认值
+     * @return 配置值
+     */
+    public String property(String key, String defaultValue) {
+        return System.getProperty(name + ".benchmark." + key, defaultValue);
+    }
+
+    /**
+     * 创建计量器，用于自定义测量流程
+     *
+     * @return 计量器
+     */
+    public BenchmarkMeter meter() {
+        return new BenchmarkMeter(heap);
+    }
+
+    /**
+     * 预热后测量操作
+     *
+     * @param operation 操作
+     * @return 测量结果
+     * @throws Exception 操作执行失败
+     */
+    public BenchmarkMeter measure(BenchmarkMeter.Operation operation) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            operation.run();
+        }
+        BenchmarkMeter meter = meter();
+        for (int i = 0; i < iterations; i++) {
+            meter.record(operation);
+        }
+        return meter;
+    }
+
+    /**
+     * 输出测量结果
+     *
+     * @param scenario 场景名称
+     * @param format   结果格式，使用SLF4J占位符
+     * @param args     结果参数
+     */
+    public void report(String scenario, String format, Object... args) {
+        log.info("[" + name + "-benchmark] scenario=" + scenario + " " + format, args);
+    }
+}
@@ -1,6 +1,7 @@
 package com.gls.athena.sdk.amap.config;
 
 import com.gls.athena.sdk.amap.support.*;
+import com.gls.athena.starter.json.support.JsonMapperRegistry;
 import feign.QueryMapEncoder;
 import feign.RequestInterceptor;
 import feign.Retryer;
@@ -18,11 +19,12 @@ public class AmapFeignConfig {
      * 创建一个用于解码高德地图JSON数据的解码器Bean。
      * 该函数返回一个AmapJsonDecoder实例，用于将高德地图的JSON格式数据解码为Java对象。
      *
+     * @param jsonMapperRegistry ObjectMapper注册表，使用其中的第三方接口ObjectMapper
      * @return Decoder 返回一个实现了Decoder接口的AmapJsonDecoder实例，用于JSON数据的解码。
      */
     @Bean
-    public Decoder amapJsonDecoder() {
-        return new AmapJsonDecoder();
+    public Decoder amapJsonDecoder(JsonMapperRegistry jsonMapperRegistry) {
+        return new AmapJsonDecoder(jsonMapperRegistry.get(JsonMapperRegistry.EXTERNAL));
     }
 
     /**
@@ -44,22 +46,24 @@ public class AmapFeignConfig {
      * 该函数用于配置并返回一个JsonQueryMapEncoder对象，该对象实现了QueryMapEncoder接口。
      * QueryMapEncoder通常用于将查询参数映射为特定的编码格式，例如JSON。
      *
+     * @param jsonMapperRegistry ObjectMapper注册表，使用其中的第三方接口ObjectMapper
      * @return QueryMapEncoder 返回一个JsonQueryMapEncoder实例，用于处理查询参数的编码。
      */
     @Bean
-    public QueryMapEncoder queryMapEncoder() {
-        return new JsonQueryMapEncoder();
+    public QueryMapEncoder queryMapEncoder(JsonMapperRegistry jsonMapperRegistry) {
+        return new JsonQueryMapEncoder(jsonMapperRegistry.get(JsonMapperRegistry.EXTERNAL));
     }
 
     /**
      * 创建高德地图API错误解码器Bean
      * 用于解析高德地图API返回的错误响应，并转换为具体的异常类型
      *
+     * @param jsonMapperRegistry ObjectMapper注册表，使用其中的第三方接口ObjectMapper
      * @return ErrorDecoder 返回一个AmapErrorDecoder实例，用于错误响应的解码
      */
     @Bean
-    public ErrorDecoder errorDecoder() {
-        return new AmapErrorDecoder();
+    public ErrorDecoder errorDecoder(JsonMapperRegistry jsonMapperRegistry) {
+        return new AmapErrorDecoder(jsonMapperRegistry.get(JsonMapperRegistry.EXTERNAL));
     }
 
     /**
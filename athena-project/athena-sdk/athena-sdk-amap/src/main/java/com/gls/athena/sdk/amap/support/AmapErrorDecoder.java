@@ -3,6 +3,7 @@ package com.gls.athena.sdk.amap.support;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gls.athena.sdk.amap.exception.AmapException;
+import com.gls.athena.starter.json.support.JsonMapperRegistry;
 import feign.Response;
 import feign.codec.ErrorDecoder;
 import lombok.extern.slf4j.Slf4j;
@@ -22,9 +23,17 @@ import java.nio.charset.StandardCharsets;
 @Slf4j
 public class AmapErrorDecoder implements ErrorDecoder {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper;
     private final ErrorDecoder defaultErrorDecoder = new Default();
 
+    public AmapErrorDecoder() {
+        this(JsonMapperRegistry.createExternalMapper());
+    }
+
+    public AmapErrorDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
     @Override
     public Exception decode(String methodKey, Response response) {
         try {
@@ -1,9 +1,8 @@
 package com.gls.athena.sdk.amap.support;
 
 import cn.hutool.core.io.IoUtil;
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gls.athena.starter.json.support.JsonMapperRegistry;
 import feign.Response;
 import feign.codec.Decoder;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +20,7 @@ import java.util.regex.Pattern;
  * 1. 将空数组([])转换为null值
  * 2. 使用Jackson进行JSON反序列化
  * 3. 支持自定义类型转换
- * 4. 优化ObjectMapper配置以提高性能
+ * 4. 复用第三方接口共享的ObjectMapper，避免重复构建反序列化器
  *
  * @author george
  */
@@ -34,16 +33,16 @@ public class AmapJsonDecoder implements Decoder {
     /**
      * Jackson对象映射器
      * 用于将JSON字符串转换为Java对象
-     * 配置为线程安全且高性能模式
+     * 忽略未知属性，允许注释与单引号
      */
     private final ObjectMapper objectMapper;
 
     public AmapJsonDecoder() {
-        this.objectMapper = new ObjectMapper();
-        // 配置ObjectMapper以提高性能和容错性
-        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        this.objectMapper.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
-        this.objectMapper.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
+        this(JsonMapperRegistry.createExternalMapper());
+    }
+
+    public AmapJsonDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -1,10 +1,18 @@
 package com.gls.athena.sdk.core.config;
 
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.gls.athena.common.bean.trace.TraceContext;
 import com.gls.athena.common.core.constant.ClientTypeEnums;
 import com.gls.athena.common.core.constant.IConstants;
+import com.gls.athena.sdk.core.support.SmileFeignCapability;
 import feign.RequestInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 /**
  * Feign配置
@@ -12,6 +20,7 @@ import org.springframework.context.annotation.Configuration;
  * @author george
  */
 @Configuration
+@EnableConfigurationProperties(FeignProperties.class)
 public class FeignConfig {
 
     /**
@@ -29,4 +38,56 @@ public class FeignConfig {
         return template -> template.header(IConstants.CLIENT_TYPE, ClientTypeEnums.FEIGN.getCode());
     }
 
+    /**
+     * Feign跟踪ID拦截器
+     * <p>
+     * 将当前线程绑定的跟踪ID通过请求头传递给下游服务，下游服务的入口过滤器会沿用该跟踪ID。
+     *
+     * @return RequestInterceptor 传递跟踪ID的请求拦截器
+     */
+    @Bean
+    public RequestInterceptor feignTraceIdInterceptor() {
+        return template -> {
+            String traceId = TraceContext.getTraceId();
+            if (traceId != null) {
+                template.header(IConstants.TRACE_ID, traceId);
+            }
+        };
+    }
+
+    /**
+     * Feign Smile编解码扩展
+     * <p>
+     * 基于全局Jackson配置创建Smile格式的ObjectMapper，保证与JSON一致的日期、时区等序列化规则。
+     *
+     * @param feignProperties Feign配置属性
+     * @param builderProvider Jackson2对象映射构建器
+     * @return Smile编解码扩展
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "athena.feign.smile", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SmileFeignCapability smileFeignCapability(FeignProperties feignProperties,
+                                                     ObjectProvider<Jackson2ObjectMapperBuilder> builderProvider) {
+        Jackson2ObjectMapperBuilder builder = builderProvider.getIfAvailable(Jackson2ObjectMapperBuilder::json);
+        return new SmileFeignCapability(builder.factory(new SmileFactory()).build(),
+                feignProperties.getSmile().isEncodeRequest());
+    }
+
+    /**
+     * Feign Smile协商拦截器
+     * <p>
+     * 为内部服务调用声明优先接收Smile格式，未声明Accept的请求才会添加。
+     *
+     * @return RequestInterceptor 声明Accept的请求拦截器
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "athena.feign.smile", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RequestInterceptor feignSmileAcceptInterceptor() {
+        return template -> {
+            if (!template.headers().containsKey(HttpHeaders.ACCEPT) && SmileFeignCapability.supports(template)) {
+                template.header(HttpHeaders.ACCEPT, SmileFeignCapability.ACCEPT_VALUE);
+            }
+        };
+    }
+
 }
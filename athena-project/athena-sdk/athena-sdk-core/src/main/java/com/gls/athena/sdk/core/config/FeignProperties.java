@@ -0,0 +1,40 @@
+package com.gls.athena.sdk.core.config;
+
+import com.gls.athena.common.core.constant.BaseProperties;
+import com.gls.athena.common.core.constant.IConstants;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Feign配置属性类
+ *
+ * @author george
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ConfigurationProperties(prefix = IConstants.BASE_PROPERTIES_PREFIX + ".feign")
+public class FeignProperties extends BaseProperties {
+
+    /**
+     * Smile二进制格式配置
+     */
+    private Smile smile = new Smile();
+
+    /**
+     * Smile二进制格式配置
+     * <p>
+     * 仅作用于继承 IFeign 的内部服务客户端。开启后请求头 Accept 优先声明Smile并保留JSON回退，
+     * 下游服务支持时返回Smile，否则仍返回JSON，解码器按响应的 Content-Type 选择格式。
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Smile extends BaseProperties {
+        /**
+         * 是否以Smile格式编码请求体
+         * <p>
+         * 请求体无法协商，下游服务不支持Smile时将返回415，需确认所有下游服务均已升级后再开启。
+         */
+        private boolean encodeRequest = false;
+    }
+}
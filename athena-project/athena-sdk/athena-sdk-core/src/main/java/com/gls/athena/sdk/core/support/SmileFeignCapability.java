@@ -0,0 +1,138 @@
+package com.gls.athena.sdk.core.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.gls.athena.common.core.base.IFeign;
+import feign.Capability;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Feign Smile编解码扩展
+ * <p>
+ * 在默认编解码器外层包装Smile处理：
+ * <ul>
+ *     <li>解码：响应 Content-Type 为Smile时直接以Smile读取，否则交给默认解码器</li>
+ *     <li>编码：开启请求体编码且为内部服务客户端时以Smile写出请求体，否则交给默认编码器</li>
+ * </ul>
+ * 内部服务客户端指继承 {@link IFeign} 的客户端，第三方接口客户端不受影响。
+ *
+ * @author george
+ */
+@RequiredArgsConstructor
+public class SmileFeignCapability implements Capability {
+
+    /**
+     * Smile媒体类型
+     */
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * 协商使用的Accept请求头，优先Smile并保留JSON回退
+     */
+    public static final String ACCEPT_VALUE = SMILE_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9";
+
+    /**
+     * Smile格式的ObjectMapper
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 是否以Smile格式编码请求体
+     */
+    private final boolean encodeRequest;
+
+    /**
+     * 判断请求是否为可协商Smile的内部服务调用
+     * <p>
+     * 返回值需要访问原始响应或字节流的方法不参与协商。
+     *
+     * @param template 请求模板
+     * @return 可协商返回true
+     */
+    public static boolean supports(RequestTemplate template) {
+        Target<?> target = template.feignTarget();
+        if (target == null || !IFeign.class.isAssignableFrom(target.type())) {
+            return false;
+        }
+        if (template.methodMetadata() == null) {
+            return true;
+        }
+        Class<?> returnType = TypeFactory.rawClass(template.methodMetadata().returnType());
+        return !(ResponseEntity.class.isAssignableFrom(returnType)
+                || Response.class.isAssignableFrom(returnType)
+                || Resource.class.isAssignableFrom(returnType)
+                || InputStream.class.isAssignableFrom(returnType)
+                || byte[].class == returnType);
+    }
+
+    @Override
+    public Encoder enrich(Encoder encoder) {
+        if (!encodeRequest) {
+            return encoder;
+        }
+        return (object, bodyType, template) -> {
+            // 表单参数或已显式声明内容类型的请求保持默认编码
+            if (object == null || bodyType == Encoder.MAP_STRING_WILDCARD
+                    || template.headers().containsKey(HttpHeaders.CONTENT_TYPE) || !supports(template)) {
+                encoder.encode(object, bodyType, template);
+                return;
+            }
+            try {
+                byte[] body = objectMapper.writerFor(objectMapper.constructType(bodyType)).writeValueAsBytes(object);
+                template.header(HttpHeaders.CONTENT_TYPE, SMILE_VALUE);
+                template.body(body, null);
+            } catch (IOException e) {
+                throw new EncodeException("Smile请求体编码失败: " + e.getMessage(), e);
+            }
+        };
+    }
+
+    @Override
+    public Decoder enrich(Decoder decoder) {
+        return (response, type) -> {
+            if (response.body() == null || !isSmile(response)) {
+                return decoder.decode(response, type);
+            }
+            try (InputStream in = response.body().asInputStream()) {
+                return objectMapper.readValue(in, objectMapper.constructType(type));
+            } catch (IOException e) {
+                throw new DecodeException(response.status(), "Smile响应体解码失败: " + e.getMessage(), response.request(), e);
+            }
+        };
+    }
+
+    /**
+     * 判断响应是否为Smile格式
+     *
+     * @param response 响应
+     * @return Smile格式返回true
+     */
+    private boolean isSmile(Response response) {
+        Collection<String> contentTypes = response.headers().get(HttpHeaders.CONTENT_TYPE);
+        if (contentTypes == null) {
+            return false;
+        }
+        for (String contentType : contentTypes) {
+            if (contentType != null && contentType.regionMatches(true, 0, SMILE_VALUE, 0, SMILE_VALUE.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
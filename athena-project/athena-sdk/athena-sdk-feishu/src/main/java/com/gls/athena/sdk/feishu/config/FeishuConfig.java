@@ -1,6 +1,7 @@
 package com.gls.athena.sdk.feishu.config;
 
 import com.gls.athena.sdk.feishu.support.FeishuClient;
+import com.gls.athena.starter.json.support.JsonMapperRegistry;
 import com.lark.oapi.core.cache.ICache;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -20,13 +21,15 @@ public class FeishuConfig {
     /**
      * 飞书客户端
      *
-     * @param feishuProperties 飞书配置
-     * @param cache            缓存
+     * @param feishuProperties   飞书配置
+     * @param cache              缓存
+     * @param jsonMapperRegistry ObjectMapper注册表
      * @return 客户端
      */
     @Bean
     @ConditionalOnMissingBean
-    public FeishuClient feishuClient(FeishuProperties feishuProperties, ObjectProvider<ICache> cache) {
-        return new FeishuClient(feishuProperties, cache);
+    public FeishuClient feishuClient(FeishuProperties feishuProperties, ObjectProvider<ICache> cache,
+                                     JsonMapperRegistry jsonMapperRegistry) {
+        return new FeishuClient(feishuProperties, cache, jsonMapperRegistry.get(JsonMapperRegistry.EXTERNAL));
     }
 }
@@ -2,13 +2,13 @@ package com.gls.athena.sdk.feishu.support;
 
 import cn.hutool.core.util.IdUtil;
 import cn.hutool.core.util.StrUtil;
-import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gls.athena.sdk.feishu.config.FeishuProperties;
 import com.gls.athena.sdk.feishu.domain.ImageContent;
 import com.gls.athena.sdk.feishu.domain.InteractiveContent;
 import com.gls.athena.sdk.feishu.domain.PostContent;
 import com.gls.athena.sdk.feishu.domain.TextContent;
+import com.gls.athena.starter.json.support.JsonMapperRegistry;
 import com.lark.oapi.Client;
 import com.lark.oapi.core.cache.ICache;
 import com.lark.oapi.core.enums.AppType;
@@ -29,16 +29,9 @@ import org.springframework.beans.factory.ObjectProvider;
 @Slf4j
 public class FeishuClient {
     /**
-     * 对象映射
+     * 对象映射，空值不序列化
      */
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
-    static {
-        // 配置
-
-        // 配置空值不序列化
-        OBJECT_MAPPER.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-    }
+    private final ObjectMapper objectMapper;
 
     /**
      * 客户端
@@ -53,6 +46,18 @@ public class FeishuClient {
      * @param cache            缓存
      */
     public FeishuClient(FeishuProperties feishuProperties, ObjectProvider<ICache> cache) {
+        this(feishuProperties, cache, JsonMapperRegistry.createExternalMapper());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param feishuProperties 飞书配置
+     * @param cache            缓存
+     * @param objectMapper     对象映射，用于序列化消息内容
+     */
+    public FeishuClient(FeishuProperties feishuProperties, ObjectProvider<ICache> cache, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
         if (StrUtil.isBlank(feishuProperties.getAppId()) || StrUtil.isBlank(feishuProperties.getAppSecret())) {
             throw new IllegalArgumentException("飞书配置错误");
         }
@@ -134,7 +139,7 @@ public class FeishuClient {
      * @param content       消息内容
      */
     private CreateMessageResp sendMsg(String receiveId, CreateMessageReceiveIdTypeEnum receiveIdType, MsgTypeEnum msgType, Object content) throws Exception {
-        String contentStr = OBJECT_MAPPER.writeValueAsString(content);
+        String contentStr = objectMapper.writeValueAsString(content);
         log.info("发送消息:{}", contentStr);
         return client.im().message().create(CreateMessageReq.newBuilder()
                 .receiveIdType(receiveIdType)
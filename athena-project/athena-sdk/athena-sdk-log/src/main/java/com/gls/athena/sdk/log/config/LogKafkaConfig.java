@@ -2,11 +2,14 @@ package com.gls.athena.sdk.log.config;
 
 import com.gls.athena.sdk.log.method.IMethodEventListener;
 import com.gls.athena.sdk.log.method.KafkaMethodEventListener;
+import com.gls.athena.sdk.log.trace.TraceRecordInterceptor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.RecordInterceptor;
 
 /**
  * Kafka日志配置
@@ -32,4 +35,16 @@ public class LogKafkaConfig {
                                                          KafkaTemplate<String, Object> kafkaTemplate) {
         return new KafkaMethodEventListener(logProperties, kafkaTemplate);
     }
+
+    /**
+     * Kafka消费跟踪拦截器
+     * 由Spring Boot自动装配到监听容器工厂，为每条消费消息绑定跟踪ID
+     *
+     * @return RecordInterceptor 跟踪拦截器
+     */
+    @Bean
+    @ConditionalOnMissingBean(RecordInterceptor.class)
+    public RecordInterceptor<Object, Object> traceRecordInterceptor() {
+        return new TraceRecordInterceptor();
+    }
 }
@@ -1,12 +1,17 @@
 package com.gls.athena.sdk.log.method;
 
+import com.gls.athena.common.bean.trace.TraceContext;
+import com.gls.athena.common.core.constant.IConstants;
 import com.gls.athena.sdk.log.config.LogProperties;
 import com.gls.athena.sdk.log.domain.MethodDto;
 import com.gls.athena.sdk.log.domain.MethodLogDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * 方法日志消费者，负责将方法事件通过Kafka发送到指定主题
  *
@@ -44,7 +49,13 @@ public class KafkaMethodEventListener implements IMethodEventListener {
 
             // 记录发送日志并执行消息发送
             log.debug("发送方法日志到Kafka: topic={}, key={}", topic, key);
-            kafkaTemplate.send(topic, key, methodDto);
+            ProducerRecord<String, Object> record = new ProducerRecord<>(topic, key, methodDto);
+            // 透传跟踪ID，便于消费端关联同一请求的日志
+            String traceId = TraceContext.getTraceId();
+            if (traceId != null) {
+                record.headers().add(IConstants.TRACE_ID, traceId.getBytes(StandardCharsets.UTF_8));
+            }
+            kafkaTemplate.send(record);
 
         } catch (Exception e) {
             // Kafka发送失败不应影响主业务流程
@@ -1,6 +1,7 @@
 package com.gls.athena.sdk.log.method;
 
 import cn.hutool.extra.spring.SpringUtil;
+import com.gls.athena.common.core.util.MethodIndexUtil;
 import com.gls.athena.sdk.log.domain.MethodDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationContext;
@@ -9,9 +10,14 @@ import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ReflectionUtils;
 
+import java.util.function.Predicate;
+
 /**
  * 方法管理器
  * 职责：专门负责在应用启动时扫描并注册带有@MethodLog注解的方法
+ * <p>
+ * 类路径中存在编译期方法索引（athena-common-processor 生成）时，只扫描索引判定可能带有注解方法的Bean，
+ * 扫描结果与不使用索引时一致
  *
  * @author george
  */
@@ -24,13 +30,12 @@ public class MethodManager {
         log.info("开始扫描@MethodLog注解的方法...");
 
         ApplicationContext applicationContext = event.getApplicationContext();
-        String[] beanNames = applicationContext.getBeanDefinitionNames();
         String applicationName = SpringUtil.getApplicationName();
 
+        Predicate<Class<?>> candidateFilter = MethodIndexUtil.getCandidateFilter(applicationContext.getClassLoader(), MethodLog.class);
         int methodCount = 0;
-
-        for (String beanName : beanNames) {
-            methodCount += scanBeanMethods(applicationContext, beanName, applicationName);
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            methodCount += scanBeanMethods(applicationContext, beanName, applicationName, candidateFilter);
         }
 
         log.info("@MethodLog注解方法扫描完成，共发现{}个方法", methodCount);
@@ -39,9 +44,10 @@ public class MethodManager {
     /**
      * 扫描指定Bean中的方法
      */
-    private int scanBeanMethods(ApplicationContext applicationContext, String beanName, String applicationName) {
+    private int scanBeanMethods(ApplicationContext applicationContext, String beanName, String applicationName,
+                                Predicate<Class<?>> candidateFilter) {
         Class<?> beanClass = applicationContext.getType(beanName);
-        if (beanClass == null || isSystemClass(beanClass)) {
+        if (beanClass == null || isSystemClass(beanClass) || !candidateFilter.test(beanClass)) {
             return 0;
         }
 
@@ -1,12 +1,11 @@
 package com.gls.athena.sdk.log.service.impl;
 
+import com.gls.athena.common.bean.trace.TraceContext;
 import com.gls.athena.sdk.log.service.ITraceService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
-
 /**
  * 默认跟踪服务实现
  * 职责：在没有分布式跟踪组件时提供默认实现
@@ -20,14 +19,14 @@ public class DefaultTraceServiceImpl implements ITraceService {
 
     /**
      * 获取当前跟踪ID
-     * 当系统中没有配置其他ITraceService实现时，生成一个默认的UUID作为跟踪ID
+     * 当系统中没有配置其他ITraceService实现时，使用入口处绑定到当前线程的跟踪ID，
+     * 未绑定时（如定时任务）生成一个新的跟踪ID
      *
-     * @return String 跟踪ID，格式为去除横线的UUID字符串
+     * @return String 跟踪ID，32位十六进制字符串
      */
     @Override
     public String getCurrentTraceId() {
-        // 生成简单的UUID作为跟踪ID
-        return UUID.randomUUID().toString().replace("-", "");
+        return TraceContext.getOrNewTraceId();
     }
 }
 
@@ -1,5 +1,6 @@
 package com.gls.athena.sdk.log.service.impl;
 
+import com.gls.athena.common.bean.trace.TraceContext;
 import com.gls.athena.sdk.log.service.ITraceService;
 import io.micrometer.tracing.Span;
 import io.micrometer.tracing.Tracer;
@@ -24,7 +25,8 @@ public class TraceServiceImpl implements ITraceService {
 
     /**
      * 获取当前跟踪ID
-     * 从当前线程的跟踪上下文中提取traceId，用于分布式链路追踪
+     * 从当前线程的跟踪上下文中提取traceId，用于分布式链路追踪；
+     * 没有活跃跨度时退回到入口处绑定的轻量级跟踪ID
      *
      * @return String 当前跟踪ID，如果无法获取则返回null
      */
@@ -40,7 +42,7 @@ public class TraceServiceImpl implements ITraceService {
         } catch (Exception e) {
             log.debug("获取跟踪ID失败：{}", e.getMessage());
         }
-        return null;
+        return TraceContext.getTraceId();
     }
 }
 
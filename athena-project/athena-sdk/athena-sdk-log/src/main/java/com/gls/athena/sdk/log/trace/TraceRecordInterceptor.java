@@ -0,0 +1,48 @@
+package com.gls.athena.sdk.log.trace;
+
+import com.gls.athena.common.bean.trace.TraceContext;
+import com.gls.athena.common.core.constant.IConstants;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.listener.RecordInterceptor;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Kafka消费跟踪拦截器
+ * <p>
+ * 在监听器处理每条消息前，从消息头中读取跟踪ID（没有则生成）并绑定到消费线程，处理结束后清除。
+ * <p>
+ * 该拦截器只作用于逐条消费的监听器，批量监听器不会调用，需在处理每条消息时自行调用
+ * {@link TraceContext#begin(String)} 和 {@link TraceContext#clear()}（如消息模块的批量监听器）。
+ *
+ * @author george
+ */
+public class TraceRecordInterceptor implements RecordInterceptor<Object, Object> {
+
+    /**
+     * 消息处理前绑定跟踪ID
+     *
+     * @param record   消费记录
+     * @param consumer 消费者
+     * @return 原始消费记录
+     */
+    @Override
+    public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+        Header header = record.headers().lastHeader(IConstants.TRACE_ID);
+        TraceContext.begin(header == null ? null : new String(header.value(), StandardCharsets.UTF_8));
+        return record;
+    }
+
+    /**
+     * 消息处理结束后清除跟踪ID
+     *
+     * @param record   消费记录
+     * @param consumer 消费者
+     */
+    @Override
+    public void afterRecord(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+        TraceContext.clear();
+    }
+}
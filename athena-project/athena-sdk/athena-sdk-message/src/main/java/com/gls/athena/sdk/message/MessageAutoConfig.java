@@ -1,16 +1,23 @@
 package com.gls.athena.sdk.message;
 
 import com.gls.athena.sdk.message.config.MessageProperties;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * 消息自动配置
+ * <p>
+ * 在短信、飞书自动配置之后处理，使消费端渠道发送器可按对应客户端Bean是否存在装配。
  *
  * @author george
  */
 @Configuration
+@AutoConfigureAfter(name = {
+        "com.gls.athena.starter.aliyun.sms.AliyunSmsAutoConfig",
+        "com.gls.athena.sdk.feishu.FeishuAutoConfig"
+})
 @ComponentScan
 @EnableConfigurationProperties(MessageProperties.class)
 public class MessageAutoConfig {
@@ -3,7 +3,7 @@ package com.gls.athena.sdk.message.config;
 import com.gls.athena.sdk.message.kafka.KafkaMessageEventListener;
 import com.gls.athena.sdk.message.support.IMessageEventListener;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -19,6 +19,7 @@ public class MessageConfig {
 
     /**
      * 创建Kafka消息事件监听器Bean
+     * 开启本地消息表（athena.message.outbox.enabled）时由本地消息表监听器替代
      *
      * @param messageProperties 消息配置属性
      * @param kafkaTemplate     Kafka模板对象
@@ -26,7 +27,7 @@ public class MessageConfig {
      */
     @Bean
     @ConditionalOnClass(KafkaTemplate.class)
-    @ConditionalOnProperty(prefix = "athena.message.kafka", name = "enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnExpression("${athena.message.kafka.enabled:true} and !${athena.message.outbox.enabled:false}")
     public IMessageEventListener messageEventListener(MessageProperties messageProperties, KafkaTemplate<String, Object> kafkaTemplate) {
         return new KafkaMessageEventListener(messageProperties, kafkaTemplate);
     }
@@ -0,0 +1,142 @@
+package com.gls.athena.sdk.message.config;
+
+import com.gls.athena.sdk.feishu.support.FeishuClient;
+import com.gls.athena.sdk.message.consumer.ChannelThrottledException;
+import com.gls.athena.sdk.message.consumer.IMessageDeduplicator;
+import com.gls.athena.sdk.message.consumer.MemoryMessageDeduplicator;
+import com.gls.athena.sdk.message.consumer.MessageDispatcher;
+import com.gls.athena.sdk.message.consumer.MessageKafkaListener;
+import com.gls.athena.sdk.message.consumer.sender.AliyunSmsMessageSender;
+import com.gls.athena.sdk.message.consumer.sender.FeishuMessageSender;
+import com.gls.athena.sdk.message.support.IMessageSender;
+import com.gls.athena.starter.aliyun.sms.support.AliyunSmsClient;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * 消息消费端配置
+ * 职责：开启 athena.message.consumer.enabled 后，装配批量监听器、分发器、去重器与渠道发送器
+ *
+ * @author george
+ */
+@Configuration
+@ConditionalOnClass(KafkaTemplate.class)
+@ConditionalOnProperty(prefix = "athena.message.consumer", name = "enabled", havingValue = "true")
+public class MessageConsumerConfig {
+
+    /**
+     * 批量监听容器工厂，失败消息按指数退避重试，耗尽后投递到死信主题；
+     * 渠道限流的消息按限流剩余时间（不超过 maxThrottleInterval）退避后无限重试，不进入死信主题
+     *
+     * @param messageProperties 消息配置属性
+     * @param consumerFactory   消费者工厂
+     * @param kafkaTemplate     Kafka模板，用于投递死信
+     * @return 批量监听容器工厂
+     */
+    @Bean(MessageKafkaListener.CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, Object> messageBatchContainerFactory(
+            MessageProperties messageProperties, ConsumerFactory<String, Object> consumerFactory,
+            KafkaTemplate<String, Object> kafkaTemplate) {
+        MessageProperties.Retry retry = messageProperties.getConsumer().getRetry();
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(retry.getMaxRetries());
+        backOff.setInitialInterval(retry.getInitialInterval().toMillis());
+        backOff.setMultiplier(retry.getMultiplier());
+        backOff.setMaxInterval(retry.getMaxInterval().toMillis());
+        // 死信不指定分区，由Kafka按消息键分配，死信主题无需与原主题分区数一致
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, e) -> new TopicPartition(record.topic() + retry.getDltSuffix(), -1));
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, backOff);
+        long maxThrottleMillis = retry.getMaxThrottleInterval().toMillis();
+        errorHandler.setBackOffFunction((record, e) -> {
+            ChannelThrottledException throttled = ChannelThrottledException.find(e);
+            return throttled == null ? null : new FixedBackOff(
+                    Math.max(1, Math.min(throttled.getRetryAfter().toMillis(), maxThrottleMillis)), FixedBackOff.UNLIMITED_ATTEMPTS);
+        });
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(errorHandler);
+        return factory;
+    }
+
+    /**
+     * 消息去重器，默认基于内存
+     *
+     * @param messageProperties 消息配置属性
+     * @return 消息去重器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public IMessageDeduplicator messageDeduplicator(MessageProperties messageProperties) {
+        return new MemoryMessageDeduplicator(messageProperties.getConsumer().getDedupTtl());
+    }
+
+    /**
+     * 消息分发器
+     *
+     * @param messageProperties 消息配置属性
+     * @param senders           渠道发送器
+     * @return 消息分发器
+     */
+    @Bean
+    public MessageDispatcher messageDispatcher(MessageProperties messageProperties, ObjectProvider<IMessageSender> senders) {
+        return new MessageDispatcher(senders.orderedStream().toList(), messageProperties.getConsumer());
+    }
+
+    /**
+     * 消息批量监听器
+     *
+     * @param messageProperties   消息配置属性
+     * @param messageDispatcher   消息分发器
+     * @param messageDeduplicator 消息去重器
+     * @return 消息批量监听器
+     */
+    @Bean
+    public MessageKafkaListener messageKafkaListener(MessageProperties messageProperties, MessageDispatcher messageDispatcher,
+                                                     IMessageDeduplicator messageDeduplicator) {
+        return new MessageKafkaListener(messageProperties, messageDispatcher, messageDeduplicator);
+    }
+
+    /**
+     * 阿里云短信渠道
+     */
+    @Configuration
+    @ConditionalOnClass(AliyunSmsClient.class)
+    static class AliyunSmsSenderConfig {
+
+        @Bean
+        @ConditionalOnBean(AliyunSmsClient.class)
+        public IMessageSender aliyunSmsMessageSender(AliyunSmsClient aliyunSmsClient) {
+            return new AliyunSmsMessageSender(aliyunSmsClient);
+        }
+    }
+
+    /**
+     * 飞书渠道
+     */
+    @Configuration
+    @ConditionalOnClass(FeishuClient.class)
+    static class FeishuSenderConfig {
+
+        @Bean
+        @ConditionalOnBean(FeishuClient.class)
+        public IMessageSender feishuMessageSender(FeishuClient feishuClient, MessageProperties messageProperties) {
+            return new FeishuMessageSender(feishuClient, messageProperties.getConsumer().getFeishuReceiveIdType());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.gls.athena.sdk.message.config;
+
+import com.gls.athena.sdk.message.outbox.MessageOutboxRelay;
+import com.gls.athena.sdk.message.outbox.MessageOutboxRepository;
+import com.gls.athena.sdk.message.outbox.OutboxMessageEventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 本地消息表配置
+ * 职责：开启 athena.message.outbox.enabled 后，装配本地消息表写入监听器与Kafka投递中继
+ *
+ * @author george
+ */
+@Slf4j
+@Configuration
+@ConditionalOnClass({JdbcTemplate.class, KafkaTemplate.class})
+@ConditionalOnProperty(prefix = "athena.message.outbox", name = "enabled", havingValue = "true")
+public class MessageOutboxConfig {
+
+    /**
+     * 本地消息表数据访问
+     *
+     * @param messageProperties 消息配置属性
+     * @param jdbcTemplate      JDBC模板
+     * @return 本地消息表数据访问
+     */
+    @Bean
+    public MessageOutboxRepository messageOutboxRepository(MessageProperties messageProperties, JdbcTemplate jdbcTemplate) {
+        return new MessageOutboxRepository(jdbcTemplate, messageProperties.getOutbox());
+    }
+
+    /**
+     * 本地消息表事件监听器，替代直接投递Kafka的异步监听器
+     *
+     * @param messageProperties       消息配置属性
+     * @param messageOutboxRepository 本地消息表数据访问
+     * @return 本地消息表事件监听器
+     */
+    @Bean
+    public OutboxMessageEventListener outboxMessageEventListener(MessageProperties messageProperties,
+                                                                 MessageOutboxRepository messageOutboxRepository) {
+        return new OutboxMessageEventListener(messageProperties, messageOutboxRepository);
+    }
+
+    /**
+     * 本地消息表中继
+     *
+     * @param messageProperties       消息配置属性
+     * @param messageOutboxRepository 本地消息表数据访问
+     * @param kafkaTemplate           Kafka模板
+     * @param transactionManager      事务管理器
+     * @return 本地消息表中继
+     */
+    @Bean
+    public MessageOutboxRelay messageOutboxRelay(MessageProperties messageProperties,
+                                                 MessageOutboxRepository messageOutboxRepository,
+                                                 KafkaTemplate<String, Object> kafkaTemplate,
+                                                 PlatformTransactionManager transactionManager) {
+        Object idempotence = kafkaTemplate.getProducerFactory().getConfigurationProperties()
+                .get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG);
+        if (idempotence != null && !Boolean.parseBoolean(idempotence.toString())) {
+            log.warn("Kafka生产者未开启幂等（{}=false），本地消息表中继重试时可能产生重复消息",
+                    ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG);
+        }
+        return new MessageOutboxRelay(messageProperties.getOutbox(), messageOutboxRepository, kafkaTemplate,
+                new TransactionTemplate(transactionManager));
+    }
+}
@@ -2,10 +2,15 @@ package com.gls.athena.sdk.message.config;
 
 import com.gls.athena.common.core.constant.BaseProperties;
 import com.gls.athena.common.core.constant.IConstants;
+import com.gls.athena.sdk.message.domain.MessageType;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * 消息配置
  *
@@ -20,6 +25,21 @@ public class MessageProperties extends BaseProperties {
      */
     private Kafka kafka = new Kafka();
 
+    /**
+     * 本地消息表（outbox）配置
+     */
+    private Outbox outbox = new Outbox();
+
+    /**
+     * 批量消息配置
+     */
+    private Bulk bulk = new Bulk();
+
+    /**
+     * 消费端配置
+     */
+    private Consumer consumer = new Consumer();
+
     /**
      * kafka配置
      */
@@ -30,5 +50,150 @@ public class MessageProperties extends BaseProperties {
          * 主题
          */
         private String topic = "athena-message";
+        /**
+         * 批量消息主题
+         */
+        private String bulkTopic = "athena-message-bulk";
+    }
+
+    /**
+     * 批量消息配置
+     */
+    @Data
+    public static class Bulk {
+        /**
+         * 每个分片的最大接收人数量，一个分片对应一个事件和一条Kafka消息
+         */
+        private int chunkSize = 500;
+    }
+
+    /**
+     * 本地消息表（outbox）配置
+     * <p>
+     * 开启后消息在调用方事务内批量写入本地消息表，由后台中继批量投递到Kafka，
+     * 替代直接异步发送，应用崩溃或Kafka不可用时消息不会丢失。
+     */
+    @Data
+    public static class Outbox {
+        /**
+         * 是否开启，默认关闭
+         */
+        private boolean enabled = false;
+        /**
+         * 本地消息表名
+         */
+        private String table = "t_message_outbox";
+        /**
+         * 每批次拉取并投递的消息数量
+         */
+        private int batchSize = 500;
+        /**
+         * 空闲时的轮询间隔
+         */
+        private Duration pollInterval = Duration.ofMillis(500);
+        /**
+         * 等待Kafka确认的超时时间
+         */
+        private Duration sendTimeout = Duration.ofSeconds(30);
+        /**
+         * 认领超时时间，中继认领后超过该时间仍未回写状态的消息将被重新投递，需大于等待Kafka确认的超时时间
+         */
+        private Duration claimTimeout = Duration.ofMinutes(5);
+        /**
+         * 最大投递次数，超过后标记为失败不再重试
+         */
+        private int maxAttempts = 10;
+        /**
+         * 已发送消息的保留时长，超过后被清理
+         */
+        private Duration retention = Duration.ofDays(7);
+        /**
+         * 拉取时是否使用 FOR UPDATE SKIP LOCKED，支持多实例并行中继（MySQL 8+、PostgreSQL 9.5+）
+         */
+        private boolean skipLocked = true;
+    }
+
+    /**
+     * 消费端配置
+     * <p>
+     * 开启后批量消费单条与批量消息主题，按消息类型分发到渠道发送器，
+     * 失败消息按指数退避重试，重试耗尽后投递到死信主题。
+     */
+    @Data
+    public static class Consumer {
+        /**
+         * 是否开启，默认关闭
+         */
+        private boolean enabled = false;
+        /**
+         * 消费组
+         */
+        private String groupId = "athena-message-consumer";
+        /**
+         * 监听容器并发数
+         */
+        private int concurrency = 1;
+        /**
+         * 消息ID去重的保留时长
+         */
+        private Duration dedupTtl = Duration.ofHours(24);
+        /**
+         * 飞书接收者ID类型（open_id、user_id、union_id、email、chat_id）
+         */
+        private String feishuReceiveIdType = "user_id";
+        /**
+         * 重试配置
+         */
+        private Retry retry = new Retry();
+        /**
+         * 未单独配置的渠道使用的默认限制
+         */
+        private Channel defaultChannel = new Channel();
+        /**
+         * 各渠道的限流配置
+         */
+        private Map<MessageType, Channel> channels = new EnumMap<>(MessageType.class);
+    }
+
+    /**
+     * 渠道限流配置
+     */
+    @Data
+    public static class Channel {
+        /**
+         * 每秒最多发送的消息数（批量消息按接收人计数），小于等于0表示不限流
+         */
+        private double permitsPerSecond = 0;
+    }
+
+    /**
+     * 消费重试配置
+     */
+    @Data
+    public static class Retry {
+        /**
+         * 首次重试间隔
+         */
+        private Duration initialInterval = Duration.ofSeconds(1);
+        /**
+         * 重试间隔倍数
+         */
+        private double multiplier = 2;
+        /**
+         * 最大重试间隔
+         */
+        private Duration maxInterval = Duration.ofSeconds(30);
+        /**
+         * 最大重试次数
+         */
+        private int maxRetries = 5;
+        /**
+         * 死信主题后缀
+         */
+        private String dltSuffix = ".DLT";
+        /**
+         * 渠道限流时的最大退避间隔，需远小于 max.poll.interval.ms，限流退避不计入最大重试次数
+         */
+        private Duration maxThrottleInterval = Duration.ofSeconds(5);
     }
 }
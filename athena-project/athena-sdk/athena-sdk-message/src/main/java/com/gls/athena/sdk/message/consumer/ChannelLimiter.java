@@ -0,0 +1,67 @@
+package com.gls.athena.sdk.message.consumer;
+
+import com.gls.athena.sdk.message.config.MessageProperties;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 渠道限制器
+ * <p>
+ * 限制渠道的发送速率，速率按消息数计算。批量发送一次性预支对应数量的许可，
+ * 后续请求在预支部分被时间偿还前被拒绝，因此大批量请求不会被拒绝，只会推迟后续请求。
+ * <p>
+ * 获取许可不阻塞消费线程：速率用尽时抛出 {@link ChannelThrottledException}，
+ * 由监听容器的错误处理器退避后重新拉取该消息，避免长时间等待超过 {@code max.poll.interval.ms}。
+ *
+ * @author george
+ */
+public class ChannelLimiter {
+
+    /**
+     * 每个许可的间隔（纳秒），0表示不限流
+     */
+    private final long intervalNanos;
+
+    /**
+     * 下一个许可可用的时间点
+     */
+    private long nextFreeNanos = System.nanoTime();
+
+    public ChannelLimiter(MessageProperties.Channel channel) {
+        this.intervalNanos = channel.getPermitsPerSecond() > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) / channel.getPermitsPerSecond()) : 0;
+    }
+
+    /**
+     * 获取发送许可，不阻塞
+     *
+     * @param messages 本次发送的消息数
+     * @throws ChannelThrottledException 速率已用尽时抛出，此时不预支许可
+     */
+    public void acquire(int messages) {
+        long waitNanos = tryReserve(messages);
+        if (waitNanos > 0) {
+            throw new ChannelThrottledException(Duration.ofNanos(waitNanos));
+        }
+    }
+
+    /**
+     * 尝试预支速率许可
+     *
+     * @param messages 消息数
+     * @return 预支成功返回0，否则返回距下一个许可可用的纳秒数
+     */
+    private synchronized long tryReserve(int messages) {
+        if (intervalNanos == 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long waitNanos = nextFreeNanos - now;
+        if (waitNanos > 0) {
+            return waitNanos;
+        }
+        nextFreeNanos = now + intervalNanos * Math.max(1, messages);
+        return 0;
+    }
+}
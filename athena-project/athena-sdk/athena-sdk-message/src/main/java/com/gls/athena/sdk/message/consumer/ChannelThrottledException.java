@@ -0,0 +1,45 @@
+package com.gls.athena.sdk.message.consumer;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 渠道限流异常
+ * <p>
+ * 渠道发送速率用尽时抛出，消息未发送。监听容器的错误处理器对该异常按 {@link #getRetryAfter()} 退避后重新拉取消息，
+ * 不计入失败重试次数，也不会进入死信主题。
+ *
+ * @author george
+ */
+@Getter
+public class ChannelThrottledException extends RuntimeException {
+
+    /**
+     * 距下一个许可可用的时长
+     */
+    private final Duration retryAfter;
+
+    public ChannelThrottledException(Duration retryAfter) {
+        super("渠道发送速率已用尽，" + retryAfter.toMillis() + "ms后重试");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * 在异常链中查找渠道限流异常
+     *
+     * @param throwable 异常
+     * @return 渠道限流异常，不存在时返回null
+     */
+    public static ChannelThrottledException find(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof ChannelThrottledException throttled) {
+                return throttled;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return null;
+    }
+}
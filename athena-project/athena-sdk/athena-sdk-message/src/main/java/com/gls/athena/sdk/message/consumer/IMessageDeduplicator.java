@@ -0,0 +1,55 @@
+package com.gls.athena.sdk.message.consumer;
+
+/**
+ * 消息去重器
+ * <p>
+ * 按消息ID（消息头 message-id）去重，防止重试或重复投递导致同一消息被多次发送。
+ * 同时记录批量消息分片的发送进度（已发送的接收人数量），部分发送失败后重试时从失败位置继续。
+ * 默认实现仅在当前实例内存中去重，多实例部署时可提供基于Redis等共享存储的实现替换。
+ *
+ * @author george
+ */
+public interface IMessageDeduplicator {
+
+    /**
+     * 尝试占用消息ID
+     *
+     * @param messageId 消息ID
+     * @return 首次占用返回true，已处理过或正在处理返回false
+     */
+    boolean tryAcquire(String messageId);
+
+    /**
+     * 释放消息ID，发送失败时调用，使该消息在重试时可再次处理
+     *
+     * @param messageId 消息ID
+     */
+    void release(String messageId);
+
+    /**
+     * 获取批量消息分片的发送进度
+     *
+     * @param messageId 消息ID
+     * @return 已发送的接收人数量，无记录时返回0
+     */
+    default int getProgress(String messageId) {
+        return 0;
+    }
+
+    /**
+     * 记录批量消息分片的发送进度，部分发送失败时调用
+     *
+     * @param messageId 消息ID
+     * @param sentCount 已发送的接收人数量
+     */
+    default void saveProgress(String messageId, int sentCount) {
+    }
+
+    /**
+     * 清除批量消息分片的发送进度，发送完成时调用
+     *
+     * @param messageId 消息ID
+     */
+    default void clearProgress(String messageId) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.gls.athena.sdk.message.consumer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 基于内存的消息去重器
+ * <p>
+ * 记录消息ID及其过期时间，以及批量消息分片的发送进度，定期清理过期记录。
+ *
+ * @author george
+ */
+public class MemoryMessageDeduplicator implements IMessageDeduplicator {
+
+    /**
+     * 清理过期记录的间隔（次）
+     */
+    private static final int CLEAN_INTERVAL = 10000;
+
+    private final Map<String, Long> expireAt = new ConcurrentHashMap<>();
+
+    /**
+     * 批量消息分片的发送进度，值为已发送数量与过期时间
+     */
+    private final Map<String, long[]> progress = new ConcurrentHashMap<>();
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private final long ttlMillis;
+
+    public MemoryMessageDeduplicator(Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    @Override
+    public boolean tryAcquire(String messageId) {
+        long now = System.currentTimeMillis();
+        if (counter.incrementAndGet() % CLEAN_INTERVAL == 0) {
+            expireAt.values().removeIf(expire -> expire < now);
+            progress.values().removeIf(value -> value[1] < now);
+        }
+        long expire = now + ttlMillis;
+        Long previous = expireAt.putIfAbsent(messageId, expire);
+        if (previous == null) {
+            return true;
+        }
+        // 记录已过期，重新占用
+        return previous < now && expireAt.replace(messageId, previous, expire);
+    }
+
+    @Override
+    public void release(String messageId) {
+        expireAt.remove(messageId);
+    }
+
+    @Override
+    public int getProgress(String messageId) {
+        long[] value = progress.get(messageId);
+        return value == null || value[1] < System.currentTimeMillis() ? 0 : (int) value[0];
+    }
+
+    @Override
+    public void saveProgress(String messageId, int sentCount) {
+        progress.put(messageId, new long[]{sentCount, System.currentTimeMillis() + ttlMillis});
+    }
+
+    @Override
+    public void clearProgress(String messageId) {
+        progress.remove(messageId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.gls.athena.sdk.message.consumer;
+
+import com.gls.athena.sdk.message.config.MessageProperties;
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
+import com.gls.athena.sdk.message.domain.MessageDto;
+import com.gls.athena.sdk.message.domain.MessageType;
+import com.gls.athena.sdk.message.support.IMessageSender;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 消息分发器
+ * 职责：按消息类型选择渠道发送器，并在渠道速率限制内发送
+ * <p>
+ * 发送在消费线程内同步执行，并发度由监听容器并发数（athena.message.consumer.concurrency）决定。
+ *
+ * @author george
+ */
+@Slf4j
+public class MessageDispatcher {
+
+    private final Map<MessageType, IMessageSender> senders = new EnumMap<>(MessageType.class);
+
+    private final Map<MessageType, ChannelLimiter> limiters = new EnumMap<>(MessageType.class);
+
+    public MessageDispatcher(List<IMessageSender> senders, MessageProperties.Consumer consumer) {
+        for (IMessageSender sender : senders) {
+            IMessageSender previous = this.senders.put(sender.getType(), sender);
+            if (previous != null) {
+                log.warn("消息类型{}存在多个发送器，使用{}替换{}", sender.getType(), sender.getClass().getName(),
+                        previous.getClass().getName());
+            }
+        }
+        for (MessageType type : MessageType.values()) {
+            limiters.put(type, new ChannelLimiter(consumer.getChannels().getOrDefault(type, consumer.getDefaultChannel())));
+        }
+        log.info("消息分发器已注册渠道: {}", this.senders.keySet());
+    }
+
+    /**
+     * 分发单条消息
+     *
+     * @param messageDto 消息对象
+     * @throws ChannelThrottledException 渠道速率已用尽时抛出
+     * @throws Exception                 发送失败时抛出
+     */
+    public void dispatch(MessageDto messageDto) throws Exception {
+        IMessageSender sender = getSender(messageDto.getType());
+        limiters.get(messageDto.getType()).acquire(1);
+        sender.send(messageDto);
+    }
+
+    /**
+     * 分发批量消息分片
+     *
+     * @param bulkMessageDto 批量消息分片
+     * @throws ChannelThrottledException 渠道速率已用尽时抛出
+     * @throws Exception                 发送失败时抛出
+     */
+    public void dispatchBulk(BulkMessageDto bulkMessageDto) throws Exception {
+        IMessageSender sender = getSender(bulkMessageDto.getType());
+        limiters.get(bulkMessageDto.getType()).acquire(bulkMessageDto.getRecipients().size());
+        sender.sendBatch(bulkMessageDto);
+    }
+
+    /**
+     * 获取渠道发送器
+     *
+     * @param type 消息类型
+     * @return 渠道发送器
+     */
+    private IMessageSender getSender(MessageType type) {
+        IMessageSender sender = type == null ? null : senders.get(type);
+        if (sender == null) {
+            throw new IllegalStateException("未找到消息类型对应的发送器: " + type);
+        }
+        return sender;
+    }
+}
@@ -0,0 +1,154 @@
+package com.gls.athena.sdk.message.consumer;
+
+import cn.hutool.json.JSONUtil;
+import com.gls.athena.common.bean.trace.TraceContext;
+import com.gls.athena.common.core.constant.IConstants;
+import com.gls.athena.sdk.message.config.MessageProperties;
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
+import com.gls.athena.sdk.message.domain.MessageDto;
+import com.gls.athena.sdk.message.outbox.MessageOutboxRelay;
+import com.gls.athena.sdk.message.support.PartialSendException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 消息Kafka批量监听器
+ * 职责：批量消费单条与批量消息主题，去重后交给分发器发送
+ * <p>
+ * 某条消息发送失败时抛出 {@link BatchListenerFailedException} 标记失败位置，
+ * 之前的消息正常提交，失败消息及之后的消息由错误处理器按退避策略重试，重试耗尽后进入死信主题。
+ * 批量消息分片部分发送失败（{@link PartialSendException}）时记录已发送的接收人数量，重试时只发送剩余接收人。
+ * 渠道限流（{@link ChannelThrottledException}）时同样标记失败位置，由错误处理器按限流剩余时间退避后重新拉取，不进入死信主题。
+ *
+ * @author george
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MessageKafkaListener {
+
+    /**
+     * 监听容器工厂Bean名称
+     */
+    public static final String CONTAINER_FACTORY = "messageBatchContainerFactory";
+
+    private final MessageProperties messageProperties;
+
+    private final MessageDispatcher messageDispatcher;
+
+    private final IMessageDeduplicator messageDeduplicator;
+
+    /**
+     * 批量消费消息
+     *
+     * @param records 消费记录
+     */
+    @KafkaListener(id = "athena-message-consumer",
+            topics = {"${athena.message.kafka.topic:athena-message}", "${athena.message.kafka.bulk-topic:athena-message-bulk}"},
+            groupId = "${athena.message.consumer.group-id:athena-message-consumer}",
+            concurrency = "${athena.message.consumer.concurrency:1}",
+            containerFactory = CONTAINER_FACTORY)
+    public void onMessages(List<ConsumerRecord<String, Object>> records) {
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                handle(records.get(i));
+            } catch (Exception e) {
+                throw new BatchListenerFailedException("消息发送失败", e, i);
+            }
+        }
+    }
+
+    /**
+     * 处理单条消费记录
+     *
+     * @param record 消费记录
+     * @throws Exception 发送失败时抛出
+     */
+    void handle(ConsumerRecord<String, Object> record) throws Exception {
+        String messageId = header(record, MessageOutboxRelay.MESSAGE_ID_HEADER);
+        if (messageId != null && !messageDeduplicator.tryAcquire(messageId)) {
+            log.debug("消息已处理，跳过 - Topic: {}, MessageId: {}", record.topic(), messageId);
+            return;
+        }
+        TraceContext.begin(header(record, IConstants.TRACE_ID));
+        try {
+            if (messageProperties.getKafka().getBulkTopic().equals(record.topic())) {
+                handleBulk(messageId, convert(record.value(), BulkMessageDto.class));
+            } else {
+                messageDispatcher.dispatch(convert(record.value(), MessageDto.class));
+            }
+        } catch (Exception e) {
+            if (messageId != null) {
+                messageDeduplicator.release(messageId);
+            }
+            throw e;
+        } finally {
+            TraceContext.clear();
+        }
+    }
+
+    /**
+     * 发送批量消息分片，跳过此前已发送的接收人，部分发送失败时记录发送进度
+     *
+     * @param messageId      消息ID，可为空
+     * @param bulkMessageDto 批量消息分片
+     * @throws Exception 发送失败时抛出
+     */
+    private void handleBulk(String messageId, BulkMessageDto bulkMessageDto) throws Exception {
+        int sent = messageId == null ? 0 : messageDeduplicator.getProgress(messageId);
+        BulkMessageDto remaining = bulkMessageDto;
+        if (sent > 0) {
+            List<BulkMessageDto.Recipient> recipients = bulkMessageDto.getRecipients();
+            log.info("批量消息续发 - MessageId: {}, 已发送: {}, 总数: {}", messageId, sent, recipients.size());
+            remaining = bulkMessageDto.withRecipients(new ArrayList<>(recipients.subList(Math.min(sent, recipients.size()), recipients.size())));
+        }
+        try {
+            messageDispatcher.dispatchBulk(remaining);
+        } catch (PartialSendException e) {
+            if (messageId != null) {
+                messageDeduplicator.saveProgress(messageId, sent + e.getSentCount());
+            }
+            throw e;
+        }
+        if (sent > 0) {
+            messageDeduplicator.clearProgress(messageId);
+        }
+    }
+
+    /**
+     * 将消息体转换为目标类型，兼容未携带类型信息的JSON反序列化结果
+     *
+     * @param value 消息体
+     * @param type  目标类型
+     * @param <T>   目标类型
+     * @return 消息对象
+     */
+    private <T> T convert(Object value, Class<T> type) {
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        if (value instanceof byte[] bytes) {
+            return JSONUtil.toBean(new String(bytes, StandardCharsets.UTF_8), type);
+        }
+        return JSONUtil.parseObj(value).toBean(type);
+    }
+
+    /**
+     * 读取字符串消息头
+     *
+     * @param record 消费记录
+     * @param key    消息头名称
+     * @return 消息头值，不存在时返回null
+     */
+    private String header(ConsumerRecord<String, Object> record, String key) {
+        Header header = record.headers().lastHeader(key);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,61 @@
+package com.gls.athena.sdk.message.consumer.sender;
+
+import cn.hutool.json.JSONUtil;
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
+import com.gls.athena.sdk.message.domain.MessageDto;
+import com.gls.athena.sdk.message.domain.MessageType;
+import com.gls.athena.sdk.message.support.IMessageSender;
+import com.gls.athena.sdk.message.support.PartialSendException;
+import com.gls.athena.starter.aliyun.sms.support.AliyunSmsClient;
+import com.gls.athena.starter.aliyun.sms.support.BatchSmsException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 阿里云短信发送器
+ * <p>
+ * 批量消息使用阿里云批量短信接口，每个号码携带各自的模板参数。
+ * 拆分后的某次请求失败时，已发送的号码数量通过 {@link PartialSendException} 返回，重试时不会重复发送。
+ *
+ * @author george
+ */
+@RequiredArgsConstructor
+public class AliyunSmsMessageSender implements IMessageSender {
+
+    private final AliyunSmsClient aliyunSmsClient;
+
+    @Override
+    public MessageType getType() {
+        return MessageType.SMS;
+    }
+
+    @Override
+    public void send(MessageDto messageDto) throws Exception {
+        aliyunSmsClient.sendSms(messageDto.getReceiver(), messageDto.getTemplate(), toJson(messageDto.getParams()));
+    }
+
+    @Override
+    public void sendBatch(BulkMessageDto bulkMessageDto) throws Exception {
+        List<String> phones = new ArrayList<>(bulkMessageDto.getRecipients().size());
+        List<String> params = new ArrayList<>(bulkMessageDto.getRecipients().size());
+        for (BulkMessageDto.Recipient recipient : bulkMessageDto.getRecipients()) {
+            phones.add(recipient.getReceiver());
+            params.add(toJson(recipient.mergeParams(bulkMessageDto.getParams())));
+        }
+        try {
+            aliyunSmsClient.sendBatchSms(phones, bulkMessageDto.getTemplate(), params);
+        } catch (BatchSmsException e) {
+            if (e.getSentCount() == 0) {
+                throw e;
+            }
+            throw new PartialSendException(e.getSentCount(), e);
+        }
+    }
+
+    private String toJson(Map<String, Object> params) {
+        return params == null ? "{}" : JSONUtil.toJsonStr(params);
+    }
+}
@@ -0,0 +1,44 @@
+package com.gls.athena.sdk.message.consumer.sender;
+
+import com.gls.athena.sdk.feishu.domain.TextContent;
+import com.gls.athena.sdk.feishu.support.FeishuClient;
+import com.gls.athena.sdk.message.domain.MessageDto;
+import com.gls.athena.sdk.message.domain.MessageType;
+import com.gls.athena.sdk.message.support.IMessageSender;
+import com.lark.oapi.service.im.v1.enums.CreateMessageReceiveIdTypeEnum;
+import com.lark.oapi.service.im.v1.model.CreateMessageResp;
+
+/**
+ * 飞书消息发送器
+ * <p>
+ * 以文本消息发送，接收者ID类型由 athena.message.consumer.feishu-receive-id-type 指定。
+ * 飞书消息接口（im/v1）不支持一次发送给多个接收者，批量消息使用默认实现逐个接收人发送。
+ *
+ * @author george
+ */
+public class FeishuMessageSender implements IMessageSender {
+
+    private final FeishuClient feishuClient;
+
+    private final CreateMessageReceiveIdTypeEnum receiveIdType;
+
+    public FeishuMessageSender(FeishuClient feishuClient, String receiveIdType) {
+        this.feishuClient = feishuClient;
+        this.receiveIdType = CreateMessageReceiveIdTypeEnum.valueOf(receiveIdType.toUpperCase());
+    }
+
+    @Override
+    public MessageType getType() {
+        return MessageType.FEISHU;
+    }
+
+    @Override
+    public void send(MessageDto messageDto) throws Exception {
+        TextContent content = new TextContent();
+        content.setText(messageDto.getContent());
+        CreateMessageResp resp = feishuClient.sendTextMsg(messageDto.getReceiver(), receiveIdType, content);
+        if (!resp.success()) {
+            throw new IllegalStateException("飞书消息发送失败: " + resp.getCode() + " " + resp.getMsg());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.gls.athena.sdk.message.domain;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 批量消息传输对象
+ * <p>
+ * 同一模板、同一内容发送给多个接收人，每个接收人可携带独立的模板参数，
+ * 接收人参数与公共参数合并，同名时以接收人参数为准。
+ *
+ * @author george
+ */
+@Data
+@Accessors(chain = true)
+public class BulkMessageDto {
+    /**
+     * 消息类型
+     */
+    private MessageType type;
+    /**
+     * 消息标题
+     */
+    private String title;
+    /**
+     * 消息内容
+     */
+    private String content;
+    /**
+     * 消息发送人
+     */
+    private String sender;
+    /**
+     * 消息模板
+     */
+    private String template;
+    /**
+     * 公共消息参数
+     */
+    private Map<String, Object> params;
+    /**
+     * 消息接收人列表
+     */
+    private List<Recipient> recipients = new ArrayList<>();
+
+    /**
+     * 添加接收人
+     *
+     * @param receiver 接收人
+     * @param params   接收人专属参数，可为空
+     * @return 当前对象
+     */
+    public BulkMessageDto addRecipient(String receiver, Map<String, Object> params) {
+        recipients.add(new Recipient().setReceiver(receiver).setParams(params));
+        return this;
+    }
+
+    /**
+     * 复制公共字段并替换接收人列表，用于分片
+     *
+     * @param recipients 接收人列表
+     * @return 新的批量消息
+     */
+    public BulkMessageDto withRecipients(List<Recipient> recipients) {
+        return new BulkMessageDto()
+                .setType(type)
+                .setTitle(title)
+                .setContent(content)
+                .setSender(sender)
+                .setTemplate(template)
+                .setParams(params)
+                .setRecipients(recipients);
+    }
+
+    /**
+     * 展开为单条消息，供不支持批量发送的渠道逐条发送
+     *
+     * @return 单条消息列表
+     */
+    public List<MessageDto> toMessages() {
+        List<MessageDto> messages = new ArrayList<>(recipients.size());
+        for (Recipient recipient : recipients) {
+            messages.add(new MessageDto()
+                    .setType(type)
+                    .setTitle(title)
+                    .setContent(content)
+                    .setSender(sender)
+                    .setReceiver(recipient.getReceiver())
+                    .setTemplate(template)
+                    .setParams(recipient.mergeParams(params)));
+        }
+        return messages;
+    }
+
+    /**
+     * 消息接收人
+     */
+    @Data
+    @Accessors(chain = true)
+    public static class Recipient {
+        /**
+         * 接收人
+         */
+        private String receiver;
+        /**
+         * 接收人专属参数
+         */
+        private Map<String, Object> params;
+
+        /**
+         * 合并公共参数与接收人参数
+         *
+         * @param common 公共参数
+         * @return 合并后的参数
+         */
+        public Map<String, Object> mergeParams(Map<String, Object> common) {
+            if (params == null || params.isEmpty()) {
+                return common;
+            }
+            if (common == null || common.isEmpty()) {
+                return params;
+            }
+            Map<String, Object> merged = new HashMap<>(common);
+            merged.putAll(params);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.gls.athena.sdk.message.domain;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 本地消息表记录
+ *
+ * @author george
+ */
+@Data
+@Accessors(chain = true)
+public class MessageOutbox {
+    /**
+     * 主键
+     */
+    private Long id;
+    /**
+     * 消息ID，写入时生成的UUID，投递到Kafka时作为消息头供消费端去重
+     */
+    private String messageId;
+    /**
+     * 目标主题
+     */
+    private String topic;
+    /**
+     * 消息键
+     */
+    private String messageKey;
+    /**
+     * 消息体类型，用于投递时还原消息对象
+     */
+    private String payloadType;
+    /**
+     * 消息体（JSON）
+     */
+    private String payload;
+    /**
+     * 跟踪ID
+     */
+    private String traceId;
+    /**
+     * 已投递次数
+     */
+    private int attempts;
+}
@@ -1,12 +1,20 @@
 package com.gls.athena.sdk.message.kafka;
 
+import cn.hutool.core.util.IdUtil;
+import com.gls.athena.common.bean.trace.TraceContext;
+import com.gls.athena.common.core.constant.IConstants;
 import com.gls.athena.sdk.message.config.MessageProperties;
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
 import com.gls.athena.sdk.message.domain.MessageDto;
+import com.gls.athena.sdk.message.outbox.MessageOutboxRelay;
 import com.gls.athena.sdk.message.support.IMessageEventListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Kafka消息事件监听器
  * 职责：专门负责监听消息事件并委托给发送器处理
@@ -33,11 +41,46 @@ public class KafkaMessageEventListener implements IMessageEventListener {
             String topic = messageProperties.getKafka().getTopic();
 
             log.info("发送消息到Kafka - Topic: {}, Key: {}, Message: {}", topic, key, messageDto);
-            kafkaTemplate.send(topic, key, messageDto);
+            send(topic, key, messageDto);
 
         } catch (Exception e) {
             log.error("发送消息到Kafka失败: {}", messageDto, e);
             throw new RuntimeException("消息发送失败", e);
         }
     }
+
+    /**
+     * 批量消息以分片为单位发送，一个分片一条Kafka消息，按消息类型分区
+     *
+     * @param bulkMessageDto 批量消息分片
+     */
+    @Override
+    public void onBulkMessageEvent(BulkMessageDto bulkMessageDto) {
+        String key = bulkMessageDto.getType().getCode();
+        String topic = messageProperties.getKafka().getBulkTopic();
+        try {
+            log.info("发送批量消息到Kafka - Topic: {}, Key: {}, 接收人数量: {}", topic, key, bulkMessageDto.getRecipients().size());
+            send(topic, key, bulkMessageDto);
+        } catch (Exception e) {
+            log.error("发送批量消息到Kafka失败 - Key: {}, 接收人数量: {}", key, bulkMessageDto.getRecipients().size(), e);
+            throw new RuntimeException("批量消息发送失败", e);
+        }
+    }
+
+    /**
+     * 发送消息，携带消息ID供消费端去重，并透传跟踪ID，便于消费端关联同一请求的日志
+     *
+     * @param topic   主题
+     * @param key     消息键
+     * @param payload 消息体
+     */
+    private void send(String topic, String key, Object payload) {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(topic, key, payload);
+        record.headers().add(MessageOutboxRelay.MESSAGE_ID_HEADER, IdUtil.fastSimpleUUID().getBytes(StandardCharsets.UTF_8));
+        String traceId = TraceContext.getTraceId();
+        if (traceId != null) {
+            record.headers().add(IConstants.TRACE_ID, traceId.getBytes(StandardCharsets.UTF_8));
+        }
+        kafkaTemplate.send(record);
+    }
 }
@@ -0,0 +1,236 @@
+package com.gls.athena.sdk.message.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gls.athena.common.core.constant.IConstants;
+import com.gls.athena.sdk.message.config.MessageProperties;
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
+import com.gls.athena.sdk.message.domain.MessageDto;
+import com.gls.athena.sdk.message.domain.MessageOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地消息表中继
+ * 职责：后台批量拉取待发送消息，批量投递到Kafka并回写发送状态
+ * <p>
+ * 每批消息先在一个短事务内认领（拉取并标记为发送中），提交后在事务外全部发送并等待确认，
+ * 再回写发送状态，等待Kafka确认期间不持有行锁和数据库连接。中继崩溃时，发送中的消息在认领超时后被重新认领。
+ * 一批拉满时立即继续下一批，队列为空时按轮询间隔等待。投递语义为至少一次，
+ * 消息头携带写入时生成的消息ID（{@value #MESSAGE_ID_HEADER}）供消费端去重，与直接发送时的消息ID格式一致。
+ * <p>
+ * 消息体使用与 Spring Kafka {@code JsonSerializer} 默认配置相同的 Jackson 序列化后写入本地消息表，
+ * 投递时还原的消息对象再次序列化的结果与直接发送时一致，消息参数的类型不会因中转而改变。
+ *
+ * @author george
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MessageOutboxRelay implements SmartLifecycle {
+
+    /**
+     * 消息ID消息头
+     */
+    public static final String MESSAGE_ID_HEADER = "message-id";
+
+    /**
+     * 消息体类型：单条消息
+     */
+    public static final String PAYLOAD_MESSAGE = "message";
+
+    /**
+     * 消息体类型：批量消息分片
+     */
+    public static final String PAYLOAD_BULK = "bulk";
+
+    /**
+     * 清理已发送消息的间隔（轮次）
+     */
+    private static final int PURGE_INTERVAL_ROUNDS = 1000;
+
+    /**
+     * 消息体序列化，与 Spring Kafka {@code JsonSerializer} 的默认配置保持一致，浮点数按 BigDecimal 还原以免丢失精度
+     */
+    private static final ObjectMapper PAYLOAD_MAPPER = JacksonUtils.enhancedObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    private final MessageProperties.Outbox outbox;
+
+    private final MessageOutboxRepository messageOutboxRepository;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private ScheduledExecutorService executor;
+
+    private int rounds;
+
+    @Override
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "athena-message-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = outbox.getPollInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("本地消息表中继已启动，表: {}，批次: {}", outbox.getTable(), outbox.getBatchSize());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(outbox.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    /**
+     * 持续投递直到队列中没有拉满一批的消息
+     */
+    void drain() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed >= outbox.getBatchSize() && !Thread.currentThread().isInterrupted());
+
+            if (++rounds % PURGE_INTERVAL_ROUNDS == 0) {
+                int purged = messageOutboxRepository.purgeSent(outbox.getRetention());
+                log.debug("清理已发送的本地消息: {}条", purged);
+            }
+        } catch (Exception e) {
+            // 异常不能抛出，否则定时任务将被取消
+            log.error("本地消息表中继投递失败", e);
+        }
+    }
+
+    /**
+     * 投递一批消息
+     *
+     * @return 本批认领的消息数量
+     */
+    int relayBatch() {
+        List<MessageOutbox> records = transactionTemplate.execute(
+                status -> messageOutboxRepository.claimPending(outbox.getBatchSize(), outbox.getClaimTimeout()));
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(records.size());
+        for (MessageOutbox record : records) {
+            futures.add(send(record));
+        }
+        kafkaTemplate.flush();
+
+        long deadline = System.nanoTime() + outbox.getSendTimeout().toNanos();
+        List<Long> sent = new ArrayList<>(records.size());
+        Map<MessageOutbox, String> failures = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            MessageOutbox record = records.get(i);
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sent.add(record.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.put(record, "中继线程被中断");
+            } catch (Exception e) {
+                failures.put(record, String.valueOf(e.getCause() != null ? e.getCause().getMessage() : e.getMessage()));
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            log.warn("本地消息投递失败: {}条，将在下次轮询重试", failures.size());
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                messageOutboxRepository.markSent(sent);
+            }
+            if (!failures.isEmpty()) {
+                messageOutboxRepository.markFailed(failures, outbox.getMaxAttempts());
+            }
+        });
+        return records.size();
+    }
+
+    /**
+     * 序列化消息体，写入本地消息表
+     *
+     * @param payload 消息对象
+     * @return 消息体JSON
+     * @throws IllegalArgumentException 序列化失败时抛出
+     */
+    public static String writePayload(Object payload) {
+        try {
+            return PAYLOAD_MAPPER.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("消息体序列化失败: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * 还原本地消息表中的消息对象
+     *
+     * @param record 本地消息
+     * @return 消息对象
+     * @throws JsonProcessingException 消息体格式错误时抛出
+     */
+    static Object readPayload(MessageOutbox record) throws JsonProcessingException {
+        Class<?> type = PAYLOAD_BULK.equals(record.getPayloadType()) ? BulkMessageDto.class : MessageDto.class;
+        return PAYLOAD_MAPPER.readValue(record.getPayload(), type);
+    }
+
+    /**
+     * 发送单条消息，消息头携带消息ID与跟踪ID
+     *
+     * @param record 本地消息
+     * @return 发送结果
+     */
+    private CompletableFuture<SendResult<String, Object>> send(MessageOutbox record) {
+        try {
+            ProducerRecord<String, Object> producerRecord = new ProducerRecord<>(record.getTopic(), record.getMessageKey(), readPayload(record));
+            producerRecord.headers().add(MESSAGE_ID_HEADER, record.getMessageId().getBytes(StandardCharsets.UTF_8));
+            if (record.getTraceId() != null) {
+                producerRecord.headers().add(IConstants.TRACE_ID, record.getTraceId().getBytes(StandardCharsets.UTF_8));
+            }
+            return kafkaTemplate.send(producerRecord);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
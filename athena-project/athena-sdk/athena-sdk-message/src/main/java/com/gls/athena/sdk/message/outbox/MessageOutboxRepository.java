@@ -0,0 +1,180 @@
+package com.gls.athena.sdk.message.outbox;
+
+import cn.hutool.core.util.IdUtil;
+import com.gls.athena.sdk.message.config.MessageProperties;
+import com.gls.athena.sdk.message.domain.MessageOutbox;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 本地消息表数据访问
+ * <p>
+ * 基于 {@link JdbcTemplate}，写入时自动加入调用方当前事务，JPA 与 MyBatis 项目均可直接使用。
+ * MySQL 需在连接串中开启 {@code rewriteBatchedStatements=true} 以获得真正的批量写入。
+ *
+ * @author george
+ */
+public class MessageOutboxRepository {
+
+    /**
+     * 状态：待发送
+     */
+    public static final int STATUS_PENDING = 0;
+
+    /**
+     * 状态：已发送
+     */
+    public static final int STATUS_SENT = 1;
+
+    /**
+     * 状态：发送失败（超过最大投递次数）
+     */
+    public static final int STATUS_FAILED = 2;
+
+    /**
+     * 状态：发送中，已被中继认领，超过认领超时时间未回写状态的消息可被重新认领
+     */
+    public static final int STATUS_SENDING = 3;
+
+    /**
+     * 表名格式，表名来自配置并直接拼接到SQL中，仅允许可选模式名加表名
+     */
+    private static final Pattern TABLE_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    /**
+     * 错误信息最大长度，与表结构保持一致
+     */
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String insertSql;
+
+    private final String selectPendingSql;
+
+    private final String markSendingSql;
+
+    private final String markSentSql;
+
+    private final String markFailedSql;
+
+    private final String purgeSql;
+
+    /**
+     * 构造本地消息表数据访问
+     *
+     * @param jdbcTemplate JDBC模板
+     * @param outbox       本地消息表配置
+     * @throws IllegalArgumentException 表名不合法时抛出
+     */
+    public MessageOutboxRepository(JdbcTemplate jdbcTemplate, MessageProperties.Outbox outbox) {
+        this.jdbcTemplate = jdbcTemplate;
+        String table = outbox.getTable();
+        if (table == null || !TABLE_PATTERN.matcher(table).matches()) {
+            throw new IllegalArgumentException("本地消息表名不合法: " + table);
+        }
+        this.insertSql = "insert into " + table + " (message_id, topic, message_key, payload_type, payload, trace_id) values (?, ?, ?, ?, ?, ?)";
+        this.selectPendingSql = "select id, message_id, topic, message_key, payload_type, payload, trace_id, attempts from " + table
+                + " where status = " + STATUS_PENDING + " or (status = " + STATUS_SENDING + " and update_time < ?)"
+                + " order by id limit ?"
+                + (outbox.isSkipLocked() ? " for update skip locked" : "");
+        this.markSendingSql = "update " + table + " set status = " + STATUS_SENDING + ", update_time = ? where id = ?";
+        this.markSentSql = "update " + table + " set status = " + STATUS_SENT + ", attempts = attempts + 1 where id = ?";
+        this.markFailedSql = "update " + table + " set status = ?, attempts = ?, error_message = ? where id = ?";
+        this.purgeSql = "delete from " + table + " where status = " + STATUS_SENT + " and update_time < ?";
+    }
+
+    /**
+     * 批量写入消息，未指定消息ID的记录写入时生成UUID作为消息ID
+     * <p>
+     * 自增主键只在单张表内唯一，不同服务的本地消息表投递到同一主题时会重复，因此不作为消息ID。
+     *
+     * @param records 消息记录
+     */
+    public void insert(List<MessageOutbox> records) {
+        jdbcTemplate.batchUpdate(insertSql, records, records.size(), (ps, record) -> {
+            if (record.getMessageId() == null) {
+                record.setMessageId(IdUtil.fastSimpleUUID());
+            }
+            ps.setString(1, record.getMessageId());
+            ps.setString(2, record.getTopic());
+            ps.setString(3, record.getMessageKey());
+            ps.setString(4, record.getPayloadType());
+            ps.setString(5, record.getPayload());
+            ps.setString(6, record.getTraceId());
+        });
+    }
+
+    /**
+     * 按写入顺序认领待发送消息及认领超时的发送中消息，并标记为发送中
+     * <p>
+     * 需在事务内调用，拉取时持有的行锁在事务提交后即释放，投递过程不占用数据库连接和行锁。
+     *
+     * @param limit        最大条数
+     * @param claimTimeout 认领超时时间，发送中的消息超过该时间未回写状态时视为中继已崩溃
+     * @return 认领的消息
+     */
+    public List<MessageOutbox> claimPending(int limit, Duration claimTimeout) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MessageOutbox> records = jdbcTemplate.query(selectPendingSql, (rs, rowNum) -> new MessageOutbox()
+                .setId(rs.getLong("id"))
+                .setMessageId(rs.getString("message_id"))
+                .setTopic(rs.getString("topic"))
+                .setMessageKey(rs.getString("message_key"))
+                .setPayloadType(rs.getString("payload_type"))
+                .setPayload(rs.getString("payload"))
+                .setTraceId(rs.getString("trace_id"))
+                .setAttempts(rs.getInt("attempts")), Timestamp.valueOf(now.minus(claimTimeout)), limit);
+        if (!records.isEmpty()) {
+            Timestamp claimTime = Timestamp.valueOf(now);
+            jdbcTemplate.batchUpdate(markSendingSql, records, records.size(), (ps, record) -> {
+                ps.setTimestamp(1, claimTime);
+                ps.setLong(2, record.getId());
+            });
+        }
+        return records;
+    }
+
+    /**
+     * 批量标记为已发送
+     *
+     * @param ids 消息ID
+     */
+    public void markSent(List<Long> ids) {
+        jdbcTemplate.batchUpdate(markSentSql, ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+    }
+
+    /**
+     * 批量记录投递失败，达到最大投递次数的消息标记为失败，其余保持待发送等待下次重试
+     *
+     * @param failures    失败的消息及错误信息
+     * @param maxAttempts 最大投递次数
+     */
+    public void markFailed(Map<MessageOutbox, String> failures, int maxAttempts) {
+        List<Map.Entry<MessageOutbox, String>> entries = List.copyOf(failures.entrySet());
+        jdbcTemplate.batchUpdate(markFailedSql, entries, entries.size(), (ps, entry) -> {
+            int attempts = entry.getKey().getAttempts() + 1;
+            String error = entry.getValue() == null ? "" : entry.getValue();
+            ps.setInt(1, attempts >= maxAttempts ? STATUS_FAILED : STATUS_PENDING);
+            ps.setInt(2, attempts);
+            ps.setString(3, error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            ps.setLong(4, entry.getKey().getId());
+        });
+    }
+
+    /**
+     * 清理超过保留时长的已发送消息
+     *
+     * @param retention 保留时长
+     * @return 清理条数
+     */
+    public int purgeSent(Duration retention) {
+        return jdbcTemplate.update(purgeSql, Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+    }
+}
@@ -0,0 +1,106 @@
+package com.gls.athena.sdk.message.outbox;
+
+import com.gls.athena.common.bean.trace.TraceContext;
+import com.gls.athena.sdk.message.config.MessageProperties;
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
+import com.gls.athena.sdk.message.domain.MessageDto;
+import com.gls.athena.sdk.message.domain.MessageOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 本地消息表事件监听器
+ * 职责：在发布线程内同步接收消息事件并写入本地消息表
+ * <p>
+ * 存在事务时，同一事务内发布的消息先在事务资源中暂存，提交前一次性批量写入，与业务数据同提交同回滚；
+ * 不存在事务时立即写入。
+ *
+ * @author george
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxMessageEventListener {
+
+    private final MessageProperties messageProperties;
+
+    private final MessageOutboxRepository messageOutboxRepository;
+
+    /**
+     * 消息事件监听，不使用异步，保证在调用方事务内执行
+     *
+     * @param messageDto 消息事件
+     */
+    @EventListener(MessageDto.class)
+    public void onMessageEvent(MessageDto messageDto) {
+        write(new MessageOutbox()
+                .setTopic(messageProperties.getKafka().getTopic())
+                .setMessageKey(messageDto.getType().getCode())
+                .setPayloadType(MessageOutboxRelay.PAYLOAD_MESSAGE)
+                .setPayload(MessageOutboxRelay.writePayload(messageDto))
+                .setTraceId(TraceContext.getTraceId()));
+    }
+
+    /**
+     * 批量消息事件监听，一个分片写入一条记录
+     *
+     * @param bulkMessageDto 批量消息分片
+     */
+    @EventListener(BulkMessageDto.class)
+    public void onBulkMessageEvent(BulkMessageDto bulkMessageDto) {
+        write(new MessageOutbox()
+                .setTopic(messageProperties.getKafka().getBulkTopic())
+                .setMessageKey(bulkMessageDto.getType().getCode())
+                .setPayloadType(MessageOutboxRelay.PAYLOAD_BULK)
+                .setPayload(MessageOutboxRelay.writePayload(bulkMessageDto))
+                .setTraceId(TraceContext.getTraceId()));
+    }
+
+    /**
+     * 写入本地消息表，存在事务时暂存到提交前批量写入
+     *
+     * @param record 本地消息
+     */
+    private void write(MessageOutbox record) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            messageOutboxRepository.insert(List.of(record));
+            return;
+        }
+        getTransactionBuffer().add(record);
+    }
+
+    /**
+     * 获取当前事务的消息暂存区，首次获取时注册提交前批量写入的同步回调
+     *
+     * @return 消息暂存区
+     */
+    @SuppressWarnings("unchecked")
+    private List<MessageOutbox> getTransactionBuffer() {
+        List<MessageOutbox> buffer = (List<MessageOutbox>) TransactionSynchronizationManager.getResource(this);
+        if (buffer != null) {
+            return buffer;
+        }
+        List<MessageOutbox> newBuffer = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, newBuffer);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (!newBuffer.isEmpty()) {
+                    log.debug("事务提交前批量写入本地消息表: {}条", newBuffer.size());
+                    messageOutboxRepository.insert(newBuffer);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OutboxMessageEventListener.this);
+            }
+        });
+        return newBuffer;
+    }
+}
@@ -1,5 +1,6 @@
 package com.gls.athena.sdk.message.support;
 
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
 import com.gls.athena.sdk.message.domain.MessageDto;
 import com.gls.athena.starter.async.config.AsyncConstants;
 import org.springframework.context.event.EventListener;
@@ -20,4 +21,15 @@ public interface IMessageEventListener {
     @Async(AsyncConstants.DEFAULT_THREAD_POOL_NAME)
     @EventListener(MessageDto.class)
     void onMessageEvent(MessageDto messageDto);
+
+    /**
+     * 批量消息事件监听，默认展开为单条消息逐条处理
+     *
+     * @param bulkMessageDto 批量消息事件（一个分片）
+     */
+    @Async(AsyncConstants.DEFAULT_THREAD_POOL_NAME)
+    @EventListener(BulkMessageDto.class)
+    default void onBulkMessageEvent(BulkMessageDto bulkMessageDto) {
+        bulkMessageDto.toMessages().forEach(this::onMessageEvent);
+    }
 }
@@ -0,0 +1,56 @@
+package com.gls.athena.sdk.message.support;
+
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
+import com.gls.athena.sdk.message.domain.MessageDto;
+import com.gls.athena.sdk.message.domain.MessageType;
+
+import java.util.List;
+
+/**
+ * 消息渠道发送器
+ * <p>
+ * 消费端按消息类型选择发送器。渠道支持批量接口（如阿里云批量短信）时覆盖 {@link #sendBatch}，
+ * 否则默认展开为单条消息逐条发送。
+ *
+ * @author george
+ */
+public interface IMessageSender {
+
+    /**
+     * 支持的消息类型
+     *
+     * @return 消息类型
+     */
+    MessageType getType();
+
+    /**
+     * 发送单条消息
+     *
+     * @param messageDto 消息对象
+     * @throws Exception 发送失败时抛出
+     */
+    void send(MessageDto messageDto) throws Exception;
+
+    /**
+     * 发送批量消息分片
+     * <p>
+     * 按接收人顺序发送，部分接收人已发送后失败时抛出 {@link PartialSendException}，重试时从失败位置继续。
+     *
+     * @param bulkMessageDto 批量消息分片
+     * @throws PartialSendException 部分接收人已发送后失败时抛出
+     * @throws Exception            发送失败时抛出
+     */
+    default void sendBatch(BulkMessageDto bulkMessageDto) throws Exception {
+        List<MessageDto> messages = bulkMessageDto.toMessages();
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                send(messages.get(i));
+            } catch (Exception e) {
+                if (i == 0) {
+                    throw e;
+                }
+                throw new PartialSendException(i, e);
+            }
+        }
+    }
+}
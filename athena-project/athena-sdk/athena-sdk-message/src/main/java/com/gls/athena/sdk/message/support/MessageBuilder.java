@@ -1,9 +1,11 @@
 package com.gls.athena.sdk.message.support;
 
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
 import com.gls.athena.sdk.message.domain.MessageDto;
 import com.gls.athena.sdk.message.domain.MessageType;
 import lombok.experimental.UtilityClass;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -124,4 +126,75 @@ public class MessageBuilder {
                 .setReceiver(userId)
                 .setContent(content);
     }
+
+    /**
+     * 创建批量短信消息，所有接收人使用相同参数
+     *
+     * @param mobiles      手机号列表
+     * @param templateCode 模板编号
+     * @param params       公共参数
+     * @return 批量消息对象
+     */
+    public BulkMessageDto buildBulkSms(Collection<String> mobiles, String templateCode, Map<String, Object> params) {
+        BulkMessageDto bulkMessageDto = new BulkMessageDto()
+                .setType(MessageType.SMS)
+                .setTemplate(templateCode)
+                .setParams(params);
+        mobiles.forEach(mobile -> bulkMessageDto.addRecipient(mobile, null));
+        return bulkMessageDto;
+    }
+
+    /**
+     * 创建批量短信消息，每个接收人使用独立参数
+     *
+     * @param mobileParams 手机号与其专属参数
+     * @param templateCode 模板编号
+     * @return 批量消息对象
+     */
+    public BulkMessageDto buildBulkSms(Map<String, Map<String, Object>> mobileParams, String templateCode) {
+        BulkMessageDto bulkMessageDto = new BulkMessageDto()
+                .setType(MessageType.SMS)
+                .setTemplate(templateCode);
+        mobileParams.forEach(bulkMessageDto::addRecipient);
+        return bulkMessageDto;
+    }
+
+    /**
+     * 创建批量邮件消息
+     *
+     * @param emails       邮箱地址列表
+     * @param title        邮件标题
+     * @param content      邮件内容
+     * @param templateCode 模板编号
+     * @param params       公共参数
+     * @return 批量消息对象
+     */
+    public BulkMessageDto buildBulkEmail(Collection<String> emails, String title, String content, String templateCode, Map<String, Object> params) {
+        BulkMessageDto bulkMessageDto = new BulkMessageDto()
+                .setType(MessageType.EMAIL)
+                .setTitle(title)
+                .setContent(content)
+                .setTemplate(templateCode)
+                .setParams(params);
+        emails.forEach(email -> bulkMessageDto.addRecipient(email, null));
+        return bulkMessageDto;
+    }
+
+    /**
+     * 创建批量即时消息（站内信、微信、钉钉、飞书、企业微信）
+     *
+     * @param type      消息类型
+     * @param receivers 接收人列表
+     * @param title     消息标题
+     * @param content   消息内容
+     * @return 批量消息对象
+     */
+    public BulkMessageDto buildBulkMessage(MessageType type, Collection<String> receivers, String title, String content) {
+        BulkMessageDto bulkMessageDto = new BulkMessageDto()
+                .setType(type)
+                .setTitle(title)
+                .setContent(content);
+        receivers.forEach(receiver -> bulkMessageDto.addRecipient(receiver, null));
+        return bulkMessageDto;
+    }
 }
@@ -1,13 +1,21 @@
 package com.gls.athena.sdk.message.support;
 
 import cn.hutool.extra.spring.SpringUtil;
+import com.gls.athena.sdk.message.config.MessageProperties;
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
 import com.gls.athena.sdk.message.domain.MessageDto;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 消息发布器
  * 职责：专门负责消息事件的发布
+ * <p>
+ * 默认由异步监听器直接投递Kafka；开启本地消息表（athena.message.outbox.enabled=true）后，
+ * 消息在调用方事务内写入本地消息表，由中继可靠投递。
  *
  * @author george
  */
@@ -35,4 +43,49 @@ public class MessagePublisher {
         log.debug("发布消息事件: {}", messageDto);
         SpringUtil.publishEvent(messageDto);
     }
+
+    /**
+     * 发布批量消息事件
+     * <p>
+     * 公共部分只校验一次，接收人逐个校验格式（格式错误的接收人被剔除并返回），
+     * 有效接收人按 athena.message.bulk.chunk-size 分片，每个分片发布一个事件。
+     *
+     * @param bulkMessageDto 批量消息对象
+     * @return 格式错误被剔除的接收人
+     */
+    public List<String> publishBulk(BulkMessageDto bulkMessageDto) {
+        if (!MessageValidator.validateBulk(bulkMessageDto)) {
+            log.error("批量消息验证失败，无法发布消息事件");
+            throw new IllegalArgumentException("批量消息验证失败");
+        }
+
+        List<BulkMessageDto.Recipient> valid = new ArrayList<>(bulkMessageDto.getRecipients().size());
+        List<String> invalid = new ArrayList<>();
+        for (BulkMessageDto.Recipient recipient : bulkMessageDto.getRecipients()) {
+            if (recipient != null && MessageValidator.isValidReceiver(bulkMessageDto.getType(), recipient.getReceiver())) {
+                valid.add(recipient);
+            } else {
+                invalid.add(recipient == null ? null : recipient.getReceiver());
+            }
+        }
+        if (!invalid.isEmpty()) {
+            log.warn("批量消息中有{}个接收者格式不正确，已剔除", invalid.size());
+        }
+        if (valid.isEmpty()) {
+            throw new IllegalArgumentException("批量消息没有有效的接收者");
+        }
+
+        // 设置发送者为当前应用名称
+        if (bulkMessageDto.getSender() == null) {
+            bulkMessageDto.setSender(SpringUtil.getApplicationName());
+        }
+
+        int chunkSize = Math.max(1, SpringUtil.getBean(MessageProperties.class).getBulk().getChunkSize());
+        log.debug("发布批量消息事件 - 类型: {}, 接收人数量: {}, 分片大小: {}", bulkMessageDto.getType(), valid.size(), chunkSize);
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<BulkMessageDto.Recipient> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+            SpringUtil.publishEvent(bulkMessageDto.withRecipients(new ArrayList<>(chunk)));
+        }
+        return invalid;
+    }
 }
@@ -1,8 +1,12 @@
 package com.gls.athena.sdk.message.support;
 
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
 import com.gls.athena.sdk.message.domain.MessageDto;
+import com.gls.athena.sdk.message.domain.MessageType;
 import lombok.experimental.UtilityClass;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -96,4 +100,58 @@ public class MessageUtil {
         MessageDto messageDto = MessageBuilder.buildWechatWorkMessage(userId, content);
         MessagePublisher.publish(messageDto);
     }
+
+    /**
+     * 批量发送短信，所有接收人使用相同参数
+     *
+     * @param mobiles      手机号列表
+     * @param templateCode 模板编号
+     * @param params       公共参数
+     * @return 格式错误被剔除的手机号
+     */
+    public List<String> sendBulkSms(Collection<String> mobiles, String templateCode, Map<String, Object> params) {
+        BulkMessageDto bulkMessageDto = MessageBuilder.buildBulkSms(mobiles, templateCode, params);
+        return MessagePublisher.publishBulk(bulkMessageDto);
+    }
+
+    /**
+     * 批量发送短信，每个接收人使用独立参数
+     *
+     * @param mobileParams 手机号与其专属参数
+     * @param templateCode 模板编号
+     * @return 格式错误被剔除的手机号
+     */
+    public List<String> sendBulkSms(Map<String, Map<String, Object>> mobileParams, String templateCode) {
+        BulkMessageDto bulkMessageDto = MessageBuilder.buildBulkSms(mobileParams, templateCode);
+        return MessagePublisher.publishBulk(bulkMessageDto);
+    }
+
+    /**
+     * 批量发送邮件
+     *
+     * @param emails       邮箱地址列表
+     * @param title        邮件标题
+     * @param content      邮件内容
+     * @param templateCode 模板编号
+     * @param params       公共参数
+     * @return 格式错误被剔除的邮箱地址
+     */
+    public List<String> sendBulkEmail(Collection<String> emails, String title, String content, String templateCode, Map<String, Object> params) {
+        BulkMessageDto bulkMessageDto = MessageBuilder.buildBulkEmail(emails, title, content, templateCode, params);
+        return MessagePublisher.publishBulk(bulkMessageDto);
+    }
+
+    /**
+     * 批量发送即时消息（站内信、微信、钉钉、飞书、企业微信）
+     *
+     * @param type      消息类型
+     * @param receivers 接收人列表
+     * @param title     消息标题
+     * @param content   消息内容
+     * @return 格式错误被剔除的接收人
+     */
+    public List<String> sendBulkMessage(MessageType type, Collection<String> receivers, String title, String content) {
+        BulkMessageDto bulkMessageDto = MessageBuilder.buildBulkMessage(type, receivers, title, content);
+        return MessagePublisher.publishBulk(bulkMessageDto);
+    }
 }
@@ -1,13 +1,26 @@
 package com.gls.athena.sdk.message.support;
 
+import com.gls.athena.common.bean.util.FormatValidator;
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
 import com.gls.athena.sdk.message.domain.MessageDto;
 import com.gls.athena.sdk.message.domain.MessageType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
 /**
  * 消息验证器
  * 职责：专门负责消息对象的验证
+ * <p>
+ * 每种消息类型的接收者格式规则与必填字段规则在类加载时构建一次，
+ * 校验过程只返回错误信息、不抛出异常，批量校验时每条消息只在出错时产生对象。
  *
  * @author george
  */
@@ -15,6 +28,32 @@ import lombok.extern.slf4j.Slf4j;
 @UtilityClass
 public class MessageValidator {
 
+    /**
+     * 各消息类型的接收者格式规则，未配置的类型只要求非空
+     */
+    private final Map<MessageType, Predicate<String>> RECEIVER_RULES = new EnumMap<>(MessageType.class);
+
+    /**
+     * 各消息类型的必填字段规则
+     */
+    private final Map<MessageType, List<Requirement>> CONTENT_RULES = new EnumMap<>(MessageType.class);
+
+    static {
+        RECEIVER_RULES.put(MessageType.SMS, FormatValidator::isMobile);
+        RECEIVER_RULES.put(MessageType.EMAIL, FormatValidator::isEmail);
+
+        CONTENT_RULES.put(MessageType.SMS, List.of(new Requirement(Field.TEMPLATE, "短信模板为空")));
+        CONTENT_RULES.put(MessageType.EMAIL, List.of(new Requirement(Field.TITLE, "邮件标题为空")));
+        CONTENT_RULES.put(MessageType.SITE_MESSAGE, List.of(
+                new Requirement(Field.TITLE, "站内信标题为空"),
+                new Requirement(Field.CONTENT, "站内信内容为空")));
+        List<Requirement> instant = List.of(new Requirement(Field.CONTENT, "即时消息内容为空"));
+        CONTENT_RULES.put(MessageType.WECHAT, instant);
+        CONTENT_RULES.put(MessageType.DING_TALK, instant);
+        CONTENT_RULES.put(MessageType.FEISHU, instant);
+        CONTENT_RULES.put(MessageType.WECHAT_WORK, instant);
+    }
+
     /**
      * 验证消息对象
      *
@@ -22,119 +61,180 @@ public class MessageValidator {
      * @return 验证结果
      */
     public boolean validate(MessageDto messageDto) {
-        if (messageDto == null) {
-            log.warn("消息对象为空");
+        String error = check(messageDto);
+        if (error != null) {
+            log.warn(error);
             return false;
         }
-
-        if (messageDto.getType() == null) {
-            log.warn("消息类型为空");
-            return false;
-        }
-
-        if (messageDto.getReceiver() == null || messageDto.getReceiver().trim().isEmpty()) {
-            log.warn("消息接收者为空");
-            return false;
-        }
-
-        return validateByType(messageDto);
+        return true;
     }
 
     /**
-     * 根据消息类型进行特定验证
+     * 批量验证消息对象，不抛出异常也不逐条输出日志
      *
-     * @param messageDto 消息对象
-     * @return 验证结果
+     * @param messages 消息对象列表
+     * @return 验证失败的消息及原因，全部通过时返回空列表
      */
-    private boolean validateByType(MessageDto messageDto) {
-        MessageType type = messageDto.getType();
-
-        return switch (type) {
-            case SMS -> validateSms(messageDto);
-            case EMAIL -> validateEmail(messageDto);
-            case SITE_MESSAGE -> validateSiteMessage(messageDto);
-            case WECHAT, DING_TALK, FEISHU, WECHAT_WORK -> validateInstantMessage(messageDto);
-            default -> {
-                log.warn("未知的消息类型: {}", type);
-                yield false;
+    public List<ValidationError> validateAll(List<MessageDto> messages) {
+        List<ValidationError> errors = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            MessageDto messageDto = messages.get(i);
+            String error = check(messageDto);
+            if (error != null) {
+                errors.add(new ValidationError(i, messageDto == null ? null : messageDto.getReceiver(), error));
             }
-        };
+        }
+        return errors;
     }
 
     /**
-     * 验证短信消息
+     * 验证批量消息的公共部分（类型、标题、内容、模板），接收人格式由 {@link #isValidReceiver} 逐个校验
      *
-     * @param messageDto 消息对象
+     * @param bulkMessageDto 批量消息对象
      * @return 验证结果
      */
-    private boolean validateSms(MessageDto messageDto) {
-        String receiver = messageDto.getReceiver();
-        if (!receiver.matches("^1[3-9]\\d{9}$")) {
-            log.warn("短信接收者手机号格式不正确: {}", receiver);
-            return false;
+    public boolean validateBulk(BulkMessageDto bulkMessageDto) {
+        String error;
+        if (bulkMessageDto == null) {
+            error = "批量消息对象为空";
+        } else if (bulkMessageDto.getType() == null) {
+            error = "消息类型为空";
+        } else if (bulkMessageDto.getRecipients() == null || bulkMessageDto.getRecipients().isEmpty()) {
+            error = "批量消息接收者为空";
+        } else {
+            error = checkContent(bulkMessageDto.getType(), bulkMessageDto.getTitle(),
+                    bulkMessageDto.getContent(), bulkMessageDto.getTemplate());
         }
-
-        if (messageDto.getTemplate() == null || messageDto.getTemplate().trim().isEmpty()) {
-            log.warn("短信模板为空");
+        if (error != null) {
+            log.warn(error);
             return false;
         }
-
         return true;
     }
 
     /**
-     * 验证邮件消息
+     * 校验接收者格式，不输出日志，供批量校验使用
      *
-     * @param messageDto 消息对象
-     * @return 验证结果
+     * @param type     消息类型
+     * @param receiver 接收者
+     * @return 格式正确返回true
      */
-    private boolean validateEmail(MessageDto messageDto) {
-        String receiver = messageDto.getReceiver();
-        if (!receiver.matches("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$")) {
-            log.warn("邮件接收者邮箱格式不正确: {}", receiver);
-            return false;
-        }
-
-        if (messageDto.getTitle() == null || messageDto.getTitle().trim().isEmpty()) {
-            log.warn("邮件标题为空");
+    public boolean isValidReceiver(MessageType type, String receiver) {
+        if (isBlank(receiver)) {
             return false;
         }
-
-        return true;
+        Predicate<String> rule = RECEIVER_RULES.get(type);
+        return rule == null || rule.test(receiver);
     }
 
     /**
-     * 验证站内信消息
+     * 校验单条消息
      *
      * @param messageDto 消息对象
-     * @return 验证结果
+     * @return 错误信息，通过时返回null
      */
-    private boolean validateSiteMessage(MessageDto messageDto) {
-        if (messageDto.getTitle() == null || messageDto.getTitle().trim().isEmpty()) {
-            log.warn("站内信标题为空");
-            return false;
+    private String check(MessageDto messageDto) {
+        if (messageDto == null) {
+            return "消息对象为空";
         }
-
-        if (messageDto.getContent() == null || messageDto.getContent().trim().isEmpty()) {
-            log.warn("站内信内容为空");
-            return false;
+        MessageType type = messageDto.getType();
+        if (type == null) {
+            return "消息类型为空";
         }
-
-        return true;
+        if (isBlank(messageDto.getReceiver())) {
+            return "消息接收者为空";
+        }
+        if (!isValidReceiver(type, messageDto.getReceiver())) {
+            return type.getName() + "接收者格式不正确: " + messageDto.getReceiver();
+        }
+        return checkContent(type, messageDto.getTitle(), messageDto.getContent(), messageDto.getTemplate());
     }
 
     /**
-     * 验证即时消息
+     * 根据消息类型校验标题、内容与模板
      *
-     * @param messageDto 消息对象
-     * @return 验证结果
+     * @param type     消息类型
+     * @param title    标题
+     * @param content  内容
+     * @param template 模板
+     * @return 错误信息，通过时返回null
      */
-    private boolean validateInstantMessage(MessageDto messageDto) {
-        if (messageDto.getContent() == null || messageDto.getContent().trim().isEmpty()) {
-            log.warn("即时消息内容为空");
-            return false;
+    private String checkContent(MessageType type, String title, String content, String template) {
+        List<Requirement> requirements = CONTENT_RULES.get(type);
+        if (requirements == null) {
+            return "未知的消息类型: " + type;
+        }
+        for (Requirement requirement : requirements) {
+            String value = switch (requirement.getField()) {
+                case TITLE -> title;
+                case CONTENT -> content;
+                case TEMPLATE -> template;
+            };
+            if (isBlank(value)) {
+                return requirement.getMessage();
+            }
         }
+        return null;
+    }
 
+    /**
+     * 判断字符串是否为空白，不创建新字符串
+     *
+     * @param str 字符串
+     * @return 为null或仅包含空白字符时返回true
+     */
+    private boolean isBlank(String str) {
+        if (str == null) {
+            return true;
+        }
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) > ' ') {
+                return false;
+            }
+        }
         return true;
     }
+
+    /**
+     * 消息字段
+     */
+    private enum Field {
+        TITLE, CONTENT, TEMPLATE
+    }
+
+    /**
+     * 必填字段规则
+     */
+    @Data
+    @AllArgsConstructor
+    private static class Requirement {
+        /**
+         * 字段
+         */
+        private final Field field;
+        /**
+         * 为空时的错误信息
+         */
+        private final String message;
+    }
+
+    /**
+     * 批量验证错误
+     */
+    @Data
+    @AllArgsConstructor
+    public static class ValidationError {
+        /**
+         * 消息在列表中的下标
+         */
+        private final int index;
+        /**
+         * 接收者
+         */
+        private final String receiver;
+        /**
+         * 错误信息
+         */
+        private final String message;
+    }
 }
@@ -0,0 +1,25 @@
+package com.gls.athena.sdk.message.support;
+
+import lombok.Getter;
+
+/**
+ * 批量消息部分发送失败异常
+ * <p>
+ * 渠道发送器按接收人顺序发送批量消息分片，发送到中途失败时抛出该异常，
+ * 消费端记录已发送的接收人数量，重试时从失败位置继续，已发送的接收人不会重复收到消息。
+ *
+ * @author george
+ */
+@Getter
+public class PartialSendException extends Exception {
+
+    /**
+     * 本次已发送成功的接收人数量，即失败接收人在分片中的位置
+     */
+    private final int sentCount;
+
+    public PartialSendException(int sentCount, Throwable cause) {
+        super("批量消息部分发送失败，已发送: " + sentCount, cause);
+        this.sentCount = sentCount;
+    }
+}
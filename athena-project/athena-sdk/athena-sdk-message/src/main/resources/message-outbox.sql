@@ -0,0 +1,21 @@
+-- 本地消息表
+drop table if exists t_message_outbox;
+create table t_message_outbox
+(
+    id            bigint unsigned auto_increment                                         not null comment '主键id',
+    message_id    varchar(32)                                                            not null comment '消息id 写入时生成的uuid 投递时作为消息头供消费端去重',
+    topic         varchar(255)     default ''                                            not null comment '目标主题',
+    message_key   varchar(255)     default ''                                            not null comment '消息键',
+    payload_type  varchar(20)      default 'message'                                     not null comment '消息体类型 message-单条消息 bulk-批量消息分片',
+    payload       mediumtext                                                             not null comment '消息体',
+    trace_id      varchar(64)                                                            null comment '跟踪id',
+    status        tinyint unsigned default 0                                             not null comment '状态 0-待发送 1-已发送 2-发送失败 3-发送中',
+    attempts      int unsigned     default 0                                             not null comment '投递次数',
+    error_message varchar(255)     default ''                                            not null comment '错误信息',
+    create_time   datetime         default current_timestamp                             not null comment '创建时间',
+    update_time   datetime         default current_timestamp on update current_timestamp not null comment '更新时间',
+    primary key (id),
+    unique key uk_message_id (message_id),
+    key idx_status_id (status, id),
+    key idx_status_update_time (status, update_time)
+) comment '本地消息表';
@@ -0,0 +1,56 @@
+package com.gls.athena.sdk.message.consumer;
+
+import com.gls.athena.sdk.message.config.MessageProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChannelLimiter的单元测试类
+ */
+public class ChannelLimiterTest {
+
+    /**
+     * 测试：批量请求一次性预支许可，后续请求不阻塞而是立即抛出限流异常，且被拒绝的请求不再追加预支
+     */
+    @Test
+    public void acquire_RateExhausted_ThrowsWithoutReserving() {
+        MessageProperties.Channel channel = new MessageProperties.Channel();
+        channel.setPermitsPerSecond(10);
+        ChannelLimiter limiter = new ChannelLimiter(channel);
+
+        limiter.acquire(500);
+        long start = System.nanoTime();
+        ChannelThrottledException first = assertThrows(ChannelThrottledException.class, () -> limiter.acquire(1));
+        ChannelThrottledException second = assertThrows(ChannelThrottledException.class, () -> limiter.acquire(1));
+
+        assertTrue(System.nanoTime() - start < 1_000_000_000L, "获取许可不应阻塞");
+        assertTrue(first.getRetryAfter().toSeconds() >= 49 && first.getRetryAfter().toSeconds() <= 50);
+        assertFalse(second.getRetryAfter().compareTo(first.getRetryAfter()) > 0, "被拒绝的请求不应追加预支");
+    }
+
+    /**
+     * 测试：未配置速率时不限流
+     */
+    @Test
+    public void acquire_Unlimited_NeverThrows() {
+        ChannelLimiter limiter = new ChannelLimiter(new MessageProperties.Channel());
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.acquire(500);
+        }
+    }
+
+    /**
+     * 测试：在异常链中查找限流异常
+     */
+    @Test
+    public void find_WrappedException_ReturnsThrottled() {
+        ChannelThrottledException throttled = new ChannelThrottledException(Duration.ofMillis(100));
+
+        assertSame(throttled, ChannelThrottledException.find(new IllegalStateException(new RuntimeException(throttled))));
+        assertNull(ChannelThrottledException.find(new IllegalStateException("failed")));
+    }
+}
@@ -0,0 +1,303 @@
+package com.gls.athena.sdk.message.consumer;
+
+import cn.hutool.json.JSONUtil;
+import com.gls.athena.sdk.message.config.MessageConsumerConfig;
+import com.gls.athena.sdk.message.config.MessageProperties;
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
+import com.gls.athena.sdk.message.domain.MessageDto;
+import com.gls.athena.sdk.message.domain.MessageType;
+import com.gls.athena.sdk.message.outbox.MessageOutboxRelay;
+import com.gls.athena.sdk.message.support.IMessageSender;
+import com.gls.athena.sdk.message.support.PartialSendException;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MessageKafkaListener的单元测试类，基于内嵌Kafka与消费端配置的批量监听容器工厂
+ */
+@EmbeddedKafka(partitions = 1, topics = {"athena-message", "athena-message-bulk",
+        "dlt-message", "dlt-message-bulk", "dlt-message.DLT",
+        "throttle-message", "throttle-message-bulk", "throttle-message.DLT"})
+public class MessageKafkaListenerTest {
+
+    /**
+     * 测试：单条消息按消息ID去重，批量消息整片交给渠道批量发送
+     */
+    @Test
+    public void onMessages_DuplicateIdsAndBulk_DispatchesOnce(EmbeddedKafkaBroker broker) throws Exception {
+        RecordingSender sender = new RecordingSender(3);
+        MessageProperties messageProperties = new MessageProperties();
+        ConcurrentMessageListenerContainer<String, Object> container = startContainer(broker, messageProperties, sender);
+
+        try (KafkaProducer<String, String> producer = producer(broker)) {
+            producer.send(record("athena-message", "1", sms("13800138000")));
+            producer.send(record("athena-message", "1", sms("13800138000")));
+            producer.send(record("athena-message", "2", sms("13900139000")));
+            BulkMessageDto bulk = new BulkMessageDto().setType(MessageType.SMS).setTemplate("SMS_1")
+                    .addRecipient("13700137000", Map.of("code", "1"))
+                    .addRecipient("13600136000", Map.of("code", "2"));
+            producer.send(record("athena-message-bulk", "3", JSONUtil.toJsonStr(bulk)));
+        }
+
+        try {
+            assertTrue(sender.latch.await(30, TimeUnit.SECONDS));
+            // 等待可能的重复投递
+            Thread.sleep(500);
+            assertEquals(List.of("13800138000", "13900139000"), sender.singles);
+            assertEquals(List.of(2), sender.batches);
+        } finally {
+            container.stop();
+        }
+    }
+
+    /**
+     * 测试：经消费端容器工厂的错误处理器，持续失败的消息重试耗尽后投递到死信主题，其后的消息正常发送
+     */
+    @Test
+    public void onMessages_RetriesExhausted_PublishedToDlt(EmbeddedKafkaBroker broker) throws Exception {
+        RecordingSender sender = new RecordingSender(1, "13000000000");
+        MessageProperties messageProperties = properties("dlt-message");
+        messageProperties.getConsumer().getRetry().setMaxRetries(1);
+        ConcurrentMessageListenerContainer<String, Object> container = startContainer(broker, messageProperties, sender);
+
+        String failing = sms("13000000000");
+        try (KafkaProducer<String, String> producer = producer(broker)) {
+            producer.send(record("dlt-message", "1", failing));
+            producer.send(record("dlt-message", "2", sms("13900139000")));
+        }
+
+        try (Consumer<String, String> dltConsumer = consumer(broker, "dlt-message.DLT")) {
+            ConsumerRecord<String, String> dead = KafkaTestUtils.getSingleRecord(dltConsumer, "dlt-message.DLT", Duration.ofSeconds(30));
+            assertEquals(failing, dead.value());
+            assertTrue(sender.latch.await(30, TimeUnit.SECONDS));
+            assertEquals(List.of("13900139000"), sender.singles);
+            // 初次发送与一次重试
+            assertEquals(2, sender.failures.get());
+        } finally {
+            container.stop();
+        }
+    }
+
+    /**
+     * 测试：渠道限流时不阻塞等待、不计入重试次数，退避后重新拉取的消息全部按序发送且不进入死信主题
+     */
+    @Test
+    public void onMessages_ChannelThrottled_RetriedWithoutDlt(EmbeddedKafkaBroker broker) throws Exception {
+        RecordingSender sender = new RecordingSender(3);
+        MessageProperties messageProperties = properties("throttle-message");
+        MessageProperties.Channel channel = new MessageProperties.Channel();
+        channel.setPermitsPerSecond(4);
+        messageProperties.getConsumer().getChannels().put(MessageType.SMS, channel);
+        // 不允许失败重试，限流若被当作失败会立即进入死信主题
+        messageProperties.getConsumer().getRetry().setMaxRetries(0);
+        messageProperties.getConsumer().getRetry().setMaxThrottleInterval(Duration.ofMillis(200));
+        ConcurrentMessageListenerContainer<String, Object> container = startContainer(broker, messageProperties, sender);
+
+        try (KafkaProducer<String, String> producer = producer(broker)) {
+            BulkMessageDto bulk = new BulkMessageDto().setType(MessageType.SMS).setTemplate("SMS_1");
+            for (int i = 0; i < 4; i++) {
+                bulk.addRecipient(String.valueOf(13700137000L + i), Map.of("code", i));
+            }
+            producer.send(record("throttle-message-bulk", "1", JSONUtil.toJsonStr(bulk))).get();
+            producer.send(record("throttle-message", "2", sms("13800138000")));
+            producer.send(record("throttle-message", "3", sms("13900139000")));
+        }
+
+        try (Consumer<String, String> dltConsumer = consumer(broker, "throttle-message.DLT")) {
+            assertTrue(sender.latch.await(30, TimeUnit.SECONDS));
+            assertEquals(List.of(4), sender.batches);
+            assertEquals(List.of("13800138000", "13900139000"), sender.singles);
+            assertTrue(KafkaTestUtils.getRecords(dltConsumer, Duration.ofSeconds(1)).isEmpty());
+        } finally {
+            container.stop();
+        }
+    }
+
+    /**
+     * 测试：批量消息部分发送失败后，重试只发送剩余接收人，完成后再次投递被去重
+     */
+    @Test
+    public void handle_PartialBulkFailure_ResumesFromFailedRecipient() throws Exception {
+        FailOnceSender sender = new FailOnceSender(2);
+        MessageProperties messageProperties = new MessageProperties();
+        MessageKafkaListener listener = new MessageKafkaListener(messageProperties,
+                new MessageDispatcher(List.of(sender), messageProperties.getConsumer()),
+                new MemoryMessageDeduplicator(messageProperties.getConsumer().getDedupTtl()));
+        BulkMessageDto bulk = new BulkMessageDto().setType(MessageType.SMS).setTemplate("SMS_1");
+        List<String> mobiles = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            mobiles.add(String.valueOf(13700137000L + i));
+            bulk.addRecipient(mobiles.get(i), Map.of("code", i));
+        }
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>("athena-message-bulk", 0, 0L,
+                MessageType.SMS.getCode(), JSONUtil.toJsonStr(bulk));
+        record.headers().add(MessageOutboxRelay.MESSAGE_ID_HEADER, "bulk-1".getBytes(StandardCharsets.UTF_8));
+
+        PartialSendException e = assertThrows(PartialSendException.class, () -> listener.handle(record));
+        assertEquals(2, e.getSentCount());
+        listener.handle(record);
+        listener.handle(record);
+
+        assertEquals(mobiles, sender.sent);
+    }
+
+    /**
+     * 通过消费端配置的批量监听容器工厂启动监听容器，与生产环境使用相同的错误处理与死信投递
+     */
+    private ConcurrentMessageListenerContainer<String, Object> startContainer(EmbeddedKafkaBroker broker,
+                                                                              MessageProperties messageProperties,
+                                                                              IMessageSender sender) {
+        MessageKafkaListener listener = new MessageKafkaListener(messageProperties,
+                new MessageDispatcher(List.of(sender), messageProperties.getConsumer()),
+                new MemoryMessageDeduplicator(messageProperties.getConsumer().getDedupTtl()));
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps(messageProperties.getKafka().getTopic() + "-consumer", "false", broker);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new MessageConsumerConfig().messageBatchContainerFactory(
+                messageProperties, new DefaultKafkaConsumerFactory<>(consumerProps),
+                new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps)));
+        ConcurrentMessageListenerContainer<String, Object> container = factory.createContainer(
+                messageProperties.getKafka().getTopic(), messageProperties.getKafka().getBulkTopic());
+        container.getContainerProperties().setMessageListener((BatchMessageListener<String, Object>) listener::onMessages);
+        container.start();
+        return container;
+    }
+
+    private MessageProperties properties(String topic) {
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.getKafka().setTopic(topic);
+        messageProperties.getKafka().setBulkTopic(topic + "-bulk");
+        messageProperties.getConsumer().getRetry().setInitialInterval(Duration.ofMillis(10));
+        return messageProperties;
+    }
+
+    private KafkaProducer<String, String> producer(EmbeddedKafkaBroker broker) {
+        return new KafkaProducer<>(KafkaTestUtils.producerProps(broker), new StringSerializer(), new StringSerializer());
+    }
+
+    private Consumer<String, String> consumer(EmbeddedKafkaBroker broker, String topic) {
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps(topic + "-reader", "false", broker);
+        Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(consumerProps,
+                new StringDeserializer(), new StringDeserializer()).createConsumer();
+        broker.consumeFromAnEmbeddedTopic(consumer, topic);
+        return consumer;
+    }
+
+    private ProducerRecord<String, String> record(String topic, String messageId, String value) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(topic, MessageType.SMS.getCode(), value);
+        record.headers().add(MessageOutboxRelay.MESSAGE_ID_HEADER, messageId.getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private String sms(String mobile) {
+        return JSONUtil.toJsonStr(new MessageDto().setType(MessageType.SMS).setReceiver(mobile).setTemplate("SMS_1"));
+    }
+
+    /**
+     * 在指定位置失败一次的短信发送器，使用默认的逐条批量发送
+     */
+    private static class FailOnceSender implements IMessageSender {
+
+        private final List<String> sent = new ArrayList<>();
+
+        private final int failAt;
+
+        private boolean failed;
+
+        FailOnceSender(int failAt) {
+            this.failAt = failAt;
+        }
+
+        @Override
+        public MessageType getType() {
+            return MessageType.SMS;
+        }
+
+        @Override
+        public void send(MessageDto messageDto) {
+            if (!failed && sent.size() == failAt) {
+                failed = true;
+                throw new IllegalStateException("渠道限流");
+            }
+            sent.add(messageDto.getReceiver());
+        }
+    }
+
+    /**
+     * 记录发送内容的短信发送器，可指定始终发送失败的接收人
+     */
+    private static class RecordingSender implements IMessageSender {
+
+        private final List<String> singles = new CopyOnWriteArrayList<>();
+
+        private final List<Integer> batches = new CopyOnWriteArrayList<>();
+
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private final CountDownLatch latch;
+
+        private final String failingReceiver;
+
+        RecordingSender(int expected) {
+            this(expected, null);
+        }
+
+        RecordingSender(int expected, String failingReceiver) {
+            this.latch = new CountDownLatch(expected);
+            this.failingReceiver = failingReceiver;
+        }
+
+        @Override
+        public MessageType getType() {
+            return MessageType.SMS;
+        }
+
+        @Override
+        public void send(MessageDto messageDto) {
+            if (messageDto.getReceiver().equals(failingReceiver)) {
+                failures.incrementAndGet();
+                throw new IllegalStateException("渠道发送失败");
+            }
+            singles.add(messageDto.getReceiver());
+            latch.countDown();
+        }
+
+        @Override
+        public void sendBatch(BulkMessageDto bulkMessageDto) {
+            batches.add(bulkMessageDto.getRecipients().size());
+            latch.countDown();
+        }
+    }
+}
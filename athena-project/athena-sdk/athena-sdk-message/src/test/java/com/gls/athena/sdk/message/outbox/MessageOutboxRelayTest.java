@@ -0,0 +1,175 @@
+package com.gls.athena.sdk.message.outbox;
+
+import com.gls.athena.sdk.message.config.MessageProperties;
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
+import com.gls.athena.sdk.message.domain.MessageDto;
+import com.gls.athena.sdk.message.domain.MessageOutbox;
+import com.gls.athena.sdk.message.domain.MessageType;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MessageOutboxRelay的单元测试类
+ */
+public class MessageOutboxRelayTest {
+
+    /**
+     * 测试：认领在事务内完成，发送和等待确认在事务外进行，一批消息只认领、刷新、回写各一次
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void relayBatch_SendsOutsideTransaction() {
+        MessageProperties.Outbox outbox = new MessageProperties.Outbox();
+        outbox.setBatchSize(3);
+        RecordingTransactionTemplate transactionTemplate = new RecordingTransactionTemplate();
+        MessageOutboxRepository repository = mock(MessageOutboxRepository.class);
+        KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+
+        List<MessageOutbox> records = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            records.add(new MessageOutbox().setId(id).setMessageId("message-" + id).setTopic("athena-message").setMessageKey("sms")
+                    .setPayloadType(MessageOutboxRelay.PAYLOAD_MESSAGE)
+                    .setPayload(MessageOutboxRelay.writePayload(new MessageDto().setType(MessageType.SMS).setReceiver("1380013800" + id))));
+        }
+        when(repository.claimPending(eq(3), any())).thenAnswer(invocation -> {
+            assertTrue(transactionTemplate.active.get(), "认领应在事务内执行");
+            return records;
+        });
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            assertFalse(transactionTemplate.active.get(), "发送不应持有事务");
+            return CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+        doAnswer(invocation -> {
+            assertTrue(transactionTemplate.active.get(), "回写状态应在事务内执行");
+            return null;
+        }).when(repository).markSent(anyList());
+
+        MessageOutboxRelay relay = new MessageOutboxRelay(outbox, repository, kafkaTemplate, transactionTemplate);
+
+        assertEquals(3, relay.relayBatch());
+        verify(repository, times(1)).claimPending(eq(3), any());
+        verify(kafkaTemplate, times(3)).send(any(ProducerRecord.class));
+        verify(kafkaTemplate, times(1)).flush();
+        verify(repository, times(1)).markSent(List.of(1L, 2L, 3L));
+        verify(repository, never()).markFailed(anyMap(), anyInt());
+        assertEquals(2, transactionTemplate.transactions);
+    }
+
+    /**
+     * 测试：发送失败的消息回写失败状态，成功的消息正常标记
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void relayBatch_FailedSend_MarkedFailed() {
+        MessageProperties.Outbox outbox = new MessageProperties.Outbox();
+        MessageOutboxRepository repository = mock(MessageOutboxRepository.class);
+        KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+        MessageOutbox ok = new MessageOutbox().setId(1L).setMessageId("message-1").setTopic("athena-message")
+                .setPayloadType(MessageOutboxRelay.PAYLOAD_MESSAGE).setPayload("{}");
+        MessageOutbox broken = new MessageOutbox().setId(2L).setMessageId("message-2").setTopic("athena-message")
+                .setPayloadType(MessageOutboxRelay.PAYLOAD_MESSAGE).setPayload("not json");
+        when(repository.claimPending(anyInt(), any())).thenReturn(List.of(ok, broken));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        MessageOutboxRelay relay = new MessageOutboxRelay(outbox, repository, kafkaTemplate, new RecordingTransactionTemplate());
+
+        assertEquals(2, relay.relayBatch());
+        verify(repository).markSent(List.of(1L));
+        verify(repository).markFailed(argThat(failures -> failures.size() == 1 && failures.containsKey(broken)),
+                eq(outbox.getMaxAttempts()));
+    }
+
+    /**
+     * 测试：消息头携带写入时生成的消息ID而非自增主键，不同来源主键相同的消息ID不同
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void relayBatch_SameNumericId_DistinctMessageIds() {
+        MessageOutboxRepository repository = mock(MessageOutboxRepository.class);
+        KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+        String payload = MessageOutboxRelay.writePayload(new MessageDto().setType(MessageType.SMS).setReceiver("13800138000"));
+        MessageOutbox orderRecord = new MessageOutbox().setId(1L).setMessageId("order-service-uuid").setTopic("athena-message")
+                .setPayloadType(MessageOutboxRelay.PAYLOAD_MESSAGE).setPayload(payload);
+        MessageOutbox userRecord = new MessageOutbox().setId(1L).setMessageId("user-service-uuid").setTopic("athena-message")
+                .setPayloadType(MessageOutboxRelay.PAYLOAD_MESSAGE).setPayload(payload);
+        when(repository.claimPending(anyInt(), any())).thenReturn(List.of(orderRecord), List.of(userRecord));
+        List<String> messageIds = new ArrayList<>();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            ProducerRecord<String, Object> record = invocation.getArgument(0);
+            messageIds.add(new String(record.headers().lastHeader(MessageOutboxRelay.MESSAGE_ID_HEADER).value(), StandardCharsets.UTF_8));
+            return CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+
+        MessageOutboxRelay relay = new MessageOutboxRelay(new MessageProperties.Outbox(), repository, kafkaTemplate,
+                new RecordingTransactionTemplate());
+        relay.relayBatch();
+        relay.relayBatch();
+
+        assertEquals(List.of("order-service-uuid", "user-service-uuid"), messageIds);
+    }
+
+    /**
+     * 测试：经本地消息表中转后再次序列化的结果与直接发送时一致，参数类型不丢失
+     */
+    @Test
+    public void readPayload_RoundTrip_SameJsonAsDirectSend() throws Exception {
+        BulkMessageDto bulk = new BulkMessageDto().setType(MessageType.SMS).setTemplate("SMS_1")
+                .setParams(Map.of("amount", new BigDecimal("0.10"), "orderId", 9007199254740993L,
+                        "time", new Date(1704164645000L), "nested", Map.of("flag", true)))
+                .addRecipient("13800138000", Map.of("code", 1));
+        MessageOutbox record = new MessageOutbox()
+                .setPayloadType(MessageOutboxRelay.PAYLOAD_BULK)
+                .setPayload(MessageOutboxRelay.writePayload(bulk));
+
+        Object payload = MessageOutboxRelay.readPayload(record);
+
+        assertInstanceOf(BulkMessageDto.class, payload);
+        String direct = JacksonUtils.enhancedObjectMapper().writeValueAsString(bulk);
+        assertEquals(direct, JacksonUtils.enhancedObjectMapper().writeValueAsString(payload));
+        assertEquals(new BigDecimal("0.10"), ((BulkMessageDto) payload).getParams().get("amount"));
+        assertEquals(9007199254740993L, ((Number) ((BulkMessageDto) payload).getParams().get("orderId")).longValue());
+    }
+
+    /**
+     * 记录事务边界的事务模板
+     */
+    private static class RecordingTransactionTemplate extends TransactionTemplate {
+
+        private final AtomicBoolean active = new AtomicBoolean();
+
+        private int transactions;
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            TransactionStatus status = new SimpleTransactionStatus();
+            active.set(true);
+            transactions++;
+            try {
+                return action.doInTransaction(status);
+            } finally {
+                active.set(false);
+            }
+        }
+    }
+}
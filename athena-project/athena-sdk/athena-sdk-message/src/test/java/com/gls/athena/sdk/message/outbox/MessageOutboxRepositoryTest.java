@@ -0,0 +1,79 @@
+package com.gls.athena.sdk.message.outbox;
+
+import com.gls.athena.sdk.message.config.MessageProperties;
+import com.gls.athena.sdk.message.domain.MessageOutbox;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * MessageOutboxRepository的单元测试类
+ */
+public class MessageOutboxRepositoryTest {
+
+    /**
+     * 测试：表名允许可选模式名加表名
+     */
+    @Test
+    public void constructor_ValidTable_Accepted() {
+        assertDoesNotThrow(() -> new MessageOutboxRepository(mock(JdbcTemplate.class), outbox("t_message_outbox")));
+        assertDoesNotThrow(() -> new MessageOutboxRepository(mock(JdbcTemplate.class), outbox("athena.t_message_outbox")));
+    }
+
+    /**
+     * 测试：表名拼接到SQL中，包含其他字符时拒绝
+     */
+    @Test
+    public void constructor_InvalidTable_Rejected() {
+        for (String table : new String[]{"", "t_message_outbox; drop table t_user", "t_message_outbox where 1=1",
+                "`t_message_outbox`", "a.b.c", "1table"}) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new MessageOutboxRepository(mock(JdbcTemplate.class), outbox(table)), table);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new MessageOutboxRepository(mock(JdbcTemplate.class), outbox(null)));
+    }
+
+    /**
+     * 测试：写入时为未指定消息ID的记录生成UUID并写入message_id列，已指定的保持不变
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void insert_GeneratesMessageId() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        MessageOutbox generated = new MessageOutbox().setTopic("athena-message");
+        MessageOutbox given = new MessageOutbox().setMessageId("given").setTopic("athena-message");
+        List<MessageOutbox> records = List.of(generated, given);
+
+        new MessageOutboxRepository(jdbcTemplate, outbox("t_message_outbox")).insert(records);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<MessageOutbox>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), eq(records), eq(2), setter.capture());
+        assertTrue(sql.getValue().contains("message_id"));
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, generated);
+        setter.getValue().setValues(ps, given);
+
+        assertNotNull(generated.getMessageId());
+        assertEquals(32, generated.getMessageId().length());
+        assertEquals("given", given.getMessageId());
+        verify(ps).setString(1, generated.getMessageId());
+        verify(ps).setString(1, "given");
+    }
+
+    private MessageProperties.Outbox outbox(String table) {
+        MessageProperties.Outbox outbox = new MessageProperties.Outbox();
+        outbox.setTable(table);
+        return outbox;
+    }
+}
@@ -0,0 +1,111 @@
+package com.gls.athena.sdk.message.support;
+
+import cn.hutool.extra.spring.SpringUtil;
+import com.gls.athena.sdk.message.config.MessageProperties;
+import com.gls.athena.sdk.message.domain.BulkMessageDto;
+import com.gls.athena.sdk.message.domain.MessageType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MessagePublisher的单元测试类
+ */
+public class MessagePublisherTest {
+
+    private final List<BulkMessageDto> published = new ArrayList<>();
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    public void setUp() {
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.getBulk().setChunkSize(500);
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(SpringUtil.class);
+        context.registerBean(MessageProperties.class, () -> messageProperties);
+        context.addApplicationListener((ApplicationListener<ApplicationEvent>) event -> {
+            if (event instanceof PayloadApplicationEvent<?> payloadEvent && payloadEvent.getPayload() instanceof BulkMessageDto bulk) {
+                published.add(bulk);
+            }
+        });
+        context.refresh();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 测试：有效接收人按分片大小拆分，每个分片一个事件，公共字段保留，接收人顺序不变
+     */
+    @Test
+    public void publishBulk_OverChunkSize_PublishesChunks() {
+        BulkMessageDto bulk = sms();
+        for (int i = 0; i < 1201; i++) {
+            bulk.addRecipient(mobile(i), Map.of("index", i));
+        }
+
+        List<String> invalid = MessagePublisher.publishBulk(bulk);
+
+        assertTrue(invalid.isEmpty());
+        assertEquals(List.of(500, 500, 201), published.stream().map(chunk -> chunk.getRecipients().size()).toList());
+        assertEquals(mobile(500), published.get(1).getRecipients().get(0).getReceiver());
+        assertEquals(mobile(1200), published.get(2).getRecipients().get(200).getReceiver());
+        published.forEach(chunk -> {
+            assertEquals(MessageType.SMS, chunk.getType());
+            assertEquals("SMS_1", chunk.getTemplate());
+            assertEquals(Map.of("product", "athena"), chunk.getParams());
+        });
+    }
+
+    /**
+     * 测试：格式错误的接收人被剔除并返回，不计入分片
+     */
+    @Test
+    public void publishBulk_InvalidReceivers_Removed() {
+        BulkMessageDto bulk = sms()
+                .addRecipient(mobile(0), null)
+                .addRecipient("123", null)
+                .addRecipient(mobile(1), null)
+                .addRecipient(null, null);
+
+        List<String> invalid = MessagePublisher.publishBulk(bulk);
+
+        assertEquals(2, invalid.size());
+        assertTrue(invalid.contains("123"));
+        assertEquals(1, published.size());
+        assertEquals(List.of(mobile(0), mobile(1)),
+                published.get(0).getRecipients().stream().map(BulkMessageDto.Recipient::getReceiver).toList());
+    }
+
+    /**
+     * 测试：没有有效接收人时拒绝发布
+     */
+    @Test
+    public void publishBulk_NoValidReceivers_Rejected() {
+        BulkMessageDto bulk = sms().addRecipient("123", null);
+
+        assertThrows(IllegalArgumentException.class, () -> MessagePublisher.publishBulk(bulk));
+        assertTrue(published.isEmpty());
+    }
+
+    private BulkMessageDto sms() {
+        return new BulkMessageDto().setType(MessageType.SMS).setTemplate("SMS_1").setParams(Map.of("product", "athena"));
+    }
+
+    private String mobile(int index) {
+        return String.valueOf(13800000000L + index);
+    }
+}
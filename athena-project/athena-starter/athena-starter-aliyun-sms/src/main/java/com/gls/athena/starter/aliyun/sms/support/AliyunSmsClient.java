@@ -1,6 +1,9 @@
 package com.gls.athena.starter.aliyun.sms.support;
 
+import cn.hutool.json.JSONUtil;
 import com.aliyuncs.IAcsClient;
+import com.aliyuncs.dysmsapi.model.v20170525.SendBatchSmsRequest;
+import com.aliyuncs.dysmsapi.model.v20170525.SendBatchSmsResponse;
 import com.aliyuncs.dysmsapi.model.v20170525.SendSmsRequest;
 import com.aliyuncs.dysmsapi.model.v20170525.SendSmsResponse;
 import com.aliyuncs.exceptions.ClientException;
@@ -9,6 +12,9 @@ import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * 阿里云短信工具类
  *
@@ -18,6 +24,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class AliyunSmsClient {
 
+    /**
+     * 批量短信单次请求的最大号码数量（阿里云限制）
+     */
+    public static final int MAX_BATCH_SIZE = 100;
+
     @Resource
     private IAcsClient acsClient;
 
@@ -51,4 +62,43 @@ public class AliyunSmsClient {
         }
     }
 
+    /**
+     * 批量发送短信，每个号码可使用不同的模板参数，超过单次上限时自动拆分为多次请求
+     * <p>
+     * 拆分后的请求按顺序发送，某次请求失败时不再发送后续号码，已发送的号码数量通过 {@link BatchSmsException} 返回。
+     *
+     * @param phones       接收短信的手机号码列表
+     * @param templateCode 短信模板编号
+     * @param params       与手机号一一对应的模板参数（JSON字符串）
+     * @throws BatchSmsException 某次请求发送失败时抛出，包含此前已发送成功的号码数量
+     */
+    public void sendBatchSms(List<String> phones, String templateCode, List<String> params) throws BatchSmsException {
+        if (phones.size() != params.size()) {
+            throw new IllegalArgumentException("手机号与模板参数数量不一致");
+        }
+        for (int from = 0; from < phones.size(); from += MAX_BATCH_SIZE) {
+            int to = Math.min(from + MAX_BATCH_SIZE, phones.size());
+            List<String> batchPhones = phones.subList(from, to);
+
+            // 创建批量短信发送请求对象，签名、号码与参数均为JSON数组且一一对应
+            SendBatchSmsRequest request = new SendBatchSmsRequest();
+            request.setPhoneNumberJson(JSONUtil.toJsonStr(batchPhones));
+            request.setSignNameJson(JSONUtil.toJsonStr(Collections.nCopies(batchPhones.size(), aliyunSmsProperties.getSignName())));
+            request.setTemplateCode(templateCode);
+            request.setTemplateParamJson("[" + String.join(",", params.subList(from, to)) + "]");
+
+            SendBatchSmsResponse response;
+            try {
+                response = acsClient.getAcsResponse(request);
+            } catch (ClientException e) {
+                log.error("批量发送短信失败，已发送：{}，错误码：{}，错误信息：{}", from, e.getErrCode(), e.getErrMsg());
+                throw new BatchSmsException(from, e);
+            }
+            if (!"OK".equals(response.getCode())) {
+                log.error("批量发送短信失败，已发送：{}，错误码：{}，错误信息：{}", from, response.getCode(), response.getMessage());
+                throw new BatchSmsException(from, response.getCode(), response.getMessage());
+            }
+        }
+    }
+
 }
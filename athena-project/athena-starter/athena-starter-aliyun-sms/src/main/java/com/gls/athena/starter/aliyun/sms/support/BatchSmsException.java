@@ -0,0 +1,32 @@
+package com.gls.athena.starter.aliyun.sms.support;
+
+import com.aliyuncs.exceptions.ClientException;
+import lombok.Getter;
+
+/**
+ * 批量短信部分发送失败异常
+ * <p>
+ * 批量短信按单次上限拆分为多次请求顺序发送，某次请求失败时停止发送并抛出该异常，
+ * 失败请求之前的号码已发送成功，调用方重试时应从 {@link #getSentCount()} 处继续，避免重复发送。
+ *
+ * @author george
+ */
+@Getter
+public class BatchSmsException extends ClientException {
+
+    /**
+     * 已发送成功的号码数量，即失败请求的起始位置
+     */
+    private final int sentCount;
+
+    public BatchSmsException(int sentCount, String errCode, String errMsg) {
+        super(errCode, errMsg);
+        this.sentCount = sentCount;
+    }
+
+    public BatchSmsException(int sentCount, ClientException cause) {
+        super(cause.getErrCode(), cause.getErrMsg());
+        this.sentCount = sentCount;
+        initCause(cause);
+    }
+}
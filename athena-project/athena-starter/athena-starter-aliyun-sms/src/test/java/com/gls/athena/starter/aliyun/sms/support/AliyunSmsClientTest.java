@@ -0,0 +1,109 @@
+package com.gls.athena.starter.aliyun.sms.support;
+
+import cn.hutool.json.JSONUtil;
+import com.aliyuncs.IAcsClient;
+import com.aliyuncs.dysmsapi.model.v20170525.SendBatchSmsRequest;
+import com.aliyuncs.dysmsapi.model.v20170525.SendBatchSmsResponse;
+import com.aliyuncs.exceptions.ClientException;
+import com.gls.athena.starter.aliyun.sms.config.AliyunSmsProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * AliyunSmsClient的单元测试类
+ */
+public class AliyunSmsClientTest {
+
+    private IAcsClient acsClient;
+
+    private AliyunSmsClient aliyunSmsClient;
+
+    @BeforeEach
+    public void setUp() {
+        acsClient = mock(IAcsClient.class);
+        AliyunSmsProperties properties = new AliyunSmsProperties();
+        properties.setSignName("athena");
+        aliyunSmsClient = new AliyunSmsClient();
+        ReflectionTestUtils.setField(aliyunSmsClient, "acsClient", acsClient);
+        ReflectionTestUtils.setField(aliyunSmsClient, "aliyunSmsProperties", properties);
+    }
+
+    /**
+     * 测试：超过单次上限时按顺序拆分请求，号码与参数一一对应
+     */
+    @Test
+    public void sendBatchSms_OverLimit_SplitsInOrder() throws ClientException {
+        when(acsClient.getAcsResponse(any(SendBatchSmsRequest.class))).thenReturn(response("OK"));
+
+        aliyunSmsClient.sendBatchSms(phones(250), "SMS_1", params(250));
+
+        ArgumentCaptor<SendBatchSmsRequest> captor = ArgumentCaptor.forClass(SendBatchSmsRequest.class);
+        verify(acsClient, times(3)).getAcsResponse(captor.capture());
+        List<SendBatchSmsRequest> requests = captor.getAllValues();
+        assertEquals(phones(250).subList(200, 250), JSONUtil.toList(requests.get(2).getPhoneNumberJson(), String.class));
+        assertEquals(50, JSONUtil.parseArray(requests.get(2).getTemplateParamJson()).size());
+        assertEquals(100, JSONUtil.parseArray(requests.get(0).getSignNameJson()).size());
+    }
+
+    /**
+     * 测试：某次请求失败时停止发送后续号码，异常中返回已发送的号码数量
+     */
+    @Test
+    public void sendBatchSms_SubBatchFails_ReportsSentCount() throws ClientException {
+        when(acsClient.getAcsResponse(any(SendBatchSmsRequest.class)))
+                .thenReturn(response("OK"), response("OK"), response("isv.BUSINESS_LIMIT_CONTROL"));
+
+        BatchSmsException e = assertThrows(BatchSmsException.class,
+                () -> aliyunSmsClient.sendBatchSms(phones(350), "SMS_1", params(350)));
+
+        assertEquals(200, e.getSentCount());
+        assertEquals("isv.BUSINESS_LIMIT_CONTROL", e.getErrCode());
+        verify(acsClient, times(3)).getAcsResponse(any(SendBatchSmsRequest.class));
+    }
+
+    /**
+     * 测试：首次请求即出现客户端异常时已发送数量为0
+     */
+    @Test
+    public void sendBatchSms_ClientException_ReportsZero() throws ClientException {
+        when(acsClient.getAcsResponse(any(SendBatchSmsRequest.class))).thenThrow(new ClientException("SDK.ServerUnreachable", "timeout"));
+
+        BatchSmsException e = assertThrows(BatchSmsException.class,
+                () -> aliyunSmsClient.sendBatchSms(phones(10), "SMS_1", params(10)));
+
+        assertEquals(0, e.getSentCount());
+        assertInstanceOf(ClientException.class, e.getCause());
+    }
+
+    private SendBatchSmsResponse response(String code) {
+        SendBatchSmsResponse response = new SendBatchSmsResponse();
+        response.setCode(code);
+        response.setMessage(code);
+        return response;
+    }
+
+    private List<String> phones(int count) {
+        List<String> phones = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            phones.add(String.valueOf(13800000000L + i));
+        }
+        return phones;
+    }
+
+    private List<String> params(int count) {
+        List<String> params = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            params.add("{\"code\":\"" + i + "\"}");
+        }
+        return params;
+    }
+}
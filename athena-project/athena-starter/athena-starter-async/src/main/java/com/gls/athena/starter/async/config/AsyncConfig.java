@@ -1,5 +1,6 @@
 package com.gls.athena.starter.async.config;
 
+import com.gls.athena.common.bean.trace.TraceContext;
 import com.gls.athena.starter.async.domain.AsyncTask;
 import com.gls.athena.starter.async.manager.DefaultAsyncTaskManager;
 import com.gls.athena.starter.async.manager.IAsyncTaskManager;
@@ -47,6 +48,8 @@ public class AsyncConfig {
         // 设置关闭时等待任务完成相关参数
         executor.setWaitForTasksToCompleteOnShutdown(threadPoolProperties.isWaitForTasksToCompleteOnShutdown());
         executor.setAwaitTerminationSeconds(threadPoolProperties.getAwaitTerminationSeconds());
+        // 异步任务沿用提交线程的跟踪ID
+        executor.setTaskDecorator(TraceContext::wrap);
         // 初始化线程池
         executor.initialize();
         return executor;
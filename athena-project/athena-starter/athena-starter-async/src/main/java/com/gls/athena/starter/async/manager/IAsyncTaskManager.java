@@ -89,6 +89,31 @@ public interface IAsyncTaskManager<V extends AsyncTask> {
         this.update(task);
     }
 
+    /**
+     * 当任务处于预期状态时更新为新状态，用于防止同一任务被并发处理。
+     * 默认实现在当前任务管理器实例上同步，只保证单个实例内的原子性；
+     * 多实例共享任务存储时，实现类应覆盖为带状态条件的更新。
+     *
+     * @param taskId 任务ID
+     * @param expect 预期的任务状态
+     * @param update 新的任务状态
+     * @return 状态已更新时返回true，任务当前状态与预期不符时返回false
+     * @throws IllegalArgumentException 当任务不存在时抛出异常
+     */
+    default boolean compareAndSetStatus(String taskId, AsyncTaskStatus expect, AsyncTaskStatus update) {
+        synchronized (this) {
+            V task = this.getTask(taskId);
+            if (task == null) {
+                throw new IllegalArgumentException("任务不存在: " + taskId);
+            }
+            if (task.getStatus() != expect) {
+                return false;
+            }
+            this.updateTaskStatus(taskId, update);
+            return true;
+        }
+    }
+
     /**
      * 更新任务信息
      *
@@ -0,0 +1,48 @@
+package com.gls.athena.starter.async.config;
+
+import com.gls.athena.common.bean.trace.TraceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * AsyncConfig的单元测试类
+ */
+public class AsyncConfigTest {
+
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    public void tearDown() {
+        TraceContext.clear();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 测试：默认线程池的任务沿用提交线程的跟踪ID，任务结束后工作线程不残留跟踪ID
+     */
+    @Test
+    public void threadPoolTaskExecutor_PropagatesTraceId() throws Exception {
+        ThreadPoolProperties properties = new ThreadPoolProperties();
+        properties.setCorePoolSize(1);
+        properties.setMaxPoolSize(1);
+        Executor pool = new AsyncConfig().threadPoolTaskExecutor(properties);
+        executor = (ThreadPoolTaskExecutor) pool;
+
+        String traceId = TraceContext.begin(null);
+        String seen = CompletableFuture.supplyAsync(TraceContext::getTraceId, pool).get(5, TimeUnit.SECONDS);
+        assertEquals(traceId, seen);
+
+        TraceContext.clear();
+        assertNull(CompletableFuture.supplyAsync(TraceContext::getTraceId, pool).get(5, TimeUnit.SECONDS));
+    }
+}
@@ -5,13 +5,25 @@ import com.gls.athena.common.bean.page.PageRequest;
 import com.gls.athena.common.bean.page.PageResponse;
 import com.gls.athena.common.core.base.IConverter;
 import com.gls.athena.common.core.base.IService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.domain.Example;
+import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 通用基础服务实现类
@@ -29,6 +41,11 @@ import java.util.List;
 public abstract class BaseService<V extends BaseVo, E extends BaseEntity,
         C extends IConverter<V, E>, R extends IRepository<E>> implements IService<V> {
 
+    /**
+     * 流式查询的只读提示，非Hibernate实现会忽略该提示
+     */
+    private static final String HINT_READ_ONLY = "org.hibernate.readOnly";
+
     /**
      * 对象转换器，用于VO和实体对象的相互转换
      */
@@ -41,6 +58,17 @@ public abstract class BaseService<V extends BaseVo, E extends BaseEntity,
     @Autowired
     protected R repository;
 
+    /**
+     * 实体管理器工厂，流式查询时创建独立的实体管理器
+     */
+    @PersistenceUnit
+    protected EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 实体类型，首次流式查询时解析
+     */
+    private Class<E> entityClass;
+
     /**
      * 新增记录
      * <p>
@@ -144,6 +172,91 @@ public abstract class BaseService<V extends BaseVo, E extends BaseEntity,
         return converter.reverseList(entities);
     }
 
+    /**
+     * 根据条件流式查询记录
+     * <p>
+     * 使用独立创建的实体管理器并开启只读的本地事务，以JPA结果流逐条读取，读取后的实体立即分离，
+     * 避免一级缓存随结果集增长。结果流不依赖调用线程的事务或 open-in-view，可交给异步任务在其他线程消费；
+     * 关闭返回的流时结束事务并关闭实体管理器。要求使用 RESOURCE_LOCAL 事务类型的持久化单元。
+     *
+     * @param vo 查询条件，为null时返回空流
+     * @return 视图对象流，使用完毕后必须关闭
+     */
+    @Override
+    public Stream<V> stream(V vo) {
+        if (vo == null) {
+            return Stream.empty();
+        }
+
+        E entity = converter.convert(vo);
+        if (entity == null) {
+            return Stream.empty();
+        }
+
+        EntityManager streamEntityManager = entityManagerFactory.createEntityManager();
+        Stream<E> entities = null;
+        try {
+            streamEntityManager.getTransaction().begin();
+            Class<E> type = getEntityClass();
+            CriteriaBuilder builder = streamEntityManager.getCriteriaBuilder();
+            CriteriaQuery<E> query = builder.createQuery(type);
+            Root<E> root = query.from(type);
+            Predicate predicate = QueryByExamplePredicateBuilder.getPredicate(root, builder, Example.of(entity));
+            if (predicate != null) {
+                query.where(predicate);
+            }
+            entities = streamEntityManager.createQuery(query.select(root))
+                    .setHint(HINT_READ_ONLY, true)
+                    .getResultStream();
+            Stream<E> source = entities;
+            return entities.map(e -> {
+                V result = converter.reverse(e);
+                streamEntityManager.detach(e);
+                return result;
+            }).onClose(() -> closeStream(streamEntityManager, source));
+        } catch (RuntimeException e) {
+            closeStream(streamEntityManager, entities);
+            throw e;
+        }
+    }
+
+    /**
+     * 关闭流式查询的结果流，回滚只读事务并关闭实体管理器
+     *
+     * @param streamEntityManager 流式查询的实体管理器
+     * @param entities            实体结果流，可为null
+     */
+    private void closeStream(EntityManager streamEntityManager, Stream<E> entities) {
+        try {
+            if (entities != null) {
+                entities.close();
+            }
+        } finally {
+            try {
+                if (streamEntityManager.getTransaction().isActive()) {
+                    streamEntityManager.getTransaction().rollback();
+                }
+            } finally {
+                streamEntityManager.close();
+            }
+        }
+    }
+
+    /**
+     * 获取实体类型
+     *
+     * @return 实体类型
+     */
+    @SuppressWarnings("unchecked")
+    private Class<E> getEntityClass() {
+        if (entityClass == null) {
+            Class<?>[] types = GenericTypeResolver.resolveTypeArguments(ClassUtils.getUserClass(getClass()), BaseService.class);
+            Assert.state(types != null && types[1] != null, "无法解析实体类型: " + getClass().getName());
+            entityClass = (Class<E>) types[1];
+        }
+        return entityClass;
+    }
+
     /**
      * 分页查询记录
      *
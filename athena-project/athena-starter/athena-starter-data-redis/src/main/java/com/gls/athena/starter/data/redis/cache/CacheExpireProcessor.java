@@ -1,5 +1,6 @@
 package com.gls.athena.starter.data.redis.cache;
 
+import com.gls.athena.common.core.util.MethodIndexUtil;
 import lombok.Data;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
@@ -7,10 +8,12 @@ import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ReflectionUtils;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * 缓存过期时间处理器
@@ -24,6 +27,9 @@ import java.util.Map;
  *   <li>识别带有 {@code @CacheExpire} 注解的方法</li>
  *   <li>提取注解配置的过期时间并存储映射关系</li>
  * </ul>
+ * <p>
+ * 类路径中存在编译期方法索引（athena-common-processor 生成）时，只扫描索引判定可能带有注解方法的 Bean，
+ * 扫描结果与不使用索引时一致。
  *
  * @author george
  * @see CacheExpire
@@ -51,11 +57,12 @@ public class CacheExpireProcessor implements BeanFactoryPostProcessor {
      */
     @Override
     public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        Predicate<Class<?>> candidateFilter = MethodIndexUtil.getCandidateFilter(beanFactory.getBeanClassLoader(), CacheExpire.class);
         String[] beanNames = beanFactory.getBeanDefinitionNames();
 
         for (String beanName : beanNames) {
             Class<?> beanClass = beanFactory.getType(beanName);
-            if (beanClass == null) {
+            if (beanClass == null || !candidateFilter.test(beanClass)) {
                 continue;
             }
             processCacheExpireAnnotations(beanClass);
@@ -72,19 +79,27 @@ public class CacheExpireProcessor implements BeanFactoryPostProcessor {
      */
     private void processCacheExpireAnnotations(Class<?> beanClass) {
         ReflectionUtils.doWithMethods(beanClass,
-                method -> {
-                    CacheExpire cacheExpire = method.getAnnotation(CacheExpire.class);
-                    if (cacheExpire != null) {
-                        List<String> cacheNames = DefaultCacheResolver.getCacheNames(beanClass, method);
-                        Duration expireTime = Duration.of(
-                                cacheExpire.timeToLive(),
-                                cacheExpire.timeUnit().toChronoUnit()
-                        );
-                        cacheNames.forEach(cacheName -> expires.put(cacheName, expireTime));
-                    }
-                },
+                method -> registerExpire(beanClass, method),
                 method -> method.isAnnotationPresent(CacheExpire.class)
         );
     }
 
+    /**
+     * 解析方法上的 {@code @CacheExpire} 注解，并登记缓存名称与过期时间的映射关系
+     *
+     * @param beanClass Bean 类
+     * @param method    带有 {@code @CacheExpire} 注解的方法
+     */
+    private void registerExpire(Class<?> beanClass, Method method) {
+        CacheExpire cacheExpire = method.getAnnotation(CacheExpire.class);
+        if (cacheExpire != null) {
+            List<String> cacheNames = DefaultCacheResolver.getCacheNames(beanClass, method);
+            Duration expireTime = Duration.of(
+                    cacheExpire.timeToLive(),
+                    cacheExpire.timeUnit().toChronoUnit()
+            );
+            cacheNames.forEach(cacheName -> expires.put(cacheName, expireTime));
+        }
+    }
+
 }
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.gls.athena.starter.data.redis.support.RedisObjectMapperCustomizer;
+import com.gls.athena.starter.json.support.JsonMapperRegistry;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -35,16 +36,19 @@ public class SessionConfig {
      * <p>
      * 使用Jackson ObjectMapper进行JSON序列化，支持自定义配置。
      * 该序列化器将被Spring Session用于在Redis中存储会话数据。
+     * 配置完成的ObjectMapper以缓存用途注册到注册表，参与启动预热。
      *
      * @param jackson2ObjectMapperBuilder  Jackson构建器
      * @param redisObjectMapperCustomizers 自定义配置器
+     * @param jsonMapperRegistry           ObjectMapper注册表
      * @return Redis JSON序列化器
      */
     @Bean(SPRING_SESSION_DEFAULT_REDIS_SERIALIZER)
     @ConditionalOnMissingBean
     public RedisSerializer<Object> jsonRedisSerializer(
             Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder,
-            ObjectProvider<RedisObjectMapperCustomizer> redisObjectMapperCustomizers) {
+            ObjectProvider<RedisObjectMapperCustomizer> redisObjectMapperCustomizers,
+            JsonMapperRegistry jsonMapperRegistry) {
 
         ObjectMapper objectMapper = jackson2ObjectMapperBuilder.build();
 
@@ -53,6 +57,7 @@ public class SessionConfig {
 
         // 配置序列化特性
         configureObjectMapper(objectMapper);
+        jsonMapperRegistry.register(JsonMapperRegistry.CACHE, objectMapper);
 
         return new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
     }
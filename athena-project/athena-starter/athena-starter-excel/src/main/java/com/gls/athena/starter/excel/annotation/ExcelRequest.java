@@ -19,6 +19,8 @@ import java.lang.annotation.*;
  *     // 处理导入的数据
  * }
  * </pre>
+ * 大文件导入可将参数声明为 {@link com.gls.athena.starter.excel.support.ExcelChunkReader}，按批次边读边处理；
+ * 多工作表导入可将参数声明为 Map&lt;String, List&lt;T&gt;&gt;，键为工作表名称。
  *
  * @author george
  * @since 1.0.0
@@ -73,4 +75,74 @@ public @interface ExcelRequest {
      * </p>
      */
     boolean allowEmptyResult() default false;
+
+    /**
+     * 每批行数
+     * <p>
+     * 仅在参数类型为 {@link com.gls.athena.starter.excel.support.ExcelChunkReader} 时生效，
+     * 每读取该行数即交给批次消费者处理
+     * </p>
+     */
+    int batchSize() default 1000;
+
+    /**
+     * 读取的工作表序号
+     * <p>
+     * 从0开始，未指定工作表名称时生效。同一请求中多个参数可分别读取不同的工作表
+     * </p>
+     */
+    int sheetNo() default 0;
+
+    /**
+     * 读取的工作表名称
+     * <p>
+     * 指定时优先于工作表序号
+     * </p>
+     */
+    String sheetName() default "";
+
+    /**
+     * 多工作表导入时读取的工作表名称
+     * <p>
+     * 仅在参数类型为 Map&lt;String, List&lt;T&gt;&gt; 时生效，为空时读取全部工作表
+     * </p>
+     */
+    String[] sheetNames() default {};
+
+    /**
+     * 保留的错误信息上限
+     * <p>
+     * 超出部分仅计入错误总数，小于0时使用全局配置 athena.excel.import-max-errors
+     * </p>
+     */
+    int maxErrors() default -1;
+
+    /**
+     * 是否快速失败
+     * <p>
+     * 设置为true时，错误总数超过上限即终止读取并抛出异常
+     * </p>
+     */
+    boolean failFast() default false;
+
+    /**
+     * 是否生成错误工作簿
+     * <p>
+     * 设置为true时，校验失败的原始行连同错误信息写入文件管理器中的错误工作簿，
+     * 文件路径通过 {@link com.gls.athena.starter.excel.support.ExcelImportSummary#getErrorFilePath()} 获取。
+     * 在参数类型为List或 {@link com.gls.athena.starter.excel.support.ExcelChunkReader} 时生效，
+     * 参数类型为Map时不支持，设置为true将抛出异常
+     * </p>
+     */
+    boolean errorWorkbook() default false;
+
+    /**
+     * 是否异步导入
+     * <p>
+     * 仅在参数类型为 {@link com.gls.athena.starter.excel.support.ExcelChunkReader} 时生效。
+     * 设置为true时上传文件保存到文件管理器，Controller方法在后台线程中执行并立即返回任务ID，
+     * 批次处理失败时任务失败，创建任务的用户携带 taskId 参数重新请求即可从已提交的最后一个批次之后继续导入
+     * </p>
+     */
+    boolean async() default false;
 }
@@ -0,0 +1,93 @@
+package com.gls.athena.starter.excel.async;
+
+import com.gls.athena.common.bean.result.Result;
+import com.gls.athena.starter.excel.support.ExcelChunkReader;
+import com.gls.athena.starter.excel.support.ExcelImportTask;
+import com.gls.athena.starter.web.util.WebUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Excel异步导入切面
+ * <p>
+ * 拦截带有 {@code @ExcelRequest(async = true)} 分批读取器参数的方法，创建或续传导入任务后立即返回任务ID，
+ * 然后在后台线程中执行Controller方法分批读取并处理数据。Controller方法在后台线程中执行，无法访问当前请求。
+ * </p>
+ *
+ * @author george
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ExcelImportAsyncAspect {
+
+    private final Executor executor;
+
+    /**
+     * 环绕通知方法，拦截带有@ExcelRequest注解参数的方法调用
+     *
+     * @param joinPoint 连接点对象，代表被拦截的方法
+     * @return 异步导入时返回null（表示响应已由本方法处理），否则返回原方法执行结果
+     * @throws Throwable 方法执行过程中可能抛出的异常
+     */
+    @Around("execution(* *(.., @com.gls.athena.starter.excel.annotation.ExcelRequest (*), ..))")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        ExcelImportTask task = findTask(joinPoint.getArgs());
+        if (task == null) {
+            return joinPoint.proceed();
+        }
+
+        task.start("Excel导入", task.getFilename());
+
+        // 提交异步任务
+        CompletableFuture.runAsync(() -> handleImportAsync(task, joinPoint), executor)
+                .exceptionally(throwable -> {
+                    task.fail(throwable);
+                    return null;
+                });
+
+        log.info("异步Excel导入任务已提交，任务ID: {}, 方法: {}", task.getTaskId(), joinPoint.getSignature().getName());
+
+        // 立即响应客户端任务ID
+        WebUtil.writeJson(Result.success("任务已提交，请稍后查看", task.getTaskId()));
+        return null;
+    }
+
+    /**
+     * 在后台线程中执行导入
+     *
+     * @param task      导入任务
+     * @param joinPoint 连接点对象
+     */
+    private void handleImportAsync(ExcelImportTask task, ProceedingJoinPoint joinPoint) {
+        try {
+            joinPoint.proceed();
+            task.complete();
+        } catch (Throwable e) {
+            task.fail(e);
+        }
+    }
+
+    /**
+     * 查找方法参数中的异步导入任务
+     *
+     * @param args 方法参数
+     * @return 异步导入任务，不存在时返回null
+     */
+    private ExcelImportTask findTask(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof ExcelChunkReader<?> reader && reader.getTask() != null) {
+                return reader.getTask();
+            }
+        }
+        return null;
+    }
+}
@@ -1,8 +1,10 @@
 package com.gls.athena.starter.excel.config;
 
+import com.gls.athena.starter.async.manager.IAsyncTaskManager;
 import com.gls.athena.starter.excel.generator.ExcelGenerator;
 import com.gls.athena.starter.excel.handler.ExcelRequestHandler;
 import com.gls.athena.starter.excel.handler.ExcelResponseHandler;
+import com.gls.athena.starter.file.manager.IFileManager;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Resource;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
@@ -14,6 +16,7 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Excel自动配置类
@@ -33,6 +36,14 @@ public class ExcelConfig {
     private RequestMappingHandlerAdapter handlerAdapter;
     @Resource
     private List<ExcelGenerator> excelGenerators;
+    @Resource
+    private ExcelProperties excelProperties;
+    @Resource
+    private Executor executor;
+    @Resource
+    private IFileManager fileManager;
+    @Resource
+    private IAsyncTaskManager<?> asyncTaskManager;
 
     /**
      * 初始化Excel处理器配置
@@ -63,7 +74,7 @@ public class ExcelConfig {
     private void initArgumentResolvers() {
         // 创建一个新的参数解析器列表，并添加默认的ExcelRequestHandler解析器
         List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>();
-        resolvers.add(new ExcelRequestHandler());
+        resolvers.add(new ExcelRequestHandler(executor, excelProperties, fileManager, asyncTaskManager));
 
         // 如果handlerAdapter中已经存在其他参数解析器，则将其添加到列表中
         if (handlerAdapter.getArgumentResolvers() != null) {
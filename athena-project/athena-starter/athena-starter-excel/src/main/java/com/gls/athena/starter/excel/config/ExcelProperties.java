@@ -5,6 +5,9 @@ import com.gls.athena.common.core.constant.IConstants;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 /**
  * Excel配置属性类，用于读取和管理Excel相关的配置信息。
@@ -22,6 +25,16 @@ public class ExcelProperties extends BaseProperties {
      */
     private String templatePath = "classpath:/templates/excel";
 
+    /**
+     * 是否缓存模板文件内容，模板最后修改时间变化时自动重新加载
+     */
+    private Boolean templateCache = true;
+
+    /**
+     * 模板缓存检查最后修改时间的间隔，仅对文件系统中的模板生效，jar包内的模板加载后不再检查
+     */
+    private Duration templateCacheCheckInterval = Duration.ofSeconds(5);
+
     /**
      * 异步导出文件存储目录
      */
@@ -42,4 +55,32 @@ public class ExcelProperties extends BaseProperties {
      */
     private Integer fileRetentionDays = 7;
 
+    /**
+     * 导入时保留的错误信息上限，超出部分仅计数，可通过 {@code @ExcelRequest(maxErrors)} 单独指定
+     */
+    private Integer importMaxErrors = 1000;
+
+    /**
+     * 多工作表导入时所有工作表合计的最大行数，超出时终止导入
+     */
+    private Long importMaxRows = 1_000_000L;
+
+    /**
+     * 多工作表导入时同时解析的工作表数
+     */
+    private Integer importSheetParallelism = 4;
+
+    /**
+     * 多工作表并行解析的内存预算
+     * <p>
+     * 并行解析时每个工作表各自解压整个文件并加载共享字符串表，按上传文件大小估算单个解析的占用，
+     * 同时解析的工作表数不超过预算除以文件大小，不足2个时改为一次顺序读取全部工作表。
+     */
+    private DataSize importSheetParallelMemory = DataSize.ofMegabytes(64);
+
+    /**
+     * 分页导出时默认的每页行数
+     */
+    private Integer exportPageSize = 1000;
+
 }
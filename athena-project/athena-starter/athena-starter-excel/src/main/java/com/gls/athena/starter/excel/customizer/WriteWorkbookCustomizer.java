@@ -7,7 +7,7 @@ import cn.idev.excel.write.metadata.WriteWorkbook;
 import com.gls.athena.common.core.constant.FileTypeEnums;
 import com.gls.athena.starter.excel.annotation.ExcelResponse;
 import com.gls.athena.starter.excel.config.ExcelProperties;
-import com.gls.athena.starter.file.util.FileUtil;
+import com.gls.athena.starter.excel.support.ExcelTemplateCache;
 import lombok.SneakyThrows;
 
 import java.io.OutputStream;
@@ -108,9 +108,9 @@ public class WriteWorkbookCustomizer extends BaseWriteCustomizer<WriteWorkbook>
             writeWorkbook.setWithBom(excelResponse.withBom());
         }
 
-        // 设置Excel模板文件路径（支持从classpath加载）
+        // 设置Excel模板文件（支持从classpath加载，模板内容按配置缓存）
         if (ObjUtil.isNotEmpty(excelResponse.template())) {
-            writeWorkbook.setTemplateInputStream(FileUtil.getInputStream(excelProperties.getTemplatePath(), excelResponse.template()));
+            writeWorkbook.setTemplateInputStream(ExcelTemplateCache.getInputStream(excelProperties, excelResponse.template()));
         }
 
         // 设置是否自动关闭流
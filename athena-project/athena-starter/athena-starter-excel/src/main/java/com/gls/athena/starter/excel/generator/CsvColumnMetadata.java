@@ -0,0 +1,260 @@
+package com.gls.athena.starter.excel.generator;
+
+import cn.hutool.core.util.StrUtil;
+import cn.idev.excel.annotation.ExcelIgnore;
+import cn.idev.excel.annotation.ExcelIgnoreUnannotated;
+import cn.idev.excel.annotation.ExcelProperty;
+import cn.idev.excel.annotation.format.DateTimeFormat;
+import cn.idev.excel.annotation.format.NumberFormat;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * CSV导出列元信息
+ * <p>
+ * 按 {@link ExcelProperty} 的表头、列索引和排序解析数据类的导出列，与XLSX导出的列顺序保持一致，
+ * 支持 {@link ExcelIgnore}、{@link ExcelIgnoreUnannotated}、{@link DateTimeFormat} 和 {@link NumberFormat}。
+ * 多级表头取最后一级作为列名。列索引不连续且没有未指定索引的列可填补时，与XLSX一样输出空列。
+ * 自定义转换器不参与CSV导出，字段值按格式注解或字符串形式输出。
+ * <p>
+ * 每个数据类只解析一次，字段读取使用方法句柄。
+ *
+ * @author george
+ */
+final class CsvColumnMetadata {
+
+    /**
+     * 统一的字段读取句柄类型：(Object target) -> Object
+     */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * 日期时间默认格式
+     */
+    private static final DateTimeFormatter DEFAULT_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * 日期默认格式
+     */
+    private static final DateTimeFormatter DEFAULT_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    /**
+     * 按数据类缓存的元信息
+     */
+    private static final ClassValue<CsvColumnMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected CsvColumnMetadata computeValue(Class<?> type) {
+            return new CsvColumnMetadata(type);
+        }
+    };
+
+    /**
+     * 导出列
+     */
+    private final List<Column> columns;
+
+    private CsvColumnMetadata(Class<?> type) {
+        boolean ignoreUnannotated = type.isAnnotationPresent(ExcelIgnoreUnannotated.class);
+        TreeMap<Integer, Field> indexed = new TreeMap<>();
+        List<Field> ordered = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                ExcelProperty property = field.getAnnotation(ExcelProperty.class);
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())
+                        || field.isAnnotationPresent(ExcelIgnore.class) || (ignoreUnannotated && property == null)) {
+                    continue;
+                }
+                if (property != null && property.index() >= 0) {
+                    indexed.putIfAbsent(property.index(), field);
+                } else {
+                    ordered.add(field);
+                }
+            }
+        }
+        // 未指定索引的列按order排序，order相同时保持声明顺序
+        ordered.sort(Comparator.comparingInt(CsvColumnMetadata::order));
+        List<Column> result = new ArrayList<>(indexed.size() + ordered.size());
+        int next = 0;
+        while (!indexed.isEmpty() || next < ordered.size()) {
+            Map.Entry<Integer, Field> first = indexed.firstEntry();
+            if (first != null && first.getKey() <= result.size()) {
+                result.add(new Column(indexed.pollFirstEntry().getValue()));
+            } else if (next >= ordered.size()) {
+                // 未指定索引的列已用完，索引之间的空缺输出空列
+                result.add(Column.EMPTY);
+            } else {
+                result.add(new Column(ordered.get(next++)));
+            }
+        }
+        this.columns = List.copyOf(result);
+    }
+
+    /**
+     * 获取数据类的列元信息
+     *
+     * @param type 数据类
+     * @return 列元信息
+     */
+    static CsvColumnMetadata of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * 获取导出列
+     *
+     * @return 导出列
+     */
+    List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * 获取列排序值
+     *
+     * @param field 字段
+     * @return 排序值
+     */
+    private static int order(Field field) {
+        ExcelProperty property = field.getAnnotation(ExcelProperty.class);
+        return property == null ? Integer.MAX_VALUE : property.order();
+    }
+
+    /**
+     * 导出列
+     */
+    static final class Column {
+
+        /**
+         * 索引空缺处的空列
+         */
+        static final Column EMPTY = new Column();
+
+        /**
+         * 列名，空列为null
+         */
+        private final String head;
+
+        /**
+         * 字段读取句柄，空列为null
+         */
+        private final MethodHandle getter;
+
+        /**
+         * 日期格式，未配置时为null
+         */
+        private final DateTimeFormatter dateTimeFormatter;
+
+        /**
+         * 数字格式，未配置时为null
+         */
+        private final String numberPattern;
+
+        private Column() {
+            this.head = null;
+            this.getter = null;
+            this.dateTimeFormatter = null;
+            this.numberPattern = null;
+        }
+
+        private Column(Field field) {
+            ExcelProperty property = field.getAnnotation(ExcelProperty.class);
+            String name = field.getName();
+            if (property != null) {
+                for (String value : property.value()) {
+                    if (StrUtil.isNotBlank(value)) {
+                        name = value;
+                    }
+                }
+            }
+            this.head = name;
+            DateTimeFormat dateTimeFormat = field.getAnnotation(DateTimeFormat.class);
+            this.dateTimeFormatter = dateTimeFormat == null || StrUtil.isBlank(dateTimeFormat.value())
+                    ? null : DateTimeFormatter.ofPattern(dateTimeFormat.value());
+            NumberFormat numberFormat = field.getAnnotation(NumberFormat.class);
+            this.numberPattern = numberFormat == null || StrUtil.isBlank(numberFormat.value()) ? null : numberFormat.value();
+            try {
+                field.setAccessible(true);
+                this.getter = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("无法读取导出字段: " + field.getDeclaringClass().getName() + "." + name, e);
+            }
+        }
+
+        /**
+         * 获取列名
+         *
+         * @return 列名，空列返回null
+         */
+        String getHead() {
+            return head;
+        }
+
+        /**
+         * 创建数字格式化器，DecimalFormat非线程安全，每次导出单独创建
+         *
+         * @return 数字格式化器，未配置数字格式时返回null
+         */
+        DecimalFormat newNumberFormat() {
+            return numberPattern == null ? null : new DecimalFormat(numberPattern);
+        }
+
+        /**
+         * 读取并格式化字段值
+         *
+         * @param data         数据对象
+         * @param numberFormat 数字格式化器，可为null
+         * @return 格式化后的字段值，空列返回null
+         */
+        String format(Object data, DecimalFormat numberFormat) {
+            if (getter == null) {
+                return null;
+            }
+            Object value;
+            try {
+                value = getter.invokeExact(data);
+            } catch (Throwable e) {
+                throw new IllegalStateException("读取导出字段失败: " + head, e);
+            }
+            return switch (value) {
+                case null -> null;
+                case String string -> string;
+                case Number number when numberFormat != null -> numberFormat.format(number);
+                case BigDecimal decimal -> decimal.toPlainString();
+                case Date date -> formatTemporal(LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault()),
+                        DEFAULT_DATE_TIME_FORMATTER);
+                case LocalDateTime dateTime -> formatTemporal(dateTime, DEFAULT_DATE_TIME_FORMATTER);
+                case LocalDate date -> formatTemporal(date, DEFAULT_DATE_FORMATTER);
+                default -> value.toString();
+            };
+        }
+
+        /**
+         * 格式化日期
+         *
+         * @param temporal         日期
+         * @param defaultFormatter 未配置日期格式时使用的默认格式
+         * @return 格式化后的日期
+         */
+        private String formatTemporal(TemporalAccessor temporal, DateTimeFormatter defaultFormatter) {
+            return (dateTimeFormatter != null ? dateTimeFormatter : defaultFormatter).format(temporal);
+        }
+    }
+}
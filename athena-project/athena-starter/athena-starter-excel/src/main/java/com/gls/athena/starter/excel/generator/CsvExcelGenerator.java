@@ -0,0 +1,164 @@
+package com.gls.athena.starter.excel.generator;
+
+import cn.hutool.core.util.StrUtil;
+import com.gls.athena.common.core.constant.FileTypeEnums;
+import com.gls.athena.starter.excel.annotation.ExcelResponse;
+import com.gls.athena.starter.excel.annotation.ExcelSheet;
+import com.gls.athena.starter.excel.config.ExcelProperties;
+import com.gls.athena.starter.excel.support.CsvWriter;
+import com.gls.athena.starter.excel.support.ExcelDataUtil;
+import com.gls.athena.starter.excel.support.ExcelPagedData;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.util.List;
+
+/**
+ * CSV生成器实现类
+ * <p>
+ * 文件类型为CSV时使用，按 {@code @ExcelProperty} 的表头和列顺序直接将数据逐行写入输出流，不创建工作簿模型。
+ * CSV只有一个工作表，配置多个工作表时拒绝导出。数据为 {@link ExcelPagedData} 时逐页拉取写入。
+ *
+ * @author george
+ */
+@Slf4j
+@Component
+public class CsvExcelGenerator implements ExcelGenerator {
+    @Resource
+    private ExcelProperties excelProperties;
+
+    /**
+     * 生成CSV文件
+     *
+     * @param data          导出的数据
+     * @param excelResponse Excel响应注解信息
+     * @param outputStream  输出流，用于写入CSV文件
+     * @throws Exception                可能抛出的异常
+     * @throws IllegalArgumentException 配置了多个工作表时抛出
+     */
+    @Override
+    public void generate(Object data, ExcelResponse excelResponse, OutputStream outputStream) throws Exception {
+        List<ExcelSheet> sheets = ExcelDataUtil.getValidatedSheets(excelResponse);
+        if (sheets.size() > 1) {
+            throw new IllegalArgumentException("CSV只支持单个工作表，当前配置了" + sheets.size() + "个工作表: " + excelResponse.filename());
+        }
+        Object sheetData = ExcelDataUtil.getDataAtIndex(data, sheets, sheets.getFirst().sheetNo());
+        Charset charset = StrUtil.isNotEmpty(excelResponse.charset())
+                ? Charset.forName(excelResponse.charset()) : StandardCharsets.UTF_8;
+        try {
+            CsvWriter csvWriter = new CsvWriter(outputStream, charset, excelResponse.withBom());
+            if (sheetData instanceof ExcelPagedData<?> pagedData) {
+                writePagedData(pagedData, csvWriter);
+            } else {
+                writeList(ExcelDataUtil.normalizeToList(sheetData), csvWriter);
+            }
+            if (excelResponse.autoCloseStream()) {
+                csvWriter.close();
+            } else {
+                csvWriter.flush();
+            }
+        } catch (Exception e) {
+            log.error("CSV导出失败: {}", e.getMessage(), e);
+            throw new RuntimeException("CSV导出失败", e);
+        }
+    }
+
+    /**
+     * 写入数据列表
+     *
+     * @param dataList  数据列表
+     * @param csvWriter CSV写入器
+     * @throws IOException 写入异常
+     */
+    private void writeList(List<?> dataList, CsvWriter csvWriter) throws IOException {
+        if (dataList.isEmpty()) {
+            throw new IllegalArgumentException("数据列表不能为空");
+        }
+        Object first = dataList.getFirst();
+        if (first == null) {
+            throw new IllegalArgumentException("数据列表元素类型不一致或包含null元素");
+        }
+        CsvColumnMetadata metadata = CsvColumnMetadata.of(first.getClass());
+        DecimalFormat[] numberFormats = writeHead(metadata, csvWriter);
+        writeRows(dataList, metadata, numberFormats, csvWriter);
+    }
+
+    /**
+     * 逐页拉取并写入分页数据
+     *
+     * @param pagedData 分页数据
+     * @param csvWriter CSV写入器
+     * @throws IOException 写入异常
+     */
+    private void writePagedData(ExcelPagedData<?> pagedData, CsvWriter csvWriter) throws IOException {
+        try (pagedData) {
+            CsvColumnMetadata metadata = CsvColumnMetadata.of(pagedData.getType());
+            DecimalFormat[] numberFormats = writeHead(metadata, csvWriter);
+            int pageSize = excelProperties.getExportPageSize();
+            List<?> page;
+            while (!(page = pagedData.nextPage(pageSize)).isEmpty()) {
+                writeRows(page, metadata, numberFormats, csvWriter);
+            }
+        }
+    }
+
+    /**
+     * 写入表头
+     *
+     * @param metadata  列元信息
+     * @param csvWriter CSV写入器
+     * @return 与列对应的数字格式化器
+     * @throws IOException 写入异常
+     */
+    private DecimalFormat[] writeHead(CsvColumnMetadata metadata, CsvWriter csvWriter) throws IOException {
+        List<CsvColumnMetadata.Column> columns = metadata.getColumns();
+        DecimalFormat[] numberFormats = new DecimalFormat[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            csvWriter.writeField(columns.get(i).getHead());
+            numberFormats[i] = columns.get(i).newNumberFormat();
+        }
+        csvWriter.endRow();
+        return numberFormats;
+    }
+
+    /**
+     * 写入数据行
+     *
+     * @param rows          数据行
+     * @param metadata      列元信息
+     * @param numberFormats 与列对应的数字格式化器
+     * @param csvWriter     CSV写入器
+     * @throws IOException 写入异常
+     */
+    private void writeRows(List<?> rows, CsvColumnMetadata metadata, DecimalFormat[] numberFormats, CsvWriter csvWriter) throws IOException {
+        List<CsvColumnMetadata.Column> columns = metadata.getColumns();
+        for (Object row : rows) {
+            if (row == null) {
+                throw new IllegalArgumentException("数据列表元素类型不一致或包含null元素");
+            }
+            for (int i = 0; i < columns.size(); i++) {
+                csvWriter.writeField(columns.get(i).format(row, numberFormats[i]));
+            }
+            csvWriter.endRow();
+        }
+    }
+
+    /**
+     * 判断当前生成器是否支持指定的Excel响应配置
+     *
+     * @param excelResponse Excel响应注解信息
+     * @return 文件类型为CSV且未指定模板和生成器时返回true
+     */
+    @Override
+    public boolean supports(ExcelResponse excelResponse) {
+        return excelResponse.fileType() == FileTypeEnums.CSV
+                && StrUtil.isBlank(excelResponse.template())
+                && excelResponse.generator() == ExcelGenerator.class;
+    }
+}
@@ -1,9 +1,11 @@
 package com.gls.athena.starter.excel.generator;
 
+import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.idev.excel.ExcelWriter;
 import cn.idev.excel.write.metadata.WriteSheet;
 import cn.idev.excel.write.metadata.WriteTable;
+import com.gls.athena.common.core.constant.FileTypeEnums;
 import com.gls.athena.starter.excel.annotation.ExcelResponse;
 import com.gls.athena.starter.excel.annotation.ExcelSheet;
 import com.gls.athena.starter.excel.config.ExcelProperties;
@@ -11,16 +13,21 @@ import com.gls.athena.starter.excel.customizer.WriteSheetCustomizer;
 import com.gls.athena.starter.excel.customizer.WriteTableCustomizer;
 import com.gls.athena.starter.excel.customizer.WriteWorkbookCustomizer;
 import com.gls.athena.starter.excel.support.ExcelDataUtil;
+import com.gls.athena.starter.excel.support.ExcelPagedData;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.springframework.stereotype.Component;
 
 import java.io.OutputStream;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 默认的Excel生成器实现类
- * 负责将数据导出为Excel文件
+ * 负责将数据导出为Excel文件，数据为 {@link ExcelPagedData} 时逐页拉取写入
  *
  * @author george
  */
@@ -43,8 +50,10 @@ public class DefaultExcelGenerator implements ExcelGenerator {
         try (ExcelWriter excelWriter = WriteWorkbookCustomizer.getExcelWriter(excelResponse, outputStream, excelProperties)) {
             // 获取并验证工作表配置
             List<ExcelSheet> sheets = ExcelDataUtil.getValidatedSheets(excelResponse);
+            // 拆分工作表的序号从已配置的最大序号之后开始分配
+            AtomicInteger sheetNoSequence = new AtomicInteger(sheets.stream().mapToInt(ExcelSheet::sheetNo).max().orElse(0) + 1);
             // 直接写入数据方式
-            writeDataExcel(data, excelWriter, sheets);
+            writeDataExcel(data, excelWriter, sheets, sheetNoSequence);
         } catch (Exception e) {
             log.error("Excel导出失败: {}", e.getMessage(), e);
             throw new RuntimeException("Excel导出失败", e);
@@ -54,11 +63,12 @@ public class DefaultExcelGenerator implements ExcelGenerator {
     /**
      * 将数据写入Excel
      *
-     * @param data        导出的数据
-     * @param excelWriter Excel写入器
-     * @param sheets      工作表配置列表
+     * @param data            导出的数据
+     * @param excelWriter     Excel写入器
+     * @param sheets          工作表配置列表
+     * @param sheetNoSequence 拆分工作表序号
      */
-    private void writeDataExcel(Object data, ExcelWriter excelWriter, List<ExcelSheet> sheets) {
+    private void writeDataExcel(Object data, ExcelWriter excelWriter, List<ExcelSheet> sheets, AtomicInteger sheetNoSequence) {
         for (ExcelSheet sheet : sheets) {
             // 根据工作表索引获取对应的数据
             Object sheetData = ExcelDataUtil.getDataAtIndex(data, sheets, sheet.sheetNo());
@@ -67,12 +77,12 @@ public class DefaultExcelGenerator implements ExcelGenerator {
 
             if (writeTables.isEmpty()) {
                 // 没有配置表格，直接写入工作表
-                writeDataToSheet(sheetData, excelWriter, writeSheet, null);
+                writeDataToSheet(sheetData, excelWriter, writeSheet, null, sheetNoSequence);
             } else {
                 // 有配置表格，按表格分别写入数据
                 for (WriteTable writeTable : writeTables) {
                     Object tableData = ExcelDataUtil.getDataAtIndex(sheetData, writeTables, writeTable.getTableNo());
-                    writeDataToSheet(tableData, excelWriter, writeSheet, writeTable);
+                    writeDataToSheet(tableData, excelWriter, writeSheet, writeTable, sheetNoSequence);
                 }
             }
         }
@@ -81,12 +91,20 @@ public class DefaultExcelGenerator implements ExcelGenerator {
     /**
      * 将数据写入指定的工作表或表格
      *
-     * @param data        导出的数据
-     * @param excelWriter Excel写入器
-     * @param writeSheet  工作表配置
-     * @param writeTable  表格配置，如果没有表格配置则为null
+     * @param data            导出的数据
+     * @param excelWriter     Excel写入器
+     * @param writeSheet      工作表配置
+     * @param writeTable      表格配置，如果没有表格配置则为null
+     * @param sheetNoSequence 拆分工作表序号
      */
-    private void writeDataToSheet(Object data, ExcelWriter excelWriter, WriteSheet writeSheet, WriteTable writeTable) {
+    private void writeDataToSheet(Object data, ExcelWriter excelWriter, WriteSheet writeSheet, WriteTable writeTable,
+                                  AtomicInteger sheetNoSequence) {
+        // 分页数据逐页拉取写入
+        if (data instanceof ExcelPagedData<?> pagedData) {
+            writePagedData(pagedData, excelWriter, writeSheet, writeTable, sheetNoSequence);
+            return;
+        }
+
         // 标准化数据为List格式
         List<?> dataList = ExcelDataUtil.normalizeToList(data);
         if (dataList.isEmpty()) {
@@ -111,6 +129,117 @@ public class DefaultExcelGenerator implements ExcelGenerator {
         }
     }
 
+    /**
+     * 逐页拉取并写入分页数据
+     * <p>
+     * 内存中只保留当前页，已写入的行由SXSSF按行窗口刷写到临时文件（未开启内存模式时）。
+     * 工作表行数达到文件格式上限时，剩余数据写入新建的工作表，名称为原工作表名称加序号。
+     *
+     * @param pagedData       分页数据
+     * @param excelWriter     Excel写入器
+     * @param writeSheet      工作表配置
+     * @param writeTable      表格配置，如果没有表格配置则为null
+     * @param sheetNoSequence 拆分工作表序号
+     */
+    private void writePagedData(ExcelPagedData<?> pagedData, ExcelWriter excelWriter, WriteSheet writeSheet, WriteTable writeTable,
+                                AtomicInteger sheetNoSequence) {
+        try (pagedData) {
+            if (writeTable != null) {
+                writeTable.setClazz(pagedData.getType());
+            } else {
+                writeSheet.setClazz(pagedData.getType());
+            }
+            int maxRows = getMaxRows(excelWriter);
+            int pageSize = excelProperties.getExportPageSize();
+            WriteSheet currentSheet = writeSheet;
+            int part = 1;
+            // 写入表头后计算当前工作表剩余可写行数
+            long remaining = initSheet(excelWriter, currentSheet, writeTable, maxRows);
+            long rows = 0;
+            List<?> page;
+            while (!(page = pagedData.nextPage(pageSize)).isEmpty()) {
+                int offset = 0;
+                while (offset < page.size()) {
+                    if (remaining <= 0) {
+                        currentSheet = splitSheet(writeSheet, ++part, sheetNoSequence.getAndIncrement());
+                        remaining = initSheet(excelWriter, currentSheet, writeTable, maxRows);
+                    }
+                    int end = offset + (int) Math.min(page.size() - offset, remaining);
+                    write(excelWriter, page.subList(offset, end), currentSheet, writeTable);
+                    remaining -= end - offset;
+                    offset = end;
+                }
+                rows += page.size();
+            }
+            log.debug("Excel分页导出完成, 共{}行, {}个工作表", rows, part);
+        }
+    }
+
+    /**
+     * 初始化工作表并写入表头
+     *
+     * @param excelWriter Excel写入器
+     * @param writeSheet  工作表配置
+     * @param writeTable  表格配置，如果没有表格配置则为null
+     * @param maxRows     工作表最大行数
+     * @return 工作表剩余可写行数
+     */
+    private long initSheet(ExcelWriter excelWriter, WriteSheet writeSheet, WriteTable writeTable, int maxRows) {
+        write(excelWriter, Collections.emptyList(), writeSheet, writeTable);
+        if (maxRows == Integer.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        Sheet sheet = excelWriter.writeContext().writeSheetHolder().getSheet();
+        return maxRows - (sheet.getLastRowNum() + 1L);
+    }
+
+    /**
+     * 创建拆分的工作表配置，沿用原工作表的写入配置
+     *
+     * @param writeSheet 原工作表配置
+     * @param part       拆分序号，从2开始
+     * @param sheetNo    拆分工作表序号
+     * @return 拆分的工作表配置
+     */
+    private WriteSheet splitSheet(WriteSheet writeSheet, int part, int sheetNo) {
+        WriteSheet split = new WriteSheet();
+        BeanUtil.copyProperties(writeSheet, split);
+        String sheetName = StrUtil.blankToDefault(writeSheet.getSheetName(), "Sheet" + (writeSheet.getSheetNo() + 1));
+        split.setSheetNo(sheetNo);
+        split.setSheetName(sheetName + "_" + part);
+        return split;
+    }
+
+    /**
+     * 获取文件格式的工作表最大行数
+     *
+     * @param excelWriter Excel写入器
+     * @return 工作表最大行数，CSV不限制
+     */
+    private int getMaxRows(ExcelWriter excelWriter) {
+        return switch (excelWriter.writeContext().writeWorkbookHolder().getExcelType()) {
+            case XLS -> SpreadsheetVersion.EXCEL97.getMaxRows();
+            case CSV -> Integer.MAX_VALUE;
+            default -> SpreadsheetVersion.EXCEL2007.getMaxRows();
+        };
+    }
+
+    /**
+     * 写入数据到工作表或表格
+     *
+     * @param excelWriter Excel写入器
+     * @param data        数据
+     * @param writeSheet  工作表配置
+     * @param writeTable  表格配置，如果没有表格配置则为null
+     */
+    private void write(ExcelWriter excelWriter, List<?> data, WriteSheet writeSheet, WriteTable writeTable) {
+        if (writeTable != null) {
+            excelWriter.write(data, writeSheet, writeTable);
+        } else {
+            excelWriter.write(data, writeSheet);
+        }
+    }
+
     /**
      * 判断当前生成器是否支持指定的Excel响应配置
      *
@@ -120,6 +249,7 @@ public class DefaultExcelGenerator implements ExcelGenerator {
     @Override
     public boolean supports(ExcelResponse excelResponse) {
         return StrUtil.isBlank(excelResponse.template())
+                && excelResponse.fileType() != FileTypeEnums.CSV
                 && excelResponse.generator() == ExcelGenerator.class;
     }
 }
@@ -0,0 +1,137 @@
+package com.gls.athena.starter.excel.generator;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 模板填充数据访问器
+ * <p>
+ * 每个数据类只解析一次可读属性，属性读取转换为方法句柄，填充时直接按属性读取值，
+ * 代替每次导出通过 {@code BeanUtil.beanToMap} 反射复制整个对象。
+ *
+ * @author george
+ */
+@Slf4j
+final class FillDataAccessor {
+
+    /**
+     * 统一的属性读取句柄类型：(Object target) -> Object
+     */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * 按数据类缓存的访问器
+     */
+    private static final ClassValue<FillDataAccessor> CACHE = new ClassValue<>() {
+        @Override
+        protected FillDataAccessor computeValue(Class<?> type) {
+            return new FillDataAccessor(type);
+        }
+    };
+
+    /**
+     * 可读属性
+     */
+    private final List<Property> properties = new ArrayList<>();
+
+    private FillDataAccessor(Class<?> type) {
+        for (PropDesc prop : BeanUtil.getBeanDesc(type).getProps()) {
+            if (prop.isReadable(true)) {
+                properties.add(new Property(prop, getter(prop)));
+            }
+        }
+    }
+
+    /**
+     * 获取数据对象的属性值
+     *
+     * @param data 数据对象
+     * @return 属性名与属性值，数据对象为Map时直接返回
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> toMap(Object data) {
+        if (data instanceof Map<?, ?> map) {
+            return (Map<String, Object>) map;
+        }
+        if (data == null) {
+            return Map.of();
+        }
+        FillDataAccessor accessor = CACHE.get(data.getClass());
+        Map<String, Object> result = new LinkedHashMap<>(accessor.properties.size() * 4 / 3 + 1);
+        for (Property property : accessor.properties) {
+            result.put(property.name, property.get(data));
+        }
+        return result;
+    }
+
+    /**
+     * 创建属性读取句柄
+     *
+     * @param prop 属性描述
+     * @return 读取句柄，无法创建时返回null
+     */
+    private static MethodHandle getter(PropDesc prop) {
+        try {
+            Method method = prop.getGetter();
+            if (method != null) {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+            }
+            return MethodHandles.lookup().unreflectGetter(prop.getField()).asType(GETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.debug("创建属性读取句柄失败，使用反射读取: {}", prop.getFieldName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 可读属性
+     */
+    private static final class Property {
+        /**
+         * 属性名
+         */
+        private final String name;
+        /**
+         * 属性描述，读取句柄为null时使用
+         */
+        private final PropDesc prop;
+        /**
+         * 读取句柄
+         */
+        private final MethodHandle getter;
+
+        private Property(PropDesc prop, MethodHandle getter) {
+            this.name = prop.getFieldName();
+            this.prop = prop;
+            this.getter = getter;
+        }
+
+        /**
+         * 读取属性值
+         *
+         * @param data 数据对象
+         * @return 属性值
+         */
+        private Object get(Object data) {
+            if (getter == null) {
+                return prop.getValue(data);
+            }
+            try {
+                return getter.invokeExact(data);
+            } catch (Throwable e) {
+                throw new IllegalStateException("读取填充数据属性失败: " + name, e);
+            }
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.gls.athena.starter.excel.generator;
 
-import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.idev.excel.ExcelWriter;
 import cn.idev.excel.write.metadata.WriteSheet;
@@ -12,6 +11,7 @@ import com.gls.athena.starter.excel.config.ExcelProperties;
 import com.gls.athena.starter.excel.customizer.WriteSheetCustomizer;
 import com.gls.athena.starter.excel.customizer.WriteWorkbookCustomizer;
 import com.gls.athena.starter.excel.support.ExcelDataUtil;
+import com.gls.athena.starter.excel.support.ExcelPagedData;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -24,6 +24,12 @@ import java.util.Map;
 
 /**
  * 实现Excel生成器接口，使用模板方式生成Excel
+ * <p>
+ * 模板内容按配置缓存，对象数据通过缓存的属性访问器读取，大集合和分页数据分批填充。
+ * <p>
+ * 单批即可填完的集合强制插入新行，列表下方的模板内容随之下移；分批填充时不插入新行，
+ * 已填充的行可按行窗口刷写到临时文件，内存占用与行数无关，但列表下方的模板内容会被覆盖，
+ * 因此大集合和分页数据对应的列表须位于工作表末尾。
  *
  * @author george
  */
@@ -34,6 +40,11 @@ public class TemplateExcelGenerator implements ExcelGenerator {
      * 默认的填充配置，强制插入新行
      */
     private static final FillConfig DEFAULT_FILL_CONFIG = FillConfig.builder().forceNewRow(true).build();
+
+    /**
+     * 分批填充配置，不插入新行，强制插入新行会使整个工作表保留在内存中
+     */
+    private static final FillConfig PAGED_FILL_CONFIG = FillConfig.builder().forceNewRow(false).build();
     @Resource
     private ExcelProperties excelProperties;
 
@@ -73,20 +84,20 @@ public class TemplateExcelGenerator implements ExcelGenerator {
             Object sheetData = ExcelDataUtil.getDataAtIndex(data, sheets, sheet.sheetNo());
             WriteSheet writeSheet = WriteSheetCustomizer.getWriteSheet(sheet);
 
-            // 如果数据是集合类型，直接填充
-            if (sheetData instanceof Collection) {
-                excelWriter.fill(sheetData, DEFAULT_FILL_CONFIG, writeSheet);
+            // 如果数据是集合或分页数据，直接填充
+            if (sheetData instanceof Collection || sheetData instanceof ExcelPagedData) {
+                fillCollection(null, sheetData, excelWriter, writeSheet);
                 continue;
             }
 
-            // 处理复杂对象填充：将对象转换为Map并分别处理简单数据和集合数据
-            Map<String, Object> dataMap = BeanUtil.beanToMap(sheetData);
+            // 处理复杂对象填充：按缓存的属性访问器读取对象，并分别处理简单数据和集合数据
+            Map<String, Object> dataMap = FillDataAccessor.toMap(sheetData);
             Map<String, Object> simpleData = new HashMap<>();
 
             dataMap.forEach((key, value) -> {
-                if (value instanceof Collection<?> collection) {
+                if (value instanceof Collection || value instanceof ExcelPagedData) {
                     // 集合数据使用FillWrapper包装后填充
-                    excelWriter.fill(new FillWrapper(key, collection), DEFAULT_FILL_CONFIG, writeSheet);
+                    fillCollection(key, value, excelWriter, writeSheet);
                 } else {
                     // 简单数据暂存，稍后一次性填充
                     simpleData.put(key, value);
@@ -100,6 +111,51 @@ public class TemplateExcelGenerator implements ExcelGenerator {
         }
     }
 
+    /**
+     * 分批填充集合数据
+     * <p>
+     * 集合超过每页行数时按页多次填充同一列表，分页数据逐页拉取后填充，数据源无需一次性加载到内存。
+     * 分批填充不插入新行，使已填充的行可以刷写到临时文件。
+     *
+     * @param name        列表名称，为null时填充模板中未命名的列表
+     * @param data        集合或分页数据
+     * @param excelWriter ExcelWriter对象，用于写入Excel
+     * @param writeSheet  工作表配置
+     */
+    private void fillCollection(String name, Object data, ExcelWriter excelWriter, WriteSheet writeSheet) {
+        int pageSize = excelProperties.getExportPageSize();
+        if (data instanceof ExcelPagedData<?> pagedData) {
+            try (pagedData) {
+                List<?> page;
+                while (!(page = pagedData.nextPage(pageSize)).isEmpty()) {
+                    fill(name, page, PAGED_FILL_CONFIG, excelWriter, writeSheet);
+                }
+            }
+            return;
+        }
+        Collection<?> collection = (Collection<?>) data;
+        if (collection.size() <= pageSize || !(collection instanceof List<?> list)) {
+            fill(name, collection, DEFAULT_FILL_CONFIG, excelWriter, writeSheet);
+            return;
+        }
+        for (int start = 0; start < list.size(); start += pageSize) {
+            fill(name, list.subList(start, Math.min(list.size(), start + pageSize)), PAGED_FILL_CONFIG, excelWriter, writeSheet);
+        }
+    }
+
+    /**
+     * 填充一批集合数据
+     *
+     * @param name        列表名称，为null时填充模板中未命名的列表
+     * @param data        集合数据
+     * @param fillConfig  填充配置
+     * @param excelWriter ExcelWriter对象，用于写入Excel
+     * @param writeSheet  工作表配置
+     */
+    private void fill(String name, Collection<?> data, FillConfig fillConfig, ExcelWriter excelWriter, WriteSheet writeSheet) {
+        excelWriter.fill(name == null ? data : new FillWrapper(name, data), fillConfig, writeSheet);
+    }
+
     /**
      * 判断当前生成器是否支持指定的Excel导出响应配置
      *
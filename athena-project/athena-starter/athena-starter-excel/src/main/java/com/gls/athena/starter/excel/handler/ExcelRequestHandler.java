@@ -1,11 +1,27 @@
 package com.gls.athena.starter.excel.handler;
 
 import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.file.FileNameUtil;
+import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.StrUtil;
 import cn.idev.excel.FastExcel;
+import cn.idev.excel.read.builder.ExcelReaderBuilder;
+import com.gls.athena.starter.async.manager.IAsyncTaskManager;
 import com.gls.athena.starter.excel.annotation.ExcelRequest;
+import com.gls.athena.starter.excel.config.ExcelProperties;
 import com.gls.athena.starter.excel.exception.ExcelParseException;
+import com.gls.athena.starter.excel.listener.DefaultReadListener;
 import com.gls.athena.starter.excel.listener.IReadListener;
+import com.gls.athena.starter.excel.support.ExcelChunkReader;
+import com.gls.athena.starter.excel.support.ExcelDataUtil;
+import com.gls.athena.starter.excel.support.ExcelErrorMessage;
+import com.gls.athena.starter.excel.support.ExcelErrorWorkbook;
+import com.gls.athena.starter.excel.support.ExcelImportSummary;
+import com.gls.athena.starter.excel.support.ExcelImportTask;
+import com.gls.athena.starter.excel.support.ExcelMultiSheetReader;
+import com.gls.athena.starter.file.manager.IFileManager;
 import com.gls.athena.starter.web.util.WebUtil;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
 import org.springframework.core.MethodParameter;
@@ -14,12 +30,17 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Excel文件上传请求参数解析器
@@ -31,14 +52,39 @@ import java.util.List;
  *   <li>将Excel数据转换为Java对象列表</li>
  *   <li>处理解析过程中的错误和验证</li>
  *   <li>支持自定义读取监听器</li>
+ *   <li>参数类型为 {@link ExcelChunkReader} 时延迟到Controller中分批读取</li>
+ *   <li>参数类型为 Map 时读取多个工作表</li>
+ *   <li>按配置限制保留的错误信息数量，可快速失败或将错误行写入错误工作簿</li>
+ *   <li>异步分批导入时保存上传文件或按任务ID续传</li>
  * </ul>
  *
  * @author Athena Framework
  * @since 1.0.0
  */
 @Slf4j
+@RequiredArgsConstructor
 public class ExcelRequestHandler implements HandlerMethodArgumentResolver {
 
+    /**
+     * 分批导入时批次并行处理的线程池
+     */
+    private final Executor executor;
+
+    /**
+     * Excel配置属性
+     */
+    private final ExcelProperties excelProperties;
+
+    /**
+     * 文件管理器，用于保存错误工作簿
+     */
+    private final IFileManager fileManager;
+
+    /**
+     * 异步任务管理器，用于异步导入
+     */
+    private final IAsyncTaskManager<?> asyncTaskManager;
+
     /**
      * 判断是否支持解析指定的方法参数
      *
@@ -75,9 +121,23 @@ public class ExcelRequestHandler implements HandlerMethodArgumentResolver {
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        // 分批读取器由Controller触发读取
+        if (ExcelChunkReader.class.equals(parameter.getParameterType())) {
+            return createChunkReader(parameter, webRequest);
+        }
+
+        if (parameter.getParameterAnnotation(ExcelRequest.class).async()) {
+            throw new ExcelParseException("异步导入参数类型必须是ExcelChunkReader");
+        }
+
+        // 多工作表导入
+        if (Map.class.equals(parameter.getParameterType())) {
+            return resolveSheets(parameter, webRequest, binderFactory, mavContainer);
+        }
+
         // 验证参数类型必须是List
         if (!List.class.isAssignableFrom(parameter.getParameterType())) {
-            throw new ExcelParseException("参数类型必须是List");
+            throw new ExcelParseException("参数类型必须是List或Map");
         }
 
         // 获取@ExcelRequest注解配置
@@ -90,36 +150,49 @@ public class ExcelRequestHandler implements HandlerMethodArgumentResolver {
             throw new ExcelParseException("无法确定List的泛型类型");
         }
 
+        // 获取上传的Excel文件
+        MultipartFile file = WebUtil.getMultipartFile(webRequest, excelRequest.filename());
+        ExcelErrorWorkbook errorWorkbook = excelRequest.errorWorkbook()
+                ? new ExcelErrorWorkbook(fileManager, FileNameUtil.mainName(file.getOriginalFilename()) + "_错误数据") : null;
         try {
             // 创建读取监听器实例，用于处理Excel读取过程中的数据和错误
             IReadListener<?> readListener = BeanUtils.instantiateClass(excelRequest.readListener());
-
-            // 获取上传的Excel文件
-            MultipartFile file = WebUtil.getMultipartFile(webRequest, excelRequest.filename());
+            ExcelDataUtil.configureErrors(readListener, excelRequest, excelProperties);
+            if (readListener instanceof DefaultReadListener<?> defaultReadListener) {
+                defaultReadListener.setErrorWorkbook(errorWorkbook);
+            }
 
             // 使用FastExcel读取Excel文件
             try (InputStream inputStream = file.getInputStream()) {
-                FastExcel.read(inputStream, genericType, readListener)
+                ExcelReaderBuilder builder = FastExcel.read(inputStream, genericType, readListener)
                         // 设置表头行数
                         .headRowNumber(excelRequest.headRowNumber())
                         // 设置是否忽略空行
-                        .ignoreEmptyRow(excelRequest.ignoreEmptyRow())
-                        // 选择第一个工作表
-                        .sheet()
-                        // 执行读取操作
-                        .doRead();
+                        .ignoreEmptyRow(excelRequest.ignoreEmptyRow());
+                // 选择工作表并执行读取操作
+                ExcelDataUtil.sheet(builder, excelRequest).doRead();
+            } finally {
+                if (errorWorkbook != null) {
+                    errorWorkbook.close();
+                }
+            }
+
+            // 汇总结果存入请求属性，便于获取错误总数和错误工作簿路径
+            if (readListener instanceof DefaultReadListener<?> defaultReadListener) {
+                webRequest.setAttribute(ExcelImportSummary.ATTRIBUTE, defaultReadListener.getSummary(), RequestAttributes.SCOPE_REQUEST);
             }
 
             // 获取解析结果
             List<?> resultList = readListener.getList();
 
-            // 检查解析结果是否为空（如果不允许空结果的话）
-            if (CollUtil.isEmpty(resultList) && !excelRequest.allowEmptyResult()) {
+            // 检查解析结果是否为空（如果不允许空结果的话），存在错误工作簿时由调用方处理
+            if (CollUtil.isEmpty(resultList) && !excelRequest.allowEmptyResult()
+                    && (errorWorkbook == null || errorWorkbook.getFilePath() == null)) {
                 throw new ExcelParseException("解析结果为空");
             }
 
             // 处理解析过程中的错误信息
-            handleErrors(readListener, binderFactory, webRequest, mavContainer);
+            handleErrors(readListener.getErrors(), binderFactory, webRequest, mavContainer);
             log.info("Excel解析完成，共读取{}条数据", CollUtil.size(resultList));
             return resultList;
 
@@ -127,26 +200,109 @@ public class ExcelRequestHandler implements HandlerMethodArgumentResolver {
             // 重新抛出Excel解析异常
             throw e;
         } catch (Exception e) {
+            // 监听器终止读取的异常可能被解析框架包装，还原后抛出
+            if (e.getCause() instanceof ExcelParseException parseException) {
+                throw parseException;
+            }
             // 包装其他异常为Excel解析异常
             throw new ExcelParseException("Excel处理失败: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 解析多个工作表
+     * <p>
+     * 参数类型为 Map&lt;String, List&lt;T&gt;&gt;，键为工作表名称，各工作表的错误信息汇总后统一绑定。
+     * 各工作表的列不同且可能并行解析，不支持错误工作簿。
+     *
+     * @param parameter     方法参数
+     * @param webRequest    Web请求对象
+     * @param binderFactory Web数据绑定器工厂
+     * @param mavContainer  ModelAndView容器
+     * @return 工作表名称与数据
+     * @throws Exception 解析过程中的异常
+     */
+    private Map<String, List<?>> resolveSheets(MethodParameter parameter, NativeWebRequest webRequest,
+                                               WebDataBinderFactory binderFactory, ModelAndViewContainer mavContainer) throws Exception {
+        ExcelRequest excelRequest = parameter.getParameterAnnotation(ExcelRequest.class);
+        if (excelRequest.errorWorkbook()) {
+            throw new ExcelParseException("多工作表导入不支持错误工作簿");
+        }
+        Class<?> genericType = ResolvableType.forMethodParameter(parameter).asMap().getGeneric(1).asCollection().resolveGeneric();
+        if (genericType == null) {
+            throw new ExcelParseException("无法确定Map中List的泛型类型");
+        }
+        try {
+            MultipartFile file = WebUtil.getMultipartFile(webRequest, excelRequest.filename());
+            List<ExcelErrorMessage> errors = new ArrayList<>();
+            Map<String, List<?>> result = new ExcelMultiSheetReader(executor, excelProperties).read(file, genericType, excelRequest, errors);
+            if (result.values().stream().allMatch(CollUtil::isEmpty) && !excelRequest.allowEmptyResult()) {
+                throw new ExcelParseException("解析结果为空");
+            }
+            handleErrors(errors, binderFactory, webRequest, mavContainer);
+            return result;
+        } catch (ExcelParseException e) {
+            throw e;
+        } catch (Exception e) {
+            if (e.getCause() instanceof ExcelParseException parseException) {
+                throw parseException;
+            }
+            throw new ExcelParseException("Excel处理失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 创建Excel分批读取器
+     *
+     * @param parameter  方法参数
+     * @param webRequest Web请求对象
+     * @return Excel分批读取器
+     */
+    private ExcelChunkReader<?> createChunkReader(MethodParameter parameter, NativeWebRequest webRequest) {
+        ExcelRequest excelRequest = parameter.getParameterAnnotation(ExcelRequest.class);
+        Class<?> genericType = ResolvableType.forMethodParameter(parameter).getGeneric(0).resolve();
+        if (genericType == null) {
+            throw new ExcelParseException("无法确定ExcelChunkReader的泛型类型");
+        }
+        int maxErrors = ExcelDataUtil.maxErrors(excelRequest, excelProperties);
+        if (!excelRequest.async()) {
+            MultipartFile file = WebUtil.getMultipartFile(webRequest, excelRequest.filename());
+            return new ExcelChunkReader<>(file, genericType, excelRequest, maxErrors, fileManager);
+        }
+        // 异步导入：携带任务ID时续传，否则先保存上传文件，后台线程中再读取
+        String taskId = webRequest.getParameter(ExcelImportTask.RESUME_PARAMETER);
+        ExcelChunkReader<?> reader;
+        if (StrUtil.isNotEmpty(taskId)) {
+            reader = new ExcelChunkReader<>(null, genericType, excelRequest, maxErrors, fileManager);
+            reader.setTask(ExcelImportTask.resume(asyncTaskManager, fileManager, taskId));
+        } else {
+            MultipartFile file = WebUtil.getMultipartFile(webRequest, excelRequest.filename());
+            reader = new ExcelChunkReader<>(file, genericType, excelRequest, maxErrors, fileManager);
+            try (InputStream inputStream = file.getInputStream()) {
+                reader.setTask(ExcelImportTask.create(asyncTaskManager, fileManager, IdUtil.randomUUID(),
+                        file.getOriginalFilename(), inputStream));
+            } catch (IOException e) {
+                throw new ExcelParseException("Excel上传文件保存失败: " + e.getMessage(), e);
+            }
+        }
+        return reader;
+    }
+
     /**
      * 处理Excel解析过程中的错误信息
      *
      * <p>将解析错误添加到Model中，以便在前端页面显示错误信息
      *
-     * @param readListener  读取监听器，包含解析过程中收集的错误信息
+     * @param errors        解析过程中收集的错误信息
      * @param binderFactory Web数据绑定器工厂
      * @param webRequest    Web请求对象
      * @param mavContainer  ModelAndView容器
      * @throws Exception 处理过程中的异常
      */
-    private void handleErrors(IReadListener<?> readListener, WebDataBinderFactory binderFactory,
+    private void handleErrors(List<ExcelErrorMessage> errors, WebDataBinderFactory binderFactory,
                               NativeWebRequest webRequest, ModelAndViewContainer mavContainer) throws Exception {
         // 创建WebDataBinder对象，用于绑定验证错误信息
-        WebDataBinder binder = binderFactory.createBinder(webRequest, readListener.getErrors(), "excel");
+        WebDataBinder binder = binderFactory.createBinder(webRequest, errors, "excel");
 
         // 将绑定结果存储到模型视图容器中，以便在视图层展示
         mavContainer.getModel().put(BindingResult.MODEL_KEY_PREFIX + "excel", binder.getBindingResult());
@@ -0,0 +1,85 @@
+package com.gls.athena.starter.excel.listener;
+
+import cn.idev.excel.context.AnalysisContext;
+import cn.idev.excel.metadata.CellExtra;
+import cn.idev.excel.metadata.data.ReadCellData;
+import cn.idev.excel.read.listener.ReadListener;
+import com.gls.athena.starter.excel.exception.ExcelParseException;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 限制行数的读取监听器
+ * <p>
+ * 包装实际的读取监听器，多个工作表共享同一行数预算，超出预算时终止读取，
+ * 防止多工作表导入时数据总量超出内存承受范围。并行读取时其他工作表失败后，停止标记使当前工作表在下一行前结束读取。
+ *
+ * @param <T> 数据对象类型
+ * @author george
+ */
+public class BoundedReadListener<T> implements ReadListener<T> {
+
+    /**
+     * 实际的读取监听器
+     */
+    private final ReadListener<T> delegate;
+
+    /**
+     * 剩余可读取行数
+     */
+    private final AtomicLong remaining;
+
+    /**
+     * 停止读取标记
+     */
+    private final AtomicBoolean stopped;
+
+    public BoundedReadListener(ReadListener<T> delegate, AtomicLong remaining) {
+        this(delegate, remaining, new AtomicBoolean());
+    }
+
+    public BoundedReadListener(ReadListener<T> delegate, AtomicLong remaining, AtomicBoolean stopped) {
+        this.delegate = delegate;
+        this.remaining = remaining;
+        this.stopped = stopped;
+    }
+
+    @Override
+    public void onException(Exception exception, AnalysisContext context) throws Exception {
+        // 超出预算时直接终止读取，不交给实际监听器忽略
+        if (exception instanceof ExcelParseException) {
+            throw exception;
+        }
+        delegate.onException(exception, context);
+    }
+
+    @Override
+    public void invokeHead(Map<Integer, ReadCellData<?>> headMap, AnalysisContext context) {
+        delegate.invokeHead(headMap, context);
+    }
+
+    @Override
+    public void invoke(T data, AnalysisContext context) {
+        if (remaining.decrementAndGet() < 0) {
+            throw new ExcelParseException("导入行数超过上限");
+        }
+        delegate.invoke(data, context);
+    }
+
+    @Override
+    public void extra(CellExtra extra, AnalysisContext context) {
+        delegate.extra(extra, context);
+    }
+
+    @Override
+    public void doAfterAllAnalysed(AnalysisContext context) {
+        delegate.doAfterAllAnalysed(context);
+    }
+
+    @Override
+    public boolean hasNext(AnalysisContext context) {
+        return !stopped.get() && delegate.hasNext(context);
+    }
+}
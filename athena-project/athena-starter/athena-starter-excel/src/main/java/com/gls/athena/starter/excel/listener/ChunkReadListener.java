@@ -0,0 +1,358 @@
+package com.gls.athena.starter.excel.listener;
+
+import cn.idev.excel.context.AnalysisContext;
+import cn.idev.excel.exception.ExcelDataConvertException;
+import cn.idev.excel.metadata.data.ReadCellData;
+import com.gls.athena.starter.excel.exception.ExcelParseException;
+import com.gls.athena.starter.excel.support.ExcelErrorMessage;
+import com.gls.athena.starter.excel.support.ExcelImportSummary;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Excel分批读取监听器
+ * <p>
+ * 每读取指定行数即将校验通过的数据交给批次消费者处理，内存中最多保留并行度个批次的数据，
+ * 适用于大文件导入。校验失败的行不会交给消费者，只记录错误信息。
+ * <p>
+ * 指定线程池时批次并行处理，正在处理的批次达到并行度后读取线程阻塞等待，避免读取速度超过处理速度导致数据堆积。
+ * 某一批次处理失败时记录错误并继续处理后续批次；开启快速失败时，批次失败同样计入错误总数，
+ * 超过上限后读取线程在提交下一批次或读取结束时终止读取。设置批次失败终止后，首个失败的批次即终止读取，
+ * 用于异步导入时将任务标记为失败以便续传。
+ * <p>
+ * 设置提交监听器后，每当从首个批次起连续处理成功的批次增加时通知已提交的最后行号，用于中断后续传；
+ * 设置续传行号后，该行及之前的数据直接跳过。
+ *
+ * @param <T> 数据对象类型
+ * @author george
+ */
+@Slf4j
+public class ChunkReadListener<T> extends DefaultReadListener<T> {
+
+    /**
+     * 每批行数
+     */
+    private final int batchSize;
+
+    /**
+     * 批次消费者
+     */
+    private final Consumer<List<T>> consumer;
+
+    /**
+     * 批次处理线程池，为null时在读取线程中顺序处理
+     */
+    private final Executor executor;
+
+    /**
+     * 并行度
+     */
+    private final int parallelism;
+
+    /**
+     * 正在处理的批次许可
+     */
+    private final Semaphore permits;
+
+    private final AtomicLong successRows = new AtomicLong();
+
+    private final AtomicLong failedRows = new AtomicLong();
+
+    private long totalRows;
+
+    private long chunks;
+
+    /**
+     * 当前批次数据
+     */
+    private List<T> chunk;
+
+    /**
+     * 当前批次起始行号
+     */
+    private int chunkStartLine;
+
+    /**
+     * 当前批次结束行号
+     */
+    private int chunkEndLine;
+
+    /**
+     * 续传行号，该行及之前的数据已提交，读取时跳过
+     */
+    @Setter
+    private int resumeLine = -1;
+
+    /**
+     * 提交监听器，参数为已提交的最后行号
+     */
+    @Setter
+    private IntConsumer commitListener;
+
+    /**
+     * 是否在批次处理失败时终止读取
+     */
+    @Setter
+    private boolean abortOnChunkFailure;
+
+    /**
+     * 首个批次处理失败的异常，批次失败终止时由读取线程抛出
+     */
+    private final AtomicReference<ExcelParseException> chunkFailure = new AtomicReference<>();
+
+    /**
+     * 估算的总行数，无法估算时为null
+     */
+    @Getter
+    private Integer approximateTotalRows;
+
+    /**
+     * 下一个待提交的批次序号
+     */
+    private long nextCommitChunk = 1;
+
+    /**
+     * 已处理成功但前序批次尚未提交的批次，键为批次序号，值为结束行号
+     */
+    private final Map<Long, Integer> pendingCommits = new TreeMap<>();
+
+    /**
+     * 创建分批读取监听器
+     *
+     * @param batchSize   每批行数
+     * @param consumer    批次消费者
+     * @param executor    批次处理线程池，为null时顺序处理
+     * @param parallelism 并行度，线程池为null时忽略
+     * @param maxErrors   保留的错误信息上限
+     */
+    public ChunkReadListener(int batchSize, Consumer<List<T>> consumer, Executor executor, int parallelism, int maxErrors) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("每批行数必须大于0");
+        }
+        this.batchSize = batchSize;
+        this.consumer = consumer;
+        this.executor = parallelism > 1 ? executor : null;
+        this.parallelism = Math.max(parallelism, 1);
+        this.permits = new Semaphore(this.parallelism);
+        setMaxErrors(maxErrors);
+        this.chunk = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * 记录表头并估算总行数
+     *
+     * @param headMap 原始表头数据
+     * @param context 解析上下文
+     */
+    @Override
+    public void invokeHead(Map<Integer, ReadCellData<?>> headMap, AnalysisContext context) {
+        super.invokeHead(headMap, context);
+        approximateTotalRows = context.readSheetHolder().getApproximateTotalRowNumber();
+    }
+
+    /**
+     * 跳过续传行号及之前已提交的数据
+     *
+     * @param data    数据对象
+     * @param context 解析上下文
+     */
+    @Override
+    public void invoke(T data, AnalysisContext context) {
+        if (context.readRowHolder().getRowIndex() <= resumeLine) {
+            return;
+        }
+        super.invoke(data, context);
+    }
+
+    /**
+     * 跳过已提交数据的转换异常
+     *
+     * @param exception 解析异常
+     * @param context   解析上下文
+     */
+    @Override
+    public void onException(Exception exception, AnalysisContext context) {
+        if (exception instanceof ExcelDataConvertException convertException && convertException.getRowIndex() <= resumeLine) {
+            return;
+        }
+        super.onException(exception, context);
+    }
+
+    /**
+     * 缓存校验通过的行，达到每批行数后提交处理
+     *
+     * @param data     数据对象
+     * @param rowIndex 行号
+     * @param valid    是否校验通过
+     */
+    @Override
+    protected void handleRow(T data, int rowIndex, boolean valid) {
+        totalRows++;
+        if (!valid) {
+            failedRows.incrementAndGet();
+            return;
+        }
+        if (chunk.isEmpty()) {
+            chunkStartLine = rowIndex;
+        }
+        chunkEndLine = rowIndex;
+        chunk.add(data);
+        if (chunk.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * 提交剩余数据并等待所有批次处理完成
+     *
+     * @param context 解析上下文对象
+     */
+    @Override
+    public void doAfterAllAnalysed(AnalysisContext context) {
+        flush();
+        acquire(parallelism);
+        permits.release(parallelism);
+        // 最后的批次在其他线程中处理，全部完成后再检查一次
+        checkChunkFailure();
+        log.info("Excel分批读取完成, 共读取{}行, 成功{}行, 失败{}行, 共{}批", totalRows, successRows.get(), failedRows.get(), chunks);
+    }
+
+    /**
+     * 获取导入汇总结果，需在读取完成后调用
+     *
+     * @return 导入汇总结果
+     */
+    @Override
+    public ExcelImportSummary getSummary() {
+        // 转换失败的行不会进入批次，单独计入总行数和失败行数
+        return super.getSummary()
+                .setTotalRows(totalRows + getUnconvertedRows())
+                .setSuccessRows(successRows.get())
+                .setFailedRows(failedRows.get() + getUnconvertedRows())
+                .setChunks(chunks);
+    }
+
+    /**
+     * 提交当前批次
+     */
+    private void flush() {
+        // 批次处理失败时，不再提交后续批次
+        checkChunkFailure();
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<T> current = chunk;
+        int startLine = chunkStartLine;
+        int endLine = chunkEndLine;
+        chunk = new ArrayList<>(batchSize);
+        long sequence = ++chunks;
+        if (executor == null) {
+            consume(current, sequence, startLine, endLine);
+            checkChunkFailure();
+            return;
+        }
+        // 正在处理的批次达到并行度时阻塞读取线程
+        acquire(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    consume(current, sequence, startLine, endLine);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 处理批次并记录结果
+     * <p>
+     * 可能在批次处理线程中执行，失败时只记录错误，由读取线程检查是否终止读取。
+     *
+     * @param current   批次数据
+     * @param sequence  批次序号
+     * @param startLine 起始行号
+     * @param endLine   结束行号
+     */
+    private void consume(List<T> current, long sequence, int startLine, int endLine) {
+        try {
+            consumer.accept(current);
+        } catch (Exception e) {
+            log.error("Excel批次处理失败, 行号: {}-{}", startLine, endLine, e);
+            String errorMessage = "第" + startLine + "-" + endLine + "行处理失败: " + e.getMessage();
+            failedRows.addAndGet(current.size());
+            addError(new ExcelErrorMessage()
+                    .setLine(startLine)
+                    .setErrorMessage(errorMessage));
+            if (abortOnChunkFailure) {
+                chunkFailure.compareAndSet(null, new ExcelParseException(errorMessage, e));
+            }
+            return;
+        }
+        successRows.addAndGet(current.size());
+        commit(sequence, endLine);
+    }
+
+    /**
+     * 记录处理成功的批次，连续提交的批次增加时通知提交监听器
+     * <p>
+     * 处理失败的批次不会记录，其后的批次即使处理成功也不再推进已提交行号。
+     *
+     * @param sequence 批次序号
+     * @param endLine  结束行号
+     */
+    private synchronized void commit(long sequence, int endLine) {
+        if (commitListener == null) {
+            return;
+        }
+        pendingCommits.put(sequence, endLine);
+        Integer committedLine = null;
+        for (Integer line = pendingCommits.remove(nextCommitChunk); line != null; line = pendingCommits.remove(nextCommitChunk)) {
+            committedLine = line;
+            nextCommitChunk++;
+        }
+        if (committedLine != null) {
+            commitListener.accept(committedLine);
+        }
+    }
+
+    /**
+     * 在读取线程中检查批次处理结果，批次失败终止或错误总数超过上限时抛出异常
+     */
+    private void checkChunkFailure() {
+        ExcelParseException failure = chunkFailure.get();
+        if (failure != null) {
+            throw failure;
+        }
+        checkErrorLimit();
+    }
+
+    /**
+     * 获取批次处理许可
+     *
+     * @param count 许可数量
+     */
+    private void acquire(int count) {
+        try {
+            permits.acquire(count);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelParseException("Excel分批处理被中断", e);
+        }
+    }
+}
@@ -1,24 +1,30 @@
 package com.gls.athena.starter.excel.listener;
 
-import cn.hutool.extra.validation.BeanValidationResult;
-import cn.hutool.extra.validation.ValidationUtil;
 import cn.hutool.json.JSONUtil;
 import cn.idev.excel.context.AnalysisContext;
+import cn.idev.excel.exception.ExcelDataConvertException;
 import cn.idev.excel.metadata.Cell;
 import cn.idev.excel.metadata.CellExtra;
 import cn.idev.excel.metadata.data.ReadCellData;
 import cn.idev.excel.util.ConverterUtils;
-import com.gls.athena.starter.excel.annotation.ExcelLine;
 import com.gls.athena.starter.excel.annotation.ExcelMultiColumn;
+import com.gls.athena.starter.excel.exception.ExcelParseException;
 import com.gls.athena.starter.excel.support.ExcelErrorMessage;
+import com.gls.athena.starter.excel.support.ExcelErrorWorkbook;
+import com.gls.athena.starter.excel.support.ExcelImportSummary;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * Excel数据读取默认监听器
@@ -28,7 +34,7 @@ import java.util.Map;
  * 2. 支持数据校验
  * 3. 支持行号标记
  * 4. 支持多列数据读取
- * 5. 错误信息收集
+ * 5. 错误信息收集，超过上限的错误只计数，可配置为立即终止读取或写入错误工作簿
  *
  * @param <T> 数据对象类型
  * @author george
@@ -52,17 +58,74 @@ public class DefaultReadListener<T> implements IReadListener<T> {
      */
     private final Map<Integer, String> headMap = new HashMap<>();
 
+    /**
+     * 保留的错误信息上限，超出部分仅计数
+     */
+    @Setter
+    private int maxErrors = Integer.MAX_VALUE;
+
+    /**
+     * 错误总数超过上限时是否立即终止读取
+     */
+    @Setter
+    private boolean failFast;
+
+    /**
+     * 错误工作簿，设置后校验失败的原始行连同错误信息写入该工作簿
+     */
+    @Setter
+    private ExcelErrorWorkbook errorWorkbook;
+
+    /**
+     * 错误总数，包括超过上限未保留的错误
+     */
+    private volatile long errorCount;
+
+    /**
+     * 多个监听器共享的错误总数，设置后错误信息上限与快速失败按所有监听器的合计错误数判断
+     */
+    @Setter
+    private AtomicLong sharedErrorCount;
+
+    /**
+     * 校验失败的行数
+     */
+    private long invalidRows;
+
+    /**
+     * 转换失败未生成数据对象的行数
+     */
+    private long unconvertedRows;
+
     /**
      * 处理Excel解析过程中的异常
      * <p>
-     * 该方法用于捕获并记录在Excel解析过程中发生的异常。当解析过程中抛出异常时，该方法会被调用，
-     * 并记录异常信息以及当前处理的行号，以便于后续的调试和问题排查。
+     * 单元格类型转换失败时记录为对应行的错误信息并继续读取，错误数量超过上限的终止异常直接抛出，
+     * 其他异常记录日志后继续读取。
      *
      * @param exception 解析过程中抛出的异常对象，包含异常的具体信息
      * @param context   解析上下文对象，包含当前处理的行信息等上下文数据
      */
     @Override
     public void onException(Exception exception, AnalysisContext context) {
+        if (exception instanceof ExcelParseException parseException) {
+            throw parseException;
+        }
+        if (exception instanceof ExcelDataConvertException convertException) {
+            int rowIndex = convertException.getRowIndex();
+            String errorMessage = "第" + (convertException.getColumnIndex() + 1) + "列数据格式错误";
+            log.debug("Excel数据转换失败，行号: {}，列号: {}", rowIndex, convertException.getColumnIndex(), exception);
+            addError(new ExcelErrorMessage()
+                    .setLine(rowIndex)
+                    .setFieldName(headMap.get(convertException.getColumnIndex()))
+                    .setErrorMessage(errorMessage)
+                    .setErrorValue(extractCellValue(convertException.getCellData())));
+            invalidRows++;
+            unconvertedRows++;
+            writeErrorRow(context, errorMessage);
+            checkErrorLimit();
+            return;
+        }
         // 记录异常信息，包括当前处理的行号和异常堆栈
         log.error("Excel解析发生异常，行号: {}", context.readRowHolder().getRowIndex(), exception);
     }
@@ -103,88 +166,114 @@ public class DefaultReadListener<T> implements IReadListener<T> {
         int rowIndex = context.readRowHolder().getRowIndex();
         Map<Integer, Cell> cellMap = context.readRowHolder().getCellMap();
 
-        // 记录当前行的解析日志
-        log.debug("正在解析第{}行数据: {}", rowIndex, JSONUtil.toJsonStr(cellMap));
+        // 记录当前行的解析日志，仅在开启调试日志时序列化单元格数据
+        if (log.isDebugEnabled()) {
+            log.debug("正在解析第{}行数据: {}", rowIndex, JSONUtil.toJsonStr(cellMap));
+        }
 
         // 处理数据对象的字段，并将数据添加到结果集中
         processFields(data, rowIndex, cellMap);
-        validateData(data, rowIndex);
+        List<ExcelErrorMessage> rowErrors = validateData(data, rowIndex);
+        boolean valid = rowErrors.isEmpty();
+        if (!valid) {
+            invalidRows++;
+            rowErrors.forEach(this::addError);
+            writeErrorRow(context, rowErrors.stream().map(ExcelErrorMessage::getErrorMessage).collect(Collectors.joining("；")));
+            checkErrorLimit();
+        }
+        handleRow(data, rowIndex, valid);
+    }
+
+    /**
+     * 处理校验后的行数据
+     * <p>
+     * 默认将数据添加到结果集中，校验失败的数据同样保留，由调用方结合错误信息处理。
+     * 子类可覆盖该方法改为分批处理，避免在内存中保留全部数据。
+     *
+     * @param data     数据对象
+     * @param rowIndex 行号
+     * @param valid    是否校验通过
+     */
+    protected void handleRow(T data, int rowIndex, boolean valid) {
         list.add(data);
     }
 
     /**
-     * 处理对象的所有字段
+     * 记录错误信息，超过上限时只计数
      * <p>
-     * 该方法会遍历传入对象的所有字段，并根据字段上的注解进行相应的处理。
-     * 具体处理包括：
-     * - 对于带有 {@code ExcelLine} 注解的字段，调用 {@code processExcelLine} 方法进行处理。
-     * - 对于带有 {@code ExcelMultiColumn} 注解的字段，调用 {@code processExcelMultiColumn} 方法进行处理。
+     * 可能在批次处理线程中调用，计数与保存在错误集合上同步。子类可覆盖该方法调整存储方式。
      *
-     * @param data     包含需要处理字段的对象
-     * @param rowIndex 当前处理的行索引，用于 {@code ExcelLine} 注解的处理
-     * @param cellMap  单元格映射，包含列索引与单元格的对应关系，用于 {@code ExcelMultiColumn} 注解的处理
+     * @param errorMessage 错误信息
      */
-    private void processFields(T data, int rowIndex, Map<Integer, Cell> cellMap) {
-        // 遍历对象的所有字段，并根据注解进行相应的处理
-        Field[] fields = data.getClass().getDeclaredFields();
-        for (Field field : fields) {
-            processExcelLine(data, field, rowIndex);
-            processExcelMultiColumn(data, field, cellMap);
+    protected void addError(ExcelErrorMessage errorMessage) {
+        synchronized (errors) {
+            errorCount++;
+            long total = sharedErrorCount == null ? errorCount : sharedErrorCount.incrementAndGet();
+            if (total <= maxErrors) {
+                errors.add(errorMessage);
+            }
         }
     }
 
     /**
-     * 处理ExcelLine注解，设置行号
-     * <p>
-     * 该方法用于处理带有ExcelLine注解的字段，并将当前行号设置到该字段中。如果字段类型不是Integer或未标注ExcelLine注解，则直接返回。
+     * 获取导入汇总结果，需在读取完成后调用
      *
-     * @param data     数据对象，包含需要处理的字段
-     * @param field    待处理的字段，该字段可能标注了ExcelLine注解
-     * @param rowIndex 当前行号，将被设置到标注了ExcelLine注解的字段中
+     * @return 导入汇总结果
      */
-    private void processExcelLine(T data, Field field, int rowIndex) {
-        // 检查字段是否标注了ExcelLine注解，并且字段类型是否为Integer
-        if (!field.isAnnotationPresent(ExcelLine.class) || !field.getType().equals(Integer.class)) {
-            return;
+    public ExcelImportSummary getSummary() {
+        synchronized (errors) {
+            return new ExcelImportSummary()
+                    .setTotalRows(list.size() + unconvertedRows)
+                    .setSuccessRows(list.size() + unconvertedRows - invalidRows)
+                    .setFailedRows(invalidRows)
+                    .setErrorCount(errorCount)
+                    .setErrors(new ArrayList<>(errors))
+                    .setErrorFilePath(errorWorkbook == null ? null : errorWorkbook.getFilePath());
         }
+    }
 
-        try {
-            // 设置字段可访问，并将当前行号赋值给该字段
-            field.setAccessible(true);
-            field.set(data, rowIndex);
-        } catch (IllegalAccessException e) {
-            // 捕获并记录设置字段值时的异常
-            log.error("设置Excel行号失败, field: {}", field.getName(), e);
+    /**
+     * 错误总数超过上限且开启快速失败时终止读取
+     * <p>
+     * 需在读取线程中调用。子类在解析回调之外记录错误时，应在读取线程中再次调用该方法使快速失败生效。
+     */
+    protected void checkErrorLimit() {
+        long total = sharedErrorCount == null ? errorCount : sharedErrorCount.get();
+        if (failFast && total > maxErrors) {
+            throw new ExcelParseException("错误数据超过上限" + maxErrors + "条，已终止读取");
         }
     }
 
     /**
-     * 处理ExcelMultiColumn注解，设置多列数据到目标对象的指定字段中。
-     * 该函数会检查字段是否带有ExcelMultiColumn注解，并且字段类型是否为Map。
-     * 如果满足条件，则从单元格数据中提取多列数据，并将其设置到目标对象的字段中。
+     * 将当前行的原始数据连同错误信息写入错误工作簿
      *
-     * @param data    目标数据对象，多列数据将被设置到该对象的字段中
-     * @param field   待处理的字段，该字段应带有ExcelMultiColumn注解且类型为Map
-     * @param cellMap 当前行的单元格数据，键为列索引，值为对应的单元格对象
+     * @param context      解析上下文
+     * @param errorMessage 错误信息
      */
-    private void processExcelMultiColumn(T data, Field field, Map<Integer, Cell> cellMap) {
-        // 检查字段是否带有ExcelMultiColumn注解且类型为Map，如果不满足条件则直接返回
-        if (!field.isAnnotationPresent(ExcelMultiColumn.class) || !field.getType().equals(Map.class)) {
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void writeErrorRow(AnalysisContext context, String errorMessage) {
+        if (errorWorkbook == null) {
             return;
         }
+        Map cellMap = context.readRowHolder().getCellMap();
+        errorWorkbook.write(headMap, ConverterUtils.convertToStringMap(cellMap, context), errorMessage);
+    }
 
-        try {
-            // 设置字段可访问，以便后续操作
-            field.setAccessible(true);
-            // 获取字段上的ExcelMultiColumn注解
-            ExcelMultiColumn annotation = field.getAnnotation(ExcelMultiColumn.class);
-            // 从单元格数据中提取多列数据
-            Map<String, Object> columnData = extractMultiColumnData(annotation, cellMap);
-            // 将提取的多列数据设置到目标对象的字段中
-            field.set(data, columnData);
-        } catch (IllegalAccessException e) {
-            // 捕获并记录设置多列数据时的异常
-            log.error("设置Excel多列数据失败, field: {}", field.getName(), e);
+    /**
+     * 处理对象的注解字段
+     * <p>
+     * 使用按数据类缓存的元信息设置 {@code ExcelLine} 行号字段和 {@code ExcelMultiColumn} 多列字段，
+     * 不在每行重复扫描字段和注解。
+     *
+     * @param data     包含需要处理字段的对象
+     * @param rowIndex 当前处理的行索引，用于 {@code ExcelLine} 注解的处理
+     * @param cellMap  单元格映射，包含列索引与单元格的对应关系，用于 {@code ExcelMultiColumn} 注解的处理
+     */
+    private void processFields(T data, int rowIndex, Map<Integer, Cell> cellMap) {
+        ExcelRowMetadata metadata = ExcelRowMetadata.of(data.getClass());
+        metadata.setLine(data, rowIndex);
+        for (ExcelRowMetadata.MultiColumn multiColumn : metadata.getMultiColumns()) {
+            multiColumn.set(data, extractMultiColumnData(multiColumn.getAnnotation(), cellMap));
         }
     }
 
@@ -245,30 +334,37 @@ public class DefaultReadListener<T> implements IReadListener<T> {
     /**
      * 执行数据校验并收集错误信息
      * <p>
-     * 该函数接收一个数据对象和其所在的行号，使用ValidationUtil工具对数据进行校验。
-     * 如果校验成功，则直接返回；如果校验失败，则将错误信息收集到errors集合中。
+     * 该函数接收一个数据对象和其所在的行号，使用共享的Jakarta校验器对数据进行校验。
+     * 如果校验成功，则返回空列表；如果校验失败，则返回该行的全部错误信息。
      * 每个错误信息包括行号、字段名、错误消息和错误值。
      *
      * @param data     待校验的数据对象，类型为泛型T
      * @param rowIndex 数据所在的行号，用于标识错误发生的位置
+     * @return 该行的错误信息，校验通过时为空列表
      */
-    private void validateData(T data, int rowIndex) {
-        // 使用ValidationUtil工具对数据进行校验，并获取校验结果
-        BeanValidationResult result = ValidationUtil.warpValidate(data);
+    private List<ExcelErrorMessage> validateData(T data, int rowIndex) {
+        // 使用共享的校验器直接校验，校验通过时不创建结果对象
+        Validator validator = ExcelValidator.get();
+        if (validator == null) {
+            return List.of();
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(data);
 
         // 如果校验成功，直接返回
-        if (result.isSuccess()) {
-            return;
+        if (violations.isEmpty()) {
+            return List.of();
         }
 
-        // 遍历校验结果中的错误信息，并将每个错误信息添加到errors集合中
-        result.getErrorMessages().forEach(error ->
-                errors.add(new ExcelErrorMessage()
-                        .setLine(rowIndex)
-                        .setFieldName(error.getPropertyName())
-                        .setErrorMessage(error.getMessage())
-                        .setErrorValue(error.getValue()))
-        );
+        // 将校验结果中的每个错误转换为错误信息
+        List<ExcelErrorMessage> rowErrors = new ArrayList<>(violations.size());
+        for (ConstraintViolation<T> violation : violations) {
+            rowErrors.add(new ExcelErrorMessage()
+                    .setLine(rowIndex)
+                    .setFieldName(violation.getPropertyPath().toString())
+                    .setErrorMessage(violation.getMessage())
+                    .setErrorValue(violation.getInvalidValue()));
+        }
+        return rowErrors;
     }
 
     /**
@@ -294,7 +390,7 @@ public class DefaultReadListener<T> implements IReadListener<T> {
     @Override
     public void doAfterAllAnalysed(AnalysisContext context) {
         // 输出解析完成后的统计信息，包括成功处理的数据条数和错误数据的条数
-        log.info("Excel解析完成, 共处理{}条数据, {}条错误数据", list.size(), errors.size());
+        log.info("Excel解析完成, 共处理{}条数据, {}条错误数据", list.size(), errorCount);
     }
 
 }
@@ -0,0 +1,177 @@
+package com.gls.athena.starter.excel.listener;
+
+import com.gls.athena.starter.excel.annotation.ExcelLine;
+import com.gls.athena.starter.excel.annotation.ExcelMultiColumn;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Excel行数据类元信息
+ * <p>
+ * 每个数据类只解析一次 {@link ExcelLine} 与 {@link ExcelMultiColumn} 字段，并将字段赋值转换为方法句柄，
+ * 读取每行时无需再反射扫描字段和注解。
+ *
+ * @author george
+ */
+@Slf4j
+final class ExcelRowMetadata {
+
+    /**
+     * 统一的字段赋值句柄类型：(Object target, Object value) -> void
+     */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * 按数据类缓存的元信息
+     */
+    private static final ClassValue<ExcelRowMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected ExcelRowMetadata computeValue(Class<?> type) {
+            return new ExcelRowMetadata(type);
+        }
+    };
+
+    /**
+     * 行号字段赋值句柄
+     */
+    private final List<MethodHandle> lineSetters = new ArrayList<>();
+
+    /**
+     * 多列字段
+     */
+    private final List<MultiColumn> multiColumns = new ArrayList<>();
+
+    private ExcelRowMetadata(Class<?> type) {
+        for (Field field : type.getDeclaredFields()) {
+            if (field.isAnnotationPresent(ExcelLine.class) && field.getType().equals(Integer.class)) {
+                MethodHandle setter = setter(field);
+                if (setter != null) {
+                    lineSetters.add(setter);
+                }
+            }
+            if (field.isAnnotationPresent(ExcelMultiColumn.class) && field.getType().equals(Map.class)) {
+                MethodHandle setter = setter(field);
+                if (setter != null) {
+                    multiColumns.add(new MultiColumn(field.getAnnotation(ExcelMultiColumn.class), setter, field.getName()));
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取数据类的元信息
+     *
+     * @param type 数据类
+     * @return 元信息
+     */
+    static ExcelRowMetadata of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * 获取多列字段
+     *
+     * @return 多列字段
+     */
+    List<MultiColumn> getMultiColumns() {
+        return multiColumns;
+    }
+
+    /**
+     * 设置行号
+     *
+     * @param data     数据对象
+     * @param rowIndex 行号
+     */
+    void setLine(Object data, int rowIndex) {
+        if (lineSetters.isEmpty()) {
+            return;
+        }
+        Integer line = rowIndex;
+        for (MethodHandle setter : lineSetters) {
+            try {
+                setter.invokeExact(data, (Object) line);
+            } catch (Throwable e) {
+                log.error("设置Excel行号失败, type: {}", data.getClass().getName(), e);
+            }
+        }
+    }
+
+    /**
+     * 创建字段赋值句柄
+     *
+     * @param field 字段
+     * @return 赋值句柄，字段不可赋值时返回null
+     */
+    private static MethodHandle setter(Field field) {
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            log.warn("Excel字段不可赋值, field: {}.{}", field.getDeclaringClass().getName(), field.getName());
+            return null;
+        }
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.error("创建Excel字段赋值句柄失败, field: {}.{}", field.getDeclaringClass().getName(), field.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 多列字段
+     */
+    static final class MultiColumn {
+
+        /**
+         * 多列注解
+         */
+        private final ExcelMultiColumn annotation;
+
+        /**
+         * 赋值句柄
+         */
+        private final MethodHandle setter;
+
+        /**
+         * 字段名
+         */
+        private final String name;
+
+        private MultiColumn(ExcelMultiColumn annotation, MethodHandle setter, String name) {
+            this.annotation = annotation;
+            this.setter = setter;
+            this.name = name;
+        }
+
+        /**
+         * 获取多列注解
+         *
+         * @return 多列注解
+         */
+        ExcelMultiColumn getAnnotation() {
+            return annotation;
+        }
+
+        /**
+         * 设置多列数据
+         *
+         * @param data  数据对象
+         * @param value 多列数据
+         */
+        void set(Object data, Map<String, Object> value) {
+            try {
+                setter.invokeExact(data, (Object) value);
+            } catch (Throwable e) {
+                log.error("设置Excel多列数据失败, field: {}", name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.gls.athena.starter.excel.listener;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Excel行数据校验器
+ * <p>
+ * 首次使用时创建并缓存 Jakarta Bean Validation 校验器，所有监听器共享同一实例。
+ * 未引入校验实现时跳过校验。
+ *
+ * @author george
+ */
+@Slf4j
+final class ExcelValidator {
+
+    private ExcelValidator() {
+    }
+
+    /**
+     * 获取共享校验器
+     *
+     * @return 校验器，未引入校验实现时返回null
+     */
+    static Validator get() {
+        return Holder.VALIDATOR;
+    }
+
+    /**
+     * 创建校验器
+     *
+     * @return 校验器，创建失败时返回null
+     */
+    private static Validator create() {
+        try {
+            return Validation.buildDefaultValidatorFactory().getValidator();
+        } catch (RuntimeException e) {
+            log.warn("未找到Bean Validation实现，跳过Excel数据校验: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 延迟初始化持有者
+     */
+    private static final class Holder {
+        private static final Validator VALIDATOR = create();
+    }
+}
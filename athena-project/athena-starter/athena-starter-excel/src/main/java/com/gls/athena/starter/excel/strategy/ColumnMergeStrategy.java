@@ -1,22 +1,38 @@
 package com.gls.athena.starter.excel.strategy;
 
-import cn.hutool.poi.excel.cell.CellUtil;
 import cn.idev.excel.metadata.Head;
+import cn.idev.excel.write.handler.WorkbookWriteHandler;
+import cn.idev.excel.write.handler.WriteHandler;
+import cn.idev.excel.write.handler.context.CellWriteHandlerContext;
+import cn.idev.excel.write.handler.context.WorkbookWriteHandlerContext;
 import cn.idev.excel.write.merge.AbstractMergeStrategy;
+import cn.idev.excel.write.metadata.holder.WriteWorkbookHolder;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.util.CellRangeAddress;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * 列合并策略 <br> 纵向合并相同列的单元格 <br> 例如：合并第1列和第2列相同的单元格
+ * <p>
+ * 按列记录正在延续的相同值区间，值发生变化时一次性添加该区间的合并区域，不再查找和移除已有的合并区域，
+ * 导出耗时与行数成线性关系。仍在延续的区间在切换工作表或工作簿写出前补齐。
+ * <p>
+ * 工作簿写出前只会回调最后写入的工作表或表格上注册的处理器，在工作表或表格级别注册时，
+ * 策略首次处理单元格后会在所属工作簿和工作表上登记补齐处理器，之后创建的工作表和表格都会继承该处理器，
+ * 因此无论在哪一级注册，最后一个区间都会被合并。
+ * <p>
+ * 合并区域不做重叠校验，同一工作表中的其他合并策略不能与合并列重叠。
  *
  * @author george
  */
 @RequiredArgsConstructor
-public class ColumnMergeStrategy extends AbstractMergeStrategy {
+public class ColumnMergeStrategy extends AbstractMergeStrategy implements WorkbookWriteHandler {
     /**
      * 忽略的值
      */
@@ -25,12 +41,37 @@ public class ColumnMergeStrategy extends AbstractMergeStrategy {
      * 合并列索引
      */
     private final List<Integer> columnIndexes;
+    /**
+     * 各合并列正在延续的区间
+     */
+    private final Map<Integer, Run> runs = new HashMap<>();
+    /**
+     * 区间所在的工作表
+     */
+    private Sheet currentSheet;
+    /**
+     * 已登记补齐处理器的工作簿
+     */
+    private WriteWorkbookHolder registeredWorkbookHolder;
+
+    /**
+     * 单元格写入后处理
+     * <p>
+     * 首次处理某个工作簿的单元格时登记补齐处理器，再按父类逻辑合并数据单元格。
+     *
+     * @param context 单元格写入上下文
+     */
+    @Override
+    public void afterCellDispose(CellWriteHandlerContext context) {
+        register(context);
+        super.afterCellDispose(context);
+    }
 
     /**
      * 合并单元格
      * <p>
-     * 该方法用于根据当前单元格的值和列索引，决定是否合并单元格。如果当前单元格的值在忽略的值列表中，则不进行合并操作。
-     * 如果当前单元格的列索引在指定的列索引列表中，则调用合并单元格的方法进行合并。
+     * 该方法用于根据当前单元格的值和列索引，决定是否合并单元格。如果当前单元格的值在忽略的值列表中，则结束该列的区间。
+     * 如果当前单元格的值与该列正在延续的区间相同且行号相邻，则延续区间，否则结束原区间并开始新区间。
      *
      * @param sheet            当前表格对象，表示要操作的Excel表格
      * @param cell             当前单元格对象，表示要处理的单元格
@@ -42,72 +83,123 @@ public class ColumnMergeStrategy extends AbstractMergeStrategy {
         // 获取当前单元格的行索引和列索引
         int rowIndex = cell.getRowIndex();
         int columnIndex = cell.getColumnIndex();
+        if (!columnIndexes.contains(columnIndex)) {
+            return;
+        }
+
+        // 切换工作表时补齐上一个工作表的区间
+        if (sheet != currentSheet) {
+            flush();
+            currentSheet = sheet;
+        }
 
-        // 如果当前单元格的值在忽略的值列表中，则不进行合并操作
-        if (ignoreValues.contains(CellUtil.getCellValue(cell))) {
+        // 如果当前单元格的值为空或在忽略的值列表中，则结束该列的区间
+        Object cellValue = MergeCellValue.of(cell);
+        if (cellValue == null || ignoreValues.contains(cellValue)) {
+            close(runs.remove(columnIndex));
             return;
         }
 
-        // 如果当前单元格的列索引在指定的列索引列表中，则调用合并单元格的方法进行合并
-        if (columnIndexes.contains(columnIndex)) {
-            mergeCell(sheet, cell, rowIndex, columnIndex);
+        Run run = runs.get(columnIndex);
+        if (run != null && run.lastRow == rowIndex - 1 && Objects.equals(run.value, cellValue)) {
+            run.lastRow = rowIndex;
+            return;
         }
+        close(run);
+        runs.put(columnIndex, new Run(rowIndex, columnIndex, cellValue));
     }
 
     /**
-     * 合并单元格
-     * <p>
-     * 该方法用于检查当前单元格的值是否与上一行相同列的值相同，如果相同则合并这两个单元格。
-     * 合并操作会移除原有的合并区域，并重新创建一个新的合并区域。
+     * 工作簿写出前补齐仍在延续的区间
      *
-     * @param sheet       当前操作的表格对象，表示要合并单元格的工作表
-     * @param cell        当前单元格对象，表示要检查的单元格
-     * @param rowIndex    当前单元格所在的行索引
-     * @param columnIndex 当前单元格所在的列索引
+     * @param context 工作簿写入上下文
      */
-    private void mergeCell(Sheet sheet, Cell cell, int rowIndex, int columnIndex) {
-        // 获取上一行相同列的单元格
-        Cell preCell = sheet.getRow(rowIndex - 1).getCell(columnIndex);
+    @Override
+    public void afterWorkbookDispose(WorkbookWriteHandlerContext context) {
+        flush();
+        currentSheet = null;
+    }
 
-        // 获取上一行单元格的值
-        Object preCellValue = CellUtil.getCellValue(preCell);
+    /**
+     * 在工作表或表格级别注册时登记补齐处理器
+     * <p>
+     * 新建的工作表和表格会复制上级的处理器列表，登记到工作簿和当前工作表后，工作簿写出前回调的处理器中一定包含该处理器。
+     * 补齐处理器只实现工作簿处理器接口，不会参与其他工作表的单元格合并。
+     *
+     * @param context 单元格写入上下文
+     */
+    private void register(CellWriteHandlerContext context) {
+        WriteWorkbookHolder workbookHolder = context.getWriteWorkbookHolder();
+        if (workbookHolder == registeredWorkbookHolder) {
+            return;
+        }
+        registeredWorkbookHolder = workbookHolder;
+        List<WriteHandler> workbookHandlers = workbookHolder.getWriteHandlerList();
+        // 在工作簿级别注册时由策略自身补齐
+        if (workbookHandlers.contains(this)) {
+            return;
+        }
+        Flusher flusher = new Flusher();
+        workbookHandlers.add(flusher);
+        context.getWriteSheetHolder().getWriteHandlerList().add(flusher);
+    }
 
-        // 获取当前单元格的值
-        Object cellValue = CellUtil.getCellValue(cell);
+    /**
+     * 添加所有仍在延续的区间的合并区域
+     */
+    private void flush() {
+        runs.values().forEach(this::close);
+        runs.clear();
+    }
 
-        // 如果当前单元格的值与上一行相同列的值相同，则进行合并操作
-        if (preCellValue.equals(cellValue)) {
-            // 获取上一个单元格所在的合并区域的首个单元格
-            Cell firstCell = CellUtil.getMergedRegionCell(preCell);
+    /**
+     * 结束区间，区间跨越多行时添加合并区域
+     *
+     * @param run 区间，可为null
+     */
+    private void close(Run run) {
+        if (run != null && run.lastRow > run.firstRow) {
+            currentSheet.addMergedRegionUnsafe(new CellRangeAddress(run.firstRow, run.lastRow, run.columnIndex, run.columnIndex));
+        }
+    }
 
-            // 移除原有的合并区域
-            removeMergedRegion(sheet, firstCell);
+    /**
+     * 补齐处理器，工作簿写出前补齐所属策略仍在延续的区间
+     */
+    private class Flusher implements WorkbookWriteHandler {
 
-            // 重新合并单元格，范围从上一行的单元格到当前单元格
-            CellUtil.mergingCells(sheet, firstCell.getRowIndex(), rowIndex, columnIndex, columnIndex);
+        @Override
+        public void afterWorkbookDispose(WorkbookWriteHandlerContext context) {
+            ColumnMergeStrategy.this.afterWorkbookDispose(context);
         }
     }
 
     /**
-     * 移除包含指定单元格的合并区域。
-     * <p>
-     * 该方法会遍历当前表格中的所有合并区域，检查指定的单元格是否位于某个合并区域内。
-     * 如果找到包含该单元格的合并区域，则将该合并区域从表格中移除。
-     *
-     * @param sheet 当前表格对象，表示要操作的表格。
-     * @param cell  指定的单元格对象，表示要检查的单元格。
+     * 同一列中值相同的连续行区间
      */
-    private void removeMergedRegion(Sheet sheet, Cell cell) {
-        // 获取当前表格中的所有合并区域
-        List<CellRangeAddress> list = sheet.getMergedRegions();
-
-        // 遍历所有合并区域，检查是否包含指定的单元格
-        for (int i = 0; i < list.size(); i++) {
-            CellRangeAddress cellRangeAddress = list.get(i);
-            if (cellRangeAddress.isInRange(cell)) {
-                // 如果找到包含指定单元格的合并区域，则移除该合并区域
-                sheet.removeMergedRegion(i);
-            }
+    private static class Run {
+        /**
+         * 起始行索引
+         */
+        private final int firstRow;
+        /**
+         * 列索引
+         */
+        private final int columnIndex;
+        /**
+         * 单元格值
+         */
+        private final Object value;
+        /**
+         * 结束行索引
+         */
+        private int lastRow;
+
+        Run(int firstRow, int columnIndex, Object value) {
+            this.firstRow = firstRow;
+            this.columnIndex = columnIndex;
+            this.value = value;
+            this.lastRow = firstRow;
         }
     }
 
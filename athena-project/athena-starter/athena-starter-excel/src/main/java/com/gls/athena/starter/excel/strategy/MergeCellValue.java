@@ -0,0 +1,42 @@
+package com.gls.athena.starter.excel.strategy;
+
+import cn.hutool.poi.excel.cell.values.ErrorCellValue;
+import cn.hutool.poi.excel.cell.values.NumericCellValue;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+
+/**
+ * 合并策略读取单元格值
+ * <p>
+ * 取值规则与 {@link cn.hutool.poi.excel.cell.CellUtil#getCellValue(Cell)} 一致，但不查找单元格所在的合并区域。
+ * 该查找会遍历工作表的全部合并区域，逐单元格调用时导出耗时随合并区域数量平方增长；
+ * 合并策略只合并值相同的单元格，合并区域内每个单元格的值与首个单元格相同，无需查找。
+ *
+ * @author george
+ */
+final class MergeCellValue {
+
+    private MergeCellValue() {
+    }
+
+    /**
+     * 获取单元格值
+     *
+     * @param cell 单元格
+     * @return 单元格值，空白单元格返回空字符串
+     */
+    static Object of(Cell cell) {
+        return of(cell, cell.getCellType());
+    }
+
+    private static Object of(Cell cell, CellType cellType) {
+        return switch (cellType) {
+            case NUMERIC -> new NumericCellValue(cell).getValue();
+            case BOOLEAN -> cell.getBooleanCellValue();
+            case FORMULA -> of(cell, cell.getCachedFormulaResultType());
+            case BLANK -> "";
+            case ERROR -> new ErrorCellValue(cell).getValue();
+            default -> cell.getStringCellValue();
+        };
+    }
+}
@@ -1,16 +1,19 @@
 package com.gls.athena.starter.excel.strategy;
 
-import cn.hutool.poi.excel.cell.CellUtil;
 import cn.idev.excel.metadata.Head;
 import cn.idev.excel.write.merge.AbstractMergeStrategy;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
 
 import java.util.List;
 
 /**
  * 行合并策略 <br> 横向合并相同行的单元格
+ * <p>
+ * 每行最多合并一次，通过记录最近合并的行判断是否已合并，不再遍历工作表的合并区域，导出耗时与行数成线性关系。
+ * 合并区域不做重叠校验，同一工作表中的其他合并策略不能与合并范围重叠。
  *
  * @author george
  */
@@ -25,6 +28,14 @@ public class RowMergeStrategy extends AbstractMergeStrategy {
      * 合并行的值
      */
     private final List<Object> rowValues;
+    /**
+     * 最近合并的工作表
+     */
+    private Sheet mergedSheet;
+    /**
+     * 最近合并的行索引
+     */
+    private int mergedRowIndex = -1;
 
     /**
      * 合并单元格
@@ -42,15 +53,16 @@ public class RowMergeStrategy extends AbstractMergeStrategy {
         int rowIndex = cell.getRowIndex();
         int columnIndex = cell.getColumnIndex();
 
-        // 获取当前单元格的值
-        Object cellValue = CellUtil.getCellValue(cell);
+        // 当前行已合并时跳过
+        if (columnIndex >= this.columnIndex || (sheet == mergedSheet && rowIndex == mergedRowIndex)) {
+            return;
+        }
 
-        // 判断是否需要合并单元格：如果当前列索引小于指定列索引，并且当前单元格的值在预定义的行值列表中
-        if (columnIndex < this.columnIndex && rowValues.contains(cellValue)) {
-            // 如果当前单元格未被合并，则进行合并操作
-            if (!CellUtil.isMergedRegion(cell)) {
-                CellUtil.mergingCells(sheet, rowIndex, rowIndex, columnIndex, this.columnIndex);
-            }
+        // 判断是否需要合并单元格：当前单元格的值在预定义的行值列表中
+        if (rowValues.contains(MergeCellValue.of(cell))) {
+            sheet.addMergedRegionUnsafe(new CellRangeAddress(rowIndex, rowIndex, columnIndex, this.columnIndex));
+            mergedSheet = sheet;
+            mergedRowIndex = rowIndex;
         }
     }
 
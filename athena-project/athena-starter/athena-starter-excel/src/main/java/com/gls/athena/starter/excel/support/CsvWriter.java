@@ -0,0 +1,154 @@
+package com.gls.athena.starter.excel.support;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV写入器
+ * <p>
+ * 按RFC 4180格式逐字段写入输出流：字段包含分隔符、引号或换行时使用双引号包裹，字段内的引号转义为两个引号，
+ * 行以CRLF结尾。字段按原字符串分段写入缓冲区，不创建转义后的中间字符串。
+ * <p>
+ * 该类非线程安全，每次导出使用独立实例。
+ *
+ * @author george
+ */
+public class CsvWriter implements Flushable {
+
+    /**
+     * 缓冲区大小
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 字段分隔符
+     */
+    private static final char SEPARATOR = ',';
+
+    /**
+     * 引号
+     */
+    private static final char QUOTE = '"';
+
+    /**
+     * 字节顺序标记
+     */
+    private static final char BOM = '\uFEFF';
+
+    private final Writer writer;
+
+    /**
+     * 当前行是否已写入字段
+     */
+    private boolean rowStarted;
+
+    /**
+     * 创建CSV写入器
+     *
+     * @param outputStream 输出流
+     * @param charset      字符集
+     * @param withBom      是否写入字节顺序标记，仅对UTF编码生效
+     * @throws IOException 写入异常
+     */
+    public CsvWriter(OutputStream outputStream, Charset charset, boolean withBom) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, charset), BUFFER_SIZE);
+        if (withBom && charset.name().startsWith("UTF")) {
+            writer.write(BOM);
+        }
+    }
+
+    /**
+     * 创建UTF-8编码的CSV写入器
+     *
+     * @param outputStream 输出流
+     * @throws IOException 写入异常
+     */
+    public CsvWriter(OutputStream outputStream) throws IOException {
+        this(outputStream, StandardCharsets.UTF_8, false);
+    }
+
+    /**
+     * 写入字段
+     *
+     * @param value 字段值，null写入空字段
+     * @throws IOException 写入异常
+     */
+    public void writeField(String value) throws IOException {
+        if (rowStarted) {
+            writer.write(SEPARATOR);
+        }
+        rowStarted = true;
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (!needsQuote(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write(QUOTE);
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) == QUOTE) {
+                // 连同当前引号一起写出，再补一个引号完成转义
+                writer.write(value, start, i - start + 1);
+                writer.write(QUOTE);
+                start = i + 1;
+            }
+        }
+        writer.write(value, start, length - start);
+        writer.write(QUOTE);
+    }
+
+    /**
+     * 结束当前行
+     *
+     * @throws IOException 写入异常
+     */
+    public void endRow() throws IOException {
+        writer.write('\r');
+        writer.write('\n');
+        rowStarted = false;
+    }
+
+    /**
+     * 刷新缓冲区到输出流
+     *
+     * @throws IOException 写入异常
+     */
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * 刷新缓冲区并关闭输出流
+     *
+     * @throws IOException 写入异常
+     */
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * 判断字段是否需要使用引号包裹
+     *
+     * @param value 字段值
+     * @return 包含分隔符、引号或换行时返回true
+     */
+    private static boolean needsQuote(String value) {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
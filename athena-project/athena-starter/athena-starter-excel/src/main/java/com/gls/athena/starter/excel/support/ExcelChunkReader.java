@@ -0,0 +1,157 @@
+package com.gls.athena.starter.excel.support;
+
+import cn.hutool.core.io.file.FileNameUtil;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.read.builder.ExcelReaderBuilder;
+import com.gls.athena.starter.excel.annotation.ExcelRequest;
+import com.gls.athena.starter.excel.exception.ExcelParseException;
+import com.gls.athena.starter.excel.listener.ChunkReadListener;
+import com.gls.athena.starter.file.manager.IFileManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Excel分批读取器
+ * <p>
+ * 作为 {@link ExcelRequest} 参数类型使用时，上传文件不会在进入Controller前解析，
+ * 而是在调用 {@link #read(Consumer)} 时边读取边按批次交给消费者处理，内存占用与文件大小无关。
+ * <p>
+ * 使用示例:
+ * <pre>
+ * &#64;PostMapping("/import")
+ * public ExcelImportSummary importData(&#64;ExcelRequest(batchSize = 2000) ExcelChunkReader&lt;UserDTO&gt; reader) {
+ *     return reader.read(userService::saveBatch, 4);
+ * }
+ * </pre>
+ * 设置 {@code @ExcelRequest(async = true)} 时上传文件先保存到文件管理器，Controller方法在后台线程中执行并立即返回任务ID，
+ * 读取进度和已提交的行号记录在异步任务中，首个处理失败的批次即终止读取并将任务标记为失败，
+ * 之后由创建任务的用户携带 {@code taskId} 参数重新请求即可续传。
+ * <p>
+ * 设置 {@code @ExcelRequest(errorWorkbook = true)} 时，每次读取将校验或转换失败的原始行写入独立的错误工作簿，
+ * 文件路径通过返回的导入汇总结果获取；批次处理失败的行已转换为数据对象，只记录错误信息。
+ *
+ * @param <T> 数据对象类型
+ * @author george
+ */
+@RequiredArgsConstructor
+public class ExcelChunkReader<T> {
+
+    /**
+     * 上传的Excel文件
+     */
+    private final MultipartFile file;
+
+    /**
+     * 数据对象类型
+     */
+    private final Class<T> type;
+
+    /**
+     * 导入配置
+     */
+    private final ExcelRequest excelRequest;
+
+    /**
+     * 保留的错误信息上限
+     */
+    private final int maxErrors;
+
+    /**
+     * 文件管理器，用于保存错误工作簿
+     */
+    private final IFileManager fileManager;
+
+    /**
+     * 异步导入任务，同步导入时为null
+     */
+    @Getter
+    @Setter
+    private ExcelImportTask task;
+
+    /**
+     * 在当前线程中按批次顺序处理
+     *
+     * @param consumer 批次消费者
+     * @return 导入汇总结果
+     */
+    public ExcelImportSummary read(Consumer<List<T>> consumer) {
+        return read(consumer, 1);
+    }
+
+    /**
+     * 按批次并行处理
+     * <p>
+     * 读取在当前线程中进行，批次提交到本次读取专用的线程池处理，同时处理的批次不超过并行度。
+     * 不使用应用共享的线程池：异步导入本身运行在共享线程池中，线程数不足时批次任务无法执行，读取线程将一直等待许可。
+     * 读取结束或失败时均等待已提交的批次处理完成后再返回或抛出异常。
+     * 批次之间不保证处理顺序，消费者需自行保证线程安全。
+     *
+     * @param consumer    批次消费者
+     * @param parallelism 并行度，小于等于1时顺序处理
+     * @return 导入汇总结果
+     */
+    public ExcelImportSummary read(Consumer<List<T>> consumer, int parallelism) {
+        // 关闭线程池时等待已提交的批次处理完成，读取失败时同样先等待再抛出异常
+        try (ExecutorService executor = parallelism > 1
+                ? Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("excel-chunk-")) : null) {
+            return read(consumer, executor, parallelism);
+        }
+    }
+
+    /**
+     * 读取并按批次处理
+     *
+     * @param consumer    批次消费者
+     * @param executor    批次处理线程池，为null时顺序处理
+     * @param parallelism 并行度
+     * @return 导入汇总结果
+     */
+    private ExcelImportSummary read(Consumer<List<T>> consumer, ExecutorService executor, int parallelism) {
+        ChunkReadListener<T> listener = new ChunkReadListener<>(excelRequest.batchSize(), consumer, executor, parallelism, maxErrors);
+        listener.setFailFast(excelRequest.failFast());
+        if (task != null) {
+            // 异步导入时首个失败的批次即终止读取，任务标记为失败后可从已提交的行号续传
+            listener.setAbortOnChunkFailure(true);
+            listener.setResumeLine(task.getCommittedLine());
+            listener.setCommitListener(line -> task.commit(line, listener.getApproximateTotalRows()));
+        }
+        try (ExcelErrorWorkbook errorWorkbook = createErrorWorkbook();
+             InputStream inputStream = task != null ? task.getInputStream() : file.getInputStream()) {
+            listener.setErrorWorkbook(errorWorkbook);
+            ExcelReaderBuilder builder = FastExcel.read(inputStream, type, listener)
+                    .headRowNumber(excelRequest.headRowNumber())
+                    .ignoreEmptyRow(excelRequest.ignoreEmptyRow());
+            ExcelDataUtil.sheet(builder, excelRequest).doRead();
+        } catch (IOException e) {
+            throw new ExcelParseException("Excel读取失败: " + e.getMessage(), e);
+        }
+        ExcelImportSummary summary = listener.getSummary();
+        if (task != null) {
+            task.setSummary(summary);
+        }
+        return summary;
+    }
+
+    /**
+     * 按配置创建错误工作簿，文件名取自上传文件名
+     *
+     * @return 错误工作簿，未开启时返回null
+     */
+    private ExcelErrorWorkbook createErrorWorkbook() {
+        if (!excelRequest.errorWorkbook()) {
+            return null;
+        }
+        String filename = task != null ? task.getFilename() : file.getOriginalFilename();
+        return new ExcelErrorWorkbook(fileManager, FileNameUtil.mainName(filename) + "_错误数据");
+    }
+}
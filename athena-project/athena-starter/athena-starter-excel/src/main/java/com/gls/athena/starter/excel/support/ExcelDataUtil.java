@@ -1,7 +1,14 @@
 package com.gls.athena.starter.excel.support;
 
+import cn.hutool.core.util.StrUtil;
+import cn.idev.excel.read.builder.ExcelReaderBuilder;
+import cn.idev.excel.read.builder.ExcelReaderSheetBuilder;
+import com.gls.athena.starter.excel.annotation.ExcelRequest;
 import com.gls.athena.starter.excel.annotation.ExcelResponse;
 import com.gls.athena.starter.excel.annotation.ExcelSheet;
+import com.gls.athena.starter.excel.config.ExcelProperties;
+import com.gls.athena.starter.excel.listener.DefaultReadListener;
+import com.gls.athena.starter.excel.listener.IReadListener;
 import lombok.experimental.UtilityClass;
 
 import java.util.ArrayList;
@@ -73,4 +80,46 @@ public class ExcelDataUtil {
         // 返回工作表配置列表
         return List.of(sheets);
     }
+
+    /**
+     * 按导入配置选择读取的工作表
+     * <p>
+     * 指定工作表名称时按名称读取，否则按工作表序号读取。
+     *
+     * @param builder      读取构建器
+     * @param excelRequest 导入配置
+     * @return 工作表读取构建器
+     */
+    public ExcelReaderSheetBuilder sheet(ExcelReaderBuilder builder, ExcelRequest excelRequest) {
+        return StrUtil.isNotEmpty(excelRequest.sheetName())
+                ? builder.sheet(excelRequest.sheetName())
+                : builder.sheet(excelRequest.sheetNo());
+    }
+
+    /**
+     * 获取保留的错误信息上限
+     * <p>
+     * 导入配置未指定时使用全局配置。
+     *
+     * @param excelRequest    导入配置
+     * @param excelProperties Excel配置属性
+     * @return 错误信息上限
+     */
+    public int maxErrors(ExcelRequest excelRequest, ExcelProperties excelProperties) {
+        return excelRequest.maxErrors() >= 0 ? excelRequest.maxErrors() : excelProperties.getImportMaxErrors();
+    }
+
+    /**
+     * 按导入配置设置监听器的错误上限和快速失败，非默认监听器不做处理
+     *
+     * @param readListener    读取监听器
+     * @param excelRequest    导入配置
+     * @param excelProperties Excel配置属性
+     */
+    public void configureErrors(IReadListener<?> readListener, ExcelRequest excelRequest, ExcelProperties excelProperties) {
+        if (readListener instanceof DefaultReadListener<?> defaultReadListener) {
+            defaultReadListener.setMaxErrors(maxErrors(excelRequest, excelProperties));
+            defaultReadListener.setFailFast(excelRequest.failFast());
+        }
+    }
 }
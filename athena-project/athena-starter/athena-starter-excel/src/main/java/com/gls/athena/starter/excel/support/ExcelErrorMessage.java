@@ -11,6 +11,10 @@ import lombok.experimental.Accessors;
 @Data
 @Accessors(chain = true)
 public class ExcelErrorMessage {
+    /**
+     * 工作表名称，仅多工作表导入时设置
+     */
+    private String sheetName;
     /**
      * 行号
      */
@@ -0,0 +1,169 @@
+package com.gls.athena.starter.excel.support;
+
+import cn.hutool.core.util.StrUtil;
+import cn.idev.excel.ExcelWriter;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.support.ExcelTypeEnum;
+import cn.idev.excel.write.metadata.WriteSheet;
+import com.gls.athena.common.core.constant.FileTypeEnums;
+import com.gls.athena.starter.excel.exception.ExcelParseException;
+import com.gls.athena.starter.file.manager.IFileManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Excel导入错误工作簿
+ * <p>
+ * 导入过程中将校验失败的原始行连同错误信息逐批写入文件管理器，错误信息列位于原始列之后，
+ * 修正后可直接重新导入。首次写入错误行时才创建文件，没有错误时不产生文件。
+ * <p>
+ * 该类非线程安全，每次导入使用独立实例，导入结束后需调用 {@link #close()}。
+ *
+ * @author george
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ExcelErrorWorkbook implements AutoCloseable {
+
+    /**
+     * 错误信息列名
+     */
+    private static final String ERROR_HEAD = "错误信息";
+
+    /**
+     * 每批写入行数
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private final IFileManager fileManager;
+
+    /**
+     * 错误文件名（不含扩展名）
+     */
+    private final String filename;
+
+    /**
+     * 待写入的错误行
+     */
+    private final List<List<Object>> buffer = new ArrayList<>(BATCH_SIZE);
+
+    /**
+     * 错误文件路径，未写入错误行时为null
+     */
+    @Getter
+    private String filePath;
+
+    /**
+     * 已写入的错误行数
+     */
+    @Getter
+    private long rows;
+
+    /**
+     * 原始列数
+     */
+    private int columns;
+
+    private OutputStream outputStream;
+
+    private ExcelWriter excelWriter;
+
+    private WriteSheet writeSheet;
+
+    /**
+     * 写入错误行
+     *
+     * @param headMap      原始表头，键为列索引
+     * @param row          原始行数据，键为列索引
+     * @param errorMessage 错误信息
+     */
+    public void write(Map<Integer, String> headMap, Map<Integer, String> row, String errorMessage) {
+        if (excelWriter == null) {
+            open(headMap, row);
+        }
+        List<Object> values = new ArrayList<>(columns + 1);
+        for (int i = 0; i < columns; i++) {
+            values.add(row.get(i));
+        }
+        values.add(errorMessage);
+        buffer.add(values);
+        rows++;
+        if (buffer.size() >= BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * 写入剩余错误行并关闭文件
+     */
+    @Override
+    public void close() {
+        if (excelWriter == null) {
+            return;
+        }
+        try {
+            flush();
+            excelWriter.finish();
+            outputStream.close();
+            log.info("Excel导入错误文件已生成: {}, 共{}行", filePath, rows);
+        } catch (IOException e) {
+            throw new ExcelParseException("Excel导入错误文件写入失败: " + e.getMessage(), e);
+        } finally {
+            excelWriter = null;
+        }
+    }
+
+    /**
+     * 创建错误文件并写入表头
+     *
+     * @param headMap 原始表头
+     * @param row     首个错误行
+     */
+    private void open(Map<Integer, String> headMap, Map<Integer, String> row) {
+        columns = Math.max(maxIndex(headMap), maxIndex(row)) + 1;
+        List<List<String>> head = new ArrayList<>(columns + 1);
+        for (int i = 0; i < columns; i++) {
+            head.add(List.of(StrUtil.nullToEmpty(headMap.get(i))));
+        }
+        head.add(List.of(ERROR_HEAD));
+        filePath = fileManager.generateFilePath(FileTypeEnums.XLSX.getCode(), filename + FileTypeEnums.XLSX.getExtension());
+        try {
+            outputStream = fileManager.getFileOutputStream(filePath);
+        } catch (IOException e) {
+            throw new ExcelParseException("Excel导入错误文件创建失败: " + e.getMessage(), e);
+        }
+        excelWriter = FastExcel.write(outputStream).head(head).excelType(ExcelTypeEnum.XLSX).build();
+        writeSheet = FastExcel.writerSheet(0, ERROR_HEAD).build();
+    }
+
+    /**
+     * 写入缓存的错误行
+     */
+    private void flush() {
+        if (!buffer.isEmpty()) {
+            excelWriter.write(buffer, writeSheet);
+            buffer.clear();
+        }
+    }
+
+    /**
+     * 获取最大列索引
+     *
+     * @param map 列索引与值
+     * @return 最大列索引，为空时返回-1
+     */
+    private static int maxIndex(Map<Integer, String> map) {
+        int max = -1;
+        for (Integer index : map.keySet()) {
+            max = Math.max(max, index);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,51 @@
+package com.gls.athena.starter.excel.support;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * Excel导入汇总结果
+ * <p>
+ * 分批导入时代替完整的数据列表返回，仅包含行数统计与有限数量的错误信息。
+ * 列表导入时以 {@link #ATTRIBUTE} 为名存入请求属性，可通过 {@code @RequestAttribute} 获取。
+ *
+ * @author george
+ */
+@Data
+@Accessors(chain = true)
+public class ExcelImportSummary {
+    /**
+     * 请求属性名
+     */
+    public static final String ATTRIBUTE = ExcelImportSummary.class.getName();
+    /**
+     * 读取的总行数
+     */
+    private long totalRows;
+    /**
+     * 成功处理的行数
+     */
+    private long successRows;
+    /**
+     * 失败的行数，包括校验失败和所在批次处理失败的行
+     */
+    private long failedRows;
+    /**
+     * 处理的批次数
+     */
+    private long chunks;
+    /**
+     * 错误总数
+     */
+    private long errorCount;
+    /**
+     * 错误信息，超过上限的部分仅计入错误总数
+     */
+    private List<ExcelErrorMessage> errors;
+    /**
+     * 错误工作簿路径，未生成错误工作簿时为null
+     */
+    private String errorFilePath;
+}
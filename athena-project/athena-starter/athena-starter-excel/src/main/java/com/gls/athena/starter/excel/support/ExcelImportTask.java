@@ -0,0 +1,267 @@
+package com.gls.athena.starter.excel.support;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.util.StrUtil;
+import com.gls.athena.common.bean.security.LoginUserHelper;
+import com.gls.athena.starter.async.domain.AsyncTask;
+import com.gls.athena.starter.async.domain.AsyncTaskStatus;
+import com.gls.athena.starter.async.manager.IAsyncTaskManager;
+import com.gls.athena.starter.excel.exception.ExcelParseException;
+import com.gls.athena.starter.file.manager.IFileManager;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Excel异步导入任务
+ * <p>
+ * 上传文件保存到文件管理器后在后台线程中分批读取，每个批次处理完成后记录已提交的最后行号和进度。
+ * 任务失败后使用任务ID重新提交请求即可从已提交的最后一个批次之后继续导入，无需再次上传文件。
+ * <p>
+ * 并行处理批次时，已提交行号只覆盖连续处理成功的批次，续传时其后已处理的批次会被再次处理，
+ * 此时批次消费者需保证幂等。
+ * <p>
+ * 任务记录创建任务的用户ID，只有同一用户可以续传；续传开始时将任务状态由失败原子地更新为处理中，
+ * 同一任务ID的并发续传请求只有一个能够开始。
+ *
+ * @author george
+ */
+@Slf4j
+@Getter
+public class ExcelImportTask {
+
+    /**
+     * 任务编码
+     */
+    public static final String CODE = "excel-import";
+
+    /**
+     * 续传时传递任务ID的请求参数名
+     */
+    public static final String RESUME_PARAMETER = "taskId";
+
+    /**
+     * 任务参数：上传文件路径
+     */
+    private static final String PARAM_FILE_PATH = "filePath";
+
+    /**
+     * 任务参数：上传文件名
+     */
+    private static final String PARAM_FILENAME = "filename";
+
+    /**
+     * 任务参数：已提交的最后行号
+     */
+    private static final String PARAM_COMMITTED_LINE = "committedLine";
+
+    /**
+     * 任务参数：创建任务的用户ID
+     */
+    private static final String PARAM_OWNER_ID = "ownerId";
+
+    /**
+     * 进度百分比
+     */
+    private static final int PROGRESS_STARTED = 5;
+    private static final int PROGRESS_READ = 95;
+
+    private final IAsyncTaskManager<?> asyncTaskManager;
+
+    private final IFileManager fileManager;
+
+    /**
+     * 任务ID
+     */
+    private final String taskId;
+
+    /**
+     * 上传文件在文件管理器中的路径
+     */
+    private final String filePath;
+
+    /**
+     * 上传文件名
+     */
+    private final String filename;
+
+    /**
+     * 续传起始行号，该行及之前的数据已提交，新任务为-1
+     */
+    private final int committedLine;
+
+    /**
+     * 创建任务的用户ID，未登录时为null
+     */
+    private final Long ownerId;
+
+    /**
+     * 是否为续传任务
+     */
+    private final boolean resumed;
+
+    /**
+     * 读取完成后的导入汇总结果
+     */
+    private ExcelImportSummary summary;
+
+    private ExcelImportTask(IAsyncTaskManager<?> asyncTaskManager, IFileManager fileManager, String taskId,
+                            String filePath, String filename, int committedLine, Long ownerId, boolean resumed) {
+        this.asyncTaskManager = asyncTaskManager;
+        this.fileManager = fileManager;
+        this.taskId = taskId;
+        this.filePath = filePath;
+        this.filename = filename;
+        this.committedLine = committedLine;
+        this.ownerId = ownerId;
+        this.resumed = resumed;
+    }
+
+    /**
+     * 创建新的导入任务，上传文件保存到文件管理器
+     *
+     * @param asyncTaskManager 异步任务管理器
+     * @param fileManager      文件管理器
+     * @param taskId           任务ID
+     * @param filename         上传文件名
+     * @param inputStream      上传文件输入流
+     * @return 导入任务
+     */
+    public static ExcelImportTask create(IAsyncTaskManager<?> asyncTaskManager, IFileManager fileManager,
+                                         String taskId, String filename, InputStream inputStream) {
+        String filePath = fileManager.generateFilePath(CODE, filename);
+        fileManager.saveFile(filePath, inputStream);
+        return new ExcelImportTask(asyncTaskManager, fileManager, taskId, filePath, filename, -1,
+                LoginUserHelper.getCurrentUserId().orElse(null), false);
+    }
+
+    /**
+     * 续传失败的导入任务
+     *
+     * @param asyncTaskManager 异步任务管理器
+     * @param fileManager      文件管理器
+     * @param taskId           任务ID
+     * @return 导入任务
+     * @throws ExcelParseException 任务不存在、不是导入任务、不属于当前登录用户或未失败时抛出
+     */
+    public static ExcelImportTask resume(IAsyncTaskManager<?> asyncTaskManager, IFileManager fileManager, String taskId) {
+        AsyncTask task = asyncTaskManager.getTask(taskId);
+        if (task == null || !CODE.equals(task.getCode())) {
+            throw new ExcelParseException("导入任务不存在: " + taskId);
+        }
+        // 匿名创建的任务或匿名请求无法确认归属，一律拒绝续传
+        Long ownerId = Convert.toLong(task.getParams().get(PARAM_OWNER_ID));
+        Long currentUserId = LoginUserHelper.getCurrentUserId().orElse(null);
+        if (ownerId == null || !ownerId.equals(currentUserId)) {
+            throw new ExcelParseException("无权续传该导入任务: " + taskId);
+        }
+        if (task.getStatus() != AsyncTaskStatus.FAILED) {
+            throw new ExcelParseException("仅失败的导入任务可以续传: " + taskId);
+        }
+        String filePath = Convert.toStr(task.getParams().get(PARAM_FILE_PATH));
+        if (StrUtil.isEmpty(filePath) || !fileManager.exists(filePath)) {
+            throw new ExcelParseException("导入文件已不存在，无法续传: " + taskId);
+        }
+        int committedLine = Convert.toInt(task.getParams().get(PARAM_COMMITTED_LINE), -1);
+        return new ExcelImportTask(asyncTaskManager, fileManager, taskId, filePath,
+                Convert.toStr(task.getParams().get(PARAM_FILENAME)), committedLine, ownerId, true);
+    }
+
+    /**
+     * 打开上传文件输入流
+     *
+     * @return 上传文件输入流
+     */
+    public InputStream getInputStream() {
+        return fileManager.getFileInputStream(filePath);
+    }
+
+    /**
+     * 开始任务，新任务创建任务记录，续传任务由失败更新为处理中
+     *
+     * @param name        任务名称
+     * @param description 任务描述
+     * @throws ExcelParseException 续传任务已被其他请求开始时抛出
+     */
+    public void start(String name, String description) {
+        if (resumed) {
+            // 并发续传同一任务时只有一个请求能够开始，避免重复导入
+            if (!asyncTaskManager.compareAndSetStatus(taskId, AsyncTaskStatus.FAILED, AsyncTaskStatus.PROCESSING)) {
+                throw new ExcelParseException("仅失败的导入任务可以续传: " + taskId);
+            }
+        } else {
+            Map<String, Object> params = new HashMap<>();
+            params.put(PARAM_FILE_PATH, filePath);
+            params.put(PARAM_FILENAME, filename);
+            params.put(PARAM_COMMITTED_LINE, committedLine);
+            params.put(PARAM_OWNER_ID, ownerId);
+            asyncTaskManager.createTask(taskId, CODE, name, description, params);
+            asyncTaskManager.updateTaskStatus(taskId, AsyncTaskStatus.PROCESSING);
+        }
+        asyncTaskManager.updateTaskProgress(taskId, PROGRESS_STARTED);
+        log.info("Excel异步导入开始: taskId={}, filePath={}, 续传起始行号={}", taskId, filePath, committedLine);
+    }
+
+    /**
+     * 记录已提交的最后行号和进度
+     *
+     * @param line            已提交的最后行号
+     * @param approximateRows 估算的总行数，未知时为null
+     */
+    public void commit(int line, Integer approximateRows) {
+        int progress = approximateRows == null || approximateRows <= 0 ? PROGRESS_STARTED
+                : PROGRESS_STARTED + (int) Math.min((long) (line + 1) * (PROGRESS_READ - PROGRESS_STARTED) / approximateRows,
+                PROGRESS_READ - PROGRESS_STARTED);
+        commit(asyncTaskManager, line, progress);
+    }
+
+    /**
+     * 记录读取完成后的导入汇总结果
+     *
+     * @param summary 导入汇总结果
+     */
+    public void setSummary(ExcelImportSummary summary) {
+        this.summary = summary;
+    }
+
+    /**
+     * 完成任务，任务结果为导入汇总结果
+     */
+    public void complete() {
+        Map<String, Object> result = summary == null ? new HashMap<>() : BeanUtil.beanToMap(summary);
+        asyncTaskManager.completeTask(taskId, result);
+        log.info("Excel异步导入完成: taskId={}", taskId);
+    }
+
+    /**
+     * 任务失败，保留已提交的行号以便续传
+     *
+     * @param e 异常
+     */
+    public void fail(Throwable e) {
+        log.error("Excel异步导入失败: taskId={}, 可使用任务ID续传", taskId, e);
+        asyncTaskManager.failTask(taskId, e.getMessage());
+    }
+
+    /**
+     * 更新任务参数中的已提交行号和任务进度
+     *
+     * @param manager  异步任务管理器
+     * @param line     已提交的最后行号
+     * @param progress 任务进度
+     * @param <V>      异步任务类型
+     */
+    private <V extends AsyncTask> void commit(IAsyncTaskManager<V> manager, int line, int progress) {
+        V task = manager.getTask(taskId);
+        if (task == null) {
+            return;
+        }
+        task.getParams().put(PARAM_COMMITTED_LINE, line);
+        task.setProgress(progress);
+        manager.update(task);
+    }
+}
@@ -0,0 +1,285 @@
+package com.gls.athena.starter.excel.support;
+
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.idev.excel.ExcelReader;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.read.metadata.ReadSheet;
+import com.gls.athena.starter.excel.annotation.ExcelRequest;
+import com.gls.athena.starter.excel.config.ExcelProperties;
+import com.gls.athena.starter.excel.exception.ExcelParseException;
+import com.gls.athena.starter.excel.listener.BoundedReadListener;
+import com.gls.athena.starter.excel.listener.DefaultReadListener;
+import com.gls.athena.starter.excel.listener.IReadListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Excel多工作表读取器
+ * <p>
+ * 每个工作表使用独立的读取监听器解析，所有工作表共享行数预算与错误数上限，错误信息汇总并标记所属工作表。
+ * xlsx格式的各工作表相互独立，可在线程池中并行解析，同时解析的工作表数受并行度与内存预算限制，
+ * 任一工作表失败（含超出行数预算）后不再提交新的工作表，已提交的工作表停止解析；
+ * xls、csv等格式及无法并行时，一次读取文件依次解析全部选中的工作表。
+ *
+ * @author george
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ExcelMultiSheetReader {
+
+    /**
+     * 工作表并行解析线程池
+     */
+    private final Executor executor;
+
+    /**
+     * Excel配置属性
+     */
+    private final ExcelProperties excelProperties;
+
+    /**
+     * 读取多个工作表
+     *
+     * @param file         上传的Excel文件
+     * @param type         数据对象类型
+     * @param excelRequest 导入配置
+     * @param errors       汇总的错误信息
+     * @return 按工作表顺序排列的工作表名称与数据
+     */
+    public Map<String, List<?>> read(MultipartFile file, Class<?> type, ExcelRequest excelRequest, List<ExcelErrorMessage> errors) {
+        List<ReadSheet> sheets = selectSheets(file, excelRequest);
+        AtomicLong remaining = new AtomicLong(excelProperties.getImportMaxRows());
+        AtomicLong errorCount = new AtomicLong();
+        List<IReadListener<?>> listeners = new ArrayList<>(sheets.size());
+        for (int i = 0; i < sheets.size(); i++) {
+            listeners.add(createListener(excelRequest, errorCount));
+        }
+
+        int parallelism = parallelism(file, sheets.size());
+        if (parallelism > 1) {
+            readParallel(file, type, excelRequest, sheets, listeners, remaining, parallelism);
+        } else {
+            readAll(file, type, excelRequest, sheets, listeners, remaining);
+        }
+
+        Map<String, List<?>> result = new LinkedHashMap<>();
+        for (int i = 0; i < sheets.size(); i++) {
+            String sheetName = sheets.get(i).getSheetName();
+            IReadListener<?> listener = listeners.get(i);
+            listener.getErrors().forEach(error -> error.setSheetName(sheetName));
+            result.put(sheetName, listener.getList());
+            errors.addAll(listener.getErrors());
+        }
+        log.info("Excel多工作表解析完成，共{}个工作表，{}条错误数据", sheets.size(), errorCount.get());
+        return result;
+    }
+
+    /**
+     * 计算同时解析的工作表数
+     * <p>
+     * 仅xlsx格式支持并行，并行度不超过配置值、工作表数以及内存预算按文件大小可容纳的解析数。
+     *
+     * @param file       上传的Excel文件
+     * @param sheetCount 工作表数
+     * @return 同时解析的工作表数，小于等于1时顺序读取
+     */
+    private int parallelism(MultipartFile file, int sheetCount) {
+        if (executor == null || sheetCount < 2 || !isParallelSupported(file)) {
+            return 1;
+        }
+        long budget = excelProperties.getImportSheetParallelMemory().toBytes();
+        long byMemory = budget / Math.max(file.getSize(), 1);
+        return (int) Math.min(Math.min(excelProperties.getImportSheetParallelism(), sheetCount), byMemory);
+    }
+
+    /**
+     * 一次读取文件，依次解析全部工作表
+     *
+     * @param file         上传的Excel文件
+     * @param type         数据对象类型
+     * @param excelRequest 导入配置
+     * @param sheets       工作表
+     * @param listeners    与工作表顺序一致的读取监听器
+     * @param remaining    剩余可读取行数
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void readAll(MultipartFile file, Class<?> type, ExcelRequest excelRequest, List<ReadSheet> sheets,
+                         List<IReadListener<?>> listeners, AtomicLong remaining) {
+        List<ReadSheet> readSheets = new ArrayList<>(sheets.size());
+        for (int i = 0; i < sheets.size(); i++) {
+            readSheets.add(FastExcel.readSheet(sheets.get(i).getSheetNo())
+                    .head(type)
+                    .registerReadListener(new BoundedReadListener(listeners.get(i), remaining))
+                    .build());
+        }
+        try (InputStream inputStream = file.getInputStream()) {
+            ExcelReader excelReader = FastExcel.read(inputStream)
+                    .headRowNumber(excelRequest.headRowNumber())
+                    .ignoreEmptyRow(excelRequest.ignoreEmptyRow())
+                    .build();
+            try {
+                excelReader.read(readSheets);
+            } finally {
+                excelReader.finish();
+            }
+        } catch (IOException e) {
+            throw new ExcelParseException("Excel读取失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 并行读取工作表，同时解析的工作表数不超过并行度
+     * <p>
+     * 首个失败的工作表设置停止标记：不再提交剩余工作表，尚未开始的工作表直接跳过，正在解析的工作表在下一行前结束，
+     * 等待已提交的工作表全部结束后抛出首个失败的异常。
+     *
+     * @param file         上传的Excel文件
+     * @param type         数据对象类型
+     * @param excelRequest 导入配置
+     * @param sheets       工作表
+     * @param listeners    与工作表顺序一致的读取监听器
+     * @param remaining    剩余可读取行数
+     * @param parallelism  并行度
+     */
+    private void readParallel(MultipartFile file, Class<?> type, ExcelRequest excelRequest, List<ReadSheet> sheets,
+                              List<IReadListener<?>> listeners, AtomicLong remaining, int parallelism) {
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicBoolean stopped = new AtomicBoolean();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(sheets.size());
+        try {
+            for (int i = 0; i < sheets.size() && !stopped.get(); i++) {
+                ReadSheet sheet = sheets.get(i);
+                IReadListener<?> listener = listeners.get(i);
+                permits.acquire();
+                if (stopped.get()) {
+                    permits.release();
+                    break;
+                }
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        if (!stopped.get()) {
+                            readSheet(file, type, excelRequest, sheet, listener, remaining, stopped);
+                        }
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        stopped.set(true);
+                        throw e;
+                    } finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+        } catch (InterruptedException e) {
+            stopped.set(true);
+            Thread.currentThread().interrupt();
+            throw new ExcelParseException("Excel多工作表解析被中断", e);
+        } finally {
+            // 等待已提交的工作表结束，避免返回后仍有线程写入监听器
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * 读取单个工作表
+     *
+     * @param file         上传的Excel文件
+     * @param type         数据对象类型
+     * @param excelRequest 导入配置
+     * @param sheet        工作表
+     * @param listener     读取监听器
+     * @param remaining    剩余可读取行数
+     * @param stopped      停止读取标记
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void readSheet(MultipartFile file, Class<?> type, ExcelRequest excelRequest, ReadSheet sheet,
+                           IReadListener<?> listener, AtomicLong remaining, AtomicBoolean stopped) {
+        try (InputStream inputStream = file.getInputStream()) {
+            FastExcel.read(inputStream, type, new BoundedReadListener(listener, remaining, stopped))
+                    .headRowNumber(excelRequest.headRowNumber())
+                    .ignoreEmptyRow(excelRequest.ignoreEmptyRow())
+                    .sheet(sheet.getSheetNo())
+                    .doRead();
+        } catch (IOException e) {
+            throw new ExcelParseException("Excel读取失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 创建工作表的读取监听器，默认监听器共享错误数，错误信息上限与快速失败按所有工作表合计判断
+     *
+     * @param excelRequest 导入配置
+     * @param errorCount   所有工作表合计的错误数
+     * @return 读取监听器
+     */
+    private IReadListener<?> createListener(ExcelRequest excelRequest, AtomicLong errorCount) {
+        IReadListener<?> readListener = BeanUtils.instantiateClass(excelRequest.readListener());
+        ExcelDataUtil.configureErrors(readListener, excelRequest, excelProperties);
+        if (readListener instanceof DefaultReadListener<?> defaultReadListener) {
+            defaultReadListener.setSharedErrorCount(errorCount);
+        }
+        return readListener;
+    }
+
+    /**
+     * 获取需要读取的工作表
+     *
+     * @param file         上传的Excel文件
+     * @param excelRequest 导入配置
+     * @return 按工作表顺序排列的工作表
+     */
+    private List<ReadSheet> selectSheets(MultipartFile file, ExcelRequest excelRequest) {
+        List<ReadSheet> sheets;
+        try (InputStream inputStream = file.getInputStream()) {
+            ExcelReader excelReader = FastExcel.read(inputStream).build();
+            try {
+                sheets = excelReader.excelExecutor().sheetList();
+            } finally {
+                excelReader.finish();
+            }
+        } catch (IOException e) {
+            throw new ExcelParseException("Excel读取失败: " + e.getMessage(), e);
+        }
+        if (ArrayUtil.isEmpty(excelRequest.sheetNames())) {
+            return sheets;
+        }
+        Set<String> names = Set.copyOf(Arrays.asList(excelRequest.sheetNames()));
+        List<ReadSheet> selected = sheets.stream().filter(sheet -> names.contains(sheet.getSheetName())).toList();
+        if (selected.size() < names.size()) {
+            throw new ExcelParseException("工作表不存在: " + String.join(",", excelRequest.sheetNames()));
+        }
+        return selected;
+    }
+
+    /**
+     * 判断文件格式是否支持工作表并行解析
+     *
+     * @param file 上传的Excel文件
+     * @return xlsx格式返回true
+     */
+    private boolean isParallelSupported(MultipartFile file) {
+        String filename = file.getOriginalFilename();
+        return StrUtil.endWithAnyIgnoreCase(filename, ".xlsx", ".xlsm");
+    }
+}
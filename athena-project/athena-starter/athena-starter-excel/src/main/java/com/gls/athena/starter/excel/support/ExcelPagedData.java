@@ -0,0 +1,219 @@
+package com.gls.athena.starter.excel.support;
+
+import com.gls.athena.common.bean.base.BaseVo;
+import com.gls.athena.common.bean.page.PageRequest;
+import com.gls.athena.common.bean.page.PageResponse;
+import com.gls.athena.common.core.base.IService;
+import com.gls.athena.starter.file.support.FileProgressSource;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Excel分页导出数据
+ * <p>
+ * 控制器返回该对象代替完整的数据列表，导出时由生成器逐页拉取数据并写入，内存中只保留当前页。
+ * 数据源可以是分页查询或流式游标，分页查询返回空页或已读取总记录数时结束。
+ * <p>
+ * 已知总记录数时，每写入一页按百分比报告进度，异步导出据此更新任务进度。
+ *
+ * @param <T> 数据对象类型
+ * @author george
+ */
+public class ExcelPagedData<T> implements FileProgressSource, AutoCloseable {
+
+    /**
+     * 数据对象类型
+     */
+    @Getter
+    private final Class<T> type;
+
+    /**
+     * 分页查询，流式数据源时为null
+     */
+    private PageFetcher<T> fetcher;
+
+    /**
+     * 流式数据源，分页查询时为null
+     */
+    private final Stream<T> stream;
+
+    /**
+     * 每页行数，未设置时使用配置的默认值
+     */
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private int pageSize;
+
+    /**
+     * 总记录数，未知时为null
+     */
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    private Long total;
+
+    /**
+     * 进度监听器
+     */
+    @Setter
+    private IntConsumer progressListener;
+
+    /**
+     * 流式数据迭代器
+     */
+    private Iterator<T> iterator;
+
+    /**
+     * 下一页页码，从1开始
+     */
+    private int page = 1;
+
+    /**
+     * 已读取行数
+     */
+    private long fetched;
+
+    /**
+     * 上次报告的进度
+     */
+    private int progress = -1;
+
+    private ExcelPagedData(Class<T> type, PageFetcher<T> fetcher, Stream<T> stream) {
+        this.type = type;
+        this.fetcher = fetcher;
+        this.stream = stream;
+    }
+
+    /**
+     * 使用分页查询创建导出数据
+     *
+     * @param type    数据对象类型
+     * @param fetcher 分页查询
+     * @param <T>     数据对象类型
+     * @return 分页导出数据
+     */
+    public static <T> ExcelPagedData<T> of(Class<T> type, PageFetcher<T> fetcher) {
+        return new ExcelPagedData<>(type, fetcher, null);
+    }
+
+    /**
+     * 使用服务的分页查询创建导出数据，总记录数取自第一页的查询结果
+     *
+     * @param type    数据对象类型
+     * @param service 服务
+     * @param params  查询条件
+     * @param <T>     数据对象类型
+     * @return 分页导出数据
+     */
+    public static <T extends BaseVo> ExcelPagedData<T> of(Class<T> type, IService<T> service, T params) {
+        ExcelPagedData<T> data = new ExcelPagedData<>(type, null, null);
+        data.fetcher = (page, size) -> {
+            PageResponse<T> response = service.page(PageRequest.<T>of(page, size).setParams(params));
+            if (page == 1) {
+                data.total = response.getTotal();
+            }
+            return response.getData();
+        };
+        return data;
+    }
+
+    /**
+     * 使用流式数据源创建导出数据，导出完成后关闭流
+     *
+     * @param type   数据对象类型
+     * @param stream 流式数据源
+     * @param <T>    数据对象类型
+     * @return 分页导出数据
+     */
+    public static <T> ExcelPagedData<T> of(Class<T> type, Stream<T> stream) {
+        return new ExcelPagedData<>(type, null, stream);
+    }
+
+    /**
+     * 读取下一页数据
+     *
+     * @param defaultPageSize 未设置每页行数时使用的默认值
+     * @return 下一页数据，没有更多数据时返回空列表
+     */
+    public List<T> nextPage(int defaultPageSize) {
+        int size = pageSize > 0 ? pageSize : defaultPageSize;
+        if (total != null && fetched >= total) {
+            return Collections.emptyList();
+        }
+        List<T> data = stream != null ? nextStreamPage(size) : fetcher.fetch(page++, size);
+        if (data == null || data.isEmpty()) {
+            return Collections.emptyList();
+        }
+        fetched += data.size();
+        reportProgress();
+        return data;
+    }
+
+    /**
+     * 从流式数据源读取下一页
+     *
+     * @param size 每页行数
+     * @return 下一页数据
+     */
+    private List<T> nextStreamPage(int size) {
+        if (iterator == null) {
+            iterator = stream.iterator();
+        }
+        List<T> data = new ArrayList<>(size);
+        while (data.size() < size && iterator.hasNext()) {
+            data.add(iterator.next());
+        }
+        return data;
+    }
+
+    /**
+     * 进度变化时通知监听器
+     */
+    private void reportProgress() {
+        if (progressListener == null || total == null || total <= 0) {
+            return;
+        }
+        int current = (int) Math.min(100, fetched * 100 / total);
+        if (current != progress) {
+            progress = current;
+            progressListener.accept(current);
+        }
+    }
+
+    /**
+     * 关闭流式数据源
+     */
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * 分页查询
+     *
+     * @param <T> 数据对象类型
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+
+        /**
+         * 查询指定页的数据
+         *
+         * @param page 页码，从1开始
+         * @param size 每页行数
+         * @return 当前页数据，没有更多数据时返回空列表
+         */
+        List<T> fetch(int page, int size);
+    }
+}
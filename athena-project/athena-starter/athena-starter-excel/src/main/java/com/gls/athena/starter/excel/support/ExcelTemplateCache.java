@@ -0,0 +1,151 @@
+package com.gls.athena.starter.excel.support;
+
+import com.gls.athena.starter.excel.config.ExcelProperties;
+import com.gls.athena.starter.file.util.FileUtil;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Excel模板缓存
+ * <p>
+ * 按模板路径缓存模板文件内容，命中缓存时不再定位类路径资源。文件系统中的模板按检查间隔比较最后修改时间，
+ * 变化时重新加载；jar包内的模板随应用发布，加载后不再检查。每次填充使用基于缓存内容的独立输入流，
+ * 缓存内容不会被填充过程修改。
+ * <p>
+ * FastExcel只接受文件或输入流形式的模板，每次导出都会自行解析为工作簿，无法复用已解析的POI工作簿，
+ * 因此缓存节省的是资源定位与读取，模板解析仍在每次导出时进行。
+ *
+ * @author george
+ */
+@Slf4j
+@UtilityClass
+public class ExcelTemplateCache {
+
+    /**
+     * 模板路径与模板内容
+     */
+    private final Map<String, Template> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 获取模板输入流
+     *
+     * @param excelProperties Excel配置属性
+     * @param template        模板文件名
+     * @return 模板输入流，模板文件名为空时返回null
+     * @throws IOException 模板读取失败
+     */
+    public InputStream getInputStream(ExcelProperties excelProperties, String template) throws IOException {
+        if (!excelProperties.getTemplateCache()) {
+            return FileUtil.getInputStream(excelProperties.getTemplatePath(), template);
+        }
+        String key = excelProperties.getTemplatePath() + "/" + template;
+        Template cached = CACHE.get(key);
+        if (cached == null || cached.isModified(excelProperties.getTemplateCacheCheckInterval().toNanos())) {
+            ClassPathResource resource = cached != null
+                    ? cached.resource : FileUtil.getResource(excelProperties.getTemplatePath(), template);
+            if (resource == null) {
+                return null;
+            }
+            cached = load(resource);
+            CACHE.put(key, cached);
+        }
+        return new ByteArrayInputStream(cached.content);
+    }
+
+    /**
+     * 清空模板缓存
+     */
+    public void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * 加载模板内容
+     *
+     * @param resource 模板资源
+     * @return 缓存的模板
+     * @throws IOException 模板读取失败
+     */
+    private Template load(ClassPathResource resource) throws IOException {
+        long lastModified = lastModified(resource);
+        byte[] content;
+        try (InputStream inputStream = resource.getInputStream()) {
+            content = inputStream.readAllBytes();
+        }
+        log.debug("加载Excel模板: {}, 大小: {}字节", resource.getPath(), content.length);
+        return new Template(resource, resource.isFile(), lastModified, content);
+    }
+
+    /**
+     * 获取模板最后修改时间
+     *
+     * @param resource 模板资源
+     * @return 最后修改时间，无法获取时返回0
+     */
+    private long lastModified(ClassPathResource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * 缓存的模板
+     */
+    private static class Template {
+        /**
+         * 模板资源
+         */
+        private final ClassPathResource resource;
+        /**
+         * 是否为文件系统中的模板，只有文件系统中的模板检查修改
+         */
+        private final boolean file;
+        /**
+         * 最后修改时间
+         */
+        private final long lastModified;
+        /**
+         * 模板内容
+         */
+        private final byte[] content;
+        /**
+         * 上次检查修改的时间，单位纳秒
+         */
+        private volatile long checkedAt;
+
+        Template(ClassPathResource resource, boolean file, long lastModified, byte[] content) {
+            this.resource = resource;
+            this.file = file;
+            this.lastModified = lastModified;
+            this.content = content;
+            this.checkedAt = System.nanoTime();
+        }
+
+        /**
+         * 距上次检查超过检查间隔时比较最后修改时间
+         *
+         * @param checkInterval 检查间隔，单位纳秒
+         * @return 模板已修改时返回true
+         */
+        boolean isModified(long checkInterval) {
+            if (!file) {
+                return false;
+            }
+            long now = System.nanoTime();
+            if (now - checkedAt < checkInterval) {
+                return false;
+            }
+            checkedAt = now;
+            return ExcelTemplateCache.lastModified(resource) != lastModified;
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.gls.athena.starter.excel;
+
+import cn.idev.excel.ExcelWriter;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelProperty;
+import cn.idev.excel.write.handler.WriteHandler;
+import cn.idev.excel.write.metadata.WriteSheet;
+import com.gls.athena.common.test.benchmark.Benchmark;
+import com.gls.athena.common.test.benchmark.BenchmarkMeter;
+import com.gls.athena.common.test.benchmark.BenchmarkRunner;
+import com.gls.athena.starter.excel.annotation.ExcelRequest;
+import com.gls.athena.starter.excel.annotation.ExcelResponse;
+import com.gls.athena.starter.excel.config.ExcelProperties;
+import com.gls.athena.starter.excel.generator.DefaultExcelGenerator;
+import com.gls.athena.starter.excel.generator.ExcelGenerator;
+import com.gls.athena.starter.excel.generator.TemplateExcelGenerator;
+import com.gls.athena.starter.excel.handler.ExcelRequestHandler;
+import com.gls.athena.starter.excel.strategy.ColumnMergeStrategy;
+import com.gls.athena.starter.excel.strategy.RowMergeStrategy;
+import com.gls.athena.starter.excel.support.ExcelPagedData;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.mock.web.MockMultipartHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.bind.support.DefaultDataBinderFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Excel导入导出基准测试
+ * <p>
+ * 使用生成的数据集测量默认导出、内存模式导出、合并策略、模板填充和导入的吞吐量、分配速率和峰值堆内存，
+ * 不依赖外部服务。默认跳过，通过系统属性开启：
+ * <pre>
+ * mvn -pl athena-starter/athena-starter-excel test -Dtest=ExcelBenchmarkTest -Dexcel.benchmark=true \
+ *     -Dexcel.benchmark.rows=10000,100000,1000000,5000000 -DargLine=-Xmx4g
+ * </pre>
+ * 可选系统属性：
+ * <ul>
+ *   <li>excel.benchmark.rows：数据行数，逗号分隔，默认10000,100000</li>
+ *   <li>excel.benchmark.warmup：预热次数，默认1</li>
+ *   <li>excel.benchmark.iterations：测量次数，默认3</li>
+ *   <li>excel.benchmark.in-memory-max-rows：内存模式和导入的最大行数，默认100000，超过时跳过</li>
+ * </ul>
+ * 分配量取执行线程的分配字节数，峰值堆内存为各堆内存池峰值之和，是实际峰值的上限。
+ *
+ * @author george
+ */
+@Benchmark(value = "excel", warmup = 1, iterations = 3, heap = true)
+class ExcelBenchmarkTest {
+
+    private static final BenchmarkRunner RUNNER = BenchmarkRunner.of(ExcelBenchmarkTest.class);
+
+    private static final int IN_MEMORY_MAX_ROWS = RUNNER.intProperty("in-memory-max-rows", 100000);
+
+    private static final String TEMPLATE = "benchmark.xlsx";
+
+    private static ExcelProperties excelProperties;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        excelProperties = new ExcelProperties();
+        // 模板生成到测试类路径下，与模板导出从类路径加载的方式一致
+        File templateDir = new File(new ClassPathResource("").getFile(), "templates/excel");
+        templateDir.mkdirs();
+        List<String> fields = Arrays.asList("id", "category", "name", "code", "amount", "quantity", "price", "createdAt", "remark", "status");
+        FastExcel.write(new File(templateDir, TEMPLATE))
+                .head(fields.stream().map(List::of).toList())
+                .sheet("sheet1")
+                .doWrite(List.of(fields.stream().map(field -> "{." + field + "}").toList()));
+    }
+
+    static Stream<Integer> rows() {
+        return Arrays.stream(RUNNER.property("rows", "10000,100000").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf);
+    }
+
+    @ParameterizedTest
+    @MethodSource("rows")
+    void defaultExport(int rows) throws Exception {
+        ExcelGenerator generator = generator(new DefaultExcelGenerator());
+        ExcelResponse excelResponse = response("defaultResponse");
+        measure("default", rows, 10, () -> generator.generate(paged(BenchmarkRow.class, rows, BenchmarkRow::of),
+                excelResponse, OutputStream.nullOutputStream()));
+        measure("default", rows, 30, () -> generator.generate(paged(WideBenchmarkRow.class, rows, WideBenchmarkRow::of),
+                excelResponse, OutputStream.nullOutputStream()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("rows")
+    void inMemoryExport(int rows) throws Exception {
+        assumeTrue(rows <= IN_MEMORY_MAX_ROWS, "内存模式行数超过上限");
+        ExcelGenerator generator = generator(new DefaultExcelGenerator());
+        ExcelResponse excelResponse = response("inMemoryResponse");
+        measure("in-memory", rows, 10, () -> generator.generate(paged(BenchmarkRow.class, rows, BenchmarkRow::of),
+                excelResponse, OutputStream.nullOutputStream()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("rows")
+    void mergeExport(int rows) throws Exception {
+        measure("column-merge", rows, 10, () -> write(rows, new ColumnMergeStrategy(List.of(), List.of(1))));
+        measure("row-merge", rows, 10, () -> write(rows, new RowMergeStrategy(1, List.of("小计"))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("rows")
+    void templateFill(int rows) throws Exception {
+        ExcelGenerator generator = generator(new TemplateExcelGenerator());
+        ExcelResponse excelResponse = response("templateResponse");
+        measure("template", rows, 10, () -> generator.generate(paged(BenchmarkRow.class, rows, BenchmarkRow::of),
+                excelResponse, OutputStream.nullOutputStream()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("rows")
+    void requestImport(int rows) throws Exception {
+        assumeTrue(rows <= IN_MEMORY_MAX_ROWS, "导入行数超过上限");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generator(new DefaultExcelGenerator()).generate(paged(BenchmarkRow.class, rows, BenchmarkRow::of),
+                response("defaultResponse"), outputStream);
+        byte[] content = outputStream.toByteArray();
+        ExcelRequestHandler handler = new ExcelRequestHandler(null, excelProperties, null, null);
+        MethodParameter parameter = new MethodParameter(ExcelBenchmarkTest.class.getDeclaredMethod("importTarget", List.class), 0);
+        measure("import", rows, 10, () -> {
+            MockMultipartHttpServletRequest request = new MockMultipartHttpServletRequest();
+            request.addFile(new MockMultipartFile("file", "benchmark.xlsx", null, content));
+            List<?> result = (List<?>) handler.resolveArgument(parameter, new ModelAndViewContainer(),
+                    new ServletWebRequest(request), new DefaultDataBinderFactory(null));
+            assertEquals(rows, result.size());
+        });
+    }
+
+    @ExcelResponse(filename = "benchmark")
+    void defaultResponse() {
+    }
+
+    @ExcelResponse(filename = "benchmark", inMemory = true)
+    void inMemoryResponse() {
+    }
+
+    @ExcelResponse(filename = "benchmark", template = TEMPLATE)
+    void templateResponse() {
+    }
+
+    void importTarget(@ExcelRequest List<BenchmarkRow> rows) {
+    }
+
+    /**
+     * 执行预热和测量并输出结果
+     *
+     * @param scenario  场景名称
+     * @param rows      数据行数
+     * @param columns   数据列数
+     * @param operation 测量的操作
+     * @throws Exception 操作执行失败
+     */
+    private void measure(String scenario, int rows, int columns, BenchmarkMeter.Operation operation) throws Exception {
+        BenchmarkMeter meter = RUNNER.measure(operation);
+        double seconds = meter.getNanos() / 1e9;
+        RUNNER.report(scenario, "rows={} columns={} time={}ms/op throughput={} rows/s allocation={} MB/op ({} MB/s) peakHeap={} MB",
+                rows, columns,
+                meter.nanosPerOp(1) / 1_000_000,
+                meter.throughput(rows),
+                meter.allocatedPerOp(1) / (1024 * 1024),
+                Math.round(meter.getAllocatedBytes() / seconds / (1024 * 1024)),
+                meter.getPeakHeapBytes() / (1024 * 1024));
+    }
+
+    /**
+     * 使用合并策略直接写入，每页1000行
+     *
+     * @param rows         数据行数
+     * @param writeHandler 合并策略
+     */
+    private void write(int rows, WriteHandler writeHandler) {
+        try (ExcelWriter excelWriter = FastExcel.write(OutputStream.nullOutputStream(), BenchmarkRow.class)
+                .registerWriteHandler(writeHandler)
+                .build()) {
+            WriteSheet writeSheet = FastExcel.writerSheet(0, "sheet1").build();
+            List<BenchmarkRow> page = new ArrayList<>(1000);
+            for (int i = 0; i < rows; i++) {
+                page.add(BenchmarkRow.of(i));
+                if (page.size() == 1000 || i == rows - 1) {
+                    excelWriter.write(page, writeSheet);
+                    page.clear();
+                }
+            }
+        }
+    }
+
+    private static <T> ExcelPagedData<T> paged(Class<T> type, int rows, IntFunction<T> factory) {
+        return ExcelPagedData.of(type, IntStream.range(0, rows).mapToObj(factory));
+    }
+
+    private static <T extends ExcelGenerator> T generator(T generator) {
+        ReflectionTestUtils.setField(generator, "excelProperties", excelProperties);
+        return generator;
+    }
+
+    private static ExcelResponse response(String methodName) throws NoSuchMethodException {
+        return ExcelBenchmarkTest.class.getDeclaredMethod(methodName).getAnnotation(ExcelResponse.class);
+    }
+
+    @Data
+    public static class BenchmarkRow {
+        @ExcelProperty("id")
+        private Long id;
+        @ExcelProperty("category")
+        private String category;
+        @ExcelProperty("name")
+        private String name;
+        @ExcelProperty("code")
+        private String code;
+        @ExcelProperty("amount")
+        private BigDecimal amount;
+        @ExcelProperty("quantity")
+        private Integer quantity;
+        @ExcelProperty("price")
+        private Double price;
+        @ExcelProperty("createdAt")
+        private Date createdAt;
+        @ExcelProperty("remark")
+        private String remark;
+        @ExcelProperty("status")
+        private String status;
+
+        static BenchmarkRow of(int i) {
+            return fill(new BenchmarkRow(), i);
+        }
+
+        static <T extends BenchmarkRow> T fill(T row, int i) {
+            row.setId((long) i);
+            // 每10行为一组，用于合并策略；每组最后一行为小计行
+            row.setCategory(i % 10 == 9 ? "小计" : "分类" + i / 10);
+            row.setName("名称" + i);
+            row.setCode("CODE-" + i);
+            row.setAmount(BigDecimal.valueOf(i, 2));
+            row.setQuantity(i % 100);
+            row.setPrice(i * 0.5);
+            row.setCreatedAt(new Date(1_700_000_000_000L + i * 1000L));
+            row.setRemark(i % 3 == 0 ? null : "备注" + i);
+            row.setStatus(i % 2 == 0 ? "启用" : "停用");
+            return row;
+        }
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class WideBenchmarkRow extends BenchmarkRow {
+        private String extra01;
+        private String extra02;
+        private String extra03;
+        private String extra04;
+        private String extra05;
+        private String extra06;
+        private String extra07;
+        private String extra08;
+        private String extra09;
+        private String extra10;
+        private String extra11;
+        private String extra12;
+        private String extra13;
+        private String extra14;
+        private String extra15;
+        private String extra16;
+        private String extra17;
+        private String extra18;
+        private String extra19;
+        private String extra20;
+
+        static WideBenchmarkRow of(int i) {
+            WideBenchmarkRow row = fill(new WideBenchmarkRow(), i);
+            String value = "扩展" + i;
+            row.setExtra01(value);
+            row.setExtra02(value);
+            row.setExtra03(value);
+            row.setExtra04(value);
+            row.setExtra05(value);
+            row.setExtra06(value);
+            row.setExtra07(value);
+            row.setExtra08(value);
+            row.setExtra09(value);
+            row.setExtra10(value);
+            row.setExtra11(value);
+            row.setExtra12(value);
+            row.setExtra13(value);
+            row.setExtra14(value);
+            row.setExtra15(value);
+            row.setExtra16(value);
+            row.setExtra17(value);
+            row.setExtra18(value);
+            row.setExtra19(value);
+            row.setExtra20(value);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.gls.athena.starter.excel.generator;
+
+import cn.idev.excel.annotation.ExcelProperty;
+import com.gls.athena.common.core.constant.FileTypeEnums;
+import com.gls.athena.common.test.benchmark.Benchmark;
+import com.gls.athena.common.test.benchmark.BenchmarkMeter;
+import com.gls.athena.common.test.benchmark.BenchmarkRunner;
+import com.gls.athena.starter.excel.annotation.ExcelResponse;
+import com.gls.athena.starter.excel.config.ExcelProperties;
+import com.gls.athena.starter.excel.support.ExcelPagedData;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.stream.IntStream;
+
+/**
+ * CSV与XLSX导出基准测试
+ * <p>
+ * 以相同的分页数据分别通过 {@link CsvExcelGenerator} 与 {@link DefaultExcelGenerator} 导出，
+ * 对比吞吐量、分配量与输出字节数，数据逐行生成，不在内存中保留全部数据。默认跳过，通过系统属性开启：
+ * <pre>
+ * mvn -pl athena-starter/athena-starter-excel test -Dtest=CsvExcelGeneratorBenchmarkTest -Dcsv.benchmark=true
+ * </pre>
+ * 可选系统属性：
+ * <ul>
+ *   <li>csv.benchmark.rows：数据行数，默认1000000</li>
+ *   <li>csv.benchmark.warmup：预热次数，默认1</li>
+ *   <li>csv.benchmark.iterations：测量次数，默认3</li>
+ * </ul>
+ *
+ * @author george
+ */
+@Benchmark(value = "csv", warmup = 1, iterations = 3)
+class CsvExcelGeneratorBenchmarkTest {
+
+    private static final BenchmarkRunner RUNNER = BenchmarkRunner.of(CsvExcelGeneratorBenchmarkTest.class);
+
+    private static final int ROWS = RUNNER.intProperty("rows", 1000000);
+
+    @Test
+    void export() throws Exception {
+        ExcelProperties excelProperties = new ExcelProperties();
+        measure("csv", generator(new CsvExcelGenerator(), excelProperties), response("csvResponse"));
+        measure("xlsx", generator(new DefaultExcelGenerator(), excelProperties), response("xlsxResponse"));
+    }
+
+    @ExcelResponse(filename = "benchmark", fileType = FileTypeEnums.CSV)
+    void csvResponse() {
+    }
+
+    @ExcelResponse(filename = "benchmark")
+    void xlsxResponse() {
+    }
+
+    /**
+     * 执行预热和测量并输出结果
+     *
+     * @param scenario      场景名称
+     * @param generator     生成器
+     * @param excelResponse 导出配置
+     * @throws Exception 导出失败时抛出
+     */
+    private void measure(String scenario, ExcelGenerator generator, ExcelResponse excelResponse) throws Exception {
+        CountingOutputStream[] outputStream = new CountingOutputStream[1];
+        BenchmarkMeter meter = RUNNER.measure(() -> {
+            outputStream[0] = new CountingOutputStream();
+            generator.generate(paged(), excelResponse, outputStream[0]);
+        });
+        RUNNER.report(scenario, "rows={} time={}ms/op throughput={} rows/s allocation={} B/row bytes={}",
+                ROWS, meter.nanosPerOp(1) / 1_000_000, meter.throughput(ROWS), meter.allocatedPerOp(ROWS), outputStream[0].count);
+    }
+
+    private ExcelPagedData<CsvRow> paged() {
+        return ExcelPagedData.of(CsvRow.class, IntStream.range(0, ROWS).mapToObj(CsvRow::of));
+    }
+
+    private static <T extends ExcelGenerator> T generator(T generator, ExcelProperties excelProperties) {
+        ReflectionTestUtils.setField(generator, "excelProperties", excelProperties);
+        return generator;
+    }
+
+    private static ExcelResponse response(String methodName) throws NoSuchMethodException {
+        return CsvExcelGeneratorBenchmarkTest.class.getDeclaredMethod(methodName).getAnnotation(ExcelResponse.class);
+    }
+
+    /**
+     * 统计写入字节数的输出流
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    /**
+     * 导出数据行，部分字段包含需要转义的分隔符与引号
+     */
+    @Data
+    public static class CsvRow {
+        @ExcelProperty("编号")
+        private Long id;
+        @ExcelProperty("名称")
+        private String name;
+        @ExcelProperty("编码")
+        private String code;
+        @ExcelProperty("金额")
+        private BigDecimal amount;
+        @ExcelProperty("数量")
+        private Integer quantity;
+        @ExcelProperty("单价")
+        private Double price;
+        @ExcelProperty("创建时间")
+        private Date createdAt;
+        @ExcelProperty("备注")
+        private String remark;
+        @ExcelProperty("状态")
+        private String status;
+        @ExcelProperty("地址")
+        private String address;
+
+        static CsvRow of(int i) {
+            CsvRow row = new CsvRow();
+            row.setId((long) i);
+            row.setName("名称" + i);
+            row.setCode("CODE-" + i);
+            row.setAmount(BigDecimal.valueOf(i, 2));
+            row.setQuantity(i % 100);
+            row.setPrice(i * 0.5);
+            row.setCreatedAt(new Date(1_700_000_000_000L + i * 1000L));
+            row.setRemark(i % 3 == 0 ? null : "备注\"" + i + "\"");
+            row.setStatus(i % 2 == 0 ? "启用" : "停用");
+            row.setAddress("上海市, 浦东新区" + i % 50 + "号");
+            return row;
+        }
+    }
+}
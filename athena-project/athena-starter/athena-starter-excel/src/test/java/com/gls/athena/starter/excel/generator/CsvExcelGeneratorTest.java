@@ -0,0 +1,180 @@
+package com.gls.athena.starter.excel.generator;
+
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelProperty;
+import cn.idev.excel.annotation.format.DateTimeFormat;
+import cn.idev.excel.annotation.format.NumberFormat;
+import com.gls.athena.common.core.constant.FileTypeEnums;
+import com.gls.athena.starter.excel.annotation.ExcelResponse;
+import com.gls.athena.starter.excel.annotation.ExcelSheet;
+import com.gls.athena.starter.excel.config.ExcelProperties;
+import com.gls.athena.starter.excel.support.ExcelPagedData;
+import lombok.Data;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CsvExcelGenerator的单元测试类
+ */
+public class CsvExcelGeneratorTest {
+
+    private final CsvExcelGenerator generator = new CsvExcelGenerator();
+
+    public CsvExcelGeneratorTest() {
+        ExcelProperties excelProperties = new ExcelProperties();
+        excelProperties.setExportPageSize(2);
+        ReflectionTestUtils.setField(generator, "excelProperties", excelProperties);
+    }
+
+    /**
+     * 测试：列索引不连续时未指定索引的列先填补空缺，仍有空缺时输出空列，与XLSX的表头一致
+     */
+    @Test
+    public void generate_SparseIndex_SameColumnsAsXlsx() throws Exception {
+        List<SparseRow> rows = List.of(SparseRow.of("a", "b", "c"));
+
+        String[] lines = generate(rows, "csv").split("\r\n");
+
+        assertEquals("第一列,未指定,,,第五列", lines[0]);
+        assertEquals("a,c,,,b", lines[1]);
+        assertEquals(List.of(lines[0].split(",", -1)), xlsxHead(rows));
+    }
+
+    /**
+     * 测试：日期和数字按格式注解输出，未配置格式时使用默认格式，包含分隔符的值使用引号包裹
+     */
+    @Test
+    public void generate_Formats_Applied() throws Exception {
+        LocalDateTime time = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        FormatRow row = new FormatRow();
+        row.setDate(Date.from(time.atZone(ZoneId.systemDefault()).toInstant()));
+        row.setFormattedDate(Date.from(time.atZone(ZoneId.systemDefault()).toInstant()));
+        row.setLocalDate(time.toLocalDate());
+        row.setAmount(new BigDecimal("1234.5"));
+        row.setFormattedAmount(new BigDecimal("1234.5"));
+        row.setRatio(0.125);
+
+        String csv = generate(List.of(row), "csv");
+
+        assertEquals("日期,格式化日期,本地日期,金额,格式化金额,比例\r\n"
+                + "2024-01-02 03:04:05,2024/01/02,2024-01-02,1234.5,\"1,234.50\",12.5%\r\n", csv);
+    }
+
+    /**
+     * 测试：分页数据逐页写入，开启BOM时写入字节顺序标记
+     */
+    @Test
+    public void generate_PagedWithBom_AllRowsWritten() throws Exception {
+        ExcelPagedData<SparseRow> data = ExcelPagedData.of(SparseRow.class,
+                Stream.of(SparseRow.of("1", "2", "3"), SparseRow.of("4", "5", "6"), SparseRow.of("7", "8", "9")));
+
+        String csv = generate(data, "bom");
+
+        assertEquals("\uFEFF第一列,未指定,,,第五列\r\n1,3,,,2\r\n4,6,,,5\r\n7,9,,,8\r\n", csv);
+    }
+
+    /**
+     * 测试：配置多个工作表时拒绝导出，而不是只导出第一个工作表
+     */
+    @Test
+    public void generate_MultipleSheets_Rejected() {
+        List<List<SparseRow>> data = List.of(List.of(SparseRow.of("a", "b", "c")), List.of(SparseRow.of("d", "e", "f")));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> generate(data, "multiSheet"));
+        assertTrue(exception.getMessage().contains("单个工作表"));
+    }
+
+    private String generate(Object data, String method) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generator.generate(data, CsvExcelGeneratorTest.class.getDeclaredMethod(method).getAnnotation(ExcelResponse.class),
+                outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private List<String> xlsxHead(List<SparseRow> rows) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        FastExcel.write(outputStream, SparseRow.class).sheet("sheet1").doWrite(rows);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Row head = workbook.getSheetAt(0).getRow(0);
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < head.getLastCellNum(); i++) {
+                Cell cell = head.getCell(i);
+                names.add(cell == null ? "" : cell.getStringCellValue());
+            }
+            return names;
+        }
+    }
+
+    @ExcelResponse(filename = "csv", fileType = FileTypeEnums.CSV)
+    void csv() {
+    }
+
+    @ExcelResponse(filename = "csv", fileType = FileTypeEnums.CSV, withBom = true)
+    void bom() {
+    }
+
+    @ExcelResponse(filename = "csv", fileType = FileTypeEnums.CSV,
+            sheets = {@ExcelSheet(sheetNo = 0), @ExcelSheet(sheetNo = 1, sheetName = "sheet2")})
+    void multiSheet() {
+    }
+
+    /**
+     * 列索引不连续的数据行
+     */
+    @Data
+    public static class SparseRow {
+        @ExcelProperty(value = "第一列", index = 0)
+        private String first;
+        @ExcelProperty(value = "第五列", index = 4)
+        private String fifth;
+        @ExcelProperty("未指定")
+        private String unindexed;
+
+        static SparseRow of(String first, String fifth, String unindexed) {
+            SparseRow row = new SparseRow();
+            row.setFirst(first);
+            row.setFifth(fifth);
+            row.setUnindexed(unindexed);
+            return row;
+        }
+    }
+
+    /**
+     * 日期和数字格式的数据行
+     */
+    @Data
+    public static class FormatRow {
+        @ExcelProperty("日期")
+        private Date date;
+        @ExcelProperty("格式化日期")
+        @DateTimeFormat("yyyy/MM/dd")
+        private Date formattedDate;
+        @ExcelProperty("本地日期")
+        private LocalDate localDate;
+        @ExcelProperty("金额")
+        private BigDecimal amount;
+        @ExcelProperty("格式化金额")
+        @NumberFormat("#,##0.00")
+        private BigDecimal formattedAmount;
+        @ExcelProperty("比例")
+        @NumberFormat("0.0%")
+        private Double ratio;
+    }
+}
@@ -0,0 +1,165 @@
+package com.gls.athena.starter.excel.generator;
+
+import cn.idev.excel.annotation.ExcelProperty;
+import com.gls.athena.common.core.constant.FileTypeEnums;
+import com.gls.athena.starter.excel.annotation.ExcelResponse;
+import com.gls.athena.starter.excel.config.ExcelProperties;
+import com.gls.athena.starter.excel.support.ExcelPagedData;
+import com.gls.athena.starter.file.support.FileProgressSource;
+import lombok.Data;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DefaultExcelGenerator的单元测试类
+ */
+public class DefaultExcelGeneratorTest {
+
+    /**
+     * xls工作表除表头外可写入的数据行数
+     */
+    private static final int XLS_DATA_ROWS = SpreadsheetVersion.EXCEL97.getMaxRows() - 1;
+
+    private final DefaultExcelGenerator generator = new DefaultExcelGenerator();
+
+    public DefaultExcelGeneratorTest() {
+        ExcelProperties excelProperties = new ExcelProperties();
+        // 每页行数不能整除工作表行数，拆分发生在页内
+        excelProperties.setExportPageSize(1000);
+        ReflectionTestUtils.setField(generator, "excelProperties", excelProperties);
+    }
+
+    /**
+     * 测试：数据行数恰好写满工作表时不拆分
+     */
+    @Test
+    public void generate_PagedXls_ExactlyMaxRows_SingleSheet() throws Exception {
+        try (Workbook workbook = generateXls(XLS_DATA_ROWS)) {
+            assertEquals(1, workbook.getNumberOfSheets());
+            assertEquals(XLS_DATA_ROWS, workbook.getSheetAt(0).getLastRowNum());
+        }
+    }
+
+    /**
+     * 测试：超出工作表行数上限的第一行写入新建的工作表，新工作表重新写入表头
+     */
+    @Test
+    public void generate_PagedXls_OverMaxRows_RollsOver() throws Exception {
+        try (Workbook workbook = generateXls(XLS_DATA_ROWS + 1)) {
+            assertEquals(2, workbook.getNumberOfSheets());
+            Sheet first = workbook.getSheetAt(0);
+            assertEquals(XLS_DATA_ROWS, first.getLastRowNum());
+            assertEquals(XLS_DATA_ROWS - 1, (int) first.getRow(XLS_DATA_ROWS).getCell(0).getNumericCellValue());
+
+            Sheet split = workbook.getSheetAt(1);
+            assertEquals("sheet1_2", split.getSheetName());
+            assertEquals(1, split.getLastRowNum());
+            assertEquals("编号", split.getRow(0).getCell(0).getStringCellValue());
+            assertEquals(XLS_DATA_ROWS, (int) split.getRow(1).getCell(0).getNumericCellValue());
+        }
+    }
+
+    /**
+     * 测试：分页查询按页拉取，已知总记录数时按页报告进度
+     */
+    @Test
+    public void generate_PagedFetcher_ReportsProgress() throws Exception {
+        List<Integer> pages = new ArrayList<>();
+        ExcelPagedData<PagedRow> data = ExcelPagedData.of(PagedRow.class, (page, size) -> {
+            pages.add(page);
+            return IntStream.range((page - 1) * size, Math.min(page * size, 25)).mapToObj(PagedRow::of).toList();
+        }).setPageSize(10).setTotal(25L);
+        List<Integer> progress = new ArrayList<>();
+        FileProgressSource source = data;
+        source.setProgressListener(progress::add);
+
+        generator.generate(data, response("xlsx"), OutputStream.nullOutputStream());
+
+        assertEquals(List.of(1, 2, 3), pages);
+        assertEquals(List.of(40, 80, 100), progress);
+    }
+
+    /**
+     * 测试：导出成功后关闭流式数据源
+     */
+    @Test
+    public void generate_PagedStream_ClosedOnSuccess() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        ExcelPagedData<PagedRow> data = ExcelPagedData.of(PagedRow.class,
+                IntStream.range(0, 10).mapToObj(PagedRow::of).onClose(() -> closed.set(true)));
+
+        generator.generate(data, response("xlsx"), OutputStream.nullOutputStream());
+
+        assertTrue(closed.get());
+    }
+
+    /**
+     * 测试：读取数据失败时导出失败，流式数据源仍被关闭
+     */
+    @Test
+    public void generate_PagedStream_ClosedOnFailure() {
+        AtomicBoolean closed = new AtomicBoolean();
+        ExcelPagedData<PagedRow> data = ExcelPagedData.of(PagedRow.class, IntStream.range(0, 10)
+                .mapToObj(i -> {
+                    if (i == 5) {
+                        throw new IllegalStateException("游标读取失败");
+                    }
+                    return PagedRow.of(i);
+                })
+                .onClose(() -> closed.set(true)));
+
+        assertThrows(RuntimeException.class, () -> generator.generate(data, response("xlsx"), OutputStream.nullOutputStream()));
+        assertTrue(closed.get());
+    }
+
+    private Workbook generateXls(int rows) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generator.generate(ExcelPagedData.of(PagedRow.class, IntStream.range(0, rows).mapToObj(PagedRow::of)),
+                response("xls"), outputStream);
+        return new HSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
+    private ExcelResponse response(String method) throws NoSuchMethodException {
+        return DefaultExcelGeneratorTest.class.getDeclaredMethod(method).getAnnotation(ExcelResponse.class);
+    }
+
+    @ExcelResponse(filename = "paged", fileType = FileTypeEnums.XLS)
+    void xls() {
+    }
+
+    @ExcelResponse(filename = "paged")
+    void xlsx() {
+    }
+
+    /**
+     * 测试数据行
+     */
+    @Data
+    public static class PagedRow {
+        @ExcelProperty("编号")
+        private Integer id;
+        @ExcelProperty("名称")
+        private String name;
+
+        static PagedRow of(int id) {
+            PagedRow row = new PagedRow();
+            row.setId(id);
+            row.setName("名称" + id);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.gls.athena.starter.excel.generator;
+
+import cn.hutool.core.bean.BeanUtil;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FillDataAccessor的单元测试类
+ */
+public class FillDataAccessorTest {
+
+    /**
+     * 测试：属性名与值与BeanUtil.beanToMap一致，包括null值、嵌套对象、继承属性和布尔属性
+     */
+    @Test
+    public void toMap_SameAsBeanToMap() {
+        FillData data = new FillData();
+        data.setTitle("标题");
+        data.setAmount(new BigDecimal("1.50"));
+        data.setEnabled(true);
+        data.setUserName(null);
+        data.setCreator(new Creator());
+        data.getCreator().setName("张三");
+        data.setRows(List.of(1, 2));
+        data.setInherited("父类属性");
+
+        Map<String, Object> map = FillDataAccessor.toMap(data);
+
+        assertEquals(BeanUtil.beanToMap(data), map);
+        assertTrue(map.containsKey("userName"));
+        assertNull(map.get("userName"));
+        assertSame(data.getCreator(), map.get("creator"));
+    }
+
+    /**
+     * 测试：所有属性为null时仍保留全部属性名
+     */
+    @Test
+    public void toMap_AllNull_SameAsBeanToMap() {
+        FillData data = new FillData();
+
+        assertEquals(BeanUtil.beanToMap(data), FillDataAccessor.toMap(data));
+    }
+
+    /**
+     * 测试：Map直接返回，null返回空Map
+     */
+    @Test
+    public void toMap_MapAndNull() {
+        Map<String, Object> map = Map.of("title", "标题");
+
+        assertSame(map, FillDataAccessor.toMap(map));
+        assertTrue(FillDataAccessor.toMap(null).isEmpty());
+    }
+
+    /**
+     * 父类数据
+     */
+    @Data
+    public static class BaseFillData {
+        private String inherited;
+    }
+
+    /**
+     * 填充数据
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class FillData extends BaseFillData {
+        private String title;
+        private BigDecimal amount;
+        private boolean enabled;
+        private String userName;
+        private Creator creator;
+        private List<Integer> rows;
+    }
+
+    /**
+     * 嵌套对象
+     */
+    @Data
+    public static class Creator {
+        private String name;
+    }
+}
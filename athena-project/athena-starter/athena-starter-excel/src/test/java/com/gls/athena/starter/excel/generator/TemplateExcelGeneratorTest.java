@@ -0,0 +1,154 @@
+package com.gls.athena.starter.excel.generator;
+
+import cn.idev.excel.FastExcel;
+import com.gls.athena.starter.excel.annotation.ExcelResponse;
+import com.gls.athena.starter.excel.config.ExcelProperties;
+import com.gls.athena.starter.excel.support.ExcelPagedData;
+import com.gls.athena.starter.excel.support.ExcelTemplateCache;
+import lombok.Data;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TemplateExcelGenerator的单元测试类
+ */
+public class TemplateExcelGeneratorTest {
+
+    private static final String TEMPLATE = "fill-test.xlsx";
+
+    private final TemplateExcelGenerator generator = new TemplateExcelGenerator();
+
+    public TemplateExcelGeneratorTest() {
+        ExcelProperties excelProperties = new ExcelProperties();
+        excelProperties.setExportPageSize(3);
+        ReflectionTestUtils.setField(generator, "excelProperties", excelProperties);
+    }
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        // 模板：标题行、列表行、列表下方的合计行
+        File templateDir = new File(new ClassPathResource("").getFile(), "templates/excel");
+        templateDir.mkdirs();
+        FastExcel.write(new File(templateDir, TEMPLATE)).sheet("sheet1")
+                .doWrite(List.of(List.of("{title}"), List.of("{rows.id}", "{rows.name}"), List.of("合计")));
+        ExcelTemplateCache.clear();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        ExcelTemplateCache.clear();
+    }
+
+    /**
+     * 测试：集合超过每页行数时分批填充，各批数据行连续且顺序不变
+     */
+    @Test
+    public void generate_MultiplePages_RowsContinuous() throws Exception {
+        FillData data = new FillData();
+        data.setTitle("订单");
+        data.setRows(IntStream.range(0, 10).mapToObj(FillRow::of).toList());
+
+        try (XSSFWorkbook workbook = generate(data)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("订单", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertRows(sheet, 10);
+        }
+    }
+
+    /**
+     * 测试：分页数据逐页填充，各页数据行连续且顺序不变
+     */
+    @Test
+    public void generate_PagedData_RowsContinuous() throws Exception {
+        FillPagedData data = new FillPagedData();
+        data.setTitle("订单");
+        data.setRows(ExcelPagedData.of(FillRow.class, IntStream.range(0, 8).mapToObj(FillRow::of)));
+
+        try (XSSFWorkbook workbook = generate(data)) {
+            assertRows(workbook.getSheetAt(0), 8);
+        }
+    }
+
+    /**
+     * 测试：单批填充的集合插入新行，列表下方的模板内容下移保留
+     */
+    @Test
+    public void generate_SinglePage_FooterShifted() throws Exception {
+        FillData data = new FillData();
+        data.setTitle("订单");
+        data.setRows(IntStream.range(0, 2).mapToObj(FillRow::of).toList());
+
+        try (XSSFWorkbook workbook = generate(data)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertRows(sheet, 2);
+            assertEquals("合计", sheet.getRow(3).getCell(0).getStringCellValue());
+        }
+    }
+
+    private XSSFWorkbook generate(Object data) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        generator.generate(data, TemplateExcelGeneratorTest.class.getDeclaredMethod("template").getAnnotation(ExcelResponse.class),
+                outputStream);
+        return new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
+    private void assertRows(Sheet sheet, int count) {
+        for (int i = 0; i < count; i++) {
+            Row row = sheet.getRow(i + 1);
+            assertEquals(i, (int) row.getCell(0).getNumericCellValue(), "第" + (i + 1) + "行");
+            assertEquals("名称" + i, row.getCell(1).getStringCellValue());
+        }
+    }
+
+    @ExcelResponse(filename = "fill", template = TEMPLATE)
+    void template() {
+    }
+
+    /**
+     * 填充数据
+     */
+    @Data
+    public static class FillData {
+        private String title;
+        private List<FillRow> rows;
+    }
+
+    /**
+     * 分页填充数据
+     */
+    @Data
+    public static class FillPagedData {
+        private String title;
+        private ExcelPagedData<FillRow> rows;
+    }
+
+    /**
+     * 填充数据行
+     */
+    @Data
+    public static class FillRow {
+        private Integer id;
+        private String name;
+
+        static FillRow of(int id) {
+            FillRow row = new FillRow();
+            row.setId(id);
+            row.setName("名称" + id);
+            return row;
+        }
+    }
+}
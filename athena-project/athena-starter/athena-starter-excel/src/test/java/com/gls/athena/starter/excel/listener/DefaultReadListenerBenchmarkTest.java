@@ -0,0 +1,262 @@
+package com.gls.athena.starter.excel.listener;
+
+import cn.hutool.json.JSONUtil;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelIgnore;
+import cn.idev.excel.context.AnalysisContext;
+import cn.idev.excel.metadata.Cell;
+import cn.idev.excel.metadata.data.ReadCellData;
+import cn.idev.excel.read.listener.ReadListener;
+import cn.idev.excel.util.ConverterUtils;
+import com.gls.athena.common.test.benchmark.Benchmark;
+import com.gls.athena.common.test.benchmark.BenchmarkMeter;
+import com.gls.athena.common.test.benchmark.BenchmarkRunner;
+import com.gls.athena.starter.excel.annotation.ExcelLine;
+import com.gls.athena.starter.excel.annotation.ExcelMultiColumn;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 行数据后处理基准测试
+ * <p>
+ * 读取30列的数据文件，对比三种监听器的耗时与分配量：
+ * <ul>
+ *   <li>parse-only：只计数，作为解析与类型转换本身的基线</li>
+ *   <li>legacy-reflection：按原实现逐行序列化单元格用于调试日志，并反射扫描字段、检查注解、设置可访问后赋值</li>
+ *   <li>default-listener：{@link DefaultReadListener}，字段元信息按类缓存为方法句柄，调试日志按级别判断后才序列化</li>
+ * </ul>
+ * 监听器耗时减去基线即为每行后处理的开销。测试类路径上没有Bean Validation实现，两种实现均不包含校验耗时。
+ * 默认跳过，通过系统属性开启：
+ * <pre>
+ * mvn -pl athena-starter/athena-starter-excel test -Dtest=DefaultReadListenerBenchmarkTest -Dlistener.benchmark=true
+ * </pre>
+ * 可选系统属性：
+ * <ul>
+ *   <li>listener.benchmark.rows：数据行数，默认50000</li>
+ *   <li>listener.benchmark.warmup：预热轮数，默认2</li>
+ *   <li>listener.benchmark.iterations：测量轮数，默认5</li>
+ * </ul>
+ *
+ * @author george
+ */
+@Slf4j
+@Benchmark(value = "listener", warmup = 2, iterations = 5)
+class DefaultReadListenerBenchmarkTest {
+
+    private static final BenchmarkRunner RUNNER = BenchmarkRunner.of(DefaultReadListenerBenchmarkTest.class);
+
+    private static final int ROWS = RUNNER.intProperty("rows", 50000);
+
+    @Test
+    void wideRow() throws Exception {
+        List<WideRow> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(WideRow.of(i));
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        FastExcel.write(outputStream, WideRow.class).sheet("sheet1").doWrite(rows);
+        byte[] content = outputStream.toByteArray();
+
+        long baseline = measure("parse-only", content, CountingListener::new);
+        measure("legacy-reflection", content, LegacyReadListener::new, baseline);
+        measure("default-listener", content, CountingDefaultReadListener::new, baseline);
+    }
+
+    private long measure(String scenario, byte[] content, Supplier<? extends ReadListener<WideRow>> factory) throws Exception {
+        return measure(scenario, content, factory, -1);
+    }
+
+    /**
+     * 执行预热和测量并输出结果
+     *
+     * @param scenario 场景名称
+     * @param content  文件内容
+     * @param factory  监听器创建方法
+     * @param baseline 基线每行耗时（纳秒），小于0时不输出开销
+     * @return 每行耗时（纳秒）
+     * @throws Exception 读取失败时抛出
+     */
+    private long measure(String scenario, byte[] content, Supplier<? extends ReadListener<WideRow>> factory, long baseline)
+            throws Exception {
+        BenchmarkMeter meter = RUNNER.measure(() -> read(content, factory.get()));
+        long perRow = meter.nanosPerOp(ROWS);
+        RUNNER.report(scenario, "rows={} columns=30 time={}ns/row overhead={} allocation={} B/row",
+                ROWS, perRow, baseline < 0 ? "-" : (perRow - baseline) + "ns/row", meter.allocatedPerOp(ROWS));
+        return perRow;
+    }
+
+    private void read(byte[] content, ReadListener<WideRow> listener) {
+        FastExcel.read(new ByteArrayInputStream(content), WideRow.class, listener).sheet().doRead();
+    }
+
+    /**
+     * 只计数的监听器
+     */
+    private static class CountingListener implements ReadListener<WideRow> {
+
+        private long rows;
+
+        @Override
+        public void invoke(WideRow data, AnalysisContext context) {
+            rows++;
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+        }
+    }
+
+    /**
+     * 不保留数据的默认监听器，排除结果集扩容对测量的影响
+     */
+    private static class CountingDefaultReadListener extends DefaultReadListener<WideRow> {
+
+        private long rows;
+
+        @Override
+        protected void handleRow(WideRow data, int rowIndex, boolean valid) {
+            rows++;
+        }
+    }
+
+    /**
+     * 按原实现逐行反射处理字段的监听器
+     */
+    private static class LegacyReadListener implements ReadListener<WideRow> {
+
+        private final Map<Integer, String> headMap = new HashMap<>();
+
+        private long rows;
+
+        @Override
+        public void invokeHead(Map<Integer, ReadCellData<?>> headMap, AnalysisContext context) {
+            this.headMap.putAll(ConverterUtils.convertToStringMap(headMap, context));
+        }
+
+        @Override
+        public void invoke(WideRow data, AnalysisContext context) {
+            int rowIndex = context.readRowHolder().getRowIndex();
+            Map<Integer, Cell> cellMap = context.readRowHolder().getCellMap();
+            // 原实现无论日志级别都会序列化单元格
+            String json = JSONUtil.toJsonStr(cellMap);
+            log.trace("正在解析第{}行数据: {}", rowIndex, json);
+            for (Field field : data.getClass().getDeclaredFields()) {
+                try {
+                    if (field.isAnnotationPresent(ExcelLine.class) && field.getType().equals(Integer.class)) {
+                        field.setAccessible(true);
+                        field.set(data, rowIndex);
+                    }
+                    if (field.isAnnotationPresent(ExcelMultiColumn.class) && field.getType().equals(Map.class)) {
+                        ExcelMultiColumn annotation = field.getAnnotation(ExcelMultiColumn.class);
+                        int end = Math.min(annotation.end(), headMap.size());
+                        Map<String, Object> values = new HashMap<>(end - annotation.start());
+                        for (int i = annotation.start(); i < end; i++) {
+                            if (headMap.containsKey(i) && cellMap.get(i) instanceof ReadCellData<?> cell) {
+                                values.put(headMap.get(i), cell.getStringValue());
+                            }
+                        }
+                        field.setAccessible(true);
+                        field.set(data, values);
+                    }
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            rows++;
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {
+        }
+    }
+
+    /**
+     * 30列数据行，包含行号与多列字段
+     */
+    @Data
+    public static class WideRow {
+        @ExcelIgnore
+        @ExcelLine
+        private Integer line;
+        @ExcelIgnore
+        @ExcelMultiColumn(start = 25, end = 30)
+        private Map<String, Object> extras;
+        private Long id;
+        private BigDecimal amount;
+        private String col03;
+        private String col04;
+        private String col05;
+        private String col06;
+        private String col07;
+        private String col08;
+        private String col09;
+        private String col10;
+        private String col11;
+        private String col12;
+        private String col13;
+        private String col14;
+        private String col15;
+        private String col16;
+        private String col17;
+        private String col18;
+        private String col19;
+        private String col20;
+        private String col21;
+        private String col22;
+        private String col23;
+        private String col24;
+        private String col25;
+        private String col26;
+        private String col27;
+        private String col28;
+        private String col29;
+        private String col30;
+
+        static WideRow of(int i) {
+            WideRow row = new WideRow();
+            row.setId((long) i);
+            row.setAmount(BigDecimal.valueOf(i, 2));
+            String value = "值" + i;
+            row.setCol03(value);
+            row.setCol04(value);
+            row.setCol05(value);
+            row.setCol06(value);
+            row.setCol07(value);
+            row.setCol08(value);
+            row.setCol09(value);
+            row.setCol10(value);
+            row.setCol11(value);
+            row.setCol12(value);
+            row.setCol13(value);
+            row.setCol14(value);
+            row.setCol15(value);
+            row.setCol16(value);
+            row.setCol17(value);
+            row.setCol18(value);
+            row.setCol19(value);
+            row.setCol20(value);
+            row.setCol21(value);
+            row.setCol22(value);
+            row.setCol23(value);
+            row.setCol24(value);
+            row.setCol25(value);
+            row.setCol26(value);
+            row.setCol27(value);
+            row.setCol28(value);
+            row.setCol29(value);
+            row.setCol30(value);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.gls.athena.starter.excel.strategy;
+
+import cn.idev.excel.ExcelWriter;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.write.metadata.WriteSheet;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ColumnMergeStrategy的单元测试类
+ */
+public class ColumnMergeStrategyTest {
+
+    private static final List<List<String>> HEAD = List.of(List.of("类别"), List.of("名称"));
+
+    /**
+     * 测试：在工作簿级别注册时，相同值的连续行被合并，最后一个区间在工作簿写出前补齐
+     */
+    @Test
+    public void merge_WorkbookLevel_FlushesLastRun() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ExcelWriter excelWriter = FastExcel.write(outputStream).head(HEAD)
+                .registerWriteHandler(new ColumnMergeStrategy(List.of(), List.of(0)))
+                .build()) {
+            excelWriter.write(data(), FastExcel.writerSheet(0, "华东").build());
+        }
+
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(List.of("A2:A3", "A4:A6"), regions(workbook.getSheetAt(0)));
+        }
+    }
+
+    /**
+     * 测试：在工作表级别为两个工作表分别注册策略时，两个工作表的最后一个区间都被合并
+     */
+    @Test
+    public void merge_SheetLevel_TwoSheets_FlushesEachLastRun() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ExcelWriter excelWriter = FastExcel.write(outputStream).head(HEAD).build()) {
+            excelWriter.write(data(), sheet(0, "华东"));
+            excelWriter.write(data(), sheet(1, "华南"));
+        }
+
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(List.of("A2:A3", "A4:A6"), regions(workbook.getSheetAt(0)));
+            assertEquals(List.of("A2:A3", "A4:A6"), regions(workbook.getSheetAt(1)));
+        }
+    }
+
+    /**
+     * 测试：忽略的值结束区间且不参与合并，分页写入时区间跨页延续
+     */
+    @Test
+    public void merge_IgnoredValue_PagedWrite() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ExcelWriter excelWriter = FastExcel.write(outputStream).head(HEAD)
+                .registerWriteHandler(new ColumnMergeStrategy(List.of("-"), List.of(0)))
+                .build()) {
+            WriteSheet writeSheet = FastExcel.writerSheet(0, "华东").build();
+            excelWriter.write(List.of(row("A", 1), row("A", 2)), writeSheet);
+            excelWriter.write(List.of(row("A", 3), row("-", 4), row("-", 5), row("B", 6)), writeSheet);
+        }
+
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(List.of("A2:A4"), regions(workbook.getSheetAt(0)));
+        }
+    }
+
+    private WriteSheet sheet(int sheetNo, String sheetName) {
+        return FastExcel.writerSheet(sheetNo, sheetName)
+                .registerWriteHandler(new ColumnMergeStrategy(List.of(), List.of(0)))
+                .build();
+    }
+
+    private List<List<Object>> data() {
+        return List.of(row("A", 1), row("A", 2), row("B", 3), row("B", 4), row("B", 5));
+    }
+
+    private List<Object> row(String category, int name) {
+        return List.of(category, String.valueOf(name));
+    }
+
+    private List<String> regions(Sheet sheet) {
+        return sheet.getMergedRegions().stream()
+                .sorted(Comparator.comparingInt(CellRangeAddress::getFirstRow))
+                .map(CellRangeAddress::formatAsString)
+                .toList();
+    }
+}
@@ -0,0 +1,144 @@
+package com.gls.athena.starter.excel.strategy;
+
+import cn.hutool.poi.excel.cell.CellUtil;
+import cn.idev.excel.ExcelWriter;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.metadata.Head;
+import cn.idev.excel.write.handler.WriteHandler;
+import cn.idev.excel.write.merge.AbstractMergeStrategy;
+import cn.idev.excel.write.metadata.WriteSheet;
+import com.gls.athena.common.test.benchmark.Benchmark;
+import com.gls.athena.common.test.benchmark.BenchmarkMeter;
+import com.gls.athena.common.test.benchmark.BenchmarkRunner;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 合并策略基准测试
+ * <p>
+ * 以每组10行的数据分页写入，对比逐单元格查找、移除合并区域的原实现与按列记录区间的 {@link ColumnMergeStrategy}，
+ * 以及逐单元格检查合并区域的原实现与 {@link RowMergeStrategy}。原实现的耗时随合并区域数量平方增长，行数单独配置。
+ * 默认跳过，通过系统属性开启：
+ * <pre>
+ * mvn -pl athena-starter/athena-starter-excel test -Dtest=MergeStrategyBenchmarkTest -Dmerge.benchmark=true
+ * </pre>
+ * 可选系统属性：
+ * <ul>
+ *   <li>merge.benchmark.rows：当前实现的数据行数，默认100000</li>
+ *   <li>merge.benchmark.legacy-rows：原实现的数据行数，默认10000</li>
+ *   <li>merge.benchmark.warmup：预热次数，默认1</li>
+ *   <li>merge.benchmark.iterations：测量次数，默认3</li>
+ * </ul>
+ *
+ * @author george
+ */
+@Benchmark(value = "merge", warmup = 1, iterations = 3)
+class MergeStrategyBenchmarkTest {
+
+    private static final BenchmarkRunner RUNNER = BenchmarkRunner.of(MergeStrategyBenchmarkTest.class);
+
+    private static final int ROWS = RUNNER.intProperty("rows", 100000);
+
+    private static final int LEGACY_ROWS = RUNNER.intProperty("legacy-rows", 10000);
+
+    private static final int GROUP_SIZE = 10;
+
+    @Test
+    void columnMerge() throws Exception {
+        measure("column-legacy", LEGACY_ROWS, LegacyColumnMergeStrategy::new);
+        measure("column-incremental", LEGACY_ROWS, () -> new ColumnMergeStrategy(List.of(), List.of(0)));
+        measure("column-incremental", ROWS, () -> new ColumnMergeStrategy(List.of(), List.of(0)));
+    }
+
+    @Test
+    void rowMerge() throws Exception {
+        measure("row-legacy", LEGACY_ROWS, LegacyRowMergeStrategy::new);
+        measure("row-incremental", LEGACY_ROWS, () -> new RowMergeStrategy(2, List.of("小计")));
+        measure("row-incremental", ROWS, () -> new RowMergeStrategy(2, List.of("小计")));
+    }
+
+    /**
+     * 执行预热和测量并输出结果
+     *
+     * @param scenario 场景名称
+     * @param rows     数据行数
+     * @param strategy 合并策略创建方法
+     * @throws Exception 写入失败时抛出
+     */
+    private void measure(String scenario, int rows, Supplier<WriteHandler> strategy) throws Exception {
+        BenchmarkMeter meter = RUNNER.measure(() -> write(rows, strategy.get()));
+        RUNNER.report(scenario, "rows={} regions={} time={}ms/op throughput={} rows/s allocation={} B/row",
+                rows, rows / GROUP_SIZE, meter.nanosPerOp(1) / 1_000_000, meter.throughput(rows), meter.allocatedPerOp(rows));
+    }
+
+    /**
+     * 使用合并策略分页写入，每页1000行，每组最后一行为小计行
+     *
+     * @param rows         数据行数
+     * @param writeHandler 合并策略
+     */
+    private void write(int rows, WriteHandler writeHandler) {
+        try (ExcelWriter excelWriter = FastExcel.write(OutputStream.nullOutputStream())
+                .head(List.of(List.of("分组"), List.of("名称"), List.of("金额")))
+                .registerWriteHandler(writeHandler)
+                .build()) {
+            WriteSheet writeSheet = FastExcel.writerSheet(0, "sheet1").build();
+            List<List<Object>> page = new ArrayList<>(1000);
+            for (int i = 0; i < rows; i++) {
+                int group = i / GROUP_SIZE;
+                boolean subtotal = i % GROUP_SIZE == GROUP_SIZE - 1;
+                page.add(List.of(subtotal ? "小计" : "分组" + group, "名称" + i, String.valueOf(i)));
+                if (page.size() == 1000 || i == rows - 1) {
+                    excelWriter.write(page, writeSheet);
+                    page.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * 原列合并策略，每个单元格查找并移除上一行所在的合并区域后重新合并
+     */
+    private static class LegacyColumnMergeStrategy extends AbstractMergeStrategy {
+
+        @Override
+        protected void merge(Sheet sheet, Cell cell, Head head, Integer relativeRowIndex) {
+            int rowIndex = cell.getRowIndex();
+            if (cell.getColumnIndex() != 0) {
+                return;
+            }
+            Cell preCell = sheet.getRow(rowIndex - 1).getCell(0);
+            if (CellUtil.getCellValue(preCell).equals(CellUtil.getCellValue(cell))) {
+                Cell firstCell = CellUtil.getMergedRegionCell(preCell);
+                List<CellRangeAddress> regions = sheet.getMergedRegions();
+                for (int i = 0; i < regions.size(); i++) {
+                    if (regions.get(i).isInRange(firstCell)) {
+                        sheet.removeMergedRegion(i);
+                    }
+                }
+                CellUtil.mergingCells(sheet, firstCell.getRowIndex(), rowIndex, 0, 0);
+            }
+        }
+    }
+
+    /**
+     * 原行合并策略，每个单元格检查是否已位于合并区域
+     */
+    private static class LegacyRowMergeStrategy extends AbstractMergeStrategy {
+
+        @Override
+        protected void merge(Sheet sheet, Cell cell, Head head, Integer relativeRowIndex) {
+            int rowIndex = cell.getRowIndex();
+            if (cell.getColumnIndex() < 2 && "小计".equals(CellUtil.getCellValue(cell)) && !CellUtil.isMergedRegion(cell)) {
+                CellUtil.mergingCells(sheet, rowIndex, rowIndex, cell.getColumnIndex(), 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.gls.athena.starter.excel.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CsvWriter的单元测试类
+ */
+public class CsvWriterTest {
+
+    /**
+     * 测试：包含分隔符、引号或换行的字段使用双引号包裹，引号转义为两个引号
+     */
+    @Test
+    public void writeField_SpecialCharacters_Quoted() throws Exception {
+        String csv = write(StandardCharsets.UTF_8, false, "a,b", "say \"hi\"", "line1\nline2", "cr\rlf", "\"", "plain");
+
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"line1\nline2\",\"cr\rlf\",\"\"\"\",plain\r\n", csv);
+    }
+
+    /**
+     * 测试：null和空字符串写入空字段，行以CRLF结尾
+     */
+    @Test
+    public void endRow_NullAndEmpty_CrlfLineEnding() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        CsvWriter csvWriter = new CsvWriter(outputStream);
+        csvWriter.writeField(null);
+        csvWriter.writeField("");
+        csvWriter.writeField("x");
+        csvWriter.endRow();
+        csvWriter.writeField("y");
+        csvWriter.endRow();
+        csvWriter.close();
+
+        assertEquals(",,x\r\ny\r\n", outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 测试：UTF编码开启时写入字节顺序标记，其他编码忽略
+     */
+    @Test
+    public void constructor_WithBom_OnlyForUtf() throws Exception {
+        Charset gbk = Charset.forName("GBK");
+
+        assertArrayEquals(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, 'a', '\r', '\n'},
+                writeBytes(StandardCharsets.UTF_8, true, "a"));
+        assertArrayEquals(new byte[]{'a', '\r', '\n'}, writeBytes(StandardCharsets.UTF_8, false, "a"));
+        assertArrayEquals("中\r\n".getBytes(gbk), writeBytes(gbk, true, "中"));
+    }
+
+    private String write(Charset charset, boolean withBom, String... fields) throws Exception {
+        return new String(writeBytes(charset, withBom, fields), charset);
+    }
+
+    private byte[] writeBytes(Charset charset, boolean withBom, String... fields) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        CsvWriter csvWriter = new CsvWriter(outputStream, charset, withBom);
+        for (String field : fields) {
+            csvWriter.writeField(field);
+        }
+        csvWriter.endRow();
+        csvWriter.close();
+        return outputStream.toByteArray();
+    }
+}
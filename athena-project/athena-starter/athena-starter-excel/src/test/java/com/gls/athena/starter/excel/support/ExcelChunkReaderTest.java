@@ -0,0 +1,173 @@
+package com.gls.athena.starter.excel.support;
+
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelProperty;
+import com.gls.athena.starter.excel.annotation.ExcelRequest;
+import com.gls.athena.starter.file.manager.IFileManager;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ExcelChunkReader的单元测试类
+ */
+public class ExcelChunkReaderTest {
+
+    /**
+     * 测试：在只有一个线程的共享线程池中并行读取，批次使用专用线程池处理，不会因等待许可而卡死
+     */
+    @Test
+    public void read_InsideSaturatedExecutor_Completes() throws Exception {
+        MockMultipartFile file = file(100, -1);
+        ExcelChunkReader<ChunkRow> reader = new ExcelChunkReader<>(file, ChunkRow.class, request("parallel"), 100, null);
+        AtomicInteger rows = new AtomicInteger();
+        ExecutorService shared = Executors.newSingleThreadExecutor();
+        try {
+            ExcelImportSummary summary = CompletableFuture
+                    .supplyAsync(() -> reader.read(chunk -> rows.addAndGet(chunk.size()), 4), shared)
+                    .get(30, TimeUnit.SECONDS);
+
+            assertEquals(100, summary.getTotalRows());
+            assertEquals(100, summary.getSuccessRows());
+            assertEquals(10, summary.getChunks());
+            assertEquals(100, rows.get());
+        } finally {
+            shared.shutdownNow();
+        }
+    }
+
+    /**
+     * 测试：读取失败时等待已提交的批次处理完成后再抛出异常
+     */
+    @Test
+    public void read_Failed_WaitsForInFlightChunks() throws Exception {
+        MockMultipartFile file = file(100, 95);
+        ExcelChunkReader<ChunkRow> reader = new ExcelChunkReader<>(file, ChunkRow.class, request("failFast"), 0, null);
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger finished = new AtomicInteger();
+
+        assertThrows(RuntimeException.class, () -> reader.read(chunk -> {
+            started.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.incrementAndGet();
+        }, 2));
+
+        assertTrue(started.get() > 0);
+        assertEquals(started.get(), finished.get());
+    }
+
+    /**
+     * 测试：开启快速失败且错误上限为0时，顺序处理的首个批次失败即终止读取
+     */
+    @Test
+    public void read_ChunkFailed_FailFast_Sequential() throws Exception {
+        ExcelChunkReader<ChunkRow> reader = new ExcelChunkReader<>(file(100, -1), ChunkRow.class, request("failFast"), 0, null);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(RuntimeException.class, () -> reader.read(chunk -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("保存失败");
+        }, 1));
+
+        assertEquals(1, attempts.get());
+    }
+
+    /**
+     * 测试：开启快速失败且错误上限为0时，并行处理的批次失败后不再提交后续批次
+     */
+    @Test
+    public void read_ChunkFailed_FailFast_Parallel() throws Exception {
+        ExcelChunkReader<ChunkRow> reader = new ExcelChunkReader<>(file(100, -1), ChunkRow.class, request("failFast"), 0, null);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(RuntimeException.class, () -> reader.read(chunk -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("保存失败");
+        }, 2));
+
+        assertTrue(attempts.get() < 10);
+    }
+
+    /**
+     * 测试：开启错误工作簿时，校验失败的原始行写入错误文件，文件路径通过汇总结果返回
+     */
+    @Test
+    public void read_ErrorWorkbook_WritesInvalidRows() throws Exception {
+        ByteArrayOutputStream errorOutput = new ByteArrayOutputStream();
+        IFileManager fileManager = mock(IFileManager.class);
+        when(fileManager.generateFilePath(anyString(), anyString())).thenReturn("xlsx/chunk_错误数据.xlsx");
+        when(fileManager.getFileOutputStream("xlsx/chunk_错误数据.xlsx")).thenReturn(errorOutput);
+        ExcelChunkReader<ChunkRow> reader = new ExcelChunkReader<>(file(100, 5), ChunkRow.class, request("errorWorkbook"), 100, fileManager);
+
+        ExcelImportSummary summary = reader.read(chunk -> {
+        }, 1);
+
+        assertEquals(99, summary.getSuccessRows());
+        assertEquals("xlsx/chunk_错误数据.xlsx", summary.getErrorFilePath());
+        List<Map<Integer, String>> errorRows = FastExcel.read(new ByteArrayInputStream(errorOutput.toByteArray())).sheet().doReadSync();
+        assertEquals(1, errorRows.size());
+        assertEquals("abc", errorRows.get(0).get(0));
+    }
+
+    /**
+     * 生成测试文件
+     *
+     * @param rows       数据行数
+     * @param invalidRow 编号列不是数字的数据行序号，小于0时全部合法
+     * @return 上传文件
+     */
+    private MockMultipartFile file(int rows, int invalidRow) {
+        List<List<Object>> data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            data.add(List.of(i == invalidRow ? "abc" : String.valueOf(i), "名称" + i));
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        FastExcel.write(outputStream).head(List.of(List.of("编号"), List.of("名称"))).sheet("sheet1").doWrite(data);
+        return new MockMultipartFile("file", "chunk.xlsx", null, outputStream.toByteArray());
+    }
+
+    private ExcelRequest request(String method) throws NoSuchMethodException {
+        return ExcelChunkReaderTest.class.getDeclaredMethod(method, ExcelChunkReader.class)
+                .getParameters()[0].getAnnotation(ExcelRequest.class);
+    }
+
+    void parallel(@ExcelRequest(batchSize = 10) ExcelChunkReader<ChunkRow> reader) {
+    }
+
+    void failFast(@ExcelRequest(batchSize = 10, failFast = true) ExcelChunkReader<ChunkRow> reader) {
+    }
+
+    void errorWorkbook(@ExcelRequest(batchSize = 10, errorWorkbook = true) ExcelChunkReader<ChunkRow> reader) {
+    }
+
+    /**
+     * 测试数据行
+     */
+    @Data
+    public static class ChunkRow {
+        @ExcelProperty(index = 0)
+        private Integer id;
+        @ExcelProperty(index = 1)
+        private String name;
+    }
+}
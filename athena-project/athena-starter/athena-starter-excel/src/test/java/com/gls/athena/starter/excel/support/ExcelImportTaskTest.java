@@ -0,0 +1,189 @@
+package com.gls.athena.starter.excel.support;
+
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelProperty;
+import com.gls.athena.common.bean.security.User;
+import com.gls.athena.starter.async.domain.AsyncTaskStatus;
+import com.gls.athena.starter.async.manager.DefaultAsyncTaskManager;
+import com.gls.athena.starter.excel.annotation.ExcelRequest;
+import com.gls.athena.starter.excel.exception.ExcelParseException;
+import com.gls.athena.starter.file.manager.IFileManager;
+import lombok.Data;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ExcelImportTask的单元测试类
+ */
+public class ExcelImportTaskTest {
+
+    private static final String FILE_PATH = "excel-import/task.xlsx";
+
+    private final DefaultAsyncTaskManager asyncTaskManager = new DefaultAsyncTaskManager();
+
+    private final IFileManager fileManager = mock(IFileManager.class);
+
+    private final byte[] content = file(100);
+
+    @BeforeEach
+    public void setUp() {
+        when(fileManager.generateFilePath(anyString(), anyString())).thenReturn(FILE_PATH);
+        when(fileManager.exists(FILE_PATH)).thenReturn(true);
+        when(fileManager.getFileInputStream(FILE_PATH)).thenAnswer(invocation -> new ByteArrayInputStream(content));
+        login(1L);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * 测试：异步导入时首个失败的批次终止读取，任务失败后续传只处理未提交的行
+     */
+    @Test
+    public void read_ChunkFailed_FailsAndResumes() throws Exception {
+        ExcelImportTask task = create("task-1");
+        task.start("Excel导入", "task.xlsx");
+        List<Integer> attempted = new ArrayList<>();
+
+        ExcelParseException exception = assertThrows(ExcelParseException.class, () -> reader(task).read(chunk -> {
+            attempted.add(chunk.get(0).getId());
+            if (chunk.get(0).getId() == 20) {
+                throw new IllegalStateException("保存失败");
+            }
+        }, 1));
+        task.fail(exception);
+
+        assertEquals(List.of(0, 10, 20), attempted);
+        assertEquals(AsyncTaskStatus.FAILED, asyncTaskManager.getTask("task-1").getStatus());
+
+        ExcelImportTask resumed = ExcelImportTask.resume(asyncTaskManager, fileManager, "task-1");
+        resumed.start("Excel导入", "task.xlsx");
+        List<ChunkRow> rows = new ArrayList<>();
+        ExcelImportSummary summary = reader(resumed).read(rows::addAll, 1);
+        resumed.complete();
+
+        assertEquals(20, rows.get(0).getId());
+        assertEquals(80, summary.getSuccessRows());
+        assertEquals(AsyncTaskStatus.COMPLETED, asyncTaskManager.getTask("task-1").getStatus());
+    }
+
+    /**
+     * 测试：同一任务的并发续传请求只有一个能够开始
+     */
+    @Test
+    public void start_ConcurrentResume_OnlyOneStarts() {
+        ExcelImportTask task = create("task-2");
+        task.start("Excel导入", "task.xlsx");
+        task.fail(new IllegalStateException("保存失败"));
+
+        ExcelImportTask first = ExcelImportTask.resume(asyncTaskManager, fileManager, "task-2");
+        ExcelImportTask second = ExcelImportTask.resume(asyncTaskManager, fileManager, "task-2");
+        first.start("Excel导入", "task.xlsx");
+
+        assertThrows(ExcelParseException.class, () -> second.start("Excel导入", "task.xlsx"));
+        assertEquals(AsyncTaskStatus.PROCESSING, asyncTaskManager.getTask("task-2").getStatus());
+    }
+
+    /**
+     * 测试：只有创建任务的用户可以续传
+     */
+    @Test
+    public void resume_OtherUser_Rejected() {
+        ExcelImportTask task = create("task-3");
+        task.start("Excel导入", "task.xlsx");
+        task.fail(new IllegalStateException("保存失败"));
+
+        login(2L);
+        assertThrows(ExcelParseException.class, () -> ExcelImportTask.resume(asyncTaskManager, fileManager, "task-3"));
+
+        login(1L);
+        assertNotNull(ExcelImportTask.resume(asyncTaskManager, fileManager, "task-3"));
+    }
+
+    /**
+     * 测试：匿名创建的任务和匿名请求都不能续传
+     */
+    @Test
+    public void resume_Anonymous_Rejected() {
+        SecurityContextHolder.clearContext();
+        ExcelImportTask task = create("task-4");
+        task.start("Excel导入", "task.xlsx");
+        task.fail(new IllegalStateException("保存失败"));
+
+        assertThrows(ExcelParseException.class, () -> ExcelImportTask.resume(asyncTaskManager, fileManager, "task-4"));
+        login(1L);
+        assertThrows(ExcelParseException.class, () -> ExcelImportTask.resume(asyncTaskManager, fileManager, "task-4"));
+
+        ExcelImportTask owned = create("task-5");
+        owned.start("Excel导入", "task.xlsx");
+        owned.fail(new IllegalStateException("保存失败"));
+        SecurityContextHolder.clearContext();
+        assertThrows(ExcelParseException.class, () -> ExcelImportTask.resume(asyncTaskManager, fileManager, "task-5"));
+    }
+
+    private ExcelImportTask create(String taskId) {
+        return ExcelImportTask.create(asyncTaskManager, fileManager, taskId, "task.xlsx", new ByteArrayInputStream(content));
+    }
+
+    private ExcelChunkReader<ChunkRow> reader(ExcelImportTask task) throws NoSuchMethodException {
+        ExcelChunkReader<ChunkRow> reader = new ExcelChunkReader<>(null, ChunkRow.class, request(), 100, fileManager);
+        reader.setTask(task);
+        return reader;
+    }
+
+    private void login(Long userId) {
+        User user = new User();
+        user.setId(userId);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null));
+    }
+
+    /**
+     * 生成测试文件，编号从0开始
+     *
+     * @param rows 数据行数
+     * @return 文件内容
+     */
+    private static byte[] file(int rows) {
+        List<List<Object>> data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            data.add(List.of(String.valueOf(i), "名称" + i));
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        FastExcel.write(outputStream).head(List.of(List.of("编号"), List.of("名称"))).sheet("sheet1").doWrite(data);
+        return outputStream.toByteArray();
+    }
+
+    private ExcelRequest request() throws NoSuchMethodException {
+        return ExcelImportTaskTest.class.getDeclaredMethod("async", ExcelChunkReader.class)
+                .getParameters()[0].getAnnotation(ExcelRequest.class);
+    }
+
+    void async(@ExcelRequest(batchSize = 10, async = true) ExcelChunkReader<ChunkRow> reader) {
+    }
+
+    /**
+     * 测试数据行
+     */
+    @Data
+    public static class ChunkRow {
+        @ExcelProperty(index = 0)
+        private Integer id;
+        @ExcelProperty(index = 1)
+        private String name;
+    }
+}
@@ -0,0 +1,171 @@
+package com.gls.athena.starter.excel.support;
+
+import cn.idev.excel.ExcelWriter;
+import cn.idev.excel.FastExcel;
+import cn.idev.excel.annotation.ExcelProperty;
+import cn.idev.excel.support.ExcelTypeEnum;
+import com.gls.athena.starter.excel.annotation.ExcelRequest;
+import com.gls.athena.starter.excel.config.ExcelProperties;
+import com.gls.athena.starter.excel.exception.ExcelParseException;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExcelMultiSheetReader的单元测试类
+ */
+public class ExcelMultiSheetReaderTest {
+
+    private final ExcelProperties excelProperties = new ExcelProperties();
+
+    private final AtomicInteger submitted = new AtomicInteger();
+
+    /**
+     * 在调用线程中执行并记录提交次数的线程池
+     */
+    private final Executor executor = command -> {
+        submitted.incrementAndGet();
+        command.run();
+    };
+
+    /**
+     * 测试：xls格式一次读取全部选中的工作表，不提交到线程池
+     */
+    @Test
+    public void read_Xls_SinglePass() throws Exception {
+        List<ExcelErrorMessage> errors = new ArrayList<>();
+
+        Map<String, List<?>> result = new ExcelMultiSheetReader(executor, excelProperties)
+                .read(file(ExcelTypeEnum.XLS, -1), SheetRow.class, request("all"), errors);
+
+        assertEquals(List.of("华东", "华南", "华北"), List.copyOf(result.keySet()));
+        result.values().forEach(rows -> assertEquals(5, rows.size()));
+        assertEquals("华南-2", ((SheetRow) result.get("华南").get(2)).getName());
+        assertTrue(errors.isEmpty());
+        assertEquals(0, submitted.get());
+    }
+
+    /**
+     * 测试：xlsx格式按并行度提交到线程池，结果顺序与工作表顺序一致
+     */
+    @Test
+    public void read_Xlsx_Parallel() throws Exception {
+        Map<String, List<?>> result = new ExcelMultiSheetReader(executor, excelProperties)
+                .read(file(ExcelTypeEnum.XLSX, -1), SheetRow.class, request("selected"), new ArrayList<>());
+
+        assertEquals(List.of("华东", "华北"), List.copyOf(result.keySet()));
+        assertEquals("华北-4", ((SheetRow) result.get("华北").get(4)).getName());
+        assertEquals(2, submitted.get());
+    }
+
+    /**
+     * 测试：内存预算按文件大小不足以并行解析两个工作表时改为顺序读取
+     */
+    @Test
+    public void read_Xlsx_OverMemoryBudget_Sequential() throws Exception {
+        MockMultipartFile file = file(ExcelTypeEnum.XLSX, -1);
+        excelProperties.setImportSheetParallelMemory(DataSize.ofBytes(file.getSize() + 1));
+
+        Map<String, List<?>> result = new ExcelMultiSheetReader(executor, excelProperties)
+                .read(file, SheetRow.class, request("all"), new ArrayList<>());
+
+        assertEquals(3, result.size());
+        assertEquals(0, submitted.get());
+    }
+
+    /**
+     * 测试：错误信息上限按所有工作表合计，而非每个工作表各自计算
+     */
+    @Test
+    public void read_ErrorLimit_Global() throws Exception {
+        List<ExcelErrorMessage> errors = new ArrayList<>();
+
+        new ExcelMultiSheetReader(executor, excelProperties)
+                .read(file(ExcelTypeEnum.XLS, 1), SheetRow.class, request("limited"), errors);
+
+        assertEquals(2, errors.size());
+        assertNotNull(errors.get(0).getSheetName());
+    }
+
+    /**
+     * 测试：开启快速失败时，所有工作表合计的错误数超过上限即终止读取
+     */
+    @Test
+    public void read_FailFast_Global() {
+        assertThrows(RuntimeException.class, () -> new ExcelMultiSheetReader(executor, excelProperties)
+                .read(file(ExcelTypeEnum.XLS, 1), SheetRow.class, request("failFast"), new ArrayList<>()));
+    }
+
+    /**
+     * 测试：并行读取时工作表超出行数预算后不再提交剩余工作表
+     */
+    @Test
+    public void read_Xlsx_OverMaxRows_StopsSubmitting() {
+        excelProperties.setImportMaxRows(3L);
+
+        assertThrows(ExcelParseException.class, () -> new ExcelMultiSheetReader(executor, excelProperties)
+                .read(file(ExcelTypeEnum.XLSX, -1), SheetRow.class, request("all"), new ArrayList<>()));
+        assertEquals(1, submitted.get());
+    }
+
+    /**
+     * 生成包含三个工作表的测试文件，每个工作表5行
+     *
+     * @param excelType  文件格式
+     * @param invalidRow 每个工作表中编号列不是数字的数据行序号，小于0时全部合法
+     * @return 上传文件
+     */
+    private MockMultipartFile file(ExcelTypeEnum excelType, int invalidRow) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ExcelWriter excelWriter = FastExcel.write(outputStream).excelType(excelType).build();
+        String[] names = {"华东", "华南", "华北"};
+        for (int sheetNo = 0; sheetNo < names.length; sheetNo++) {
+            List<List<Object>> data = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                data.add(List.of(i == invalidRow ? "abc" : String.valueOf(i), names[sheetNo] + "-" + i));
+            }
+            excelWriter.write(data, FastExcel.writerSheet(sheetNo, names[sheetNo])
+                    .head(List.of(List.of("编号"), List.of("名称"))).build());
+        }
+        excelWriter.finish();
+        return new MockMultipartFile("file", "regions" + excelType.getValue(), null, outputStream.toByteArray());
+    }
+
+    private ExcelRequest request(String method) throws NoSuchMethodException {
+        return ExcelMultiSheetReaderTest.class.getDeclaredMethod(method, Map.class)
+                .getParameters()[0].getAnnotation(ExcelRequest.class);
+    }
+
+    void all(@ExcelRequest Map<String, List<SheetRow>> rows) {
+    }
+
+    void selected(@ExcelRequest(sheetNames = {"华北", "华东"}) Map<String, List<SheetRow>> rows) {
+    }
+
+    void limited(@ExcelRequest(maxErrors = 2) Map<String, List<SheetRow>> rows) {
+    }
+
+    void failFast(@ExcelRequest(maxErrors = 2, failFast = true) Map<String, List<SheetRow>> rows) {
+    }
+
+    /**
+     * 测试数据行
+     */
+    @Data
+    public static class SheetRow {
+        @ExcelProperty(index = 0)
+        private Integer id;
+        @ExcelProperty(index = 1)
+        private String name;
+    }
+}
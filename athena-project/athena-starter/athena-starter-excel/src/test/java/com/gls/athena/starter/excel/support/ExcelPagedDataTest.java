@@ -0,0 +1,130 @@
+package com.gls.athena.starter.excel.support;
+
+import com.gls.athena.common.bean.base.BaseVo;
+import com.gls.athena.common.bean.page.PageRequest;
+import com.gls.athena.common.bean.page.PageResponse;
+import com.gls.athena.common.core.base.IService;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * ExcelPagedData的单元测试类
+ */
+public class ExcelPagedDataTest {
+
+    /**
+     * 测试：分页查询返回空页时结束，页码从1开始递增
+     */
+    @Test
+    public void nextPage_Fetcher_EndsOnEmptyPage() {
+        List<Integer> pages = new ArrayList<>();
+        ExcelPagedData<Integer> data = ExcelPagedData.of(Integer.class, (page, size) -> {
+            pages.add(page);
+            return range((page - 1) * size, Math.min(page * size, 25));
+        });
+
+        assertEquals(range(0, 10), data.nextPage(10));
+        assertEquals(range(10, 20), data.nextPage(10));
+        assertEquals(range(20, 25), data.nextPage(10));
+        assertTrue(data.nextPage(10).isEmpty());
+        assertEquals(List.of(1, 2, 3, 4), pages);
+    }
+
+    /**
+     * 测试：已读取总记录数后不再查询，设置的每页行数优先于默认值
+     */
+    @Test
+    public void nextPage_TotalReached_NoMoreFetch() {
+        List<Integer> pages = new ArrayList<>();
+        ExcelPagedData<Integer> data = ExcelPagedData.<Integer>of(Integer.class, (page, size) -> {
+            pages.add(page);
+            return range((page - 1) * size, page * size);
+        }).setPageSize(5).setTotal(10L);
+
+        assertEquals(5, data.nextPage(1000).size());
+        assertEquals(5, data.nextPage(1000).size());
+        assertTrue(data.nextPage(1000).isEmpty());
+        assertEquals(List.of(1, 2), pages);
+    }
+
+    /**
+     * 测试：进度按百分比报告，只在变化时通知且不超过100
+     */
+    @Test
+    public void nextPage_Progress_ReportedOnChange() {
+        ExcelPagedData<Integer> data = ExcelPagedData.of(Integer.class, (page, size) -> range(0, size)).setTotal(300L);
+        List<Integer> progress = new ArrayList<>();
+        data.setProgressListener(progress::add);
+
+        data.nextPage(1);
+        data.nextPage(1);
+        data.nextPage(1);
+        data.nextPage(1000);
+
+        assertEquals(List.of(0, 1, 100), progress);
+    }
+
+    /**
+     * 测试：流式数据源按页切分，关闭时关闭流
+     */
+    @Test
+    public void nextPage_Stream_PagedAndClosed() {
+        AtomicBoolean closed = new AtomicBoolean();
+        ExcelPagedData<Integer> data = ExcelPagedData.of(Integer.class,
+                IntStream.range(0, 7).boxed().onClose(() -> closed.set(true)));
+
+        assertEquals(range(0, 3), data.nextPage(3));
+        assertEquals(range(3, 6), data.nextPage(3));
+        assertEquals(range(6, 7), data.nextPage(3));
+        assertTrue(data.nextPage(3).isEmpty());
+        data.close();
+
+        assertTrue(closed.get());
+    }
+
+    /**
+     * 测试：服务分页查询的总记录数取自第一页结果
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void of_Service_TotalFromFirstPage() {
+        IService<PagedVo> service = mock(IService.class);
+        PagedVo params = new PagedVo();
+        when(service.page(any())).thenAnswer(invocation -> {
+            PageRequest<PagedVo> request = invocation.getArgument(0);
+            assertSame(params, request.getParams());
+            List<PagedVo> rows = Stream.generate(PagedVo::new).limit(request.getSize()).toList();
+            return new PageResponse<>(request.getPage(), request.getSize(), 4L, rows);
+        });
+        ExcelPagedData<PagedVo> data = ExcelPagedData.of(PagedVo.class, service, params);
+
+        assertEquals(2, data.nextPage(2).size());
+        assertEquals(4L, data.getTotal());
+        assertEquals(2, data.nextPage(2).size());
+        assertTrue(data.nextPage(2).isEmpty());
+        verify(service, times(2)).page(any());
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().toList();
+    }
+
+    /**
+     * 测试视图对象
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class PagedVo extends BaseVo {
+    }
+}
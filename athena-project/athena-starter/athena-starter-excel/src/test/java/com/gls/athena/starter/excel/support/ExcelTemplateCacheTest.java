@@ -0,0 +1,118 @@
+package com.gls.athena.starter.excel.support;
+
+import com.gls.athena.starter.excel.config.ExcelProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExcelTemplateCache的单元测试类
+ */
+public class ExcelTemplateCacheTest {
+
+    private static final String TEMPLATE = "cache.xlsx";
+
+    private final ExcelProperties excelProperties = new ExcelProperties();
+
+    private File templateFile;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // 模板写入测试类路径下的文件系统目录，与开发环境中直接从类路径目录加载一致
+        File templateDir = new File(new ClassPathResource("").getFile(), "templates/excel-cache");
+        templateDir.mkdirs();
+        templateFile = new File(templateDir, TEMPLATE);
+        excelProperties.setTemplatePath("classpath:/templates/excel-cache");
+        ExcelTemplateCache.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ExcelTemplateCache.clear();
+        templateFile.delete();
+    }
+
+    /**
+     * 测试：文件系统中的模板最后修改时间变化后重新加载
+     */
+    @Test
+    public void getInputStream_LastModifiedChanged_Reloaded() throws Exception {
+        excelProperties.setTemplateCacheCheckInterval(Duration.ZERO);
+        write("v1", 1_700_000_000_000L);
+        assertEquals("v1", read());
+
+        write("v2", 1_700_000_010_000L);
+
+        assertEquals("v2", read());
+    }
+
+    /**
+     * 测试：最后修改时间未变化时使用缓存内容
+     */
+    @Test
+    public void getInputStream_LastModifiedUnchanged_Cached() throws Exception {
+        excelProperties.setTemplateCacheCheckInterval(Duration.ZERO);
+        write("v1", 1_700_000_000_000L);
+        assertEquals("v1", read());
+
+        write("v2", 1_700_000_000_000L);
+
+        assertEquals("v1", read());
+    }
+
+    /**
+     * 测试：检查间隔内不检查修改
+     */
+    @Test
+    public void getInputStream_WithinCheckInterval_NotChecked() throws Exception {
+        excelProperties.setTemplateCacheCheckInterval(Duration.ofHours(1));
+        write("v1", 1_700_000_000_000L);
+        assertEquals("v1", read());
+
+        write("v2", 1_700_000_010_000L);
+
+        assertEquals("v1", read());
+    }
+
+    /**
+     * 测试：关闭缓存时每次读取模板文件
+     */
+    @Test
+    public void getInputStream_CacheDisabled_AlwaysRead() throws Exception {
+        excelProperties.setTemplateCache(false);
+        write("v1", 1_700_000_000_000L);
+        assertEquals("v1", read());
+
+        write("v2", 1_700_000_000_000L);
+
+        assertEquals("v2", read());
+    }
+
+    /**
+     * 测试：模板文件名为空时返回null
+     */
+    @Test
+    public void getInputStream_BlankTemplate_Null() throws Exception {
+        assertNull(ExcelTemplateCache.getInputStream(excelProperties, ""));
+    }
+
+    private void write(String content, long lastModified) throws Exception {
+        Files.writeString(templateFile.toPath(), content, StandardCharsets.UTF_8);
+        assertTrue(templateFile.setLastModified(lastModified));
+    }
+
+    private String read() throws Exception {
+        try (InputStream inputStream = ExcelTemplateCache.getInputStream(excelProperties, TEMPLATE)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -168,6 +168,12 @@ public class FileAsyncAspect<Generator extends FileGenerator<Response>, Response
         // 查找支持的文件生成器并执行文件生成
         Generator generator = findSupportedGenerator(wrapper);
 
+        // 数据源可报告进度时，将生成进度映射到文件生成阶段
+        if (data instanceof FileProgressSource source) {
+            source.setProgressListener(progress -> asyncTaskManager.updateTaskProgress(taskId,
+                    PROGRESS_FILE_PATH_PREPARED + progress * (PROGRESS_FILE_GENERATED - PROGRESS_FILE_PATH_PREPARED) / 100));
+        }
+
         try (OutputStream outputStream = fileManager.getFileOutputStream(filePath)) {
             generator.generate(data, wrapper.getResponse(), outputStream);
             asyncTaskManager.updateTaskProgress(taskId, PROGRESS_FILE_GENERATED);
@@ -0,0 +1,20 @@
+package com.gls.athena.starter.file.support;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 可报告生成进度的文件数据
+ * <p>
+ * 控制器返回的数据实现该接口时，异步导出会在文件生成过程中按数据源报告的百分比更新任务进度。
+ *
+ * @author george
+ */
+public interface FileProgressSource {
+
+    /**
+     * 设置进度监听器
+     *
+     * @param listener 进度监听器，参数为文件生成进度百分比（0-100）
+     */
+    void setProgressListener(IntConsumer listener);
+}
@@ -79,12 +79,24 @@ public class FileUtil {
      * @throws IOException 当文件无法访问或读取时抛出此异常
      */
     public InputStream getInputStream(String filePath, String fileName) throws IOException {
+        ClassPathResource resource = getResource(filePath, fileName);
+        return resource == null ? null : resource.getInputStream();
+    }
+
+    /**
+     * 获取指定文件的类路径资源
+     *
+     * @param filePath 文件所在的目录路径
+     * @param fileName 文件名
+     * @return 类路径资源，如果路径或文件名为空，则返回null
+     */
+    public ClassPathResource getResource(String filePath, String fileName) {
         if (StrUtil.isBlank(filePath) || StrUtil.isBlank(fileName)) {
             return null;
         }
 
         String fileFullPath = buildFilePath(filePath, fileName);
-        log.debug("获取文件输入流，路径: {}", fileFullPath);
+        log.debug("获取文件资源，路径: {}", fileFullPath);
 
         // 去除 classpath 前缀
         if (fileFullPath.startsWith(CLASSPATH)) {
@@ -96,7 +108,7 @@ public class FileUtil {
             fileFullPath = fileFullPath.substring(PREFIX.length());
         }
 
-        return new ClassPathResource(fileFullPath).getInputStream();
+        return new ClassPathResource(fileFullPath);
     }
 
     /**
@@ -2,6 +2,8 @@ package com.gls.athena.starter.json.config;
 
 import cn.hutool.core.date.DatePattern;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
@@ -11,11 +13,19 @@ import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
 import com.gls.athena.starter.json.support.DefaultDateFormat;
 import com.gls.athena.starter.json.support.GenericExceptionMixin;
+import com.gls.athena.starter.json.support.JsonMapperRegistry;
+import com.gls.athena.starter.json.support.JsonMapperWarmer;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.util.ClassUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -30,8 +40,14 @@ import java.util.TimeZone;
  * @author george
  */
 @Configuration
+@EnableConfigurationProperties(JsonProperties.class)
 public class JacksonConfig {
 
+    /**
+     * Blackbird模块类名
+     */
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
     /**
      * 创建 Jackson2ObjectMapperBuilderCustomizer 的 Bean
      * 用于全局配置 Jackson 的行为特性，如日期格式、时区、未知属性处理等
@@ -93,4 +109,46 @@ public class JacksonConfig {
         return javaTimeModule;
     }
 
+    /**
+     * 创建 Blackbird 模块的 Bean，Spring Boot 会将其注册到所有由构建器创建的 ObjectMapper 中
+     *
+     * @return Blackbird 模块
+     */
+    @Bean
+    @ConditionalOnClass(name = BLACKBIRD_MODULE)
+    @ConditionalOnProperty(prefix = "athena.json", name = "blackbird", havingValue = "true")
+    public Module blackbirdModule() {
+        return (Module) BeanUtils.instantiateClass(ClassUtils.resolveClassName(BLACKBIRD_MODULE, null));
+    }
+
+    /**
+     * 创建 ObjectMapper 注册表的 Bean，并注册第三方接口使用的 ObjectMapper
+     *
+     * @param modules 已注册的 Jackson 模块，仅复用其中的 Blackbird 模块
+     * @return ObjectMapper 注册表
+     */
+    @Bean
+    public JsonMapperRegistry jsonMapperRegistry(ObjectProvider<Module> modules) {
+        JsonMapperRegistry registry = new JsonMapperRegistry();
+        ObjectMapper external = JsonMapperRegistry.createExternalMapper();
+        modules.orderedStream()
+                .filter(module -> BLACKBIRD_MODULE.equals(module.getClass().getName()))
+                .forEach(external::registerModule);
+        registry.register(JsonMapperRegistry.EXTERNAL, external);
+        return registry;
+    }
+
+    /**
+     * 创建序列化器预热器的 Bean
+     *
+     * @param jsonMapperRegistry ObjectMapper 注册表
+     * @param jsonProperties     JSON配置属性
+     * @return 序列化器预热器
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "athena.json.warm-up", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public JsonMapperWarmer jsonMapperWarmer(JsonMapperRegistry jsonMapperRegistry, JsonProperties jsonProperties) {
+        return new JsonMapperWarmer(jsonMapperRegistry, jsonProperties.getWarmUp().getBasePackages());
+    }
+
 }
@@ -0,0 +1,46 @@
+package com.gls.athena.starter.json.config;
+
+import com.gls.athena.common.core.constant.BaseProperties;
+import com.gls.athena.common.core.constant.IConstants;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON配置属性类
+ *
+ * @author george
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ConfigurationProperties(prefix = IConstants.BASE_PROPERTIES_PREFIX + ".json")
+public class JsonProperties extends BaseProperties {
+
+    /**
+     * 是否启用Blackbird模块，以LambdaMetafactory生成的访问器替代反射读写属性，需引入 jackson-module-blackbird
+     */
+    private boolean blackbird = false;
+
+    /**
+     * 序列化器预热配置
+     */
+    private WarmUp warmUp = new WarmUp();
+
+    /**
+     * 序列化器预热配置
+     * <p>
+     * 启动时扫描指定包下的 BaseVo 子类，为已注册的各个 ObjectMapper 提前构建序列化器与反序列化器，
+     * 避免首个请求承担构建开销。
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class WarmUp extends BaseProperties {
+        /**
+         * 扫描的基础包
+         */
+        private List<String> basePackages = new ArrayList<>(List.of(IConstants.BASE_PACKAGE_PREFIX));
+    }
+}
@@ -0,0 +1,105 @@
+package com.gls.athena.starter.json.support;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * ObjectMapper注册表
+ * <p>
+ * 统一持有按用途命名的 ObjectMapper 实例，各模块复用同一实例以共享已构建的序列化器缓存：
+ * <ul>
+ *   <li>{@link #WEB}：Web接口响应，由 athena-starter-web 注册</li>
+ *   <li>{@link #CACHE}：Redis缓存与会话，由 athena-starter-data-redis 注册</li>
+ *   <li>{@link #EXTERNAL}：第三方接口调用，宽松解析且忽略空值</li>
+ * </ul>
+ * ObjectMapper 线程安全，注册后不应再修改其配置。
+ *
+ * @author george
+ */
+public class JsonMapperRegistry {
+
+    /**
+     * Web接口
+     */
+    public static final String WEB = "web";
+
+    /**
+     * 缓存
+     */
+    public static final String CACHE = "cache";
+
+    /**
+     * 第三方接口
+     */
+    public static final String EXTERNAL = "external";
+
+    private final Map<String, ObjectMapper> mappers = new ConcurrentHashMap<>();
+
+    /**
+     * 注册ObjectMapper，同名实例已存在时替换
+     *
+     * @param name         名称
+     * @param objectMapper ObjectMapper
+     */
+    public void register(String name, ObjectMapper objectMapper) {
+        mappers.put(name, objectMapper);
+    }
+
+    /**
+     * 获取ObjectMapper，不存在时创建并注册
+     *
+     * @param name    名称
+     * @param factory 创建方法
+     * @return ObjectMapper
+     */
+    public ObjectMapper computeIfAbsent(String name, Supplier<ObjectMapper> factory) {
+        return mappers.computeIfAbsent(name, key -> factory.get());
+    }
+
+    /**
+     * 获取ObjectMapper
+     *
+     * @param name 名称
+     * @return ObjectMapper
+     * @throws IllegalStateException 未注册时抛出
+     */
+    public ObjectMapper get(String name) {
+        ObjectMapper objectMapper = mappers.get(name);
+        if (objectMapper == null) {
+            throw new IllegalStateException("未注册的ObjectMapper: " + name);
+        }
+        return objectMapper;
+    }
+
+    /**
+     * 获取全部已注册的ObjectMapper
+     *
+     * @return 名称与ObjectMapper的映射
+     */
+    public Map<String, ObjectMapper> getMappers() {
+        return Collections.unmodifiableMap(mappers);
+    }
+
+    /**
+     * 创建第三方接口使用的ObjectMapper
+     * <p>
+     * 忽略未知属性，允许注释与单引号，序列化时忽略空值。
+     *
+     * @return ObjectMapper
+     */
+    public static ObjectMapper createExternalMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
+        objectMapper.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        return objectMapper;
+    }
+}
@@ -0,0 +1,82 @@
+package com.gls.athena.starter.json.support;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gls.athena.common.bean.base.BaseVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 序列化器预热器
+ * <p>
+ * 所有单例初始化完成后，扫描指定包下的 {@link BaseVo} 子类，
+ * 为注册表中的每个 ObjectMapper 构建并缓存对应的序列化器与反序列化器。
+ *
+ * @author george
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JsonMapperWarmer implements SmartInitializingSingleton {
+
+    private final JsonMapperRegistry jsonMapperRegistry;
+
+    private final List<String> basePackages;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.currentTimeMillis();
+        Set<Class<?>> types = scan();
+        Map<String, ObjectMapper> mappers = jsonMapperRegistry.getMappers();
+        mappers.forEach((name, objectMapper) -> types.forEach(type -> warmUp(objectMapper, type)));
+        log.info("ObjectMapper预热完成 - Mappers: {}, Types: {}, Elapsed: {}ms", mappers.keySet(), types.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 扫描 BaseVo 子类
+     *
+     * @return 类型集合
+     */
+    private Set<Class<?>> scan() {
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
+        provider.addIncludeFilter(new AssignableTypeFilter(BaseVo.class));
+        Set<Class<?>> types = new LinkedHashSet<>();
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition definition : provider.findCandidateComponents(basePackage)) {
+                try {
+                    types.add(ClassUtils.forName(definition.getBeanClassName(), classLoader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    log.debug("ObjectMapper预热跳过类型: {}", definition.getBeanClassName(), e);
+                }
+            }
+        }
+        return types;
+    }
+
+    /**
+     * 构建并缓存指定类型的序列化器与反序列化器
+     *
+     * @param objectMapper ObjectMapper
+     * @param type         类型
+     */
+    private void warmUp(ObjectMapper objectMapper, Class<?> type) {
+        try {
+            JavaType javaType = objectMapper.constructType(type);
+            objectMapper.canSerialize(type);
+            objectMapper.canDeserialize(javaType);
+        } catch (RuntimeException e) {
+            log.debug("ObjectMapper预热失败: {}", type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.gls.athena.starter.json.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.gls.athena.common.test.benchmark.Benchmark;
+import com.gls.athena.common.test.benchmark.BenchmarkMeter;
+import com.gls.athena.common.test.benchmark.BenchmarkRunner;
+import com.gls.athena.starter.json.support.warmup.OrderVo;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * ObjectMapper预热基准测试
+ * <p>
+ * 对比全新 ObjectMapper 未预热与经 {@link JsonMapperWarmer} 预热后首次序列化、反序列化 {@link OrderVo} 的耗时与分配量，
+ * 并单独统计预热本身（扫描类路径与构建序列化器）的开销；同时对比共享 ObjectMapper 启用与不启用 Blackbird 模块时的稳态吞吐量。
+ * 默认跳过，通过系统属性开启：
+ * <pre>
+ * mvn -pl athena-starter/athena-starter-json test -Dtest=JsonMapperWarmerBenchmarkTest -Djson.benchmark=true
+ * </pre>
+ * 可选系统属性：
+ * <ul>
+ *   <li>json.benchmark.rounds：首次调用场景创建的 ObjectMapper 数量，默认200</li>
+ *   <li>json.benchmark.samples：吞吐量场景每轮序列化与反序列化的对象数量，默认100000</li>
+ *   <li>json.benchmark.warmup：吞吐量场景预热轮数，默认3</li>
+ *   <li>json.benchmark.iterations：吞吐量场景测量轮数，默认5</li>
+ * </ul>
+ *
+ * @author george
+ */
+@Benchmark(value = "json", warmup = 3, iterations = 5)
+class JsonMapperWarmerBenchmarkTest {
+
+    private static final BenchmarkRunner RUNNER = BenchmarkRunner.of(JsonMapperWarmerBenchmarkTest.class);
+
+    private static final int ROUNDS = RUNNER.intProperty("rounds", 200);
+
+    private static final int SAMPLES = RUNNER.intProperty("samples", 100000);
+
+    private static final String FIXTURE_PACKAGE = "com.gls.athena.starter.json.support.warmup";
+
+    @Test
+    void firstCall() throws Exception {
+        OrderVo orderVo = sample(new Random(42), 0);
+        // 预先加载 Jackson 与扫描相关的类，避免计入第一个场景
+        firstCall(new ObjectMapper(), orderVo);
+        warmUp(new ObjectMapper());
+
+        BenchmarkMeter cold = RUNNER.meter();
+        for (int i = 0; i < ROUNDS; i++) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            cold.record(() -> firstCall(objectMapper, orderVo));
+        }
+
+        BenchmarkMeter warmUp = RUNNER.meter();
+        BenchmarkMeter warmed = RUNNER.meter();
+        for (int i = 0; i < ROUNDS; i++) {
+            ObjectMapper objectMapper = new ObjectMapper();
+            warmUp.record(() -> warmUp(objectMapper));
+            warmed.record(() -> firstCall(objectMapper, orderVo));
+        }
+
+        report("first-call/cold", cold);
+        report("first-call/warm-up", warmUp);
+        report("first-call/warmed", warmed);
+    }
+
+    @Test
+    void throughput() throws Exception {
+        Random random = new Random(42);
+        OrderVo[] samples = new OrderVo[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = sample(random, i);
+        }
+        measure("throughput/reflection", ObjectMapper::new, samples);
+        measure("throughput/blackbird", () -> new ObjectMapper().registerModule(new BlackbirdModule()), samples);
+    }
+
+    /**
+     * 执行预热和测量并输出结果
+     *
+     * @param scenario 场景名称
+     * @param factory  ObjectMapper创建方法
+     * @param samples  样本
+     * @throws Exception 序列化失败时抛出
+     */
+    private void measure(String scenario, Supplier<ObjectMapper> factory, OrderVo[] samples) throws Exception {
+        ObjectMapper objectMapper = factory.get();
+        long[] bytes = new long[1];
+        BenchmarkMeter meter = RUNNER.measure(() -> bytes[0] = run(objectMapper, samples));
+        RUNNER.report(scenario, "samples={} time={}ns/op throughput={} ops/s allocation={} B/op bytes={}",
+                samples.length, meter.nanosPerOp(samples.length), meter.throughput(samples.length),
+                meter.allocatedPerOp(samples.length), bytes[0]);
+    }
+
+    private void report(String scenario, BenchmarkMeter meter) {
+        RUNNER.report(scenario, "rounds={} time={}us/op allocation={} B/op",
+                meter.getCount(), meter.nanosPerOp(1) / 1000, meter.allocatedPerOp(1));
+    }
+
+    private long run(ObjectMapper objectMapper, OrderVo[] samples) throws IOException {
+        long bytes = 0;
+        for (OrderVo sample : samples) {
+            byte[] json = objectMapper.writeValueAsBytes(sample);
+            bytes += json.length + objectMapper.readValue(json, OrderVo.class).getTags().size();
+        }
+        return bytes;
+    }
+
+    private void firstCall(ObjectMapper objectMapper, OrderVo orderVo) throws IOException {
+        objectMapper.readValue(objectMapper.writeValueAsBytes(orderVo), OrderVo.class);
+    }
+
+    private void warmUp(ObjectMapper objectMapper) {
+        JsonMapperRegistry registry = new JsonMapperRegistry();
+        registry.register(JsonMapperRegistry.WEB, objectMapper);
+        new JsonMapperWarmer(registry, List.of(FIXTURE_PACKAGE)).afterSingletonsInstantiated();
+    }
+
+    private OrderVo sample(Random random, int index) {
+        OrderVo orderVo = new OrderVo();
+        orderVo.setId((long) index);
+        orderVo.setTenantId(100L);
+        orderVo.setVersion(random.nextInt(10));
+        orderVo.setIsDelete(false);
+        orderVo.setCreateUserId(1001L);
+        orderVo.setCreateUserName("user" + random.nextInt(1000));
+        orderVo.setCreateTime(new Date(1704067200000L + random.nextInt(1000000)));
+        orderVo.setOrderNo("NO" + random.nextInt(1000000));
+        orderVo.setAmount(BigDecimal.valueOf(random.nextInt(1000000), 2));
+        orderVo.setTags(List.of("tag" + random.nextInt(10), "tag" + random.nextInt(10)));
+        return orderVo;
+    }
+}
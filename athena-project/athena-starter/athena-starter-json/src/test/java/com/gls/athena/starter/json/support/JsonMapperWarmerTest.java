@@ -0,0 +1,116 @@
+package com.gls.athena.starter.json.support;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.gls.athena.starter.json.support.warmup.OrderVo;
+import com.gls.athena.starter.json.support.warmup.UserVo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonMapperWarmer的单元测试类
+ */
+public class JsonMapperWarmerTest {
+
+    private static final String FIXTURE_PACKAGE = "com.gls.athena.starter.json.support.warmup";
+
+    /**
+     * 测试：只预热具体的 BaseVo 子类，抽象类与非 BaseVo 类型被跳过，每个已注册的 ObjectMapper 都被预热
+     */
+    @Test
+    public void afterSingletonsInstantiated_WarmsConcreteVoOnEveryMapper() {
+        JsonMapperRegistry registry = new JsonMapperRegistry();
+        RecordingObjectMapper web = new RecordingObjectMapper(null);
+        RecordingObjectMapper external = new RecordingObjectMapper(null);
+        registry.register(JsonMapperRegistry.WEB, web);
+        registry.register(JsonMapperRegistry.EXTERNAL, external);
+
+        new JsonMapperWarmer(registry, List.of(FIXTURE_PACKAGE)).afterSingletonsInstantiated();
+
+        for (RecordingObjectMapper mapper : List.of(web, external)) {
+            assertEquals(Set.of(OrderVo.class, UserVo.class), Set.copyOf(mapper.serialized));
+            assertEquals(Set.of(OrderVo.class, UserVo.class), Set.copyOf(mapper.deserialized));
+        }
+    }
+
+    /**
+     * 测试：预热后序列化器已构建并进入 ObjectMapper 的缓存
+     */
+    @Test
+    public void afterSingletonsInstantiated_SerializerCached() {
+        JsonMapperRegistry registry = new JsonMapperRegistry();
+        ObjectMapper objectMapper = new ObjectMapper();
+        registry.register(JsonMapperRegistry.WEB, objectMapper);
+        assertEquals(0, ((DefaultSerializerProvider) objectMapper.getSerializerProvider()).cachedSerializersCount());
+
+        new JsonMapperWarmer(registry, List.of(FIXTURE_PACKAGE)).afterSingletonsInstantiated();
+
+        assertTrue(((DefaultSerializerProvider) objectMapper.getSerializerProvider()).cachedSerializersCount() > 0);
+    }
+
+    /**
+     * 测试：单个类型预热失败不影响其他类型，也不中断启动
+     */
+    @Test
+    public void afterSingletonsInstantiated_FailedTypeSkipped() {
+        JsonMapperRegistry registry = new JsonMapperRegistry();
+        RecordingObjectMapper objectMapper = new RecordingObjectMapper(OrderVo.class);
+        registry.register(JsonMapperRegistry.WEB, objectMapper);
+
+        assertDoesNotThrow(() -> new JsonMapperWarmer(registry, List.of(FIXTURE_PACKAGE)).afterSingletonsInstantiated());
+        assertEquals(List.of(UserVo.class), objectMapper.serialized);
+        assertEquals(List.of(UserVo.class), objectMapper.deserialized);
+    }
+
+    /**
+     * 测试：未配置扫描包时不扫描也不预热
+     */
+    @Test
+    public void afterSingletonsInstantiated_NoBasePackages_Nothing() {
+        JsonMapperRegistry registry = new JsonMapperRegistry();
+        RecordingObjectMapper objectMapper = new RecordingObjectMapper(null);
+        registry.register(JsonMapperRegistry.WEB, objectMapper);
+
+        new JsonMapperWarmer(registry, List.of()).afterSingletonsInstantiated();
+
+        assertTrue(objectMapper.serialized.isEmpty());
+        assertTrue(objectMapper.deserialized.isEmpty());
+    }
+
+    /**
+     * 记录预热类型的ObjectMapper，可指定预热失败的类型
+     */
+    private static class RecordingObjectMapper extends ObjectMapper {
+
+        private final Class<?> failingType;
+
+        private final List<Class<?>> serialized = new ArrayList<>();
+
+        private final List<Class<?>> deserialized = new ArrayList<>();
+
+        RecordingObjectMapper(Class<?> failingType) {
+            this.failingType = failingType;
+        }
+
+        @Override
+        public boolean canSerialize(Class<?> type) {
+            if (type == failingType) {
+                throw new IllegalStateException("预热失败: " + type.getName());
+            }
+            serialized.add(type);
+            return super.canSerialize(type);
+        }
+
+        @Override
+        public boolean canDeserialize(JavaType type) {
+            deserialized.add(type.getRawClass());
+            return super.canDeserialize(type);
+        }
+    }
+}
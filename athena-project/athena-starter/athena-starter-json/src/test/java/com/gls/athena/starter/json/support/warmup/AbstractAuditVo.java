@@ -0,0 +1,11 @@
+package com.gls.athena.starter.json.support.warmup;
+
+import com.gls.athena.common.bean.base.BaseVo;
+
+/**
+ * 预热测试用抽象视图，不应被预热
+ *
+ * @author george
+ */
+public abstract class AbstractAuditVo extends BaseVo {
+}
@@ -0,0 +1,24 @@
+package com.gls.athena.starter.json.support.warmup;
+
+import com.gls.athena.common.bean.base.BaseVo;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 预热测试用订单视图
+ *
+ * @author george
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class OrderVo extends BaseVo {
+
+    private String orderNo;
+
+    private BigDecimal amount;
+
+    private List<String> tags;
+}
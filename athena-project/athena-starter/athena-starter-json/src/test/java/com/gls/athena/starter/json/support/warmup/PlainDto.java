@@ -0,0 +1,14 @@
+package com.gls.athena.starter.json.support.warmup;
+
+import lombok.Data;
+
+/**
+ * 预热测试用普通对象，未继承 BaseVo，不应被预热
+ *
+ * @author george
+ */
+@Data
+public class PlainDto {
+
+    private String name;
+}
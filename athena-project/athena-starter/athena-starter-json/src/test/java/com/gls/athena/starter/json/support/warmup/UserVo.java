@@ -0,0 +1,19 @@
+package com.gls.athena.starter.json.support.warmup;
+
+import com.gls.athena.common.bean.base.BaseVo;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 预热测试用用户视图
+ *
+ * @author george
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class UserVo extends BaseVo {
+
+    private String username;
+
+    private Integer age;
+}
@@ -1,6 +1,9 @@
 package com.gls.athena.starter.mybatis.base;
 
+import cn.hutool.core.io.IoUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.enums.SqlMethod;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.gls.athena.common.bean.base.BaseVo;
 import com.gls.athena.common.bean.page.PageRequest;
@@ -8,10 +11,17 @@ import com.gls.athena.common.bean.page.PageResponse;
 import com.gls.athena.common.core.base.IConverter;
 import com.gls.athena.common.core.base.IService;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 基础服务类
@@ -32,6 +42,12 @@ public abstract class BaseService<V extends BaseVo, E extends BaseEntity,
     @Autowired
     protected C converter;
 
+    /**
+     * 会话工厂，用于获取游标查询的会话
+     */
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
     /**
      * 插入一条记录。
      *
@@ -183,6 +199,40 @@ public abstract class BaseService<V extends BaseVo, E extends BaseEntity,
         }
     }
 
+    /**
+     * 根据查询条件流式获取视图对象。
+     * <p>
+     * 通过 {@link SqlSessionUtils} 获取Spring管理的会话打开MyBatis游标，逐条读取并转换：
+     * 存在事务时复用事务绑定的会话与连接，流需在该事务内消费并关闭；无事务时使用独立会话，可在其他线程消费。
+     * 关闭返回的流时关闭游标并释放会话，事务绑定的会话由事务结束时关闭。
+     * MySQL需在连接参数中开启 useCursorFetch 并设置 defaultFetchSize，否则驱动仍会一次性加载结果集。
+     *
+     * @param vo 查询条件对象，为null时返回空流
+     * @return 视图对象流，使用完毕后必须关闭
+     */
+    @Override
+    public Stream<V> stream(V vo) {
+        if (vo == null || converter == null) {
+            log.error("流式查询失败，输入参数为null");
+            return Stream.empty();
+        }
+        E queryCondition = converter.convert(vo);
+        SqlSession sqlSession = SqlSessionUtils.getSqlSession(sqlSessionFactory);
+        try {
+            Cursor<E> cursor = sqlSession.selectCursor(getSqlStatement(SqlMethod.SELECT_LIST),
+                    Map.of(Constants.WRAPPER, new LambdaQueryWrapper<>(queryCondition)));
+            return StreamSupport.stream(cursor.spliterator(), false)
+                    .map(converter::reverse)
+                    .onClose(() -> {
+                        IoUtil.close(cursor);
+                        SqlSessionUtils.closeSqlSession(sqlSession, sqlSessionFactory);
+                    });
+        } catch (RuntimeException e) {
+            SqlSessionUtils.closeSqlSession(sqlSession, sqlSessionFactory);
+            throw e;
+        }
+    }
+
     /**
      * 执行分页查询。
      *
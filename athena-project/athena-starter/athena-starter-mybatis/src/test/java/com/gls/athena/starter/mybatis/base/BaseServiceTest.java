@@ -0,0 +1,166 @@
+package com.gls.athena.starter.mybatis.base;
+
+import com.gls.athena.common.bean.base.BaseVo;
+import com.gls.athena.common.core.base.IConverter;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * BaseService的单元测试类
+ */
+public class BaseServiceTest {
+
+    private final SqlSessionFactory sqlSessionFactory = mock(SqlSessionFactory.class);
+
+    private final SqlSession sqlSession = mock(SqlSession.class);
+
+    private final ListCursor cursor = new ListCursor(List.of(entity(1L), entity(2L)));
+
+    private final TestService service = new TestService();
+
+    @SuppressWarnings("unchecked")
+    public BaseServiceTest() {
+        Configuration configuration = new Configuration(
+                new Environment("test", new SpringManagedTransactionFactory(), mock(DataSource.class)));
+        when(sqlSessionFactory.getConfiguration()).thenReturn(configuration);
+        when(sqlSessionFactory.openSession(any(ExecutorType.class))).thenReturn(sqlSession);
+        when(sqlSession.selectCursor(anyString(), any())).thenReturn((Cursor<Object>) (Cursor<?>) cursor);
+
+        IConverter<TestVo, TestEntity> converter = mock(IConverter.class);
+        when(converter.convert(any())).thenReturn(new TestEntity());
+        when(converter.reverse(any())).thenAnswer(invocation -> {
+            TestVo vo = new TestVo();
+            vo.setId(((TestEntity) invocation.getArgument(0)).getId());
+            return vo;
+        });
+        service.converter = converter;
+        ReflectionTestUtils.setField(service, "sqlSessionFactory", sqlSessionFactory);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (TransactionSynchronizationManager.hasResource(sqlSessionFactory)) {
+            TransactionSynchronizationManager.unbindResource(sqlSessionFactory);
+        }
+    }
+
+    /**
+     * 测试：无事务时使用独立会话，关闭流时关闭游标与会话
+     */
+    @Test
+    public void stream_WithoutTransaction_ClosesSessionOnClose() {
+        Stream<TestVo> stream = service.stream(new TestVo());
+
+        assertEquals(List.of(1L, 2L), stream.map(TestVo::getId).toList());
+        verify(sqlSession, never()).close();
+        stream.close();
+
+        assertTrue(cursor.closed);
+        verify(sqlSession).close();
+    }
+
+    /**
+     * 测试：存在事务时复用事务绑定的会话，关闭流时只关闭游标，会话由事务结束时关闭
+     */
+    @Test
+    public void stream_WithinTransaction_ReusesTransactionSession() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        try (Stream<TestVo> stream = service.stream(new TestVo())) {
+            assertEquals(2, stream.count());
+        }
+
+        assertTrue(cursor.closed);
+        verify(sqlSession, never()).close();
+        assertTrue(TransactionSynchronizationManager.hasResource(sqlSessionFactory));
+    }
+
+    /**
+     * 测试：打开游标失败时释放会话
+     */
+    @Test
+    public void stream_SelectFails_ClosesSession() {
+        when(sqlSession.selectCursor(anyString(), any())).thenThrow(new IllegalStateException("查询失败"));
+
+        assertThrows(IllegalStateException.class, () -> service.stream(new TestVo()));
+        verify(sqlSession).close();
+    }
+
+    private static TestEntity entity(Long id) {
+        TestEntity entity = new TestEntity();
+        entity.setId(id);
+        return entity;
+    }
+
+    /**
+     * 基于列表的游标
+     */
+    private static class ListCursor implements Cursor<TestEntity> {
+
+        private final List<TestEntity> entities;
+
+        private boolean closed;
+
+        ListCursor(List<TestEntity> entities) {
+            this.entities = entities;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return false;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return -1;
+        }
+
+        @Override
+        public Iterator<TestEntity> iterator() {
+            return entities.iterator();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    public static class TestVo extends BaseVo {
+    }
+
+    public static class TestEntity extends BaseEntity {
+    }
+
+    public interface TestMapper extends IMapper<TestEntity> {
+    }
+
+    public static class TestService extends BaseService<TestVo, TestEntity, IConverter<TestVo, TestEntity>, TestMapper> {
+    }
+}
@@ -1,5 +1,7 @@
 package com.gls.athena.starter.web;
 
+import com.gls.athena.starter.web.config.WebProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,5 +12,6 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration
 @ComponentScan
+@EnableConfigurationProperties(WebProperties.class)
 public class WebAutoConfig {
 }
\ No newline at end of file
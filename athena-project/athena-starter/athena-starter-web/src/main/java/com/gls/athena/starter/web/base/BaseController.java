@@ -5,12 +5,19 @@ import com.gls.athena.common.bean.page.PageRequest;
 import com.gls.athena.common.bean.page.PageResponse;
 import com.gls.athena.common.core.base.IFeign;
 import com.gls.athena.common.core.base.IService;
+import com.gls.athena.starter.web.handler.ConditionalRead;
+import com.gls.athena.starter.web.support.ResultStreamWriter;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -27,6 +34,12 @@ public abstract class BaseController<Vo extends BaseVo, S extends IService<Vo>>
     @Autowired
     protected S service;
 
+    /**
+     * 结果流写入器
+     */
+    @Autowired
+    protected ResultStreamWriter resultStreamWriter;
+
     /**
      * 新增实体
      *
@@ -75,6 +88,21 @@ public abstract class BaseController<Vo extends BaseVo, S extends IService<Vo>>
         return service.get(id);
     }
 
+    /**
+     * 查询实体详情（GET）
+     * <p>
+     * 与 {@link #get(Long)} 相同，以GET方式提供，开启 athena.web.etag.enabled 后客户端可通过 If-None-Match 获得304响应。
+     *
+     * @param id 实体的主键ID
+     * @return 实体的视图对象
+     */
+    @GetMapping("/get/{id}")
+    @Operation(summary = "查询（GET）", description = "通过主键ID获取实体详细信息，支持条件请求")
+    @ConditionalRead
+    public Vo detail(@PathVariable Long id) {
+        return service.get(id);
+    }
+
     /**
      * 列表查询
      *
@@ -87,6 +115,23 @@ public abstract class BaseController<Vo extends BaseVo, S extends IService<Vo>>
         return service.list(vo);
     }
 
+    /**
+     * 流式列表查询
+     * <p>
+     * 通过服务层游标逐条读取并写入响应，适用于大数据量查询。请求头 Accept 为 application/x-ndjson 时按行输出。
+     * 状态字段在数据之后输出，中途失败时以失败状态结束或中断响应，不会声明成功，参见 {@link ResultStreamWriter}。
+     *
+     * @param vo       包含查询条件的视图对象
+     * @param request  HTTP请求
+     * @param response HTTP响应
+     * @throws IOException 写入响应失败时抛出
+     */
+    @PostMapping("/stream")
+    @Operation(summary = "流式列表查询", description = "流式列表查询，支持NDJSON")
+    public void stream(@RequestBody @Validated Vo vo, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        resultStreamWriter.write(service.stream(vo), request, response);
+    }
+
     /**
      * 分页查询
      *
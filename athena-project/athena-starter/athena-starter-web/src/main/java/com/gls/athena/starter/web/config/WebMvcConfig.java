@@ -4,6 +4,9 @@ import cn.hutool.core.date.DatePattern;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.gls.athena.starter.json.support.JsonMapperRegistry;
+import com.gls.athena.starter.web.support.SmileHttpMessageConverter;
 import jakarta.annotation.Resource;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
@@ -33,6 +36,18 @@ public class WebMvcConfig implements WebMvcConfigurer {
     @Resource
     private Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder;
 
+    /**
+     * ObjectMapper注册表
+     */
+    @Resource
+    private JsonMapperRegistry jsonMapperRegistry;
+
+    /**
+     * Web配置属性
+     */
+    @Resource
+    private WebProperties webProperties;
+
     /**
      * 增加GET请求参数中的时间类型转换处理
      * <p>
@@ -64,8 +79,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
      * <p>
      * 功能说明：
      * 1. 移除默认Jackson转换器防止冲突
-     * 2. 自定义Long类型序列化规则，解决JS处理长整型精度丢失问题
+     * 2. 使用注册表中的Web ObjectMapper，与其他直接写入响应的场景共享序列化器缓存
      * 3. 创建定制化的Jackson消息转换器并设置UTF-8编码
+     * 4. 开启Smile时，在JSON之后追加共享相同序列化配置的Smile转换器，仅对明确声明Accept的调用方生效
      *
      * @param converters 消息转换器列表，框架默认加载的转换器集合（包含MappingJackson2HttpMessageConverter等）
      */
@@ -74,6 +90,29 @@ public class WebMvcConfig implements WebMvcConfigurer {
         // 清理默认的Jackson转换器（根据知识库CSDN博客建议，避免框架默认转换器干扰）
         converters.removeIf(converter -> converter instanceof AbstractJackson2HttpMessageConverter);
 
+        // 获取Web ObjectMapper，不存在时创建并注册
+        ObjectMapper objectMapper = jsonMapperRegistry.computeIfAbsent(JsonMapperRegistry.WEB, this::createWebObjectMapper);
+
+        // 创建并配置自定义转换器（根据知识库HttpMessageConverter配置方式二）
+        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter(objectMapper);
+        // 统一设置响应字符编码（确保前端正确解析中文）
+        converter.setDefaultCharset(StandardCharsets.UTF_8);
+
+        converters.add(converter);
+
+        if (webProperties.getSmile().isEnabled()) {
+            converters.add(new SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory())));
+        }
+    }
+
+    /**
+     * 创建Web ObjectMapper
+     * <p>
+     * 在全局Jackson配置基础上，将Long类型序列化为字符串，解决JS处理长整型精度丢失问题。
+     *
+     * @return Web ObjectMapper
+     */
+    private ObjectMapper createWebObjectMapper() {
         // 创建Long类型序列化模块（根据知识库长数字处理需求，将Long转为String类型）
         SimpleModule simpleModule = new SimpleModule();
         // 同时处理包装类型和基本类型
@@ -85,13 +124,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
         objectMapper.registerModule(simpleModule);
         // 增强安全性：禁用默认类型推导（防止JSON反序列化漏洞）
         objectMapper.deactivateDefaultTyping();
-
-        // 创建并配置自定义转换器（根据知识库HttpMessageConverter配置方式二）
-        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter(objectMapper);
-        // 统一设置响应字符编码（确保前端正确解析中文）
-        converter.setDefaultCharset(StandardCharsets.UTF_8);
-
-        converters.add(converter);
+        return objectMapper;
     }
 
 }
@@ -0,0 +1,152 @@
+package com.gls.athena.starter.web.config;
+
+import com.gls.athena.common.core.constant.BaseProperties;
+import com.gls.athena.common.core.constant.IConstants;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Web配置属性类
+ *
+ * @author george
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ConfigurationProperties(prefix = IConstants.BASE_PROPERTIES_PREFIX + ".web")
+public class WebProperties extends BaseProperties {
+
+    /**
+     * 请求体缓存配置
+     */
+    private RequestBody requestBody = new RequestBody();
+
+    /**
+     * Smile二进制格式配置
+     */
+    private Smile smile = new Smile();
+
+    /**
+     * ETag条件请求配置
+     */
+    private Etag etag = new Etag();
+
+    /**
+     * 响应压缩配置
+     */
+    private Compression compression = new Compression();
+
+    /**
+     * 异常日志限流配置
+     */
+    private ExceptionLog exceptionLog = new ExceptionLog();
+
+    /**
+     * 请求体缓存配置
+     * <p>
+     * 仅缓存指定内容类型且不超过大小上限的请求体，其余请求直接透传，不占用堆内存。
+     * 带结构化后缀的类型（如 application/vnd.api+json）按后缀匹配，未声明内容类型的请求同样缓存。
+     * 透传的请求体无法重复读取，依赖缓存的功能（如按请求体取参数）将取不到请求体。
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class RequestBody extends BaseProperties {
+        /**
+         * 需要缓存的内容类型，按兼容性匹配，如 application/json 同时匹配 application/*+json
+         */
+        private List<MediaType> contentTypes = new ArrayList<>(List.of(
+                MediaType.APPLICATION_JSON,
+                MediaType.APPLICATION_FORM_URLENCODED,
+                MediaType.APPLICATION_XML,
+                MediaType.TEXT_PLAIN));
+        /**
+         * 缓存大小上限，超过时直接透传原始请求流
+         */
+        private DataSize maxCacheSize = DataSize.ofMegabytes(1);
+        /**
+         * 未声明长度的表单请求体超过缓存上限时的读取上限，超过时返回413，小于缓存上限时按缓存上限处理
+         */
+        private DataSize maxFormSize = DataSize.ofMegabytes(2);
+        /**
+         * 表单最大参数个数，超出部分将被忽略，小于等于0表示不限制
+         */
+        private int maxFormParams = 10000;
+    }
+
+    /**
+     * Smile二进制格式配置
+     * <p>
+     * 开启后，请求头 Accept 优先声明 application/x-jackson-smile 的调用方（如服务间Feign调用）将收到Smile格式响应，
+     * 其余调用方仍使用JSON。
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Smile extends BaseProperties {
+    }
+
+    /**
+     * ETag条件请求配置
+     * <p>
+     * 对GET/HEAD请求生成弱ETag，If-None-Match 匹配时返回304，其他请求方法不生成ETag。
+     * 生成ETag需要在写出响应前额外序列化一次业务数据，默认关闭，按需通过 athena.web.etag.enabled=true 开启。
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Etag extends BaseProperties {
+
+        public Etag() {
+            setEnabled(false);
+        }
+    }
+
+    /**
+     * 响应压缩配置
+     * <p>
+     * 未通过 server.compression 显式开启压缩时，由Web容器对超过阈值的指定类型响应进行gzip压缩。
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Compression extends BaseProperties {
+        /**
+         * 需要压缩的内容类型
+         */
+        private List<String> mimeTypes = new ArrayList<>(List.of(
+                MediaType.APPLICATION_JSON_VALUE,
+                MediaType.APPLICATION_NDJSON_VALUE,
+                MediaType.APPLICATION_XML_VALUE,
+                MediaType.TEXT_HTML_VALUE,
+                MediaType.TEXT_PLAIN_VALUE,
+                "text/css",
+                "text/javascript",
+                "application/javascript"));
+        /**
+         * 触发压缩的最小响应大小
+         */
+        private DataSize minResponseSize = DataSize.ofKilobytes(2);
+    }
+
+    /**
+     * 异常日志限流配置
+     * <p>
+     * 相同类型且相同信息的异常在时间窗口内只记录一次，窗口结束后再次出现时记录并附带期间忽略的次数。
+     * 关闭时每次异常都记录日志。
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class ExceptionLog extends BaseProperties {
+        /**
+         * 时间窗口
+         */
+        private Duration interval = Duration.ofMinutes(1);
+        /**
+         * 最大跟踪的异常种类数，超出时清空重新统计
+         */
+        private int maxKeys = 1024;
+    }
+}
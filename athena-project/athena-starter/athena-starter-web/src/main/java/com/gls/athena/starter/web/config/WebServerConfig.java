@@ -0,0 +1,47 @@
+package com.gls.athena.starter.web.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.server.AbstractConfigurableWebServerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Web容器配置
+ *
+ * @author george
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebServerConfig {
+
+    /**
+     * 响应压缩定制器
+     * <p>
+     * 在 server.* 配置之后执行，已通过 server.compression 显式开启压缩时保持原有配置，
+     * 否则按 athena.web.compression 开启容器的gzip压缩。容器压缩在写出时进行，不额外缓存响应体。
+     *
+     * @param webProperties Web配置属性
+     * @return Web容器定制器
+     */
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> compressionCustomizer(WebProperties webProperties) {
+        return factory -> {
+            WebProperties.Compression config = webProperties.getCompression();
+            if (!config.isEnabled()) {
+                return;
+            }
+            if (factory instanceof AbstractConfigurableWebServerFactory configurable
+                    && configurable.getCompression() != null && configurable.getCompression().getEnabled()) {
+                return;
+            }
+            Compression compression = new Compression();
+            compression.setEnabled(true);
+            compression.setMimeTypes(config.getMimeTypes().toArray(String[]::new));
+            compression.setMinResponseSize(config.getMinResponseSize());
+            factory.setCompression(compression);
+        };
+    }
+}
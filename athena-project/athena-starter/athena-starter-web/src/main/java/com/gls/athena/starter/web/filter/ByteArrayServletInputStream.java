@@ -3,22 +3,28 @@ package com.gls.athena.starter.web.filter;
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * ByteArrayServletInputStream 类用于将字节数组包装为 ServletInputStream。
  * 该类可以用于在需要 InputStream 的场景中，将字节数组作为输入流进行处理。
  * <p>
+ * 直接读取传入的字节数组，不复制数据；由于数据已全部位于内存中，注册的读取监听器会被立即回调。
+ * <p>
  * 主要用途包括但不限于：
  * - 在测试环境中模拟 HTTP 请求的输入流。
- * - 在处理文件上传时，将文件内容作为输入流进行处理。
+ * - 重放已缓存的请求体。
  *
  * @author george
  */
 public class ByteArrayServletInputStream extends ServletInputStream {
 
-    private final ByteArrayInputStream inputStream;
+    private final byte[] data;
+
+    private final int end;
+
+    private int pos;
 
     /**
      * 构造函数，初始化 ByteArrayServletInputStream 实例。
@@ -26,28 +32,94 @@ public class ByteArrayServletInputStream extends ServletInputStream {
      * @param data 要包装为输入流的字节数组。
      */
     public ByteArrayServletInputStream(byte[] data) {
-        this.inputStream = new ByteArrayInputStream(data);
+        this(data, 0, data.length);
+    }
+
+    /**
+     * 构造函数，包装字节数组的指定区间。
+     *
+     * @param data   要包装为输入流的字节数组。
+     * @param offset 起始位置。
+     * @param length 数据长度。
+     */
+    public ByteArrayServletInputStream(byte[] data, int offset, int length) {
+        this.data = data;
+        this.pos = offset;
+        this.end = offset + length;
     }
 
     /**
      * 读取输入流中的下一个字节。
      *
      * @return 下一个字节的数据，如果到达流末尾则返回 -1。
-     * @throws IOException 如果发生 I/O 错误。
      */
     @Override
-    public int read() throws IOException {
-        return inputStream.read();
+    public int read() {
+        return pos < end ? data[pos++] & 0xFF : -1;
+    }
+
+    /**
+     * 批量读取数据到指定数组。
+     *
+     * @param b   目标数组。
+     * @param off 目标数组起始位置。
+     * @param len 最大读取长度。
+     * @return 实际读取的字节数，如果到达流末尾则返回 -1。
+     */
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (pos >= end) {
+            return -1;
+        }
+        int count = Math.min(len, end - pos);
+        System.arraycopy(data, pos, b, off, count);
+        pos += count;
+        return count;
+    }
+
+    /**
+     * 读取剩余的全部数据。
+     *
+     * @return 剩余数据。
+     */
+    @Override
+    public byte[] readAllBytes() {
+        byte[] bytes = Arrays.copyOfRange(data, pos, end);
+        pos = end;
+        return bytes;
+    }
+
+    /**
+     * 跳过指定字节数。
+     *
+     * @param n 需要跳过的字节数。
+     * @return 实际跳过的字节数。
+     */
+    @Override
+    public long skip(long n) {
+        int count = (int) Math.max(0, Math.min(n, end - pos));
+        pos += count;
+        return count;
+    }
+
+    /**
+     * 获取剩余可读字节数。
+     *
+     * @return 剩余可读字节数。
+     */
+    @Override
+    public int available() {
+        return end - pos;
     }
 
     /**
-     * 检查输入流是否已准备好被读取。
+     * 检查输入流是否已准备好被读取，内存数据始终可以无阻塞读取。
      *
-     * @return 如果输入流中有数据可读，则返回 true；否则返回 false。
+     * @return 始终返回 true。
      */
     @Override
     public boolean isReady() {
-        return inputStream.available() > 0;
+        return true;
     }
 
     /**
@@ -57,16 +129,31 @@ public class ByteArrayServletInputStream extends ServletInputStream {
      */
     @Override
     public boolean isFinished() {
-        return inputStream.available() == 0;
+        return pos >= end;
     }
 
     /**
      * 设置输入流的读取监听器。
+     * <p>
+     * 数据已全部位于内存中，立即回调 {@link ReadListener#onDataAvailable()}，
+     * 读取完毕后回调 {@link ReadListener#onAllDataRead()}，回调异常时交由 {@link ReadListener#onError(Throwable)} 处理。
      *
      * @param readListener 读取监听器实例。
      */
     @Override
     public void setReadListener(ReadListener readListener) {
-        throw new UnsupportedOperationException("Not implemented");
+        if (readListener == null) {
+            throw new NullPointerException("readListener");
+        }
+        try {
+            if (!isFinished()) {
+                readListener.onDataAvailable();
+            }
+            if (isFinished()) {
+                readListener.onAllDataRead();
+            }
+        } catch (IOException e) {
+            readListener.onError(e);
+        }
     }
 }
@@ -0,0 +1,141 @@
+package com.gls.athena.starter.web.filter;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * application/x-www-form-urlencoded 表单解析器
+ * <p>
+ * 单次遍历原始字节完成键值切分与解码：不含转义的片段直接按区间构造字符串，
+ * 含 {@code %XX} 或 {@code +} 的片段解码到共享的临时缓冲区，不修改原始字节。
+ * 同名参数收集到可增长列表中，解析结束后一次性转换为数组。
+ * 非法的百分号转义按原样保留，与容器的宽松解析行为一致。
+ *
+ * @author george
+ */
+@Slf4j
+@UtilityClass
+public class FormUrlEncodedParser {
+
+    /**
+     * 解析表单数据
+     *
+     * @param data      表单原始字节
+     * @param charset   字符编码
+     * @param maxParams 最大参数个数，超出部分将被忽略，小于等于0表示不限制
+     * @return 参数映射，保持参数出现顺序
+     */
+    public Map<String, String[]> parse(byte[] data, Charset charset, int maxParams) {
+        return parse(data, 0, data.length, charset, maxParams);
+    }
+
+    /**
+     * 解析表单数据的指定区间
+     *
+     * @param data      表单原始字节
+     * @param offset    起始位置
+     * @param length    数据长度
+     * @param charset   字符编码
+     * @param maxParams 最大参数个数，超出部分将被忽略，小于等于0表示不限制
+     * @return 参数映射，保持参数出现顺序
+     */
+    public Map<String, String[]> parse(byte[] data, int offset, int length, Charset charset, int maxParams) {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        byte[] buffer = null;
+        int count = 0;
+        int end = offset + length;
+        int start = offset;
+        while (start < end) {
+            // 定位当前键值对的结束位置与等号位置
+            int pairEnd = start;
+            int eq = -1;
+            boolean keyEncoded = false;
+            boolean valueEncoded = false;
+            while (pairEnd < end) {
+                byte b = data[pairEnd];
+                if (b == '&') {
+                    break;
+                }
+                if (b == '=' && eq < 0) {
+                    eq = pairEnd;
+                } else if (b == '%' || b == '+') {
+                    if (eq < 0) {
+                        keyEncoded = true;
+                    } else {
+                        valueEncoded = true;
+                    }
+                }
+                pairEnd++;
+            }
+            // 跳过空片段及不含等号的片段
+            if (eq >= 0) {
+                if (maxParams > 0 && count >= maxParams) {
+                    log.warn("Form parameter count exceeds limit {}, remaining parameters ignored", maxParams);
+                    break;
+                }
+                if ((keyEncoded || valueEncoded) && buffer == null) {
+                    buffer = new byte[length];
+                }
+                String key = keyEncoded ? decode(data, start, eq, buffer, charset) : new String(data, start, eq - start, charset);
+                String value = valueEncoded ? decode(data, eq + 1, pairEnd, buffer, charset) : new String(data, eq + 1, pairEnd - eq - 1, charset);
+                params.computeIfAbsent(key, k -> new ArrayList<>(1)).add(value);
+                count++;
+            }
+            start = pairEnd + 1;
+        }
+        Map<String, String[]> result = new LinkedHashMap<>(Math.max(16, params.size() * 4 / 3 + 1));
+        params.forEach((key, values) -> result.put(key, values.toArray(new String[0])));
+        return result;
+    }
+
+    /**
+     * 解码指定区间的百分号转义与加号
+     *
+     * @param data    原始字节
+     * @param from    起始位置（包含）
+     * @param to      结束位置（不包含）
+     * @param buffer  解码缓冲区
+     * @param charset 字符编码
+     * @return 解码后的字符串
+     */
+    private String decode(byte[] data, int from, int to, byte[] buffer, Charset charset) {
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            byte b = data[i];
+            if (b == '+') {
+                buffer[n++] = ' ';
+            } else if (b == '%' && i + 2 < to && hex(data[i + 1]) >= 0 && hex(data[i + 2]) >= 0) {
+                buffer[n++] = (byte) ((hex(data[i + 1]) << 4) | hex(data[i + 2]));
+                i += 2;
+            } else {
+                buffer[n++] = b;
+            }
+        }
+        return new String(buffer, 0, n, charset);
+    }
+
+    /**
+     * 十六进制字符转数值
+     *
+     * @param b 字符
+     * @return 数值，非十六进制字符返回-1
+     */
+    private int hex(byte b) {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+        if (b >= 'a' && b <= 'f') {
+            return b - 'a' + 10;
+        }
+        if (b >= 'A' && b <= 'F') {
+            return b - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,74 @@
+package com.gls.athena.starter.web.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+import java.io.IOException;
+
+/**
+ * PrefixedServletInputStream 用于在请求体超出缓存上限时透传原始请求流
+ * <p>
+ * 先返回已预读的前缀数据，再继续读取原始输入流，避免将大请求体整体加载到堆内存。
+ *
+ * @author george
+ */
+class PrefixedServletInputStream extends ServletInputStream {
+
+    private final byte[] prefix;
+
+    private final ServletInputStream delegate;
+
+    private int pos;
+
+    /**
+     * 构造函数
+     *
+     * @param prefix   已预读的前缀数据
+     * @param delegate 原始输入流
+     */
+    PrefixedServletInputStream(byte[] prefix, ServletInputStream delegate) {
+        this.prefix = prefix;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return pos < prefix.length ? prefix[pos++] & 0xFF : delegate.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (pos < prefix.length) {
+            int count = Math.min(len, prefix.length - pos);
+            System.arraycopy(prefix, pos, b, off, count);
+            pos += count;
+            return count;
+        }
+        return delegate.read(b, off, len);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return prefix.length - pos + delegate.available();
+    }
+
+    @Override
+    public boolean isReady() {
+        return pos < prefix.length || delegate.isReady();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return pos >= prefix.length && delegate.isFinished();
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+        delegate.setReadListener(readListener);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
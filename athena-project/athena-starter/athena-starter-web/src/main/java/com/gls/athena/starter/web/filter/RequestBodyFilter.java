@@ -1,10 +1,15 @@
 package com.gls.athena.starter.web.filter;
 
+import com.gls.athena.starter.web.config.WebProperties;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.servlet.filter.OrderedFilter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.multipart.support.MultipartResolutionDelegate;
@@ -13,12 +18,21 @@ import java.io.IOException;
 
 /**
  * RequestBodyFilter 用于解决流只能读取一次的问题
+ * <p>
+ * 仅缓存配置的内容类型且不超过大小上限的请求体，文件上传及超大请求体直接透传。
+ * 内容类型按 {@link MediaType#isCompatibleWith(org.springframework.util.MimeType)} 匹配，
+ * 带结构化后缀的类型（如 application/vnd.api+json、application/problem+xml）按后缀对应的基础类型匹配；
+ * 未声明内容类型的请求同样缓存，由大小上限兜底。
+ * 未声明长度且超过表单大小上限的表单请求直接返回413。
  *
  * @author george
  */
 @Component
+@RequiredArgsConstructor
 public class RequestBodyFilter extends OncePerRequestFilter implements OrderedFilter {
 
+    private final WebProperties webProperties;
+
     /**
      * 执行过滤器逻辑，对请求和响应进行处理。
      * 该方法重写了父类的doFilterInternal方法，用于在过滤器链中执行自定义的请求处理逻辑。
@@ -32,12 +46,49 @@ public class RequestBodyFilter extends OncePerRequestFilter implements OrderedFi
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        // 跳过文件上传请求的包装
-        if (MultipartResolutionDelegate.isMultipartRequest(request)) {
+        WebProperties.RequestBody config = webProperties.getRequestBody();
+        long maxCacheSize = Math.min(config.getMaxCacheSize().toBytes(), Integer.MAX_VALUE - 8);
+        // 跳过文件上传请求、非缓存内容类型及已知超出上限的请求
+        if (!config.isEnabled() || MultipartResolutionDelegate.isMultipartRequest(request)
+                || !isCacheable(request, config) || request.getContentLengthLong() > maxCacheSize) {
             filterChain.doFilter(request, response);
-        } else {
-            filterChain.doFilter(new RequestBodyWrapper(request), response);
+            return;
+        }
+        long maxFormSize = Math.min(Math.max(config.getMaxFormSize().toBytes(), maxCacheSize), Integer.MAX_VALUE - 8);
+        RequestBodyWrapper wrapper = new RequestBodyWrapper(request, (int) maxCacheSize, (int) maxFormSize, config.getMaxFormParams());
+        // 超过表单大小上限的分块表单请求，参数无法解析，直接拒绝
+        if (wrapper.isFormTooLarge()) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+        filterChain.doFilter(wrapper, response);
+    }
+
+    /**
+     * 判断请求内容类型是否需要缓存
+     *
+     * @param request HTTP请求对象
+     * @param config  请求体缓存配置
+     * @return 未声明内容类型，或内容类型（及其结构化后缀对应的基础类型）与配置的任一类型兼容时返回true
+     */
+    private boolean isCacheable(HttpServletRequest request, WebProperties.RequestBody config) {
+        String contentType = request.getContentType();
+        if (contentType == null) {
+            return true;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            String suffix = mediaType.getSubtypeSuffix();
+            MediaType suffixType = suffix != null ? new MediaType(mediaType.getType(), suffix) : null;
+            for (MediaType cacheable : config.getContentTypes()) {
+                if (cacheable.isCompatibleWith(mediaType) || suffixType != null && cacheable.isCompatibleWith(suffixType)) {
+                    return true;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            logger.debug("Invalid content type: " + contentType);
         }
+        return false;
     }
 
     /**
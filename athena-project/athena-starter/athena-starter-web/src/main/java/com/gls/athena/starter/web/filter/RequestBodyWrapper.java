@@ -1,200 +1,245 @@
 package com.gls.athena.starter.web.filter;
 
-import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.util.CharsetUtil;
-import cn.hutool.core.util.StrUtil;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
 import java.util.*;
 
 /**
  * RequestBodyWrapper 用于解决流只能读取一次的问题
+ * <p>
+ * 请求体以原始字节形式只读取并缓存一次，重复读取时直接复用同一字节数组，仅在需要字符串时才按请求编码解码。
+ * 请求体超过缓存上限时不再缓存，而是将已预读部分与剩余原始流拼接后透传。
+ * 表单请求体（未声明长度的分块传输）超过上限时，原始流已被预读，容器无法再解析表单参数，
+ * 此时在表单大小上限内读取完整请求体解析表单参数，之后输入流视为已消费，与容器解析表单后的行为一致；
+ * 超过表单大小上限时不解析参数，由 {@link #isFormTooLarge()} 标记，过滤器据此返回413。
  *
  * @author george
  */
 @Slf4j
 public class RequestBodyWrapper extends HttpServletRequestWrapper {
 
-    private static final String FORM_DATA_SEPARATOR = "&";
-    private static final String KEY_VALUE_SEPARATOR = "=";
+    /**
+     * 默认最大表单参数个数
+     */
+    private static final int DEFAULT_MAX_PARAMS = 10000;
+
+    /**
+     * 默认表单大小上限（字节），与Tomcat默认的 maxPostSize 一致
+     */
+    private static final int DEFAULT_MAX_FORM_SIZE = 2 * 1024 * 1024;
+
+    /**
+     * 请求体原始字节，超出缓存上限时为已预读的前缀，超出上限的表单请求体为空数组
+     */
+    private byte[] body;
 
     /**
-     * 请求体
+     * 请求体是否已完整缓存
      */
-    private final String body;
+    private final boolean cached;
+
+    /**
+     * 请求体字符串，首次访问时解码
+     */
+    private String bodyString;
 
     /**
      * 参数映射
      */
-    private final Map<String, String[]> parameterMap;
+    private Map<String, String[]> parameterMap;
 
     /**
-     * 构造函数，用于封装HTTP请求体。
-     * 该构造函数初始化了请求体包装器，解析请求参数并将其存储在内部映射中。
+     * 表单请求体是否超过表单大小上限
+     */
+    private boolean formTooLarge;
+
+    /**
+     * 构造函数，用于封装HTTP请求体，不限制缓存大小。
      *
      * @param request HTTP请求对象，包含客户端发送的请求信息
      */
     public RequestBodyWrapper(HttpServletRequest request) {
+        this(request, Integer.MAX_VALUE - 8, DEFAULT_MAX_PARAMS);
+    }
+
+    /**
+     * 构造函数，用于封装HTTP请求体。
+     * 该构造函数读取并缓存请求体原始字节，解析请求参数并将其存储在内部映射中。
+     *
+     * @param request      HTTP请求对象，包含客户端发送的请求信息
+     * @param maxCacheSize 缓存大小上限（字节），超过时透传原始请求流
+     * @param maxParams    最大表单参数个数
+     */
+    public RequestBodyWrapper(HttpServletRequest request, int maxCacheSize, int maxParams) {
+        this(request, maxCacheSize, Math.max(maxCacheSize, DEFAULT_MAX_FORM_SIZE), maxParams);
+    }
+
+    /**
+     * 构造函数，用于封装HTTP请求体。
+     * 该构造函数读取并缓存请求体原始字节，解析请求参数并将其存储在内部映射中。
+     *
+     * @param request      HTTP请求对象，包含客户端发送的请求信息
+     * @param maxCacheSize 缓存大小上限（字节），超过时透传原始请求流
+     * @param maxFormSize  超出缓存上限的表单请求体的读取上限（字节），超过时不解析表单参数
+     * @param maxParams    最大表单参数个数
+     */
+    public RequestBodyWrapper(HttpServletRequest request, int maxCacheSize, int maxFormSize, int maxParams) {
         // 调用父类构造函数，初始化请求对象
         super(request);
 
         // 初始化参数映射，用于存储请求参数
-        this.parameterMap = new HashMap<>();
+        this.parameterMap = Collections.emptyMap();
 
-        // 获取请求体内容并存储在body字段中
-        this.body = getBodyString(request);
+        // 读取请求体原始字节，多读一个字节用于判断是否超出上限
+        this.body = readBody(request, maxCacheSize);
+        this.cached = body.length <= maxCacheSize;
 
         // 解析请求体，将参数存储到parameterMap中
-        parseRequestBody(request);
+        if (cached) {
+            parseRequestBody(request, maxParams);
+        } else if (isFormContent(request)) {
+            parseOversizedForm(request, maxFormSize, maxParams);
+        }
     }
 
     /**
      * 解析请求体
      * <p>
      * 该方法用于根据请求的内容类型（Content-Type）解析请求体。如果请求体不为空且内容类型为
-     * "application/x-www-form-urlencoded"，则调用parseFormData方法解析表单数据。
+     * "application/x-www-form-urlencoded"，则直接在原始字节上解析表单数据。
      *
-     * @param request 包含请求信息的HttpServletRequest对象，用于获取请求体和内容类型。
+     * @param request   包含请求信息的HttpServletRequest对象，用于获取请求体和内容类型。
+     * @param maxParams 最大表单参数个数
      */
-    private void parseRequestBody(HttpServletRequest request) {
-        // 获取请求的内容类型
-        String contentType = request.getContentType();
-
+    private void parseRequestBody(HttpServletRequest request, int maxParams) {
         // 检查请求体是否为空且内容类型是否为"application/x-www-form-urlencoded"
-        if (StrUtil.isNotEmpty(body) && contentType != null
-                && contentType.contains(MediaType.APPLICATION_FORM_URLENCODED_VALUE)) {
+        if (body.length > 0 && isFormContent(request)) {
             // 解析表单数据
-            parseFormData(body);
+            parameterMap = FormUrlEncodedParser.parse(body, CharsetUtil.charset(getCharacterEncoding()), maxParams);
         }
     }
 
     /**
-     * 解析表单数据
+     * 解析超出缓存上限的表单请求体
      * <p>
-     * 该方法用于解析HTTP请求体中的表单数据，将其拆分为键值对，并解码后存储。
+     * 预读前缀与剩余原始流拼接为完整请求体后解析表单参数，解析后不保留请求体，输入流视为已消费。
+     * 最多读取 maxFormSize + 1 个字节，超过上限时停止读取且不解析参数，避免无界读取分块请求体。
      *
-     * @param body 请求体，包含表单数据的字符串，通常以特定的分隔符分隔键值对。
+     * @param request     HTTP请求对象
+     * @param maxFormSize 表单大小上限（字节）
+     * @param maxParams   最大表单参数个数
      */
-    private void parseFormData(String body) {
-        // 将请求体按表单数据分隔符拆分为多个参数
-        String[] params = body.split(FORM_DATA_SEPARATOR);
-
-        // 遍历每个参数，解析并存储键值对
-        for (String param : params) {
-            // 跳过空参数
-            if (StrUtil.isEmpty(param)) {
-                continue;
-            }
-
-            // 将参数按键值对分隔符拆分为键和值
-            String[] keyValue = param.split(KEY_VALUE_SEPARATOR, 2);
-            // 如果拆分后的键值对不完整，跳过
-            if (keyValue.length != 2) {
-                continue;
-            }
-
-            // 解码键，如果解码失败则跳过
-            String key = decode(keyValue[0]);
-            if (key == null) {
-                continue;
+    private void parseOversizedForm(HttpServletRequest request, int maxFormSize, int maxParams) {
+        try {
+            byte[] form = new PrefixedServletInputStream(body, request.getInputStream()).readNBytes(maxFormSize + 1);
+            if (form.length > maxFormSize) {
+                formTooLarge = true;
+                log.warn("Form body exceeds {} bytes. Request: {}", maxFormSize, request.getRequestURI());
+            } else {
+                parameterMap = FormUrlEncodedParser.parse(form, CharsetUtil.charset(getCharacterEncoding()), maxParams);
             }
-
-            // 解码值，并将键值对添加到参数列表中
-            String value = decode(keyValue[1]);
-            addParameter(key, value);
+        } catch (IOException e) {
+            log.error("Failed to read form body. Request: {}", request.getRequestURI(), e);
         }
+        body = new byte[0];
     }
 
     /**
-     * 添加参数到参数映射中。如果键已经存在，则将新值追加到现有值的数组中；如果键不存在，则创建一个新的数组并存储值。
+     * 判断请求是否为表单请求
      *
-     * @param key   参数的键，用于标识参数。
-     * @param value 参数的值，将与键关联存储。
+     * @param request HTTP请求对象
+     * @return 内容类型为 application/x-www-form-urlencoded 时返回true
      */
-    private void addParameter(String key, String value) {
-        // 获取与键关联的现有值数组
-        String[] existingValues = parameterMap.get(key);
-
-        // 如果键已存在，则扩展数组并将新值追加到数组末尾
-        if (existingValues != null) {
-            existingValues = Arrays.copyOf(existingValues, existingValues.length + 1);
-            existingValues[existingValues.length - 1] = value;
-        } else {
-            // 如果键不存在，则创建一个新的数组并存储值
-            existingValues = new String[]{value};
+    private boolean isFormContent(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            return MediaType.APPLICATION_FORM_URLENCODED.includes(MediaType.parseMediaType(contentType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
         }
-
-        // 将更新后的数组重新放入参数映射中
-        parameterMap.put(key, existingValues);
     }
 
     /**
-     * 对给定的字符串进行URL解码。
+     * 读取请求体原始字节
      * <p>
-     * 该方法首先检查输入值是否为null，如果为null则直接返回null。否则，尝试使用指定的字符编码对字符串进行URL解码。
-     * 如果解码过程中发生UnsupportedEncodingException异常，则记录警告日志并返回原始值。
+     * 已知内容长度时按长度一次性读取，否则最多读取 maxCacheSize + 1 个字节。
+     * 如果读取过程中发生IOException，则记录错误日志并返回空数组。
      *
-     * @param value 需要进行URL解码的字符串。如果为null，则直接返回null。
-     * @return 解码后的字符串。如果解码失败，则返回原始值。
+     * @param request      HttpServletRequest对象，表示HTTP请求
+     * @param maxCacheSize 缓存大小上限（字节）
+     * @return 请求体原始字节，长度超过 maxCacheSize 表示请求体未读取完整
      */
-    private String decode(String value) {
-        // 如果输入值为null，直接返回null
-        if (value == null) {
-            return null;
-        }
-
+    private byte[] readBody(HttpServletRequest request, int maxCacheSize) {
+        long contentLength = request.getContentLengthLong();
+        int limit = contentLength >= 0 && contentLength <= maxCacheSize ? (int) contentLength : maxCacheSize + 1;
         try {
-            // 使用指定的字符编码对字符串进行URL解码
-            return URLDecoder.decode(value, getCharacterEncoding());
-        } catch (UnsupportedEncodingException e) {
-            // 如果解码失败，记录警告日志并返回原始值
-            log.warn("Failed to decode value: {}. Encoding: {}", value, getCharacterEncoding(), e);
-            return value;
+            return request.getInputStream().readNBytes(limit);
+        } catch (IOException e) {
+            // 如果读取请求体时发生异常，记录错误日志并返回空数组
+            log.error("Failed to read request body. Request: {}", request.getRequestURI(), e);
+            return new byte[0];
         }
     }
 
     /**
-     * 获取请求体字符串
-     * <p>
-     * 该方法从HttpServletRequest对象中读取请求体内容，并将其转换为字符串返回。
-     * 如果读取过程中发生IOException，则记录错误日志并返回空字符串。
+     * 表单请求体是否超过表单大小上限
      *
-     * @param request HttpServletRequest对象，表示HTTP请求
-     * @return 请求体内容的字符串表示，如果读取失败则返回空字符串
+     * @return 超过上限、表单参数未解析时返回true
      */
-    private String getBodyString(HttpServletRequest request) {
-        // 使用try-with-resources语句确保ServletInputStream在使用后自动关闭
-        try (ServletInputStream inputStream = request.getInputStream()) {
-            // 使用IoUtil工具类从输入流中读取数据，并将其转换为指定字符编码的字符串
-            return IoUtil.read(inputStream, CharsetUtil.charset(getCharacterEncoding()));
-        } catch (IOException e) {
-            // 如果读取请求体时发生异常，记录错误日志并返回空字符串
-            log.error("Failed to read request body. Request: {}", request.getRequestURI(), e);
-            return "";
+    public boolean isFormTooLarge() {
+        return formTooLarge;
+    }
+
+    /**
+     * 获取请求体原始字节
+     *
+     * @return 请求体原始字节，请求体超出缓存上限时返回null
+     */
+    public byte[] getBodyBytes() {
+        return cached ? body : null;
+    }
+
+    /**
+     * 获取请求体字符串，首次调用时按请求编码解码并缓存
+     *
+     * @return 请求体字符串，请求体超出缓存上限时返回null
+     */
+    public String getBody() {
+        if (!cached) {
+            return null;
         }
+        if (bodyString == null) {
+            bodyString = new String(body, CharsetUtil.charset(getCharacterEncoding()));
+        }
+        return bodyString;
     }
 
     /**
      * 重写父类的getInputStream方法，返回一个ServletInputStream对象。
-     * 该方法将当前对象的body内容转换为字节数组，并使用指定的字符编码进行编码。
-     * 返回的ServletInputStream对象可以用于读取body的内容。
+     * 请求体已缓存时直接基于缓存的字节数组创建输入流，不复制、不重新编码；
+     * 否则返回拼接了预读前缀的原始输入流。
      *
      * @return ServletInputStream 一个包含body内容的ServletInputStream对象
      * @throws IOException 如果发生I/O错误，则抛出IOException
      */
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        // 将body内容转换为字节数组，并使用指定的字符编码进行编码，然后返回一个ByteArrayServletInputStream对象
-        return new ByteArrayServletInputStream(body.getBytes(getCharacterEncoding()));
+        if (cached) {
+            return new ByteArrayServletInputStream(body);
+        }
+        return new PrefixedServletInputStream(body, super.getInputStream());
     }
 
     /**
@@ -207,7 +252,7 @@ public class RequestBodyWrapper extends HttpServletRequestWrapper {
      */
     @Override
     public BufferedReader getReader() throws IOException {
-        return new BufferedReader(new InputStreamReader(getInputStream(), getCharacterEncoding()));
+        return new BufferedReader(new InputStreamReader(getInputStream(), CharsetUtil.charset(getCharacterEncoding())));
     }
 
     /**
@@ -0,0 +1,56 @@
+package com.gls.athena.starter.web.filter;
+
+import com.gls.athena.common.bean.trace.TraceContext;
+import com.gls.athena.common.core.constant.IConstants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.web.servlet.filter.OrderedFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * TraceIdFilter 用于在请求入口处绑定跟踪ID
+ * <p>
+ * 优先沿用上游请求头中的跟踪ID，否则生成新的跟踪ID，并在响应头中回写，请求结束后清除。
+ * 请求头中的跟踪ID不符合格式（1到64位十六进制字符或连字符）时丢弃，见 {@link TraceContext#begin(String)}。
+ *
+ * @author george
+ */
+@Component
+public class TraceIdFilter extends OncePerRequestFilter implements OrderedFilter {
+
+    /**
+     * 执行过滤器逻辑，在过滤器链执行期间将跟踪ID绑定到当前线程。
+     *
+     * @param request     HTTP请求对象，包含客户端发送的请求信息。
+     * @param response    HTTP响应对象，用于向客户端发送响应信息。
+     * @param filterChain 过滤器链对象，用于调用链中的下一个过滤器或目标资源。
+     * @throws ServletException 如果处理请求时发生Servlet相关的异常。
+     * @throws IOException      如果处理请求或响应时发生I/O相关的异常。
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String traceId = TraceContext.begin(request.getHeader(IConstants.TRACE_ID));
+        response.setHeader(IConstants.TRACE_ID, traceId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TraceContext.clear();
+        }
+    }
+
+    /**
+     * 获取当前过滤器的执行顺序，保证在其他过滤器之前绑定跟踪ID。
+     *
+     * @return int 返回当前过滤器的执行顺序值。
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
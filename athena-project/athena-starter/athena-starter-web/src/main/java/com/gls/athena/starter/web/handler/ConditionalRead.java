@@ -0,0 +1,27 @@
+package com.gls.athena.starter.web.handler;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 条件读取
+ * <p>
+ * 标记可由客户端缓存的GET查询接口，在弱ETag之外设置私有缓存有效期。
+ * GET/HEAD请求无需标记即生成ETag，If-None-Match 匹配时返回304；POST等其他请求方法即使标记也不生成ETag。
+ * 需开启 athena.web.etag.enabled。
+ *
+ * @author george
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalRead {
+
+    /**
+     * 私有缓存最大有效期（秒），小于0时不设置 Cache-Control 响应头
+     *
+     * @return 最大有效期
+     */
+    long maxAge() default -1;
+}
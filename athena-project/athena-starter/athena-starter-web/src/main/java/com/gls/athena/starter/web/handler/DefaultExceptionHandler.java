@@ -4,6 +4,8 @@ import com.gls.athena.common.bean.result.Result;
 import com.gls.athena.common.bean.result.ResultException;
 import com.gls.athena.common.bean.result.ResultStatus;
 import com.gls.athena.common.core.constant.IConstants;
+import com.gls.athena.starter.web.support.ExceptionLogLimiter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,13 +14,22 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 /**
  * 异常通知
+ * <p>
+ * 日志按异常类型和信息限流，避免异常请求激增时日志输出占用大量资源。
+ * 业务异常属于可预期错误，以WARN级别记录，仅在存在原始异常时输出堆栈。
  *
  * @author george
  */
 @Slf4j
+@RequiredArgsConstructor
 @RestControllerAdvice(basePackages = IConstants.BASE_PACKAGE_PREFIX)
 public class DefaultExceptionHandler {
 
+    /**
+     * 异常日志限流器
+     */
+    private final ExceptionLogLimiter exceptionLogLimiter;
+
     /**
      * 处理ResultException异常
      *
@@ -29,7 +40,14 @@ public class DefaultExceptionHandler {
     @ResponseStatus(HttpStatus.OK)
     public Result<?> resultExceptionHandler(ResultException e) {
         // 记录异常日志
-        log.error(e.getMessage(), e);
+        long suppressed = exceptionLogLimiter.tryAcquire(e);
+        if (suppressed != ExceptionLogLimiter.SUPPRESSED) {
+            if (e.getCause() == null) {
+                log.warn("业务异常 - Code: {}, Message: {}, Suppressed: {}", e.getCode(), e.getMessage(), suppressed);
+            } else {
+                log.warn("业务异常 - Code: {}, Message: {}, Suppressed: {}", e.getCode(), e.getMessage(), suppressed, e);
+            }
+        }
         // 返回异常结果
         return ResultStatus.FAIL.toResult().setCode(e.getCode()).setMessage(e.getMessage());
     }
@@ -44,7 +62,7 @@ public class DefaultExceptionHandler {
     @ResponseStatus(HttpStatus.OK)
     public Result<?> runtimeExceptionHandler(RuntimeException e) {
         // 记录异常日志
-        log.error(e.getMessage(), e);
+        logError(e);
         // 返回异常结果
         return ResultStatus.SERVER_ERROR.toResult().setMessage(e.getMessage());
     }
@@ -59,8 +77,20 @@ public class DefaultExceptionHandler {
     @ResponseStatus(HttpStatus.OK)
     public Result<?> exceptionHandler(Exception e) {
         // 记录异常日志
-        log.error(e.getMessage(), e);
+        logError(e);
         // 返回异常结果
         return ResultStatus.SERVER_ERROR.toResult().setMessage(e.getMessage());
     }
+
+    /**
+     * 限流记录ERROR级别异常日志
+     *
+     * @param e 异常
+     */
+    private void logError(Exception e) {
+        long suppressed = exceptionLogLimiter.tryAcquire(e);
+        if (suppressed != ExceptionLogLimiter.SUPPRESSED) {
+            log.error("{}, Suppressed: {}", e.getMessage(), suppressed, e);
+        }
+    }
 }
@@ -0,0 +1,192 @@
+package com.gls.athena.starter.web.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gls.athena.common.bean.result.Result;
+import com.gls.athena.common.core.constant.IConstants;
+import com.gls.athena.starter.web.config.WebProperties;
+import com.gls.athena.starter.web.support.JsonConverterProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ETag条件请求处理器
+ * <p>
+ * 对GET/HEAD请求根据返回数据生成弱ETag，请求头 If-None-Match 匹配时返回304，不写出响应体。
+ * 其他请求方法不生成ETag：按条件请求语义，非GET/HEAD请求的 If-None-Match 匹配时只能返回412，客户端无法据此复用缓存。
+ * 标记 {@link ConditionalRead} 的GET接口可额外设置私有缓存有效期。
+ * <p>
+ * 统一响应结构中的时间戳与跟踪ID每次请求都不同，因此在 {@link ResultHandler} 之后执行，仅对其中的业务数据计算摘要。
+ * 是否返回304须在写出响应体之前确定，因此摘要通过额外一次序列化得到：数据直接写入摘要流，不缓存响应字节，
+ * 但序列化开销翻倍，默认关闭，由 athena.web.etag.enabled 开启。
+ *
+ * @author george
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RestControllerAdvice(basePackages = IConstants.BASE_PACKAGE_PREFIX)
+public class ETagHandler implements ResponseBodyAdvice<Object> {
+
+    /**
+     * Web配置属性
+     */
+    private final WebProperties webProperties;
+
+    /**
+     * Jackson消息转换器提供者
+     */
+    private final JsonConverterProvider jsonConverterProvider;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return webProperties.getEtag().isEnabled();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        ConditionalRead conditionalRead = returnType.getMethodAnnotation(ConditionalRead.class);
+        if (body == null || !isEligible(request, response)) {
+            return body;
+        }
+        Object content = body;
+        if (body instanceof Result<?> result) {
+            if (result.isError()) {
+                return body;
+            }
+            content = result.getData();
+        }
+        if (content instanceof Resource) {
+            return body;
+        }
+        String etag = generateETag(content);
+        if (etag == null) {
+            return body;
+        }
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(etag);
+        if (conditionalRead != null && conditionalRead.maxAge() >= 0) {
+            headers.setCacheControl(CacheControl.maxAge(conditionalRead.maxAge(), TimeUnit.SECONDS).cachePrivate());
+        }
+        if (isNotModified(request.getHeaders().getIfNoneMatch(), etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return null;
+        }
+        return body;
+    }
+
+    /**
+     * 判断请求是否适用条件请求
+     *
+     * @param request  请求
+     * @param response 响应
+     * @return 适用返回true
+     */
+    private boolean isEligible(ServerHttpRequest request, ServerHttpResponse response) {
+        if (!isSafeRead(request.getMethod())) {
+            return false;
+        }
+        // 仅处理成功响应
+        return !(response instanceof ServletServerHttpResponse servletResponse)
+                || servletResponse.getServletResponse().getStatus() == HttpStatus.OK.value();
+    }
+
+    /**
+     * 判断是否为GET/HEAD请求
+     *
+     * @param method 请求方法
+     * @return GET或HEAD返回true
+     */
+    private boolean isSafeRead(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+
+    /**
+     * 生成弱ETag
+     * <p>
+     * 使用与响应相同的ObjectMapper将数据序列化到摘要流，得到内容的MD5摘要。
+     *
+     * @param content 业务数据
+     * @return 弱ETag，无法计算时返回null
+     */
+    private String generateETag(Object content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            if (content instanceof byte[] bytes) {
+                digest.update(bytes);
+            } else if (content instanceof CharSequence text) {
+                digest.update(text.toString().getBytes(StandardCharsets.UTF_8));
+            } else {
+                MappingJackson2HttpMessageConverter converter = jsonConverterProvider.getIfAvailable();
+                ObjectMapper objectMapper = converter == null ? null : converter.getObjectMapper();
+                if (objectMapper == null) {
+                    return null;
+                }
+                try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                    objectMapper.writeValue(out, content);
+                }
+            }
+            return "W/\"" + HexFormat.of().formatHex(digest.digest()) + "\"";
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.warn("生成ETag失败: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 按弱比较判断请求头 If-None-Match 是否与当前ETag匹配
+     *
+     * @param ifNoneMatch 请求头中的ETag列表
+     * @param etag        当前ETag
+     * @return 匹配返回true
+     */
+    private boolean isNotModified(List<String> ifNoneMatch, String etag) {
+        String opaqueTag = stripWeak(etag);
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || opaqueTag.equals(stripWeak(candidate.trim()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 去除弱ETag前缀
+     *
+     * @param etag ETag
+     * @return 不含弱前缀的ETag
+     */
+    private String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
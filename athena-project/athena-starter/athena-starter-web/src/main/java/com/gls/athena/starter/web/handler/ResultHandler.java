@@ -6,17 +6,24 @@ import com.gls.athena.common.bean.result.Result;
 import com.gls.athena.common.bean.result.ResultStatus;
 import com.gls.athena.common.core.constant.ClientTypeEnums;
 import com.gls.athena.common.core.constant.IConstants;
+import com.gls.athena.starter.web.support.JsonConverterProvider;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
 
 /**
@@ -25,8 +32,16 @@ import java.util.Optional;
  * @author george
  */
 @Slf4j
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
 @RestControllerAdvice(basePackages = IConstants.BASE_PACKAGE_PREFIX)
 public class ResultHandler implements ResponseBodyAdvice<Object> {
+
+    /**
+     * Jackson消息转换器提供者
+     */
+    private final JsonConverterProvider jsonConverterProvider;
+
     /**
      * 判断是否支持对指定返回类型和转换器类型进行处理
      *
@@ -81,8 +96,32 @@ public class ResultHandler implements ResponseBodyAdvice<Object> {
         }
         // 判断返回值是否是字符串
         if (body instanceof String str) {
-            return JSONUtil.toJsonStr(ResultStatus.SUCCESS.toResult(str));
+            return writeStringResult(ResultStatus.SUCCESS.toResult(str), response);
         }
         return ResultStatus.SUCCESS.toResult(body);
     }
+
+    /**
+     * 写入字符串返回值的结果封装
+     * <p>
+     * 字符串返回值由StringHttpMessageConverter处理，无法直接返回Result对象。
+     * 此处直接使用已配置的Jackson转换器将Result流式写入响应，与其他返回值的序列化规则保持一致，
+     * 并返回null使框架跳过后续写入。未找到Jackson转换器时退回为JSON字符串。
+     *
+     * @param result   结果封装
+     * @param response 响应
+     * @return 已写入时返回null，否则返回JSON字符串
+     */
+    private Object writeStringResult(Result<String> result, ServerHttpResponse response) {
+        MappingJackson2HttpMessageConverter converter = jsonConverterProvider.getIfAvailable();
+        if (converter == null) {
+            return JSONUtil.toJsonStr(result);
+        }
+        try {
+            converter.write(result, MediaType.APPLICATION_JSON, response);
+        } catch (IOException e) {
+            throw new UncheckedIOException("写入JSON响应失败", e);
+        }
+        return null;
+    }
 }
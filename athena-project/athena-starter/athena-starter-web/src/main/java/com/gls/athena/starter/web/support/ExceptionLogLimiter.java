@@ -0,0 +1,101 @@
+package com.gls.athena.starter.web.support;
+
+import com.gls.athena.starter.web.config.WebProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 异常日志限流器
+ * <p>
+ * 按异常类型和异常信息去重，同一种异常在时间窗口内只允许记录一次，其余次数仅计数。
+ *
+ * @author george
+ */
+@Component
+@RequiredArgsConstructor
+public class ExceptionLogLimiter {
+
+    /**
+     * 参与去重的异常信息最大长度，避免超长信息占用过多内存
+     */
+    private static final int MAX_MESSAGE_LENGTH = 256;
+
+    /**
+     * 不允许记录
+     */
+    public static final long SUPPRESSED = -1;
+
+    private final WebProperties webProperties;
+
+    /**
+     * 异常种类对应的时间窗口
+     */
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 尝试获取记录日志的许可
+     *
+     * @param e 异常
+     * @return 允许记录时返回上次记录后被忽略的次数，不允许记录时返回 {@link #SUPPRESSED}
+     */
+    public long tryAcquire(Throwable e) {
+        WebProperties.ExceptionLog config = webProperties.getExceptionLog();
+        if (!config.isEnabled()) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        String key = key(e);
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= config.getMaxKeys()) {
+                windows.clear();
+            }
+            window = windows.putIfAbsent(key, new Window(now));
+            if (window == null) {
+                return 0;
+            }
+        }
+        long start = window.start.get();
+        if (now - start >= config.getInterval().toNanos() && window.start.compareAndSet(start, now)) {
+            return window.suppressed.getAndSet(0);
+        }
+        window.suppressed.incrementAndGet();
+        return SUPPRESSED;
+    }
+
+    /**
+     * 生成去重键
+     *
+     * @param e 异常
+     * @return 异常类型与异常信息组成的键
+     */
+    private String key(Throwable e) {
+        String message = e.getMessage();
+        if (message != null && message.length() > MAX_MESSAGE_LENGTH) {
+            message = message.substring(0, MAX_MESSAGE_LENGTH);
+        }
+        return e.getClass().getName() + ':' + message;
+    }
+
+    /**
+     * 时间窗口
+     */
+    private static class Window {
+        /**
+         * 窗口开始时间（纳秒）
+         */
+        private final AtomicLong start;
+        /**
+         * 窗口内被忽略的次数
+         */
+        private final AtomicLong suppressed = new AtomicLong();
+
+        Window(long start) {
+            this.start = new AtomicLong(start);
+        }
+    }
+}
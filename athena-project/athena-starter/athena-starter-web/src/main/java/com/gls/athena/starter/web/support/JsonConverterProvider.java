@@ -0,0 +1,50 @@
+package com.gls.athena.starter.web.support;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * Jackson消息转换器提供者
+ * <p>
+ * 从处理器适配器中获取实际生效的Jackson消息转换器，保证直接写入响应的场景与常规返回值使用相同的序列化规则。
+ *
+ * @author george
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonConverterProvider {
+
+    /**
+     * 处理器适配器，延迟获取以避免与控制器通知的循环依赖
+     */
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapterProvider;
+
+    /**
+     * Jackson消息转换器，首次使用时获取
+     */
+    private volatile MappingJackson2HttpMessageConverter jsonConverter;
+
+    /**
+     * 获取处理器适配器中配置的Jackson消息转换器
+     *
+     * @return Jackson消息转换器，不存在时返回null
+     */
+    public MappingJackson2HttpMessageConverter getIfAvailable() {
+        MappingJackson2HttpMessageConverter converter = jsonConverter;
+        if (converter == null) {
+            RequestMappingHandlerAdapter adapter = handlerAdapterProvider.getIfAvailable();
+            if (adapter != null) {
+                converter = adapter.getMessageConverters().stream()
+                        .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                        .map(MappingJackson2HttpMessageConverter.class::cast)
+                        .findFirst()
+                        .orElse(null);
+                jsonConverter = converter;
+            }
+        }
+        return converter;
+    }
+}
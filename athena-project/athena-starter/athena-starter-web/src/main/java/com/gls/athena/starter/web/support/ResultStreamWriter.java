@@ -0,0 +1,225 @@
+package com.gls.athena.starter.web.support;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gls.athena.common.bean.result.Result;
+import com.gls.athena.common.bean.result.ResultStatus;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 结果流写入器
+ * <p>
+ * 将数据流逐条序列化写入响应，内存占用与结果集大小无关。支持两种输出格式：
+ * <ul>
+ *   <li>默认：标准Result结构，data为逐条写入的JSON数组，code等状态字段写在data之后</li>
+ *   <li>请求头 Accept 包含 application/x-ndjson 时：每行一条数据，末行为不含data的Result结构</li>
+ * </ul>
+ * 状态在数据写完后才输出，写入中途失败时不会先声明成功：读取数据失败时以失败状态结束响应；
+ * 序列化或输出失败时停止写入，不补全JSON结构，客户端得到的是不完整的响应。
+ * 序列化使用MVC中实际生效的Jackson配置，与常规接口返回值规则一致，但逐条写入时不刷新输出流，
+ * 由容器缓冲区决定何时提交响应，避免每条数据一次刷新，也使缓冲区未满时的失败仍能返回500。
+ *
+ * @author george
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResultStreamWriter {
+
+    /**
+     * Jackson消息转换器提供者
+     */
+    private final JsonConverterProvider jsonConverterProvider;
+
+    /**
+     * 将数据流写入响应，写入完成或失败后关闭数据流
+     * <p>
+     * 中途失败时记录错误日志，响应尚未提交时将状态码设为500，不再向上抛出异常。
+     *
+     * @param stream   数据流
+     * @param request  请求
+     * @param response 响应
+     * @param <T>      数据类型
+     * @throws IOException 获取响应输出流失败时抛出
+     */
+    public <T> void write(Stream<T> stream, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        try (stream) {
+            boolean ndjson = acceptsNdjson(request);
+            ObjectMapper objectMapper = getObjectMapper();
+            response.setCharacterEncoding("UTF-8");
+            response.setContentType(ndjson ? MediaType.APPLICATION_NDJSON_VALUE : MediaType.APPLICATION_JSON_VALUE);
+            OutputStream outputStream = response.getOutputStream();
+            ObjectWriter objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 失败时不自动补全未结束的JSON结构，避免不完整的数据被当作完整结果
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            try {
+                RuntimeException readFailure = ndjson
+                        ? writeNdjson(stream.iterator(), objectWriter, generator)
+                        : writeJson(stream.iterator(), objectWriter, generator);
+                Result<Void> result = ResultStatus.SUCCESS.toResult();
+                if (readFailure != null) {
+                    log.error("流式读取数据失败，响应以失败状态结束 - URI: {}", request.getRequestURI(), readFailure);
+                    markFailed(response);
+                    result = ResultStatus.INTERNAL_SERVER_ERROR.toResult();
+                }
+                writeResult(result, ndjson, objectWriter, generator);
+                generator.close();
+                outputStream.flush();
+            } catch (IOException | RuntimeException e) {
+                log.error("流式写入响应失败，响应不完整 - URI: {}", request.getRequestURI(), e);
+                markFailed(response);
+                closeQuietly(generator);
+            }
+        }
+    }
+
+    /**
+     * 写入Result结构的开头及逐条写入的data数组
+     *
+     * @param iterator     数据迭代器
+     * @param objectWriter 数据序列化器
+     * @param generator    JSON生成器
+     * @return 读取数据失败时返回异常，否则返回null
+     * @throws IOException 写入失败时抛出
+     */
+    private RuntimeException writeJson(Iterator<?> iterator, ObjectWriter objectWriter, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("data");
+        RuntimeException readFailure = writeItems(iterator, objectWriter, generator, false);
+        generator.writeEndArray();
+        return readFailure;
+    }
+
+    /**
+     * 写入NDJSON数据行
+     *
+     * @param iterator     数据迭代器
+     * @param objectWriter 数据序列化器
+     * @param generator    JSON生成器
+     * @return 读取数据失败时返回异常，否则返回null
+     * @throws IOException 写入失败时抛出
+     */
+    private RuntimeException writeNdjson(Iterator<?> iterator, ObjectWriter objectWriter, JsonGenerator generator) throws IOException {
+        // 使用换行分隔根级值，取消默认的空格分隔符
+        generator.setRootValueSeparator(null);
+        return writeItems(iterator, objectWriter, generator, true);
+    }
+
+    /**
+     * 逐条写入数据，读取数据的异常与写入异常分开处理：前者在数据边界处停止并返回，后者直接抛出
+     *
+     * @param iterator     数据迭代器
+     * @param objectWriter 数据序列化器
+     * @param generator    JSON生成器
+     * @param ndjson       是否每条数据后换行
+     * @return 读取数据失败时返回异常，否则返回null
+     * @throws IOException 写入失败时抛出
+     */
+    private RuntimeException writeItems(Iterator<?> iterator, ObjectWriter objectWriter, JsonGenerator generator,
+                                        boolean ndjson) throws IOException {
+        while (true) {
+            Object item;
+            try {
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                item = iterator.next();
+            } catch (RuntimeException e) {
+                return e;
+            }
+            objectWriter.writeValue(generator, item);
+            if (ndjson) {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    /**
+     * 写入状态字段：JSON格式写在data之后并结束Result结构，NDJSON格式作为末行
+     *
+     * @param result       结果状态
+     * @param ndjson       是否为NDJSON格式
+     * @param objectWriter 数据序列化器
+     * @param generator    JSON生成器
+     * @throws IOException 写入失败时抛出
+     */
+    private void writeResult(Result<Void> result, boolean ndjson, ObjectWriter objectWriter, JsonGenerator generator)
+            throws IOException {
+        if (ndjson) {
+            objectWriter.writeValue(generator, result);
+            generator.writeRaw('\n');
+            return;
+        }
+        generator.writeNumberField("code", result.getCode());
+        generator.writeStringField("message", result.getMessage());
+        generator.writeFieldName("timestamp");
+        objectWriter.writeValue(generator, result.getTimestamp());
+        generator.writeStringField("traceId", result.getTraceId());
+        generator.writeEndObject();
+    }
+
+    /**
+     * 响应尚未提交时将状态码设为500
+     *
+     * @param response 响应
+     */
+    private void markFailed(HttpServletResponse response) {
+        if (!response.isCommitted()) {
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 关闭JSON生成器，忽略关闭异常
+     *
+     * @param generator JSON生成器
+     */
+    private void closeQuietly(JsonGenerator generator) {
+        try {
+            generator.close();
+        } catch (IOException | RuntimeException e) {
+            log.debug("关闭JSON生成器失败", e);
+        }
+    }
+
+    /**
+     * 判断客户端是否请求NDJSON格式
+     *
+     * @param request 请求
+     * @return 请求NDJSON时返回true
+     */
+    private boolean acceptsNdjson(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    /**
+     * 获取MVC中实际生效的ObjectMapper
+     *
+     * @return ObjectMapper
+     */
+    private ObjectMapper getObjectMapper() {
+        MappingJackson2HttpMessageConverter converter = jsonConverterProvider.getIfAvailable();
+        if (converter == null) {
+            throw new IllegalStateException("未找到Jackson消息转换器");
+        }
+        return converter.getObjectMapper();
+    }
+}
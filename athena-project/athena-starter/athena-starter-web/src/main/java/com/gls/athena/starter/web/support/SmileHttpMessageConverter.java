@@ -0,0 +1,26 @@
+package com.gls.athena.starter.web.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gls.athena.common.bean.result.Result;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Smile消息转换器
+ * <p>
+ * 仅在调用方通过 Accept 明确声明支持 application/x-jackson-smile 时参与内容协商，用于服务间调用的原始返回值。
+ * 统一响应结构 {@link Result}（如异常处理结果）不使用Smile写出，协商回退为JSON，保证错误信息在调用方可读。
+ *
+ * @author george
+ */
+public class SmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+    public SmileHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return !Result.class.isAssignableFrom(clazz) && super.canWrite(clazz, mediaType);
+    }
+}
@@ -0,0 +1,195 @@
+package com.gls.athena.starter.web.util;
+
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.gls.athena.starter.web.filter.RequestBodyWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 请求体参数视图
+ * <p>
+ * 以请求为作用域缓存在请求属性中，首次查找时才创建。使用Jackson流式解析器按需向后扫描JSON顶层字段，
+ * 找到目标字段即停止，已扫描的字段缓存复用，后续查找从上次停止的位置继续，整个请求至多完整解析一次。
+ * 嵌套对象与数组不构建树结构，直接截取原始JSON文本作为参数值。
+ * <p>
+ * 仅读取 {@link RequestBodyWrapper} 已缓存的请求体，请求未被包装或请求体超出缓存上限时视为空，
+ * 不会读取原始输入流，避免后续的参数绑定读不到请求体。请求体不是JSON对象时同样视为空。
+ * 重复的顶层字段以首次出现的值为准（早期基于Hutool JSONObject的实现以最后一次为准），
+ * 以便找到目标字段后即可停止扫描。
+ *
+ * @author george
+ */
+@Slf4j
+public final class RequestBodyParameters {
+
+    /**
+     * 请求属性名
+     */
+    private static final String ATTRIBUTE = RequestBodyParameters.class.getName();
+
+    /**
+     * JSON解析工厂，线程安全
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * 已扫描的顶层字段
+     */
+    private final Map<String, String> values = new HashMap<>();
+
+    /**
+     * 原始字节请求体，按UTF-8解析时使用
+     */
+    private byte[] bytes;
+
+    /**
+     * 字符串请求体，非UTF-8编码时使用
+     */
+    private String text;
+
+    /**
+     * 流式解析器，解析完成后置空
+     */
+    private JsonParser parser;
+
+    private RequestBodyParameters(HttpServletRequest request) {
+        Charset charset = CharsetUtil.charset(request.getCharacterEncoding());
+        boolean utf8 = StandardCharsets.UTF_8.equals(charset);
+        RequestBodyWrapper wrapper = WebUtils.getNativeRequest(request, RequestBodyWrapper.class);
+        if (wrapper == null || wrapper.getBodyBytes() == null) {
+            return;
+        }
+        try {
+            if (utf8) {
+                bytes = wrapper.getBodyBytes();
+            } else {
+                text = StrUtil.nullToEmpty(wrapper.getBody());
+            }
+            parser = bytes != null ? JSON_FACTORY.createParser(bytes) : JSON_FACTORY.createParser(text);
+            // 仅解析JSON对象
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                close();
+            }
+        } catch (IOException e) {
+            log.debug("Request body is not a JSON object: {}", request.getRequestURI(), e);
+            close();
+        }
+    }
+
+    /**
+     * 获取当前请求的请求体参数视图，不存在时创建并缓存到请求属性中
+     *
+     * @param request HTTP请求对象
+     * @return 请求体参数视图
+     */
+    public static RequestBodyParameters of(HttpServletRequest request) {
+        Object attribute = request.getAttribute(ATTRIBUTE);
+        if (attribute instanceof RequestBodyParameters parameters) {
+            return parameters;
+        }
+        RequestBodyParameters parameters = new RequestBodyParameters(request);
+        request.setAttribute(ATTRIBUTE, parameters);
+        return parameters;
+    }
+
+    /**
+     * 获取顶层字段值
+     * <p>
+     * 标量字段返回其文本值，嵌套对象与数组返回原始JSON文本，null或不存在时返回null。
+     *
+     * @param name 字段名称
+     * @return 字段值
+     */
+    public String get(String name) {
+        if (values.containsKey(name)) {
+            return values.get(name);
+        }
+        while (parser != null) {
+            String field = next();
+            if (name.equals(field)) {
+                return values.get(name);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 扫描下一个顶层字段并缓存其值
+     *
+     * @return 字段名称，解析结束或失败时返回null
+     */
+    private String next() {
+        try {
+            if (parser.nextToken() != JsonToken.FIELD_NAME) {
+                close();
+                return null;
+            }
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            String value;
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                int start = offset(parser.currentTokenLocation());
+                parser.skipChildren();
+                value = slice(start, offset(parser.currentTokenLocation()) + 1);
+            } else {
+                value = parser.getValueAsString();
+            }
+            // 重复字段以首次出现为准，找到目标字段即可停止扫描
+            values.putIfAbsent(field, value);
+            return field;
+        } catch (IOException e) {
+            log.debug("Failed to parse request body", e);
+            close();
+            return null;
+        }
+    }
+
+    /**
+     * 获取位置在请求体中的偏移量
+     *
+     * @param location 解析位置
+     * @return 偏移量
+     */
+    private int offset(JsonLocation location) {
+        return (int) (bytes != null ? location.getByteOffset() : location.getCharOffset());
+    }
+
+    /**
+     * 截取请求体原始文本
+     *
+     * @param start 起始偏移量（包含）
+     * @param end   结束偏移量（不包含）
+     * @return 原始文本
+     */
+    private String slice(int start, int end) {
+        return bytes != null ? new String(bytes, start, end - start, StandardCharsets.UTF_8) : text.substring(start, end);
+    }
+
+    /**
+     * 结束解析并释放请求体引用
+     */
+    private void close() {
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // 内存数据源，关闭不会失败
+            }
+        }
+        parser = null;
+        bytes = null;
+        text = null;
+    }
+}
@@ -2,7 +2,6 @@ package com.gls.athena.starter.web.util;
 
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.core.util.URLUtil;
-import cn.hutool.extra.servlet.JakartaServletUtil;
 import cn.hutool.json.JSONUtil;
 import com.gls.athena.common.bean.result.Result;
 import com.gls.athena.common.core.constant.FileTypeEnums;
@@ -121,18 +120,17 @@ public class WebUtil {
     }
 
     /**
-     * 从请求体中获取指定名称的参数值。如果请求体是JSON格式，则解析JSON并获取指定参数。
+     * 从请求体中获取指定名称的参数值。如果请求体是JSON对象，则获取指定的顶层字段。
+     * <p>
+     * 请求体在同一请求内只解析一次，解析结果缓存在请求属性中，参见 {@link RequestBodyParameters}。
+     * 仅读取请求体缓存过滤器已缓存的请求体，重复字段以首次出现的值为准。
      *
      * @param request       HttpServletRequest对象，包含客户端请求的参数。
      * @param parameterName 参数名称。
-     * @return String 请求体中的参数值，如果未找到或请求体不是JSON格式则返回null。
+     * @return String 请求体中的参数值，如果未找到或请求体不是JSON对象则返回null。
      */
     public String getParameterByBody(HttpServletRequest request, String parameterName) {
-        String body = JakartaServletUtil.getBody(request);
-        if (StrUtil.isNotBlank(body) && JSONUtil.isTypeJSON(body)) {
-            return JSONUtil.parseObj(body).getStr(parameterName);
-        }
-        return null;
+        return RequestBodyParameters.of(request).get(parameterName);
     }
 
     /**
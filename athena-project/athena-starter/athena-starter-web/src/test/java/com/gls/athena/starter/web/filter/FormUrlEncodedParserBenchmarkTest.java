@@ -0,0 +1,88 @@
+package com.gls.athena.starter.web.filter;
+
+import com.gls.athena.common.test.benchmark.Benchmark;
+import com.gls.athena.common.test.benchmark.BenchmarkMeter;
+import com.gls.athena.common.test.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.Test;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 表单解析基准测试
+ * <p>
+ * 对比原有的“解码为字符串后按 & 与 = 切分、逐段 {@link URLDecoder} 解码”方式与 {@link FormUrlEncodedParser}
+ * 单次遍历原始字节的方式，在1KB、100KB、1MB表单上的耗时与分配量，表单中约一半的值含中文转义。
+ * 默认跳过，通过系统属性开启：
+ * <pre>
+ * mvn -pl athena-starter/athena-starter-web test -Dtest=FormUrlEncodedParserBenchmarkTest -Dform.benchmark=true
+ * </pre>
+ * 可选系统属性：
+ * <ul>
+ *   <li>form.benchmark.warmup：预热轮数，默认5</li>
+ *   <li>form.benchmark.iterations：测量轮数，默认10</li>
+ * </ul>
+ *
+ * @author george
+ */
+@Benchmark(value = "form", warmup = 5, iterations = 10)
+class FormUrlEncodedParserBenchmarkTest {
+
+    private static final BenchmarkRunner RUNNER = BenchmarkRunner.of(FormUrlEncodedParserBenchmarkTest.class);
+
+    @Test
+    void parse() throws Exception {
+        for (int size : new int[]{1024, 100 * 1024, 1024 * 1024}) {
+            byte[] form = form(size);
+            measure("url-decoder/" + size, form, this::urlDecoder);
+            measure("parser/" + size, form, data -> FormUrlEncodedParser.parse(data, StandardCharsets.UTF_8, 0));
+        }
+    }
+
+    /**
+     * 执行预热和测量并输出结果
+     *
+     * @param scenario 场景名称
+     * @param form     表单原始字节
+     * @param parser   解析操作
+     * @throws Exception 解析失败时抛出
+     */
+    private void measure(String scenario, byte[] form, Function<byte[], Map<String, String[]>> parser) throws Exception {
+        int[] params = new int[1];
+        BenchmarkMeter meter = RUNNER.measure(() -> params[0] = parser.apply(form).size());
+        RUNNER.report(scenario, "bytes={} time={}us/op allocation={} B/op params={}",
+                form.length, meter.nanosPerOp(1) / 1000, meter.allocatedPerOp(1), params[0]);
+    }
+
+    /**
+     * 原有方式：整体解码为字符串后切分，每段使用 URLDecoder 解码
+     */
+    private Map<String, String[]> urlDecoder(byte[] data) {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        for (String pair : new String(data, StandardCharsets.UTF_8).split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.computeIfAbsent(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8), k -> new ArrayList<>())
+                        .add(URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        Map<String, String[]> result = new LinkedHashMap<>();
+        params.forEach((key, values) -> result.put(key, values.toArray(new String[0])));
+        return result;
+    }
+
+    private byte[] form(int size) {
+        StringBuilder form = new StringBuilder(size + 64);
+        Random random = new Random(42);
+        for (int i = 0; form.length() < size; i++) {
+            if (i > 0) {
+                form.append('&');
+            }
+            form.append("field").append(i % 200).append('=');
+            form.append(random.nextBoolean() ? "value+" + random.nextInt(100000) : "%E4%B8%AD%E6%96%87" + random.nextInt(1000));
+        }
+        return form.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,139 @@
+package com.gls.athena.starter.web.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FormUrlEncodedParser的单元测试类，以基于 {@link URLDecoder} 的逐段切分解码作为参照实现
+ */
+public class FormUrlEncodedParserTest {
+
+    /**
+     * 非法百分号转义（后面不是两位十六进制数）
+     */
+    private static final Pattern INVALID_ESCAPE = Pattern.compile("%(?![0-9A-Fa-f]{2})");
+
+    /**
+     * 测试：常见表单与参照实现结果一致，同名参数按出现顺序收集
+     */
+    @Test
+    public void parse_CommonForms_SameAsUrlDecoder() {
+        String[] forms = {
+                "",
+                "a=1",
+                "a=1&b=2&a=3",
+                "name=%E4%B8%AD%E6%96%87&city=%e6%9d%ad%e5%b7%9e",
+                "q=hello+world&empty=&=novalue&flag",
+                "&&a=1&&b=2&",
+                "k%3D=v%26w&x=y=z",
+                "plus%2B=%2B+%20"
+        };
+        for (String form : forms) {
+            assertSameAsReference(form, StandardCharsets.UTF_8, 0);
+        }
+    }
+
+    /**
+     * 测试：非法百分号转义按原样保留
+     */
+    @Test
+    public void parse_InvalidEscapes_KeptVerbatim() {
+        Map<String, String[]> params = FormUrlEncodedParser.parse("a=%&b=%4&c=%zz&d=100%25&e=%4G%41".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8, 0);
+
+        assertArrayEquals(new String[]{"%"}, params.get("a"));
+        assertArrayEquals(new String[]{"%4"}, params.get("b"));
+        assertArrayEquals(new String[]{"%zz"}, params.get("c"));
+        assertArrayEquals(new String[]{"100%"}, params.get("d"));
+        assertArrayEquals(new String[]{"%4GA"}, params.get("e"));
+        assertSameAsReference("a=%&b=%4&c=%zz&d=100%25&e=%4G%41", StandardCharsets.UTF_8, 0);
+    }
+
+    /**
+     * 测试：超出最大参数个数的部分被忽略，空片段与不含等号的片段不计数
+     */
+    @Test
+    public void parse_MaxParams_RemainingIgnored() {
+        Map<String, String[]> params = FormUrlEncodedParser.parse("a=1&&flag&b=2&a=3&c=4".getBytes(StandardCharsets.UTF_8),
+                StandardCharsets.UTF_8, 3);
+
+        assertEquals(List.of("a", "b"), new ArrayList<>(params.keySet()));
+        assertArrayEquals(new String[]{"1", "3"}, params.get("a"));
+        for (int maxParams = 0; maxParams <= 5; maxParams++) {
+            assertSameAsReference("a=1&&flag&b=2&a=3&c=4", StandardCharsets.UTF_8, maxParams);
+        }
+    }
+
+    /**
+     * 测试：解析指定区间时只读取区间内的数据
+     */
+    @Test
+    public void parse_Range_OnlyRangeParsed() {
+        byte[] data = "xx=0&a=%41&b=2&yy=9".getBytes(StandardCharsets.UTF_8);
+
+        Map<String, String[]> params = FormUrlEncodedParser.parse(data, 5, 9, StandardCharsets.UTF_8, 0);
+
+        assertEquals(List.of("a", "b"), new ArrayList<>(params.keySet()));
+        assertArrayEquals(new String[]{"A"}, params.get("a"));
+    }
+
+    /**
+     * 测试：随机生成的表单（含分隔符、加号、合法与非法转义）与参照实现结果一致
+     */
+    @Test
+    public void parse_RandomForms_SameAsUrlDecoder() {
+        char[] alphabet = "ab=&%+09AFafgz~.".toCharArray();
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder form = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) {
+                form.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            // ISO-8859-1 下任意转义字节都可解码，避免参照实现与被测实现对非法UTF-8序列的替换方式不同
+            assertSameAsReference(form.toString(), StandardCharsets.ISO_8859_1, random.nextInt(4));
+        }
+    }
+
+    private void assertSameAsReference(String form, Charset charset, int maxParams) {
+        Map<String, String[]> expected = reference(form, charset, maxParams);
+        Map<String, String[]> actual = FormUrlEncodedParser.parse(form.getBytes(charset), charset, maxParams);
+
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()), form);
+        expected.forEach((key, values) -> assertArrayEquals(values, actual.get(key), form + " -> " + key));
+    }
+
+    /**
+     * 参照实现：按 & 切分、按首个 = 拆分键值，非法转义按原样保留后使用 {@link URLDecoder} 解码
+     */
+    private Map<String, String[]> reference(String form, Charset charset, int maxParams) {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        int count = 0;
+        for (String pair : form.split("&", -1)) {
+            int eq = pair.indexOf('=');
+            if (eq < 0) {
+                continue;
+            }
+            if (maxParams > 0 && count >= maxParams) {
+                break;
+            }
+            params.computeIfAbsent(decode(pair.substring(0, eq), charset), k -> new ArrayList<>())
+                    .add(decode(pair.substring(eq + 1), charset));
+            count++;
+        }
+        Map<String, String[]> result = new LinkedHashMap<>();
+        params.forEach((key, values) -> result.put(key, values.toArray(new String[0])));
+        return result;
+    }
+
+    private String decode(String value, Charset charset) {
+        return URLDecoder.decode(INVALID_ESCAPE.matcher(value).replaceAll("%25"), charset);
+    }
+}
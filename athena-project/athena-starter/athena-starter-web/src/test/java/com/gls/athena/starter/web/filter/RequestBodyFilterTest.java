@@ -0,0 +1,143 @@
+package com.gls.athena.starter.web.filter;
+
+import com.gls.athena.starter.web.config.WebProperties;
+import jakarta.servlet.ServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RequestBodyFilter的单元测试类
+ */
+public class RequestBodyFilterTest {
+
+    private final WebProperties webProperties = new WebProperties();
+
+    private final RequestBodyFilter filter = new RequestBodyFilter(webProperties);
+
+    /**
+     * 测试：带结构化后缀的厂商类型按基础类型匹配，请求体被缓存
+     */
+    @Test
+    public void doFilter_SuffixedVendorTypes_Cached() throws Exception {
+        for (String contentType : new String[]{"application/vnd.api+json", "application/problem+json;charset=UTF-8",
+                "application/atom+xml", "text/plain;charset=UTF-8"}) {
+            ServletRequest seen = filter(request(contentType, "{\"a\":1}"));
+
+            RequestBodyWrapper wrapper = assertInstanceOf(RequestBodyWrapper.class, seen, contentType);
+            assertEquals("{\"a\":1}", wrapper.getBody());
+        }
+    }
+
+    /**
+     * 测试：未声明内容类型的请求体同样被缓存
+     */
+    @Test
+    public void doFilter_MissingContentType_Cached() throws Exception {
+        ServletRequest seen = filter(request(null, "{\"a\":1}"));
+
+        RequestBodyWrapper wrapper = assertInstanceOf(RequestBodyWrapper.class, seen);
+        assertArrayEquals("{\"a\":1}".getBytes(StandardCharsets.UTF_8), wrapper.getBodyBytes());
+    }
+
+    /**
+     * 测试：未配置的内容类型及已知超出上限的请求体直接透传
+     */
+    @Test
+    public void doFilter_UnlistedTypeOrOversized_PassedThrough() throws Exception {
+        webProperties.getRequestBody().setMaxCacheSize(DataSize.ofBytes(4));
+
+        assertFalse(filter(request("application/octet-stream", "abc")) instanceof RequestBodyWrapper);
+        assertFalse(filter(request("application/json", "{\"a\":1}")) instanceof RequestBodyWrapper);
+    }
+
+    /**
+     * 测试：分块传输的表单请求体超出上限时仍解析表单参数，输入流视为已消费
+     */
+    @Test
+    public void doFilter_ChunkedOversizedForm_ParametersParsed() throws Exception {
+        webProperties.getRequestBody().setMaxCacheSize(DataSize.ofBytes(8));
+        MockHttpServletRequest request = chunked(request("application/x-www-form-urlencoded", "name=athena&tags=a&tags=b"));
+
+        RequestBodyWrapper wrapper = assertInstanceOf(RequestBodyWrapper.class, filter(request));
+
+        assertNull(wrapper.getBodyBytes());
+        assertEquals("athena", wrapper.getParameter("name"));
+        assertArrayEquals(new String[]{"a", "b"}, wrapper.getParameterValues("tags"));
+        assertEquals(-1, wrapper.getInputStream().read());
+    }
+
+    /**
+     * 测试：分块传输的表单请求体超出表单大小上限时返回413，且不再继续读取原始流
+     */
+    @Test
+    public void doFilter_ChunkedFormOverFormLimit_PayloadTooLarge() throws Exception {
+        webProperties.getRequestBody().setMaxCacheSize(DataSize.ofBytes(8));
+        webProperties.getRequestBody().setMaxFormSize(DataSize.ofBytes(16));
+        MockHttpServletRequest request = chunked(request("application/x-www-form-urlencoded", "name=" + "a".repeat(64)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServletRequest> seen = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> seen.set(req));
+
+        assertNull(seen.get());
+        assertEquals(413, response.getStatus());
+        // 最多读取上限加一个字节，剩余请求体未被读取
+        assertEquals(69 - 17, request.getInputStream().available());
+    }
+
+    /**
+     * 测试：分块传输的非表单请求体超出上限时透传完整请求体
+     */
+    @Test
+    public void doFilter_ChunkedOversizedJson_StreamedThrough() throws Exception {
+        webProperties.getRequestBody().setMaxCacheSize(DataSize.ofBytes(4));
+        MockHttpServletRequest request = chunked(request("application/json", "{\"a\":1}"));
+
+        RequestBodyWrapper wrapper = assertInstanceOf(RequestBodyWrapper.class, filter(request));
+
+        assertNull(wrapper.getBodyBytes());
+        assertEquals("{\"a\":1}", new String(wrapper.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    private ServletRequest filter(MockHttpServletRequest request) throws Exception {
+        AtomicReference<ServletRequest> seen = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.set(req));
+        return seen.get();
+    }
+
+    private MockHttpServletRequest request(String contentType, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+        request.setContentType(contentType);
+        request.setCharacterEncoding("UTF-8");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    /**
+     * 模拟未声明内容长度的分块传输请求
+     */
+    private MockHttpServletRequest chunked(MockHttpServletRequest source) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+        };
+        request.setContentType(source.getContentType());
+        request.setCharacterEncoding("UTF-8");
+        request.setContent(source.getContentAsByteArray());
+        return request;
+    }
+}
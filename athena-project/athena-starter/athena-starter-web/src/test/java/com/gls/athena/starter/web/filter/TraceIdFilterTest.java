@@ -0,0 +1,54 @@
+package com.gls.athena.starter.web.filter;
+
+import com.gls.athena.common.bean.trace.TraceContext;
+import com.gls.athena.common.core.constant.IConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TraceIdFilter的单元测试类
+ */
+public class TraceIdFilterTest {
+
+    private final TraceIdFilter filter = new TraceIdFilter();
+
+    /**
+     * 测试：合法的请求头跟踪ID在请求处理期间绑定并回写到响应头，请求结束后清除
+     */
+    @Test
+    public void doFilter_ValidHeader_BoundAndEchoed() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(IConstants.TRACE_ID, "0af7651916cd43dd8448eb211c80319c");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> seen.set(TraceContext.getTraceId()));
+
+        assertEquals("0af7651916cd43dd8448eb211c80319c", seen.get());
+        assertEquals("0af7651916cd43dd8448eb211c80319c", response.getHeader(IConstants.TRACE_ID));
+        assertNull(TraceContext.getTraceId());
+    }
+
+    /**
+     * 测试：超长的请求头跟踪ID被替换为新生成的跟踪ID
+     */
+    @Test
+    public void doFilter_OversizedHeader_Replaced() throws Exception {
+        String oversized = "a".repeat(10_000);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(IConstants.TRACE_ID, oversized);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> seen.set(TraceContext.getTraceId()));
+
+        assertNotEquals(oversized, seen.get());
+        assertEquals(32, seen.get().length());
+        assertEquals(seen.get(), response.getHeader(IConstants.TRACE_ID));
+    }
+}
@@ -0,0 +1,102 @@
+package com.gls.athena.starter.web.handler;
+
+import com.gls.athena.common.bean.result.Result;
+import com.gls.athena.common.bean.result.ResultException;
+import com.gls.athena.common.bean.result.ResultStatus;
+import com.gls.athena.common.bean.result.StacklessResultException;
+import com.gls.athena.common.bean.util.ValidateUtil;
+import com.gls.athena.common.test.benchmark.Benchmark;
+import com.gls.athena.common.test.benchmark.BenchmarkMeter;
+import com.gls.athena.common.test.benchmark.BenchmarkRunner;
+import com.gls.athena.starter.web.config.WebProperties;
+import com.gls.athena.starter.web.support.ExceptionLogLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+/**
+ * 异常处理路径基准测试
+ * <p>
+ * 模拟校验失败请求的完整错误路径：在指定调用深度处抛出异常，捕获后交给 {@link DefaultExceptionHandler} 记录日志并转换为结果。
+ * 对比填充堆栈的 {@link ResultException}、{@link ValidateUtil} 抛出的 {@link StacklessResultException}
+ * 与按状态缓存的 {@link StacklessResultException#of} 三种方式的吞吐量与分配量。
+ * 日志经 {@link ExceptionLogLimiter} 去重，同类异常在时间窗口内只输出一次，测量结果不受日志输出影响。
+ * 默认跳过，通过系统属性开启：
+ * <pre>
+ * mvn -pl athena-starter/athena-starter-web test -Dtest=DefaultExceptionHandlerBenchmarkTest -Dexception.benchmark=true
+ * </pre>
+ * 可选系统属性：
+ * <ul>
+ *   <li>exception.benchmark.samples：每轮处理的异常数量，默认200000</li>
+ *   <li>exception.benchmark.depth：抛出异常时的调用深度，模拟框架调用栈，默认64</li>
+ *   <li>exception.benchmark.warmup：预热轮数，默认3</li>
+ *   <li>exception.benchmark.iterations：测量轮数，默认5</li>
+ * </ul>
+ *
+ * @author george
+ */
+@Benchmark(value = "exception", warmup = 3, iterations = 5)
+class DefaultExceptionHandlerBenchmarkTest {
+
+    private static final BenchmarkRunner RUNNER = BenchmarkRunner.of(DefaultExceptionHandlerBenchmarkTest.class);
+
+    private static final int SAMPLES = RUNNER.intProperty("samples", 200000);
+
+    private static final int DEPTH = RUNNER.intProperty("depth", 64);
+
+    private final DefaultExceptionHandler handler = new DefaultExceptionHandler(new ExceptionLogLimiter(new WebProperties()));
+
+    @Test
+    void errorPath() throws Exception {
+        measure("stack-trace", () -> new ResultException(ResultStatus.PARAM_ERROR.getCode(), "名称不能为空"));
+        measure("stackless", () -> {
+            ValidateUtil.notBlank(" ", "名称不能为空");
+            return null;
+        });
+        measure("stackless-cached", () -> StacklessResultException.of(ResultStatus.PARAM_ERROR));
+    }
+
+    /**
+     * 执行预热和测量并输出结果
+     *
+     * @param scenario 场景名称
+     * @param failure  失败操作，返回待抛出的异常或自行抛出异常
+     * @throws Exception 测量失败时抛出
+     */
+    private void measure(String scenario, Supplier<ResultException> failure) throws Exception {
+        long[] handled = new long[1];
+        BenchmarkMeter meter = RUNNER.measure(() -> handled[0] = run(failure));
+        RUNNER.report(scenario, "samples={} depth={} time={}ns/op throughput={} ops/s allocation={} B/op handled={}",
+                SAMPLES, DEPTH, meter.nanosPerOp(SAMPLES), meter.throughput(SAMPLES), meter.allocatedPerOp(SAMPLES), handled[0]);
+    }
+
+    private long run(Supplier<ResultException> failure) {
+        long handled = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            try {
+                fail(DEPTH, failure);
+            } catch (ResultException e) {
+                Result<?> result = handler.resultExceptionHandler(e);
+                handled += result.getCode();
+            }
+        }
+        return handled;
+    }
+
+    /**
+     * 在指定调用深度处触发失败
+     *
+     * @param depth   剩余调用深度
+     * @param failure 失败操作
+     */
+    private void fail(int depth, Supplier<ResultException> failure) {
+        if (depth > 0) {
+            fail(depth - 1, failure);
+            return;
+        }
+        ResultException e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+}
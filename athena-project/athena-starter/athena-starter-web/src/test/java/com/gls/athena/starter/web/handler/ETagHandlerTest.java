@@ -0,0 +1,183 @@
+package com.gls.athena.starter.web.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gls.athena.common.bean.base.BaseVo;
+import com.gls.athena.common.bean.page.PageRequest;
+import com.gls.athena.common.bean.result.Result;
+import com.gls.athena.common.bean.result.ResultStatus;
+import com.gls.athena.starter.web.base.BaseController;
+import com.gls.athena.starter.web.config.WebProperties;
+import com.gls.athena.starter.web.support.JsonConverterProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ETagHandler的单元测试类
+ */
+public class ETagHandlerTest {
+
+    private final WebProperties webProperties = new WebProperties();
+
+    private final JsonConverterProvider jsonConverterProvider = mock(JsonConverterProvider.class);
+
+    private final ETagHandler handler = new ETagHandler(webProperties, jsonConverterProvider);
+
+    {
+        webProperties.getEtag().setEnabled(true);
+        when(jsonConverterProvider.getIfAvailable()).thenReturn(new MappingJackson2HttpMessageConverter(new ObjectMapper()));
+    }
+
+    /**
+     * 测试：ETag默认关闭，避免每个响应额外序列化一次
+     */
+    @Test
+    public void supports_DisabledByDefault() throws Exception {
+        ETagHandler defaults = new ETagHandler(new WebProperties(), jsonConverterProvider);
+
+        assertFalse(defaults.supports(returnType("list"), MappingJackson2HttpMessageConverter.class));
+        assertTrue(handler.supports(returnType("list"), MappingJackson2HttpMessageConverter.class));
+    }
+
+    /**
+     * 测试：ETag只取决于业务数据，不受统一响应结构中每次不同的时间戳影响
+     */
+    @Test
+    public void beforeBodyWrite_SameData_SameETag() {
+        String first = etag(new MockHttpServletRequest("GET", "/"), ResultStatus.SUCCESS.toResult(List.of(1, 2)));
+        String second = etag(new MockHttpServletRequest("GET", "/"), ResultStatus.SUCCESS.toResult(List.of(1, 2)));
+        String other = etag(new MockHttpServletRequest("GET", "/"), ResultStatus.SUCCESS.toResult(List.of(1, 3)));
+
+        assertNotNull(first);
+        assertTrue(first.startsWith("W/\""));
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    /**
+     * 测试：GET请求 If-None-Match 匹配（弱比较）时返回304且不写出响应体
+     */
+    @Test
+    public void beforeBodyWrite_GetMatched_NotModified() {
+        Result<List<Integer>> body = ResultStatus.SUCCESS.toResult(List.of(1, 2));
+        String etag = etag(new MockHttpServletRequest("GET", "/"), body);
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, etag.substring(2));
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        Object written = beforeBodyWrite(servletRequest, servletResponse, body, "list");
+
+        assertNull(written);
+        assertEquals(304, servletResponse.getStatus());
+        assertEquals(etag, servletResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    /**
+     * 测试：POST请求即使标记ConditionalRead且 If-None-Match 匹配，也不生成ETag、不返回304或412
+     */
+    @Test
+    public void beforeBodyWrite_PostConditionalMatched_Ignored() {
+        Result<List<Integer>> body = ResultStatus.SUCCESS.toResult(List.of(1, 2));
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        Object written = beforeBodyWrite(servletRequest, servletResponse, body, "conditional");
+
+        assertSame(body, written);
+        assertEquals(200, servletResponse.getStatus());
+        assertNull(servletResponse.getHeader(HttpHeaders.ETAG));
+        assertNull(servletResponse.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    /**
+     * 测试：标记ConditionalRead的GET查询接口未匹配时正常返回，并按maxAge设置私有缓存
+     */
+    @Test
+    public void beforeBodyWrite_GetConditionalNotMatched_ETagAndCacheControl() {
+        Result<List<Integer>> body = ResultStatus.SUCCESS.toResult(List.of(1, 2));
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"other\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        Object written = beforeBodyWrite(servletRequest, servletResponse, body, "conditional");
+
+        assertSame(body, written);
+        assertEquals(200, servletResponse.getStatus());
+        assertNotNull(servletResponse.getHeader(HttpHeaders.ETAG));
+        assertEquals("max-age=60, private", servletResponse.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    /**
+     * 测试：BaseController的POST查询接口不标记ConditionalRead，GET详情接口标记
+     */
+    @Test
+    public void baseController_OnlyGetReadsConditional() throws Exception {
+        assertNull(BaseController.class.getMethod("get", Long.class).getAnnotation(ConditionalRead.class));
+        assertNull(BaseController.class.getMethod("list", BaseVo.class).getAnnotation(ConditionalRead.class));
+        assertNull(BaseController.class.getMethod("page", PageRequest.class).getAnnotation(ConditionalRead.class));
+        assertNotNull(BaseController.class.getMethod("detail", Long.class).getAnnotation(ConditionalRead.class));
+        assertNotNull(BaseController.class.getMethod("detail", Long.class).getAnnotation(GetMapping.class));
+    }
+
+    /**
+     * 测试：未标记ConditionalRead的POST请求与错误结果不生成ETag
+     */
+    @Test
+    public void beforeBodyWrite_Ineligible_NoETag() {
+        assertNull(etag(new MockHttpServletRequest("POST", "/"), ResultStatus.SUCCESS.toResult(List.of(1, 2))));
+        assertNull(etag(new MockHttpServletRequest("GET", "/"), Result.error("失败")));
+    }
+
+    private String etag(MockHttpServletRequest servletRequest, Object body) {
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        assertSame(body, beforeBodyWrite(servletRequest, servletResponse, body, "list"));
+        return servletResponse.getHeader(HttpHeaders.ETAG);
+    }
+
+    private Object beforeBodyWrite(MockHttpServletRequest servletRequest, MockHttpServletResponse servletResponse,
+                                   Object body, String method) {
+        ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+        try {
+            Object written = handler.beforeBodyWrite(body, returnType(method), MediaType.APPLICATION_JSON,
+                    MappingJackson2HttpMessageConverter.class, new ServletServerHttpRequest(servletRequest), response);
+            // 将设置的响应头写入Servlet响应
+            response.flush();
+            return written;
+        } catch (NoSuchMethodException | IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MethodParameter returnType(String method) throws NoSuchMethodException {
+        return new MethodParameter(SampleController.class.getMethod(method), -1);
+    }
+
+    /**
+     * 示例控制器，提供普通查询与条件读取的方法签名
+     */
+    public static class SampleController {
+
+        public List<Integer> list() {
+            return List.of(1, 2);
+        }
+
+        @ConditionalRead(maxAge = 60)
+        public List<Integer> conditional() {
+            return List.of(1, 2);
+        }
+    }
+}
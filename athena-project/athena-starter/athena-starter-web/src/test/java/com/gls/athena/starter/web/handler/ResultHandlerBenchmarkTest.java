@@ -0,0 +1,110 @@
+package com.gls.athena.starter.web.handler;
+
+import cn.hutool.json.JSONUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gls.athena.common.bean.page.PageResponse;
+import com.gls.athena.common.bean.result.Result;
+import com.gls.athena.common.bean.result.ResultStatus;
+import com.gls.athena.common.test.benchmark.Benchmark;
+import com.gls.athena.common.test.benchmark.BenchmarkMeter;
+import com.gls.athena.common.test.benchmark.BenchmarkRunner;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 结果封装写入基准测试
+ * <p>
+ * 对比原有的“Hutool序列化为JSON字符串后由 {@link StringHttpMessageConverter} 写入”方式与
+ * {@link ResultHandler} 使用的“Jackson转换器直接流式写入响应”方式，在大分页结果上的耗时与分配量。
+ * 默认跳过，通过系统属性开启：
+ * <pre>
+ * mvn -pl athena-starter/athena-starter-web test -Dtest=ResultHandlerBenchmarkTest -Dresult.benchmark=true
+ * </pre>
+ * 可选系统属性：
+ * <ul>
+ *   <li>result.benchmark.rows：分页结果的行数，默认10000</li>
+ *   <li>result.benchmark.warmup：预热轮数，默认5</li>
+ *   <li>result.benchmark.iterations：测量轮数，默认10</li>
+ * </ul>
+ *
+ * @author george
+ */
+@Benchmark(value = "result", warmup = 5, iterations = 10)
+class ResultHandlerBenchmarkTest {
+
+    private static final BenchmarkRunner RUNNER = BenchmarkRunner.of(ResultHandlerBenchmarkTest.class);
+
+    private static final int ROWS = RUNNER.intProperty("rows", 10000);
+
+    private final StringHttpMessageConverter stringConverter = new StringHttpMessageConverter(StandardCharsets.UTF_8);
+
+    private final MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter(new ObjectMapper());
+
+    @Test
+    void pageResponse() throws Exception {
+        List<Row> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Row(10_000_000_000L + i, "用户" + i, new BigDecimal(i + ".25"), new Date(1704164645000L + i)));
+        }
+        Result<PageResponse<Row>> result = ResultStatus.SUCCESS.toResult(new PageResponse<Row>()
+                .setPage(1).setSize(ROWS).setTotal((long) ROWS).setPages(1).setData(rows)
+                .setHasPrevious(false).setHasNext(false));
+
+        measure("hutool-string", () -> {
+            MockHttpOutputMessage message = new MockHttpOutputMessage();
+            stringConverter.write(JSONUtil.toJsonStr(result), MediaType.APPLICATION_JSON, message);
+            return message.getBodyAsBytes().length;
+        });
+        measure("jackson-stream", () -> {
+            MockHttpOutputMessage message = new MockHttpOutputMessage();
+            jsonConverter.write(result, MediaType.APPLICATION_JSON, message);
+            return message.getBodyAsBytes().length;
+        });
+    }
+
+    /**
+     * 执行预热和测量并输出结果
+     *
+     * @param scenario 场景名称
+     * @param write    写入操作，返回写入字节数
+     * @throws Exception 写入失败时抛出
+     */
+    private void measure(String scenario, Write write) throws Exception {
+        long[] bytes = new long[1];
+        BenchmarkMeter meter = RUNNER.measure(() -> bytes[0] = write.run());
+        RUNNER.report(scenario, "rows={} time={}us/op allocation={} B/op bytes={}",
+                ROWS, meter.nanosPerOp(1) / 1000, meter.allocatedPerOp(1), bytes[0]);
+    }
+
+    /**
+     * 写入操作
+     */
+    @FunctionalInterface
+    private interface Write {
+        long run() throws IOException;
+    }
+
+    /**
+     * 分页数据行
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Row {
+        private Long id;
+        private String name;
+        private BigDecimal amount;
+        private Date createTime;
+    }
+}
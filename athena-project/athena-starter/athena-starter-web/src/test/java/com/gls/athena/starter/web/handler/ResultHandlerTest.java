@@ -0,0 +1,147 @@
+package com.gls.athena.starter.web.handler;
+
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.gls.athena.common.bean.result.Result;
+import com.gls.athena.common.core.constant.ClientTypeEnums;
+import com.gls.athena.common.core.constant.IConstants;
+import com.gls.athena.starter.web.support.JsonConverterProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ResultHandler的单元测试类
+ */
+public class ResultHandlerTest {
+
+    private final JsonConverterProvider jsonConverterProvider = mock(JsonConverterProvider.class);
+
+    private final ResultHandler handler = new ResultHandler(jsonConverterProvider);
+
+    private final MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/");
+
+    private final MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+    /**
+     * 测试：字符串返回值由已配置的Jackson转换器直接写入响应，并返回null跳过后续写入
+     */
+    @Test
+    public void beforeBodyWrite_String_WrittenByJacksonConverter() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(Long.class, ToStringSerializer.instance));
+        when(jsonConverterProvider.getIfAvailable()).thenReturn(new MappingJackson2HttpMessageConverter(objectMapper));
+
+        Object written = beforeBodyWrite("hello", "string");
+
+        assertNull(written);
+        assertTrue(servletResponse.getContentType().startsWith(MediaType.APPLICATION_JSON_VALUE));
+        JSONObject json = JSONUtil.parseObj(servletResponse.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(200, json.getInt("code"));
+        assertEquals("hello", json.getStr("data"));
+        // 使用已配置的序列化规则：Long输出为字符串
+        assertInstanceOf(String.class, json.get("timestamp"));
+    }
+
+    /**
+     * 测试：未找到Jackson转换器时退回为JSON字符串
+     */
+    @Test
+    public void beforeBodyWrite_StringWithoutConverter_ReturnsJsonString() {
+        Object written = beforeBodyWrite("hello", "string");
+
+        JSONObject json = JSONUtil.parseObj(assertInstanceOf(String.class, written));
+        assertEquals("hello", json.getStr("data"));
+        assertEquals(0, servletResponse.getContentAsByteArray().length);
+    }
+
+    /**
+     * 测试：非字符串返回值封装为Result，由框架继续写入
+     */
+    @Test
+    public void beforeBodyWrite_Object_WrappedInResult() {
+        Object written = beforeBodyWrite(List.of(1, 2), "list");
+
+        Result<?> result = assertInstanceOf(Result.class, written);
+        assertEquals(200, result.getCode());
+        assertEquals(List.of(1, 2), result.getData());
+        verifyNoInteractions(jsonConverterProvider);
+    }
+
+    /**
+     * 测试：Feign调用不封装返回值
+     */
+    @Test
+    public void beforeBodyWrite_FeignClient_ReturnedAsIs() {
+        servletRequest.addHeader(IConstants.CLIENT_TYPE, ClientTypeEnums.FEIGN.getCode());
+
+        assertEquals("hello", beforeBodyWrite("hello", "string"));
+        verifyNoInteractions(jsonConverterProvider);
+    }
+
+    /**
+     * 测试：Result、void返回值及标记ResultIgnore的方法不处理
+     */
+    @Test
+    public void supports_ExcludedReturnTypes_False() throws Exception {
+        assertTrue(handler.supports(returnType("string"), StringHttpMessageConverter.class));
+        assertFalse(handler.supports(returnType("result"), MappingJackson2HttpMessageConverter.class));
+        assertFalse(handler.supports(returnType("none"), MappingJackson2HttpMessageConverter.class));
+        assertFalse(handler.supports(returnType("ignored"), MappingJackson2HttpMessageConverter.class));
+    }
+
+    private Object beforeBodyWrite(Object body, String method) {
+        try {
+            return handler.beforeBodyWrite(body, returnType(method), MediaType.APPLICATION_JSON,
+                    body instanceof String ? StringHttpMessageConverter.class : MappingJackson2HttpMessageConverter.class,
+                    new ServletServerHttpRequest(servletRequest), new ServletServerHttpResponse(servletResponse));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MethodParameter returnType(String method) throws NoSuchMethodException {
+        return new MethodParameter(SampleController.class.getMethod(method), -1);
+    }
+
+    /**
+     * 示例控制器，提供各类返回值的方法签名
+     */
+    public static class SampleController {
+
+        public String string() {
+            return "hello";
+        }
+
+        public List<Integer> list() {
+            return List.of(1, 2);
+        }
+
+        public Result<String> result() {
+            return Result.success();
+        }
+
+        public void none() {
+        }
+
+        @ResultIgnore
+        public String ignored() {
+            return "hello";
+        }
+    }
+}
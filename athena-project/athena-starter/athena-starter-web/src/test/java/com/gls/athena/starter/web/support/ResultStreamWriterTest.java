@@ -0,0 +1,159 @@
+package com.gls.athena.starter.web.support;
+
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ResultStreamWriter的单元测试类
+ */
+public class ResultStreamWriterTest {
+
+    private final JsonConverterProvider jsonConverterProvider = mock(JsonConverterProvider.class);
+
+    private final ResultStreamWriter writer = new ResultStreamWriter(jsonConverterProvider);
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/stream");
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    public ResultStreamWriterTest() {
+        when(jsonConverterProvider.getIfAvailable()).thenReturn(new MappingJackson2HttpMessageConverter(new ObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(Broken.class, new BrokenSerializer()))));
+    }
+
+    /**
+     * 测试：默认输出标准Result结构，data为完整数组，写入完成后关闭数据流
+     */
+    @Test
+    public void write_Json_ResultEnvelope() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        writer.write(Stream.of(1, 2, 3).onClose(() -> closed.set(true)), request, response);
+
+        JSONObject json = JSONUtil.parseObj(response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(200, json.getInt("code"));
+        assertEquals(List.of(1, 2, 3), json.getJSONArray("data").toList(Integer.class));
+        assertNotNull(json.getLong("timestamp"));
+        assertTrue(response.getContentType().startsWith(MediaType.APPLICATION_JSON_VALUE));
+        assertTrue(closed.get());
+    }
+
+    /**
+     * 测试：请求NDJSON时每行一条数据，末行为Result结构
+     */
+    @Test
+    public void write_Ndjson_DataLinesThenResult() throws Exception {
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE);
+
+        writer.write(Stream.of("a", "b"), request, response);
+
+        String[] lines = response.getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("\"a\"", lines[0]);
+        assertEquals("\"b\"", lines[1]);
+        assertEquals(200, JSONUtil.parseObj(lines[2]).getInt("code"));
+    }
+
+    /**
+     * 测试：读取数据中途失败时以失败状态结束响应，已写出的数据保留，不声明成功
+     */
+    @Test
+    public void write_ReadFailsMidStream_EndsWithFailure() throws Exception {
+        writer.write(failingStream(List.of(1, 2)), request, response);
+
+        JSONObject json = JSONUtil.parseObj(response.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(500, json.getInt("code"));
+        assertEquals(List.of(1, 2), json.getJSONArray("data").toList(Integer.class));
+        assertEquals(500, response.getStatus());
+    }
+
+    /**
+     * 测试：NDJSON读取数据中途失败时末行为失败状态
+     */
+    @Test
+    public void write_NdjsonReadFails_LastLineFailure() throws Exception {
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE);
+
+        writer.write(failingStream(List.of(1)), request, response);
+
+        String[] lines = response.getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("1", lines[0]);
+        assertEquals(500, JSONUtil.parseObj(lines[lines.length - 1]).getInt("code"));
+    }
+
+    /**
+     * 测试：序列化中途失败时停止写入，不补全JSON结构也不写出状态字段
+     */
+    @Test
+    public void write_SerializationFails_ResponseLeftIncomplete() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        writer.write(Stream.of(new Object[]{1, new Broken()}).onClose(() -> closed.set(true)), request, response);
+
+        String content = response.getContentAsString(StandardCharsets.UTF_8);
+        assertFalse(content.contains("\"code\""), content);
+        assertFalse(content.endsWith("}"), content);
+        assertEquals(500, response.getStatus());
+        assertTrue(closed.get());
+    }
+
+    private Stream<Integer> failingStream(List<Integer> values) {
+        Iterator<Integer> source = values.iterator();
+        Iterator<Integer> iterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (!source.hasNext()) {
+                    throw new IllegalStateException("游标读取失败");
+                }
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return source.next();
+            }
+        };
+        return StreamSupport.stream(((Iterable<Integer>) () -> iterator).spliterator(), false);
+    }
+
+    /**
+     * 序列化时失败的数据
+     */
+    private static class Broken {
+    }
+
+    /**
+     * 写出部分内容后失败的序列化器
+     */
+    private static class BrokenSerializer extends JsonSerializer<Broken> {
+
+        @Override
+        public void serialize(Broken value, JsonGenerator generator, SerializerProvider serializers) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("partial", "x");
+            throw new IllegalStateException("序列化失败");
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.gls.athena.starter.web.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.gls.athena.common.bean.page.PageResponse;
+import com.gls.athena.common.test.benchmark.Benchmark;
+import com.gls.athena.common.test.benchmark.BenchmarkMeter;
+import com.gls.athena.common.test.benchmark.BenchmarkRunner;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Smile与JSON传输格式基准测试
+ * <p>
+ * 以Web ObjectMapper相同的配置（Long序列化为字符串）分别构建JSON转换器与 {@link SmileHttpMessageConverter}，
+ * 对比服务间调用典型的分页结果在两种格式下的报文大小（原始与gzip压缩后）以及写出、读取的耗时与分配量。
+ * 默认跳过，通过系统属性开启：
+ * <pre>
+ * mvn -pl athena-starter/athena-starter-web test -Dtest=SmileHttpMessageConverterBenchmarkTest -Dsmile.benchmark=true
+ * </pre>
+ * 可选系统属性：
+ * <ul>
+ *   <li>smile.benchmark.rows：分页结果的行数，默认1000</li>
+ *   <li>smile.benchmark.warmup：预热轮数，默认20</li>
+ *   <li>smile.benchmark.iterations：测量轮数，默认50</li>
+ * </ul>
+ *
+ * @author george
+ */
+@Benchmark(value = "smile", warmup = 20, iterations = 50)
+class SmileHttpMessageConverterBenchmarkTest {
+
+    private static final BenchmarkRunner RUNNER = BenchmarkRunner.of(SmileHttpMessageConverterBenchmarkTest.class);
+
+    private static final int ROWS = RUNNER.intProperty("rows", 1000);
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Test
+    void pageResponse() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Long.class, ToStringSerializer.instance);
+        module.addSerializer(Long.TYPE, ToStringSerializer.instance);
+        objectMapper.registerModule(module);
+        MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        jsonConverter.setDefaultCharset(StandardCharsets.UTF_8);
+        SmileHttpMessageConverter smileConverter = new SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
+
+        List<Row> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Row(10_000_000_000L + i, "用户" + i, "user" + i + "@example.com",
+                    new BigDecimal(i + ".25"), i % 3, new Date(1704164645000L + i)));
+        }
+        PageResponse<Row> page = new PageResponse<Row>()
+                .setPage(1).setSize(ROWS).setTotal((long) ROWS).setPages(1).setData(rows)
+                .setHasPrevious(false).setHasNext(false);
+
+        byte[] json = measureWrite("json", jsonConverter, MediaType.APPLICATION_JSON, page);
+        byte[] smile = measureWrite("smile", smileConverter, SMILE, page);
+        measureRead("json", jsonConverter, MediaType.APPLICATION_JSON, json);
+        measureRead("smile", smileConverter, SMILE, smile);
+        RUNNER.report("payload", "rows={} json={} B smile={} B json-gzip={} B smile-gzip={} B",
+                ROWS, json.length, smile.length, gzip(json), gzip(smile));
+    }
+
+    /**
+     * 测量写出耗时与分配量
+     *
+     * @param format    格式名称
+     * @param converter 消息转换器
+     * @param mediaType 媒体类型
+     * @param page      分页结果
+     * @return 写出的报文
+     * @throws Exception 写出失败时抛出
+     */
+    private byte[] measureWrite(String format, AbstractJackson2HttpMessageConverter converter, MediaType mediaType,
+                                PageResponse<Row> page) throws Exception {
+        byte[][] body = new byte[1][];
+        BenchmarkMeter meter = RUNNER.measure(() -> body[0] = write(converter, mediaType, page));
+        RUNNER.report(format + "/write", "rows={} time={}us/op allocation={} B/op bytes={}",
+                ROWS, meter.nanosPerOp(1) / 1000, meter.allocatedPerOp(1), body[0].length);
+        return body[0];
+    }
+
+    /**
+     * 测量读取耗时与分配量
+     *
+     * @param format    格式名称
+     * @param converter 消息转换器
+     * @param mediaType 媒体类型
+     * @param body      报文
+     * @throws Exception 读取失败时抛出
+     */
+    private void measureRead(String format, AbstractJackson2HttpMessageConverter converter, MediaType mediaType,
+                             byte[] body) throws Exception {
+        long[] rows = new long[1];
+        BenchmarkMeter meter = RUNNER.measure(() -> rows[0] = read(converter, mediaType, body));
+        RUNNER.report(format + "/read", "rows={} time={}us/op allocation={} B/op",
+                rows[0], meter.nanosPerOp(1) / 1000, meter.allocatedPerOp(1));
+    }
+
+    private byte[] write(AbstractJackson2HttpMessageConverter converter, MediaType mediaType, PageResponse<Row> page)
+            throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(page, mediaType, message);
+        return message.getBodyAsBytes();
+    }
+
+    private long read(AbstractJackson2HttpMessageConverter converter, MediaType mediaType, byte[] body) throws IOException {
+        MockHttpInputMessage message = new MockHttpInputMessage(body);
+        message.getHeaders().setContentType(mediaType);
+        PageResponse<?> page = (PageResponse<?>) converter.read(PageResponse.class, message);
+        return page.getData().size();
+    }
+
+    private int gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.size();
+    }
+
+    /**
+     * 分页数据行
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private Long id;
+        private String name;
+        private String email;
+        private BigDecimal amount;
+        private Integer status;
+        private Date createTime;
+    }
+}
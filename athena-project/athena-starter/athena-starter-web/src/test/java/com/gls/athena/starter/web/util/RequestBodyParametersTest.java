@@ -0,0 +1,109 @@
+package com.gls.athena.starter.web.util;
+
+import com.gls.athena.starter.web.filter.RequestBodyWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RequestBodyParameters的单元测试类
+ */
+public class RequestBodyParametersTest {
+
+    /**
+     * 测试：按需扫描，目标字段之后的内容即使不完整也不影响已找到的字段，嵌套值返回原始JSON文本
+     */
+    @Test
+    public void get_LazyScan_StopsAtTargetField() {
+        RequestBodyParameters parameters = RequestBodyParameters.of(
+                wrap("{\"a\":\"x\",\"b\":{\"c\":[1, 2]},\"n\":null,\"d\":", StandardCharsets.UTF_8));
+
+        assertEquals("x", parameters.get("a"));
+        assertEquals("{\"c\":[1, 2]}", parameters.get("b"));
+        assertNull(parameters.get("n"));
+        assertNull(parameters.get("d"));
+        // 解析失败后已扫描的字段仍可复用
+        assertEquals("x", parameters.get("a"));
+    }
+
+    /**
+     * 测试：重复的顶层字段以首次出现的值为准
+     */
+    @Test
+    public void get_DuplicateKeys_FirstWins() {
+        RequestBodyParameters parameters = RequestBodyParameters.of(
+                wrap("{\"a\":1,\"b\":2,\"a\":3}", StandardCharsets.UTF_8));
+
+        assertEquals("2", parameters.get("b"));
+        assertEquals("1", parameters.get("a"));
+    }
+
+    /**
+     * 测试：请求体不是JSON对象时视为空
+     */
+    @Test
+    public void get_NonObjectBody_Empty() {
+        for (String body : new String[]{"", "[{\"a\":1}]", "\"a\"", "1", "a=1", "{\"a\""}) {
+            assertNull(RequestBodyParameters.of(wrap(body, StandardCharsets.UTF_8)).get("a"), body);
+        }
+    }
+
+    /**
+     * 测试：非UTF-8编码的请求体按请求编码解码
+     */
+    @Test
+    public void get_NonUtf8Body_DecodedWithRequestCharset() {
+        Charset gbk = Charset.forName("GBK");
+
+        assertEquals("中文", RequestBodyParameters.of(wrap("{\"name\":\"中文\"}", gbk)).get("name"));
+    }
+
+    /**
+     * 测试：请求未被包装时不读取原始输入流，视为空
+     */
+    @Test
+    public void get_UnwrappedRequest_StreamNotConsumed() throws Exception {
+        MockHttpServletRequest request = request("{\"a\":1}", StandardCharsets.UTF_8);
+
+        assertNull(RequestBodyParameters.of(request).get("a"));
+        assertEquals("{\"a\":1}", new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 测试：请求体超出缓存上限时不读取透传流，视为空
+     */
+    @Test
+    public void get_OversizedBody_StreamNotConsumed() throws Exception {
+        RequestBodyWrapper wrapper = new RequestBodyWrapper(request("{\"a\":1}", StandardCharsets.UTF_8), 4, 10);
+
+        assertNull(RequestBodyParameters.of(wrapper).get("a"));
+        assertEquals("{\"a\":1}", new String(wrapper.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 测试：同一请求内复用同一个参数视图
+     */
+    @Test
+    public void of_SameRequest_Cached() {
+        HttpServletRequest request = wrap("{\"a\":1}", StandardCharsets.UTF_8);
+
+        assertSame(RequestBodyParameters.of(request), RequestBodyParameters.of(request));
+    }
+
+    private RequestBodyWrapper wrap(String body, Charset charset) {
+        return new RequestBodyWrapper(request(body, charset));
+    }
+
+    private MockHttpServletRequest request(String body, Charset charset) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+        request.setContentType("application/json");
+        request.setCharacterEncoding(charset.name());
+        request.setContent(body.getBytes(charset));
+        return request;
+    }
+}